@@ -0,0 +1,72 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * Build-time generator of the compact error message and SQLState tables used by {@link GDSExceptionHelper}.
+ * <p>
+ * Reads the Firebird and Jaybird error message and SQLState property files from the classpath, and writes them in
+ * the {@link MessageTable} format to the specified output directory.
+ * </p>
+ * <p>
+ * Usage: {@code java org.firebirdsql.gds.GenerateMessageTables <output directory>}
+ * </p>
+ * <p>
+ * This class is part of the build tools, and is not included in the driver.
+ * </p>
+ *
+ * @since 4.0
+ */
+public final class GenerateMessageTables {
+
+    private GenerateMessageTables() {
+        // no instances
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            System.err.println("Usage: java " + GenerateMessageTables.class.getName() + " <output directory>");
+            System.exit(1);
+        }
+        final File outputDirectory = new File(args[0]);
+        writeTable(outputDirectory, GDSExceptionHelper.MESSAGES_TABLE,
+                GDSExceptionHelper.loadResource(false, GDSExceptionHelper.MESSAGES, GDSExceptionHelper.JAYBIRD_MESSAGES));
+        writeTable(outputDirectory, GDSExceptionHelper.SQLSTATES_TABLE,
+                GDSExceptionHelper.loadResource(true, GDSExceptionHelper.SQLSTATES, GDSExceptionHelper.JAYBIRD_SQLSTATES));
+    }
+
+    private static void writeTable(File outputDirectory, String tableResource, Map<Integer, String> values)
+            throws IOException {
+        final File tableFile = new File(outputDirectory, tableResource);
+        final File parent = tableFile.getParentFile();
+        if (!parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Unable to create directory " + parent);
+        }
+        try (OutputStream out = new FileOutputStream(tableFile)) {
+            out.write(MessageTable.toBytes(values));
+        }
+        System.out.println("Wrote " + values.size() + " entries to " + tableFile);
+    }
+}
@@ -87,9 +87,8 @@ final class DecimalCodec<T extends Decimal<T>> {
                     : "Unexpected exponent remaining length " + exponentBitsRemaining;
             final int exponent =
                     decimalFormat.unbiasedExponent(decodeExponent(decBytes, exponentMSB, exponentBitsRemaining));
-            final BigInteger coefficient = coefficientCoder.decodeValue(signum, firstDigit, decBytes);
-
-            return decimalFactory.createDecimal(signum, new BigDecimal(coefficient, -exponent));
+            return decimalFactory.createDecimal(signum,
+                    coefficientCoder.decodeBigDecimal(signum, firstDigit, decBytes, -exponent));
         }
     }
 
@@ -21,6 +21,7 @@
  */
 package org.firebirdsql.extern.decimal;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Arrays;
 
@@ -31,6 +32,11 @@ import java.util.Arrays;
  * encoded in 10 bits per group.
  * </p>
  * <p>
+ * Coefficients of up to {@value #MAX_LONG_ARITHMETIC_GROUPS} groups (34 digits, enough for Decimal128) are decoded
+ * and encoded with table lookups and {@code long} arithmetic on at most two longs of 18 digits each; larger
+ * coefficients use {@code BigInteger} arithmetic.
+ * </p>
+ * <p>
  * See: <a href="http://speleotrove.com/decimal/DPDecimal.html">A Summary of
  * Densely Packed Decimal encoding</a>
  * </p>
@@ -53,6 +59,21 @@ public final class DenselyPackedDecimalCodec {
     static final int BITS_PER_GROUP = 10;
     private static final int BITS_PER_BYTE = 8;
     private static final BigInteger ONE_THOUSAND = BigInteger.valueOf(1000);
+    /**
+     * Number of digit groups that fit in a long (18 digits).
+     */
+    private static final int GROUPS_PER_LONG = 6;
+    /**
+     * Maximum number of digit groups for long arithmetic: two longs, the most significant long holding the groups
+     * beyond {@link #GROUPS_PER_LONG} and the first digit.
+     */
+    static final int MAX_LONG_ARITHMETIC_GROUPS = 2 * GROUPS_PER_LONG - 1;
+    private static final long TEN_POW_18 = 1_000_000_000_000_000_000L;
+    private static final BigInteger BI_TEN_POW_18 = BigInteger.valueOf(TEN_POW_18);
+    /**
+     * Largest value of the most significant long for which {@code high * 10^18 + low} still fits in a long.
+     */
+    private static final long MAX_HIGH_FOR_LONG = Long.MAX_VALUE / TEN_POW_18 - 1;
 
     //@formatter:off
     // Generated using org.firebirdsql.decimal.generator.GenerateLookupTable
@@ -268,6 +289,20 @@ public final class DenselyPackedDecimalCodec {
             926,  927,  254,  255};
     //@formatter:on
 
+    /**
+     * Binary value (0 - 999) of each of the 1024 densely packed decimal group bit patterns.
+     */
+    private static final short[] DPD_2_BIN = new short[1024];
+
+    static {
+        for (int dpdGroupBits = 0; dpdGroupBits < DPD_2_BIN.length; dpdGroupBits++) {
+            final int offset = dpdGroupBits * DIGITS_PER_GROUP;
+            DPD_2_BIN[dpdGroupBits] = (short) ((DPD_GROUP_BITS_2_DIGITS[offset] - '0') * 100
+                    + (DPD_GROUP_BITS_2_DIGITS[offset + 1] - '0') * 10
+                    + (DPD_GROUP_BITS_2_DIGITS[offset + 2] - '0'));
+        }
+    }
+
     private final int numberOfDigits;
     private final int digitGroups;
 
@@ -395,7 +430,102 @@ public final class DenselyPackedDecimalCodec {
         return encodeValue0(value.abs(), decBytes, lsbIndex);
     }
 
+    /**
+     * Decodes a densely packed decimal from a byte array to a {@link BigDecimal} with the specified scale.
+     * <p>
+     * Digits are read from the end of the array to the front. If the coefficient fits in a long, the
+     * {@code BigDecimal} is created without an intermediate {@code BigInteger}.
+     * </p>
+     *
+     * @param signum
+     *         Signum value (values other than {@link Signum#NEGATIVE} are considered positive!)
+     * @param firstDigit
+     *         First, most significant, digit ({@code 0 <= firstDigit <= 9})
+     * @param decBytes
+     *         Byte array with the densely packed decimal, with the least significant byte at index {@code length - 1}
+     * @param scale
+     *         Scale of the resulting {@code BigDecimal}
+     * @return A {@code BigDecimal} with the decoded value
+     */
+    BigDecimal decodeBigDecimal(final int signum, final int firstDigit, final byte[] decBytes, final int scale) {
+        final int lsbIndex = decBytes.length - 1;
+        if (firstDigit < 0 || firstDigit > 9) {
+            throw new IllegalArgumentException("firstDigit must be in range 0 <= firstDigit <= 9, was " + firstDigit);
+        }
+        validateLsbIndex(lsbIndex, decBytes.length);
+        if (digitGroups < GROUPS_PER_LONG) {
+            final long value = decodeGroups(decBytes, lsbIndex, 0, digitGroups, firstDigit);
+            return BigDecimal.valueOf(signum == Signum.NEGATIVE ? -value : value, scale);
+        } else if (digitGroups <= MAX_LONG_ARITHMETIC_GROUPS) {
+            final long high = decodeGroups(decBytes, lsbIndex, GROUPS_PER_LONG, digitGroups, firstDigit);
+            final long low = decodeGroups(decBytes, lsbIndex, 0, GROUPS_PER_LONG, 0);
+            if (high <= MAX_HIGH_FOR_LONG) {
+                final long value = high * TEN_POW_18 + low;
+                return BigDecimal.valueOf(signum == Signum.NEGATIVE ? -value : value, scale);
+            }
+            return new BigDecimal(toBigInteger(signum, high, low), scale);
+        }
+        return new BigDecimal(decodeValue0(signum, firstDigit, decBytes, lsbIndex), scale);
+    }
+
     private BigInteger decodeValue0(final int signum, final int firstDigit, final byte[] decBytes, final int lsbIndex) {
+        if (digitGroups < GROUPS_PER_LONG) {
+            final long value = decodeGroups(decBytes, lsbIndex, 0, digitGroups, firstDigit);
+            return BigInteger.valueOf(signum == Signum.NEGATIVE ? -value : value);
+        } else if (digitGroups <= MAX_LONG_ARITHMETIC_GROUPS) {
+            final long high = decodeGroups(decBytes, lsbIndex, GROUPS_PER_LONG, digitGroups, firstDigit);
+            final long low = decodeGroups(decBytes, lsbIndex, 0, GROUPS_PER_LONG, 0);
+            return toBigInteger(signum, high, low);
+        }
+        return decodeValueUsingDigitChars(signum, firstDigit, decBytes, lsbIndex);
+    }
+
+    /**
+     * Decodes digit groups {@code fromGroup} (inclusive) to {@code toGroup} (exclusive) to a long.
+     *
+     * @param decBytes
+     *         Byte array with the densely packed decimal
+     * @param lsbIndex
+     *         Index of the least significant byte
+     * @param fromGroup
+     *         Least significant digit group to decode (group {@code 0} is the least significant group)
+     * @param toGroup
+     *         Digit group after the most significant group to decode
+     * @param mostSignificantValue
+     *         Value to place before the decoded groups (eg the first digit)
+     * @return Decoded value
+     */
+    private static long decodeGroups(final byte[] decBytes, final int lsbIndex, final int fromGroup,
+            final int toGroup, final long mostSignificantValue) {
+        long value = mostSignificantValue;
+        for (int digitGroup = toGroup - 1; digitGroup >= fromGroup; digitGroup--) {
+            value = value * 1000 + DPD_2_BIN[readGroupBits(decBytes, lsbIndex, digitGroup)];
+        }
+        return value;
+    }
+
+    private static int readGroupBits(final byte[] decBytes, final int lsbIndex, final int digitGroup) {
+        // Each digit group is 10 bits in two bytes in the array as [.., second, first, ..],
+        // moving to the left for next digit groups. If there are unconsumed bits in the second byte,
+        // the second byte becomes the first byte of the next group.
+        final int digitBitsFromEnd = digitGroup * BITS_PER_GROUP;
+        final int firstByteBitOffset = digitBitsFromEnd % BITS_PER_BYTE;
+        final int firstByteIndex = lsbIndex - digitBitsFromEnd / BITS_PER_BYTE;
+
+        return 0x3FF & (
+                (decBytes[firstByteIndex] & 0xFF) >>> firstByteBitOffset
+                        | decBytes[firstByteIndex - 1] << BITS_PER_BYTE - firstByteBitOffset);
+    }
+
+    private static BigInteger toBigInteger(final int signum, final long high, final long low) {
+        final BigInteger value = high == 0
+                ? BigInteger.valueOf(low)
+                : BigInteger.valueOf(high).multiply(BI_TEN_POW_18).add(BigInteger.valueOf(low));
+        return signum == Signum.NEGATIVE ? value.negate() : value;
+    }
+
+    private BigInteger decodeValueUsingDigitChars(final int signum, final int firstDigit, final byte[] decBytes,
+            final int lsbIndex) {
         final char[] digitChars = createZeroedCharArray();
         for (int digitGroup = 0; digitGroup < digitGroups; digitGroup++) {
             // Each digit group is 10 bits in two bytes in the array as [.., second, first, ..],
@@ -422,6 +552,60 @@ public final class DenselyPackedDecimalCodec {
     }
 
     private int encodeValue0(final BigInteger value, final byte[] decBytes, final int lsbIndex) {
+        if (digitGroups <= MAX_LONG_ARITHMETIC_GROUPS) {
+            final long remainingValue;
+            if (value.bitLength() < Long.SIZE) {
+                remainingValue = encodeGroups(value.longValue(), decBytes, lsbIndex, 0, digitGroups);
+            } else {
+                final BigInteger[] highAndLow = value.divideAndRemainder(BI_TEN_POW_18);
+                encodeGroups(highAndLow[1].longValue(), decBytes, lsbIndex, 0, GROUPS_PER_LONG);
+                remainingValue = encodeGroups(highAndLow[0].longValue(), decBytes, lsbIndex, GROUPS_PER_LONG,
+                        digitGroups);
+            }
+            assert 0 <= remainingValue && remainingValue <= 9
+                    : "mostSignificantDigit out of range, was " + remainingValue;
+            return (int) remainingValue;
+        }
+        return encodeValueUsingBigInteger(value, decBytes, lsbIndex);
+    }
+
+    /**
+     * Encodes digit groups {@code fromGroup} (inclusive) to {@code toGroup} (exclusive) from a long.
+     *
+     * @param value
+     *         Value to encode (non-negative), least significant group first
+     * @param decBytes
+     *         Target byte array (zero-filled for the bits to be populated)
+     * @param lsbIndex
+     *         Index of the least significant byte
+     * @param fromGroup
+     *         Least significant digit group to encode
+     * @param toGroup
+     *         Digit group after the most significant group to encode
+     * @return Remaining value after encoding the groups
+     */
+    private static long encodeGroups(long value, final byte[] decBytes, final int lsbIndex, final int fromGroup,
+            final int toGroup) {
+        for (int digitGroup = fromGroup; digitGroup < toGroup; digitGroup++) {
+            final long quotient = value / 1000;
+            writeGroupBits(BIN_2_DPD[(int) (value - quotient * 1000)], decBytes, lsbIndex, digitGroup);
+            value = quotient;
+        }
+        return value;
+    }
+
+    private static void writeGroupBits(final int groupBits, final byte[] decBytes, final int lsbIndex,
+            final int digitGroup) {
+        final int digitBitsFromEnd = digitGroup * BITS_PER_GROUP;
+        final int firstByteBitOffset = digitBitsFromEnd % BITS_PER_BYTE;
+        final int firstByteIndex = lsbIndex - digitBitsFromEnd / BITS_PER_BYTE;
+
+        decBytes[firstByteIndex] = (byte) (decBytes[firstByteIndex] | (groupBits << firstByteBitOffset));
+        decBytes[firstByteIndex - 1] =
+                (byte) (decBytes[firstByteIndex - 1] | (groupBits >>> BITS_PER_BYTE - firstByteBitOffset));
+    }
+
+    private int encodeValueUsingBigInteger(final BigInteger value, final byte[] decBytes, final int lsbIndex) {
         BigInteger remainingValue = value;
         for (int digitGroup = 0; digitGroup < digitGroups; digitGroup++) {
             // Each digit group is 10 bits in two bytes in the array as [.., second, first, ..],
@@ -138,38 +138,70 @@ public class JnaBlob extends AbstractFbBlob implements FbBlob, DatabaseListener
                         .messageParameter(sizeRequested)
                         .toSQLException();
             }
-            // TODO Honour request for larger sizes by looping?
-            sizeRequested = Math.min(sizeRequested, getMaximumSegmentSize());
-            final ByteBuffer responseBuffer;
-            final ShortByReference actualLength = new ShortByReference();
             synchronized (getSynchronizationObject()) {
-                checkDatabaseAttached();
-                checkTransactionActive();
-                checkBlobOpen();
-                responseBuffer = getByteBuffer(sizeRequested);
+                final int actualLength = getSegmentIntoByteBuffer(sizeRequested);
+                final byte[] segment = new byte[actualLength];
+                byteBuffer.get(segment);
+                return segment;
+            }
+        } catch (SQLException e) {
+            exceptionListenerDispatcher.errorOccurred(e);
+            throw e;
+        }
+    }
 
-                clientLibrary.isc_get_segment(statusVector, getJnaHandle(), actualLength, (short) sizeRequested,
-                        responseBuffer);
-                final int status = statusVector[1].intValue();
-                // status 0 means: more to come, isc_segment means: buffer was too small, rest will be returned on next call
-                if (!(status == 0 || status == ISCConstants.isc_segment)) {
-                    if (status == ISCConstants.isc_segstr_eof) {
-                        setEof();
-                    } else {
-                        processStatusVector();
-                    }
-                }
+    @Override
+    public int getSegment(byte[] dst, int off, int len) throws SQLException {
+        try {
+            if (len <= 0) {
+                throw new FbExceptionBuilder().exception(jb_blobGetSegmentNegative)
+                        .messageParameter(len)
+                        .toSQLException();
+            }
+            if (off < 0 || len > dst.length - off) {
+                throw new IndexOutOfBoundsException();
+            }
+            synchronized (getSynchronizationObject()) {
+                final int actualLength = getSegmentIntoByteBuffer(len);
+                byteBuffer.get(dst, off, actualLength);
+                return actualLength;
             }
-            final int actualLengthInt = ((int) actualLength.getValue()) & 0xFFFF;
-            final byte[] segment = new byte[actualLengthInt];
-            responseBuffer.get(segment);
-            return segment;
         } catch (SQLException e) {
             exceptionListenerDispatcher.errorOccurred(e);
             throw e;
         }
     }
 
+    /**
+     * Gets a segment into the (direct) byte buffer of this blob.
+     *
+     * @param sizeRequested
+     *         Requested segment size (> 0)
+     * @return Actual length of the segment in the byte buffer
+     */
+    private int getSegmentIntoByteBuffer(int sizeRequested) throws SQLException {
+        // TODO Honour request for larger sizes by looping?
+        sizeRequested = Math.min(sizeRequested, getMaximumSegmentSize());
+        final ShortByReference actualLength = new ShortByReference();
+        checkDatabaseAttached();
+        checkTransactionActive();
+        checkBlobOpen();
+        final ByteBuffer responseBuffer = getByteBuffer(sizeRequested);
+
+        clientLibrary.isc_get_segment(statusVector, getJnaHandle(), actualLength, (short) sizeRequested,
+                responseBuffer);
+        final int status = statusVector[1].intValue();
+        // status 0 means: more to come, isc_segment means: buffer was too small, rest will be returned on next call
+        if (!(status == 0 || status == ISCConstants.isc_segment)) {
+            if (status == ISCConstants.isc_segstr_eof) {
+                setEof();
+            } else {
+                processStatusVector();
+            }
+        }
+        return ((int) actualLength.getValue()) & 0xFFFF;
+    }
+
     @Override
     public void putSegment(byte[] segment) throws SQLException {
         try {
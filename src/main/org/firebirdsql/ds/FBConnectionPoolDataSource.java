@@ -34,6 +34,7 @@ import org.firebirdsql.gds.impl.GDSType;
 import org.firebirdsql.jca.FBManagedConnectionFactory;
 import org.firebirdsql.jdbc.FBDataSource;
 import org.firebirdsql.jdbc.FBSQLException;
+import org.firebirdsql.jdbc.StatementStatistics;
 
 /**
  * Bare-bones implementation of {@link javax.sql.ConnectionPoolDataSource}.
@@ -61,6 +62,24 @@ public class FBConnectionPoolDataSource extends FBAbstractCommonDataSource imple
         }
         return new FBPooledConnection(internalDs.getConnection(user, password));
     }
+
+    /**
+     * Get the statement statistics collector of the connections of this data source.
+     * <p>
+     * Statistics collection is disabled by default, use {@link StatementStatistics#setEnabled(boolean)} to enable it.
+     * Calling this method initializes the data source, after which its properties can no longer be changed.
+     * </p>
+     *
+     * @return Statement statistics
+     * @throws SQLException
+     *         If the data source could not be initialized
+     */
+    public StatementStatistics getStatementStatistics() throws SQLException {
+        if (internalDs == null) {
+            initialize();
+        }
+        return internalDs.getStatementStatistics();
+    }
     
     private void initialize() throws SQLException {
         synchronized (lock) {
@@ -25,6 +25,7 @@ import org.firebirdsql.gds.impl.GDSType;
 import org.firebirdsql.jca.FBManagedConnectionFactory;
 import org.firebirdsql.jdbc.FBDataSource;
 import org.firebirdsql.jdbc.FirebirdConnectionProperties;
+import org.firebirdsql.jdbc.StatementStatistics;
 
 import javax.naming.NamingException;
 import javax.naming.Reference;
@@ -442,6 +443,18 @@ public class FBSimpleDataSource extends RootCommonDataSource implements DataSour
         return getDataSource().getConnection(username, password);
     }
 
+    /**
+     * Get the statement statistics collector of the connections of this data source.
+     * <p>
+     * Statistics collection is disabled by default, use {@link StatementStatistics#setEnabled(boolean)} to enable it.
+     * </p>
+     *
+     * @return Statement statistics
+     */
+    public StatementStatistics getStatementStatistics() {
+        return mcf.getStatementStatistics();
+    }
+
     /**
      * {@inheritDoc}
      * <p>
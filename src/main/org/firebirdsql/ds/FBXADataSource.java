@@ -40,6 +40,7 @@ import org.firebirdsql.jca.FBManagedConnectionFactory;
 import org.firebirdsql.jdbc.FBConnection;
 import org.firebirdsql.jdbc.FBDataSource;
 import org.firebirdsql.jdbc.FBSQLException;
+import org.firebirdsql.jdbc.StatementStatistics;
 
 /**
  * Bare-bones implementation of {@link javax.sql.XADataSource}.
@@ -64,6 +65,24 @@ public class FBXADataSource extends FBAbstractCommonDataSource implements XAData
         return new FBXAConnection(connection);
     }
 
+    /**
+     * Get the statement statistics collector of the connections of this data source.
+     * <p>
+     * Statistics collection is disabled by default, use {@link StatementStatistics#setEnabled(boolean)} to enable it.
+     * Calling this method initializes the data source, after which its properties can no longer be changed.
+     * </p>
+     *
+     * @return Statement statistics
+     * @throws SQLException
+     *         If the data source could not be initialized
+     */
+    public StatementStatistics getStatementStatistics() throws SQLException {
+        if (internalDs == null) {
+            initialize();
+        }
+        return internalDs.getStatementStatistics();
+    }
+
     private void initialize() throws SQLException {
         synchronized (lock) {
             if (internalDs != null) {
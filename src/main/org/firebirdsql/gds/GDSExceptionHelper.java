@@ -37,8 +37,9 @@ import java.util.regex.Pattern;
 /**
  * This class returns messages for the specified error code.
  * <p>
- * It loads all messages during the class initialization and keeps messages
- * in the static <code>java.util.Properties</code> variable.
+ * Messages and SQLStates are loaded lazily on first use from compact tables generated at build time (see
+ * {@code GenerateMessageTables} in the build tools). If these tables are not available, the messages and SQLStates are loaded from the
+ * property files instead.
  * </p>
  *
  * @author <a href="mailto:d_jencks@users.sourceforge.net">David Jencks</a>
@@ -52,27 +53,52 @@ public class GDSExceptionHelper {
     private static final Logger log = LoggerFactory.getLogger(GDSExceptionHelper.class);
 
     private static final Pattern MESSAGE_PARAM_PATTERN = Pattern.compile("\\{(\\d+)}");
-    private static final String MESSAGES = "isc_error_msg";
-    private static final String JAYBIRD_MESSAGES = "org/firebirdsql/jaybird_error_msg";
-    private static final String SQLSTATES = "isc_error_sqlstates";
-    private static final String JAYBIRD_SQLSTATES = "org/firebirdsql/jaybird_error_sqlstates";
-    private static final Map<Integer, String> messages;
-    private static final Map<Integer, String> sqlstates;
+    static final String MESSAGES = "isc_error_msg";
+    static final String JAYBIRD_MESSAGES = "org/firebirdsql/jaybird_error_msg";
+    static final String SQLSTATES = "isc_error_sqlstates";
+    static final String JAYBIRD_SQLSTATES = "org/firebirdsql/jaybird_error_sqlstates";
+    static final String MESSAGES_TABLE = "org/firebirdsql/gds/error_messages.dat";
+    static final String SQLSTATES_TABLE = "org/firebirdsql/gds/error_sqlstates.dat";
 
-    /*
-     * Initializes the messages map.
-     */
-    static {
+    private static final class MessagesHolder {
+        private static final MessageTable MESSAGE_TABLE = loadMessageTable(MESSAGES_TABLE, false, MESSAGES, JAYBIRD_MESSAGES);
+    }
+
+    private static final class SQLStatesHolder {
+        private static final MessageTable SQLSTATE_TABLE =
+                loadMessageTable(SQLSTATES_TABLE, true, SQLSTATES, JAYBIRD_SQLSTATES);
+    }
+
+    private static MessageTable loadMessageTable(String tableResource, boolean deduplicate,
+            String... propertyResources) {
+        try (InputStream in = getResourceAsStream("/" + tableResource)) {
+            if (in != null) {
+                return MessageTable.read(in);
+            }
+            log.debug("Message table " + tableResource + " not found, loading from property files");
+        } catch (IOException e) {
+            log.warn("Unable to load message table " + tableResource + ", loading from property files", e);
+        }
         try {
-            messages = loadResource(false, MESSAGES, JAYBIRD_MESSAGES);
-            sqlstates = loadResource(true, SQLSTATES, JAYBIRD_SQLSTATES);
+            return MessageTable.of(loadResource(deduplicate, propertyResources));
         } catch (Exception ex) {
             log.error("Exception in init of GDSExceptionHelper, unable to load error information", ex);
             throw new ExceptionInInitializerError(ex);
         }
     }
 
-    private static Map<Integer, String> loadResource(boolean deduplicate, String... resources) throws Exception {
+    /**
+     * Loads error code mappings from property files.
+     *
+     * @param deduplicate
+     *         {@code true} to deduplicate the values
+     * @param resources
+     *         Resource names of the property files (without {@code .properties})
+     * @return Mapping of error code to value
+     * @throws Exception
+     *         For errors loading the property files
+     */
+    static Map<Integer, String> loadResource(boolean deduplicate, String... resources) throws Exception {
         Properties properties = new Properties();
         Exception firstException = null;
         // Load from property files
@@ -148,7 +174,7 @@ public class GDSExceptionHelper {
      * @return instance of <code>GDSExceptionHelper.GDSMessage</code> class where you can set desired parameters.
      */
     public static GDSMessage getMessage(int code) {
-        final String message = messages.get(code);
+        final String message = MessagesHolder.MESSAGE_TABLE.get(code);
         return new GDSMessage(message != null ? message : "No message for code " + code + " found.");
     }
 
@@ -173,7 +199,7 @@ public class GDSExceptionHelper {
      * @return SQL state for the Firebird error code, or <code>defaultSQLState</code> if nothing found.
      */
     public static String getSQLState(int code, String defaultSQLState) {
-        final String sqlState = sqlstates.get(code);
+        final String sqlState = SQLStatesHolder.SQLSTATE_TABLE.get(code);
         return sqlState != null ? sqlState : defaultSQLState;
     }
 
@@ -187,6 +187,11 @@ public interface ISCConstants {
     int isc_dpb_column_label_for_name   = 142;
     int isc_dpb_use_firebird_autocommit = 143;
     int isc_dpb_wire_crypt_level        = 144;
+    int isc_dpb_minimal_describe        = 145;
+    int isc_dpb_adaptive_fetch_buffer_size = 146;
+    int isc_dpb_blob_read_ahead         = 147;
+    int isc_dpb_blob_write_batch_size   = 148;
+    int isc_dpb_abort_on_validation_timeout = 149;
 
     /*************************************/
     /* Transaction parameter block stuff */
@@ -70,6 +70,11 @@ public interface JaybirdErrorCodes {
     int jb_cryptAlgorithmNotAvailable                    = 337248281;
     int jb_cryptInvalidKey          = 337248282;
     int jb_invalidConnectionPropertyValue                = 337248283;
+    int jb_queryTimeout                                  = 337248284;
+    int jb_cryptInvalidIV           = 337248285;
+    int jb_pingTimeout              = 337248286;
+    int jb_blobUnexpectedEof        = 337248287;
+    int jb_blobTooLarge             = 337248288;
 
     @SuppressWarnings("unused")
     int jb_range_end                = 337264639;
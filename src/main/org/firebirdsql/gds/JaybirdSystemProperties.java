@@ -42,6 +42,10 @@ public final class JaybirdSystemProperties {
     public static final String DEFAULT_CONNECTION_ENCODING_PROPERTY = JDBC_PREFIX + "defaultConnectionEncoding";
     public static final String REQUIRE_CONNECTION_ENCODING_PROPERTY = JDBC_PREFIX + "requireConnectionEncoding";
     public static final String DATATYPE_CODER_CACHE_SIZE = COMMON_PREFIX + "datatypeCoderCacheSize";
+    public static final String PARSED_STATEMENT_CACHE_SIZE = JDBC_PREFIX + "parsedStatementCacheSize";
+    public static final String METADATA_CACHE_TTL = JDBC_PREFIX + "metadataCacheTtl";
+    public static final String ENABLE_METRICS_PROP = JDBC_PREFIX + "enableMetrics";
+    public static final String METRICS_IMPLEMENTATION_PROP = JDBC_PREFIX + "metricsImplementation";
 
     private JaybirdSystemProperties() {
         // no instances
@@ -84,6 +88,24 @@ public final class JaybirdSystemProperties {
         return value != null ? value : defaultValue;
     }
 
+    public static int getParsedStatementCacheSize(int defaultValue) {
+        Integer value = getIntegerSystemPropertyPrivileged(PARSED_STATEMENT_CACHE_SIZE);
+        return value != null ? value : defaultValue;
+    }
+
+    public static int getMetadataCacheTtl(int defaultValue) {
+        Integer value = getIntegerSystemPropertyPrivileged(METADATA_CACHE_TTL);
+        return value != null ? value : defaultValue;
+    }
+
+    public static boolean isEnableMetrics() {
+        return getBooleanSystemPropertyPrivileged(ENABLE_METRICS_PROP);
+    }
+
+    public static String getMetricsImplementation() {
+        return getSystemPropertyPrivileged(METRICS_IMPLEMENTATION_PROP);
+    }
+
     private static String getSystemPropertyPrivileged(final String propertyName) {
         return AccessController.doPrivileged(new PrivilegedAction<String>() {
             public String run() {
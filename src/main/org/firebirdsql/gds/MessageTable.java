@@ -0,0 +1,193 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compact, read-only lookup table from error code to string (message or SQLState).
+ * <p>
+ * The table is a single byte array with a header, the sorted error codes, the offset and length of each value in a
+ * string pool, and the string pool itself (UTF-8, identical values are stored once):
+ * </p>
+ * <pre>
+ * int magic, int version, int count
+ * int[count] codes (ascending)
+ * int[count] value offsets (relative to the start of the pool)
+ * int[count] value lengths (in bytes)
+ * byte[] pool
+ * </pre>
+ * <p>
+ * Lookups use binary search on the error codes directly in the byte array, values are only decoded to a string
+ * when requested. The tables for the Firebird and Jaybird messages and SQLStates are generated at build time by
+ * {@code GenerateMessageTables} (build tools), so loading them is a single read of a resource without parsing.
+ * </p>
+ *
+ * @since 4.0
+ */
+final class MessageTable {
+
+    private static final int MAGIC = 0x4A424D54; // JBMT
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 3 * 4;
+
+    private final ByteBuffer data;
+    private final int count;
+    private final int offsetsStart;
+    private final int lengthsStart;
+    private final int poolStart;
+
+    private MessageTable(byte[] tableBytes) {
+        data = ByteBuffer.wrap(tableBytes);
+        if (tableBytes.length < HEADER_SIZE || data.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a message table");
+        }
+        final int version = data.getInt(4);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported message table version " + version);
+        }
+        count = data.getInt(8);
+        offsetsStart = HEADER_SIZE + 4 * count;
+        lengthsStart = offsetsStart + 4 * count;
+        poolStart = lengthsStart + 4 * count;
+        if (count < 0 || poolStart > tableBytes.length) {
+            throw new IllegalArgumentException("Message table is truncated");
+        }
+    }
+
+    /**
+     * Reads a message table.
+     *
+     * @param in
+     *         Input stream with the message table bytes
+     * @return Message table
+     * @throws IOException
+     *         For errors reading the stream, or if the stream is not a valid message table
+     */
+    static MessageTable read(InputStream in) throws IOException {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream(in.available() > 0 ? in.available() : 8192);
+        final byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            bos.write(buffer, 0, read);
+        }
+        try {
+            return new MessageTable(bos.toByteArray());
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Creates a message table from a map.
+     *
+     * @param values
+     *         Mapping of error code to value
+     * @return Message table
+     */
+    static MessageTable of(Map<Integer, String> values) {
+        return new MessageTable(toBytes(values));
+    }
+
+    /**
+     * Encodes a mapping of error code to value to the message table format.
+     *
+     * @param values
+     *         Mapping of error code to value
+     * @return Message table bytes
+     */
+    static byte[] toBytes(Map<Integer, String> values) {
+        final TreeMap<Integer, String> sortedValues = new TreeMap<>(values);
+        final int count = sortedValues.size();
+        final ByteArrayOutputStream pool = new ByteArrayOutputStream();
+        final Map<String, Integer> poolOffsets = new HashMap<>();
+        final ByteBuffer index = ByteBuffer.allocate(HEADER_SIZE + 3 * 4 * count);
+        index.putInt(MAGIC).putInt(VERSION).putInt(count);
+        final int offsetsStart = HEADER_SIZE + 4 * count;
+        final int lengthsStart = offsetsStart + 4 * count;
+        int entry = 0;
+        for (Map.Entry<Integer, String> mapEntry : sortedValues.entrySet()) {
+            final byte[] valueBytes = mapEntry.getValue().getBytes(StandardCharsets.UTF_8);
+            Integer poolOffset = poolOffsets.get(mapEntry.getValue());
+            if (poolOffset == null) {
+                poolOffset = pool.size();
+                pool.write(valueBytes, 0, valueBytes.length);
+                poolOffsets.put(mapEntry.getValue(), poolOffset);
+            }
+            index.putInt(HEADER_SIZE + 4 * entry, mapEntry.getKey());
+            index.putInt(offsetsStart + 4 * entry, poolOffset);
+            index.putInt(lengthsStart + 4 * entry, valueBytes.length);
+            entry++;
+        }
+        final byte[] indexBytes = index.array();
+        final byte[] poolBytes = pool.toByteArray();
+        final byte[] tableBytes = new byte[indexBytes.length + poolBytes.length];
+        System.arraycopy(indexBytes, 0, tableBytes, 0, indexBytes.length);
+        System.arraycopy(poolBytes, 0, tableBytes, indexBytes.length, poolBytes.length);
+        return tableBytes;
+    }
+
+    /**
+     * Gets the value for an error code.
+     *
+     * @param code
+     *         Error code
+     * @return Value, or {@code null} if there is no value for {@code code}
+     */
+    String get(int code) {
+        final int entry = findEntry(code);
+        if (entry < 0) {
+            return null;
+        }
+        final int offset = data.getInt(offsetsStart + 4 * entry);
+        final int length = data.getInt(lengthsStart + 4 * entry);
+        return new String(data.array(), poolStart + offset, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return Number of entries in this table
+     */
+    int size() {
+        return count;
+    }
+
+    private int findEntry(int code) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int midCode = data.getInt(HEADER_SIZE + 4 * mid);
+            if (midCode < code) {
+                low = mid + 1;
+            } else if (midCode > code) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+}
@@ -62,6 +62,11 @@ public interface DatabaseParameterBufferExtension extends DatabaseParameterBuffe
     int COLUMN_LABEL_FOR_NAME           = ISCConstants.isc_dpb_column_label_for_name;
     int USE_FIREBIRD_AUTOCOMMIT         = ISCConstants.isc_dpb_use_firebird_autocommit;
     int WIRE_CRYPT_LEVEL                = ISCConstants.isc_dpb_wire_crypt_level;
+    int MINIMAL_DESCRIBE                = ISCConstants.isc_dpb_minimal_describe;
+    int ADAPTIVE_FETCH_BUFFER_SIZE      = ISCConstants.isc_dpb_adaptive_fetch_buffer_size;
+    int BLOB_READ_AHEAD                 = ISCConstants.isc_dpb_blob_read_ahead;
+    int BLOB_WRITE_BATCH_SIZE           = ISCConstants.isc_dpb_blob_write_batch_size;
+    int ABORT_ON_VALIDATION_TIMEOUT     = ISCConstants.isc_dpb_abort_on_validation_timeout;
     
     /**
      * List of the DPB extensions. This array is used to filter the parameters
@@ -85,7 +90,12 @@ public interface DatabaseParameterBufferExtension extends DatabaseParameterBuffe
         SO_TIMEOUT,
         COLUMN_LABEL_FOR_NAME,
         USE_FIREBIRD_AUTOCOMMIT,
-        WIRE_CRYPT_LEVEL
+        WIRE_CRYPT_LEVEL,
+        MINIMAL_DESCRIBE,
+        ADAPTIVE_FETCH_BUFFER_SIZE,
+        BLOB_READ_AHEAD,
+        BLOB_WRITE_BATCH_SIZE,
+        ABORT_ON_VALIDATION_TIMEOUT
     };
 
     /**
@@ -40,7 +40,7 @@ public final class DatabaseParameterBufferImp extends ParameterBufferBase implem
                 new DatabaseParameterBufferImp((DpbMetaData) getParameterBufferMetaData(), getDefaultEncoding());
 
         // All the Argument sub classes are immutable so to make a 'deep' copy this is all we have to do.
-        copy.getArgumentsList().addAll(this.getArgumentsList());
+        copyArgumentsTo(copy);
 
         return copy;
     }
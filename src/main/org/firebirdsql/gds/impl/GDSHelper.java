@@ -129,18 +129,32 @@ public final class GDSHelper implements Synchronizable {
      *         if a Firebird-specific database error occurs
      */
     public FbBlob openBlob(long blob_id, boolean segmented) throws SQLException {
-        BlobParameterBuffer blobParameterBuffer = database.createBlobParameterBuffer();
-
-        blobParameterBuffer.addArgument(BlobParameterBuffer.TYPE,
-                segmented ? BlobParameterBuffer.TYPE_SEGMENTED
-                        : BlobParameterBuffer.TYPE_STREAM);
-
+        BlobParameterBuffer blobParameterBuffer = createBlobParameterBuffer(segmented);
         FbBlob blob = database.createBlobForInput(getCurrentTransaction(), blobParameterBuffer, blob_id);
         blob.open();
 
         return blob;
     }
 
+    /**
+     * Read the complete content of the blob with the given id within the current transaction.
+     *
+     * @param blob_id
+     *         The identifier of the blob
+     * @param segmented
+     *         If <code>true</code>, the blob will be segmented, otherwise
+     *         is will be streamed
+     * @return Content of the blob
+     * @throws SQLException
+     *         if a Firebird-specific database error occurs
+     * @see FbBlob#openAndReadFully()
+     */
+    public byte[] readBlob(long blob_id, boolean segmented) throws SQLException {
+        BlobParameterBuffer blobParameterBuffer = createBlobParameterBuffer(segmented);
+        FbBlob blob = database.createBlobForInput(getCurrentTransaction(), blobParameterBuffer, blob_id);
+        return blob.openAndReadFully();
+    }
+
     /**
      * Create a new blob within the current transaction.
      *
@@ -150,16 +164,20 @@ public final class GDSHelper implements Synchronizable {
      *         if a Firebird-specific database error occurs
      */
     public FbBlob createBlob(boolean segmented) throws SQLException {
+        BlobParameterBuffer blobParameterBuffer = createBlobParameterBuffer(segmented);
+        FbBlob blob = database.createBlobForOutput(getCurrentTransaction(), blobParameterBuffer);
+        blob.open();
+
+        return blob;
+    }
+
+    private BlobParameterBuffer createBlobParameterBuffer(boolean segmented) {
         BlobParameterBuffer blobParameterBuffer = database.createBlobParameterBuffer();
 
         blobParameterBuffer.addArgument(BlobParameterBuffer.TYPE,
                 segmented ? BlobParameterBuffer.TYPE_SEGMENTED
                         : BlobParameterBuffer.TYPE_STREAM);
-
-        FbBlob blob = database.createBlobForOutput(getCurrentTransaction(), blobParameterBuffer);
-        blob.open();
-
-        return blob;
+        return blobParameterBuffer;
     }
 
     public FbTransaction startTransaction(TransactionParameterBuffer tpb) throws SQLException {
@@ -47,6 +47,10 @@ public abstract class ParameterBufferBase implements ParameterBuffer, Serializab
     private final String defaultEncodingName;
     private final ParameterBufferMetaData parameterBufferMetaData;
     private transient Encoding defaultEncoding;
+    /**
+     * Serialized form of the arguments, {@code null} if not yet serialized or modified after serialization.
+     */
+    private transient volatile byte[] serializedArguments;
 
     /**
      * Creates a {@code ParameterBufferBase}.
@@ -119,8 +123,7 @@ public abstract class ParameterBufferBase implements ParameterBuffer, Serializab
 
     @Override
     public final String getArgumentAsString(int type) {
-        final List<Argument> argumentsList = getArgumentsList();
-        for (final Argument argument : argumentsList) {
+        for (final Argument argument : arguments) {
             if (argument.getType() == type) {
                 return argument.getValueAsString();
             }
@@ -130,8 +133,7 @@ public abstract class ParameterBufferBase implements ParameterBuffer, Serializab
 
     @Override
     public final int getArgumentAsInt(int type) {
-        final List<Argument> argumentsList = getArgumentsList();
-        for (final Argument argument : argumentsList) {
+        for (final Argument argument : arguments) {
             if (argument.getType() == type) {
                 return argument.getValueAsInt();
             }
@@ -141,8 +143,7 @@ public abstract class ParameterBufferBase implements ParameterBuffer, Serializab
 
     @Override
     public final boolean hasArgument(int type) {
-        final List<Argument> argumentsList = getArgumentsList();
-        for (final Argument argument : argumentsList) {
+        for (final Argument argument : arguments) {
             if (argument.getType() == type) return true;
         }
         return false;
@@ -150,11 +151,10 @@ public abstract class ParameterBufferBase implements ParameterBuffer, Serializab
 
     @Override
     public final void removeArgument(int type) {
-        final List<Argument> argumentsList = getArgumentsList();
-        for (int i = 0, n = argumentsList.size(); i < n; i++) {
-            final Argument argument = argumentsList.get(i);
+        for (int i = 0, n = arguments.size(); i < n; i++) {
+            final Argument argument = arguments.get(i);
             if (argument.getType() == type) {
-                argumentsList.remove(i);
+                getArgumentsList().remove(i);
                 return;
             }
         }
@@ -177,39 +177,75 @@ public abstract class ParameterBufferBase implements ParameterBuffer, Serializab
     }
 
     protected final int getLength() {
-        final List<Argument> argumentsList = getArgumentsList();
         int length = 0;
-        for (final Argument currentArgument : argumentsList) {
+        for (final Argument currentArgument : arguments) {
             length += currentArgument.getLength();
         }
         return length;
     }
 
+    /**
+     * Gets the (modifiable) list of arguments.
+     * <p>
+     * As the caller may modify the list, this discards the cached serialized form of the arguments.
+     * </p>
+     *
+     * @return List of arguments
+     */
     protected final List<Argument> getArgumentsList() {
+        serializedArguments = null;
         return arguments;
     }
 
+    /**
+     * Copies the arguments of this parameter buffer to {@code target}, including the cached serialized form.
+     * <p>
+     * Intended for implementations of {@code deepCopy()}. Arguments are immutable, so they are shared with the copy.
+     * </p>
+     *
+     * @param target
+     *         Parameter buffer to copy the arguments to (expected to have the same type and no arguments)
+     */
+    protected final void copyArgumentsTo(ParameterBufferBase target) {
+        final byte[] serialized = getSerializedArguments();
+        target.getArgumentsList().addAll(arguments);
+        target.serializedArguments = serialized;
+    }
+
+    /**
+     * Gets the serialized form of the arguments, serializing them if needed.
+     * <p>
+     * The returned array is shared and must not be modified.
+     * </p>
+     *
+     * @return Serialized arguments
+     */
+    private byte[] getSerializedArguments() {
+        byte[] serialized = serializedArguments;
+        if (serialized == null) {
+            final ByteArrayOutputStream bout = new ByteArrayOutputStream(getLength());
+            try {
+                writeArgumentsTo(bout);
+            } catch (IOException e) {
+                // Doesn't happen with ByteArrayOutputStream
+            }
+            serializedArguments = serialized = bout.toByteArray();
+        }
+        return serialized;
+    }
+
     @Override
     public final byte[] toBytes() {
-        final ByteArrayOutputStream bout = new ByteArrayOutputStream();
-        try {
-            writeArgumentsTo(bout);
-        } catch (IOException e) {
-            // Doesn't happen with ByteArrayOutputStream
-        }
-        return bout.toByteArray();
+        return getSerializedArguments().clone();
     }
 
     @Override
     public final byte[] toBytesWithType() {
-        final ByteArrayOutputStream bout = new ByteArrayOutputStream();
-        try {
-            bout.write(getType());
-            writeArgumentsTo(bout);
-        } catch (IOException e) {
-            // Doesn't happen with ByteArrayOutputStream
-        }
-        return bout.toByteArray();
+        final byte[] serialized = getSerializedArguments();
+        final byte[] bytesWithType = new byte[serialized.length + 1];
+        bytesWithType[0] = (byte) getType();
+        System.arraycopy(serialized, 0, bytesWithType, 1, serialized.length);
+        return bytesWithType;
     }
 
     @Override
@@ -223,21 +259,22 @@ public abstract class ParameterBufferBase implements ParameterBuffer, Serializab
             return false;
 
         final ParameterBufferBase otherServiceBufferBase = (ParameterBufferBase) other;
-        return otherServiceBufferBase.getArgumentsList().equals(this.getArgumentsList());
+        return otherServiceBufferBase.arguments.equals(this.arguments);
     }
 
     @Override
     public final int hashCode() {
-        return getArgumentsList().hashCode();
+        return arguments.hashCode();
     }
 
     /**
-     * Default implementation for serializing the parameter buffer to the XDR output stream
+     * Default implementation for serializing the parameter buffer to the XDR output stream, writes the cached
+     * serialized form of the arguments.
      */
     private class ParameterBufferXdrable implements Xdrable {
         @Override
         public int getLength() {
-            return ParameterBufferBase.this.getLength();
+            return getSerializedArguments().length;
         }
 
         @Override
@@ -247,7 +284,8 @@ public abstract class ParameterBufferBase implements ParameterBuffer, Serializab
 
         @Override
         public void write(final XdrOutputStream outputStream) throws IOException {
-            writeArgumentsTo(outputStream);
+            final byte[] serialized = getSerializedArguments();
+            outputStream.write(serialized, 0, serialized.length);
         }
     }
 
@@ -38,7 +38,7 @@ public final class TransactionParameterBufferImpl extends ParameterBufferBase im
     public TransactionParameterBuffer deepCopy() {
         final TransactionParameterBufferImpl result = new TransactionParameterBufferImpl();
 
-        result.getArgumentsList().addAll(this.getArgumentsList());
+        copyArgumentsTo(result);
 
         return result;
     }
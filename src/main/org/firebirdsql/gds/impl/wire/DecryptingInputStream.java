@@ -0,0 +1,115 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.impl.wire;
+
+import javax.crypto.Cipher;
+import javax.crypto.ShortBufferException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream that decrypts data read from the underlying input stream in place with a stream cipher.
+ * <p>
+ * Contrary to {@link javax.crypto.CipherInputStream}, data is decrypted directly into the buffer of the caller, in
+ * chunks of the size requested by the caller, without allocating intermediate arrays. This requires a stream cipher
+ * (eg ARC4 or ChaCha20), where the output has the same length as the input. Callers are expected to read in bulk (eg
+ * through a {@link java.io.BufferedInputStream}).
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ *
+ * @since 4.0
+ */
+final class DecryptingInputStream extends FilterInputStream {
+
+    private final Cipher cipher;
+    private final byte[] singleByte = new byte[1];
+
+    /**
+     * Creates a decrypting input stream.
+     *
+     * @param in
+     *         Underlying input stream with encrypted data
+     * @param cipher
+     *         Initialized stream cipher used for decryption
+     */
+    DecryptingInputStream(InputStream in, Cipher cipher) {
+        super(in);
+        this.cipher = cipher;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int count;
+        do {
+            count = read(singleByte, 0, 1);
+        } while (count == 0);
+        return count == -1 ? -1 : singleByte[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        final int count = in.read(b, off, len);
+        if (count <= 0) {
+            return count;
+        }
+        try {
+            final int decrypted = cipher.update(b, off, count, b, off);
+            if (decrypted != count) {
+                throw new IOException("Cipher " + cipher.getAlgorithm() + " is not a stream cipher; expected "
+                        + count + " decrypted bytes, received " + decrypted);
+            }
+        } catch (ShortBufferException e) {
+            throw new IOException(e);
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // Skipped bytes must pass through the cipher to keep the key stream in sync
+        final byte[] skipBuffer = new byte[(int) Math.min(n, 512)];
+        long remaining = n;
+        while (remaining > 0) {
+            final int count = read(skipBuffer, 0, (int) Math.min(remaining, skipBuffer.length));
+            if (count < 0) {
+                break;
+            }
+            remaining -= count;
+        }
+        return n - remaining;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        // mark not supported
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+}
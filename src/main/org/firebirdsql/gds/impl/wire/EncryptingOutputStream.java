@@ -0,0 +1,122 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.impl.wire;
+
+import javax.crypto.Cipher;
+import javax.crypto.ShortBufferException;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Buffered output stream that encrypts its buffer in place with a stream cipher before writing it to the underlying
+ * output stream.
+ * <p>
+ * Contrary to {@link javax.crypto.CipherOutputStream}, data is encrypted in bulk when the buffer is written (on flush
+ * or when the buffer is full), without allocating intermediate arrays. This requires a stream cipher (eg ARC4 or
+ * ChaCha20), where the output has the same length as the input.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ *
+ * @since 4.0
+ */
+final class EncryptingOutputStream extends OutputStream {
+
+    private final OutputStream out;
+    private final Cipher cipher;
+    private final byte[] buf;
+    private int count;
+
+    /**
+     * Creates an encrypting output stream.
+     *
+     * @param out
+     *         Underlying output stream for the encrypted data
+     * @param cipher
+     *         Initialized stream cipher used for encryption
+     * @param bufferSize
+     *         Size of the buffer
+     */
+    EncryptingOutputStream(OutputStream out, Cipher cipher, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize should be > 0, was " + bufferSize);
+        }
+        this.out = out;
+        this.cipher = cipher;
+        buf = new byte[bufferSize];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (count == buf.length) {
+            flushBuffer();
+        }
+        buf[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if ((off | len | (off + len) | (b.length - (off + len))) < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        while (len > 0) {
+            if (count == buf.length) {
+                flushBuffer();
+            }
+            final int chunk = Math.min(len, buf.length - count);
+            System.arraycopy(b, off, buf, count, chunk);
+            count += chunk;
+            off += chunk;
+            len -= chunk;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            out.close();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (count == 0) {
+            return;
+        }
+        try {
+            final int encrypted = cipher.update(buf, 0, count, buf, 0);
+            if (encrypted != count) {
+                throw new IOException("Cipher " + cipher.getAlgorithm() + " is not a stream cipher; expected "
+                        + count + " encrypted bytes, received " + encrypted);
+            }
+        } catch (ShortBufferException e) {
+            throw new IOException(e);
+        }
+        out.write(buf, 0, count);
+        count = 0;
+    }
+}
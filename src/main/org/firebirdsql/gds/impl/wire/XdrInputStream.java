@@ -29,7 +29,6 @@ package org.firebirdsql.gds.impl.wire;
 import org.firebirdsql.encodings.Encoding;
 
 import javax.crypto.Cipher;
-import javax.crypto.CipherInputStream;
 import java.io.BufferedInputStream;
 import java.io.EOFException;
 import java.io.IOException;
@@ -51,8 +50,10 @@ import java.io.InputStream;
 public final class XdrInputStream {
 
     private InputStream in = null;
+    private boolean encrypted;
 
     private static final int DEFAULT_BUFFER_SIZE = 16384;
+    private static final byte[] EMPTY_BUFFER = new byte[0];
 
     /**
      * Create a new instance of <code>XdrInputStream</code>.
@@ -101,12 +102,15 @@ public final class XdrInputStream {
     /**
      * Read in a byte buffer.
      *
-     * @return The buffer that was read
+     * @return The buffer that was read (an empty buffer is a shared instance)
      * @throws IOException if an error occurs while reading from the
      *         underlying input stream
      */
     public byte[] readBuffer() throws IOException {
         int len = readInt();
+        if (len == 0) {
+            return EMPTY_BUFFER;
+        }
         byte[] buffer = new byte[len];
         readFully(buffer, 0, len);
         skipPadding(len);
@@ -225,10 +229,23 @@ public final class XdrInputStream {
         in.close();
     }
 
+    /**
+     * Enables decryption of all data read after this call.
+     * <p>
+     * Data is decrypted in bulk, in place in the read buffer. The cipher must be a stream cipher.
+     * </p>
+     *
+     * @param cipher
+     *         Initialized (stream) cipher for decryption
+     * @throws IOException
+     *         If decryption was already enabled
+     */
     public void setCipher(Cipher cipher) throws IOException {
-        if (in instanceof CipherInputStream) {
+        if (encrypted) {
             throw new IOException("Input stream already encrypted");
         }
-        in = new CipherInputStream(in, cipher);
+        // Bytes already buffered by the current stream were received before encryption was enabled
+        in = new BufferedInputStream(new DecryptingInputStream(in, cipher), DEFAULT_BUFFER_SIZE);
+        encrypted = true;
     }
 }
@@ -30,7 +30,6 @@ import org.firebirdsql.gds.ISCConstants;
 import org.firebirdsql.gds.ParameterBuffer;
 
 import javax.crypto.Cipher;
-import javax.crypto.CipherOutputStream;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -59,7 +58,6 @@ public final class XdrOutputStream extends OutputStream {
     private static final int ZERO_PAD_LENGTH = 3;
     private static final byte[] ZERO_PADDING = new byte[ZERO_PAD_LENGTH];
 
-    private final boolean buffered;
     private OutputStream out;
     private OutputStream directStream;
     private final OutputStream rawStream;
@@ -86,7 +84,6 @@ public final class XdrOutputStream extends OutputStream {
      *         {@code false} writes directly to provided {@code OutputStream}.
      */
     public XdrOutputStream(OutputStream out, boolean buffered) {
-        this.buffered = buffered;
         this.directStream = out;
         this.rawStream = out;
         if (buffered) {
@@ -340,16 +337,26 @@ public final class XdrOutputStream extends OutputStream {
         out.close();
     }
 
+    /**
+     * Enables encryption of all data written after this call.
+     * <p>
+     * Data is encrypted in bulk, in place in the write buffer. The cipher must be a stream cipher. Any data buffered
+     * before this call is flushed unencrypted. As the encrypted stream is always buffered, {@link #writeDirect(byte[])}
+     * writes through the same buffer to keep the cipher state in sync.
+     * </p>
+     *
+     * @param cipher
+     *         Initialized (stream) cipher for encryption
+     * @throws IOException
+     *         If encryption was already enabled, or for errors flushing the buffered data
+     */
     public void setCipher(Cipher cipher) throws IOException {
-        if (directStream instanceof CipherOutputStream) {
+        if (directStream instanceof EncryptingOutputStream) {
             throw new IOException("Output stream already encrypted");
         }
-        directStream = new CipherOutputStream(rawStream, cipher);
-        if (buffered) {
-            out = new BufferedOutputStream(directStream, BUF_SIZE);
-        } else {
-            out = directStream;
-        }
+        out.flush();
+        directStream = new EncryptingOutputStream(rawStream, cipher, BUF_SIZE);
+        out = directStream;
     }
 
     /**
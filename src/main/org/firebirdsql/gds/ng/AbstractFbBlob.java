@@ -31,6 +31,11 @@ import org.firebirdsql.logging.LoggerFactory;
 
 import java.sql.SQLException;
 import java.sql.SQLWarning;
+import java.util.Arrays;
+
+import static org.firebirdsql.gds.JaybirdErrorCodes.jb_blobPutSegmentEmpty;
+import static org.firebirdsql.gds.JaybirdErrorCodes.jb_blobTooLarge;
+import static org.firebirdsql.gds.JaybirdErrorCodes.jb_blobUnexpectedEof;
 
 /**
  * @author <a href="mailto:mrotteveel@users.sourceforge.net">Mark Rotteveel</a>
@@ -39,6 +44,8 @@ import java.sql.SQLWarning;
 public abstract class AbstractFbBlob implements FbBlob, TransactionListener, DatabaseListener {
 
     private static final Logger log = LoggerFactory.getLogger(AbstractFbBlob.class);
+    // Some JVMs reserve header words in an array
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
 
     private final Object syncObject;
     protected final ExceptionListenerDispatcher exceptionListenerDispatcher = new ExceptionListenerDispatcher(this);
@@ -362,6 +369,107 @@ public abstract class AbstractFbBlob implements FbBlob, TransactionListener, Dat
         return new BlobLengthProcessor(this);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation calls {@link #putSegment(byte[])} for each segment.
+     * </p>
+     */
+    @Override
+    public void putSegments(byte[] data, int off, int len, int segmentSize) throws SQLException {
+        checkPutSegmentsArguments(data, off, len, segmentSize);
+        final int maximumSegmentSize = Math.min(segmentSize, getMaximumSegmentSize());
+        while (len > 0) {
+            final int currentSegmentSize = Math.min(len, maximumSegmentSize);
+            putSegment(off == 0 && currentSegmentSize == data.length
+                    ? data
+                    : Arrays.copyOfRange(data, off, off + currentSegmentSize));
+            off += currentSegmentSize;
+            len -= currentSegmentSize;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation calls {@link #open()} and {@link #length()}, and reads the segments with
+     * {@link #getSegment(byte[], int, int)}.
+     * </p>
+     */
+    @Override
+    public byte[] openAndReadFully() throws SQLException {
+        synchronized (getSynchronizationObject()) {
+            if (isOutput()) {
+                SQLException e = new FbExceptionBuilder().nonTransientException(ISCConstants.isc_segstr_no_read)
+                        .toSQLException();
+                exceptionListenerDispatcher.errorOccurred(e);
+                throw e;
+            }
+            open();
+            try {
+                return readFully(length());
+            } finally {
+                close();
+            }
+        }
+    }
+
+    /**
+     * Reads the remaining content of this (open) blob.
+     *
+     * @param blobLength
+     *         Expected length of the remaining content
+     * @return Content read
+     * @throws SQLException
+     *         If <code>blobLength</code> is too large for a byte array, for errors reading the segments, or if the end
+     *         of the blob was reached before <code>blobLength</code> bytes were read
+     */
+    protected final byte[] readFully(final long blobLength) throws SQLException {
+        if (blobLength > MAX_ARRAY_SIZE) {
+            throw new FbExceptionBuilder().nonTransientException(jb_blobTooLarge)
+                    .messageParameter(Long.toString(blobLength))
+                    .toSQLException();
+        }
+        final int length = (int) blobLength;
+        final byte[] data = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            if (isEof()) {
+                throw new FbExceptionBuilder().nonTransientException(jb_blobUnexpectedEof)
+                        .messageParameter(length)
+                        .messageParameter(offset)
+                        .toSQLException();
+            }
+            offset += getSegment(data, offset, length - offset);
+        }
+        return data;
+    }
+
+    /**
+     * Checks the arguments of {@link #putSegments(byte[], int, int, int)}.
+     *
+     * @throws SQLException
+     *         If <code>len</code> is 0 (exception is also signalled to the exception listeners)
+     * @throws IndexOutOfBoundsException
+     *         If <code>off</code> and <code>len</code> do not specify a range within <code>data</code>
+     * @throws IllegalArgumentException
+     *         If <code>segmentSize</code> is 0 or less
+     */
+    protected final void checkPutSegmentsArguments(byte[] data, int off, int len, int segmentSize)
+            throws SQLException {
+        if (off < 0 || len < 0 || len > data.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("segmentSize should be greater than 0, was: " + segmentSize);
+        }
+        if (len == 0) {
+            SQLException e = new FbExceptionBuilder().exception(jb_blobPutSegmentEmpty).toSQLException();
+            exceptionListenerDispatcher.errorOccurred(e);
+            throw e;
+        }
+    }
+
     @Override
     public int getMaximumSegmentSize() {
         // TODO Max size in FB 3 is 2^16, not 2^15 - 1, is that for all versions, or only for newer protocols?
@@ -65,6 +65,10 @@ public abstract class AbstractFbDatabase<T extends AbstractConnection<IConnectio
             isc_info_ods_minor_version,
             isc_info_end };
     // @formatter:on
+    /**
+     * Info request used for {@link #ping(int)}.
+     */
+    protected static final byte[] PING_INFO_BLOCK = new byte[] { isc_info_ods_version, isc_info_end };
 
     private final DatabaseListenerDispatcher databaseListenerDispatcher = new DatabaseListenerDispatcher();
     private final Set<FbTransaction> activeTransactions = Collections.synchronizedSet(new HashSet<FbTransaction>());
@@ -249,6 +253,14 @@ public abstract class AbstractFbDatabase<T extends AbstractConnection<IConnectio
         return getServerVersionInformation().getStatementInfoRequestItems();
     }
 
+    /**
+     * @return The minimal statement info request items (without names and relation information).
+     * @see #getStatementInfoRequestItems()
+     */
+    public final byte[] getMinimalStatementInfoRequestItems() {
+        return getServerVersionInformation().getMinimalStatementInfoRequestItems();
+    }
+
     /**
      * @return The {@code isc_info_sql_describe_vars} info request items.
      * @see #getStatementInfoRequestItems()
@@ -269,6 +281,17 @@ public abstract class AbstractFbDatabase<T extends AbstractConnection<IConnectio
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation requests the ODS version and ignores the timeout.
+     * </p>
+     */
+    @Override
+    public void ping(int timeoutMillis) throws SQLException {
+        getDatabaseInfo(PING_INFO_BLOCK, 10);
+    }
+
     protected byte[] getDescribeDatabaseInfoBlock() {
         return DESCRIBE_DATABASE_INFO_BLOCK;
     }
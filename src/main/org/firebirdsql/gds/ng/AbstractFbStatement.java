@@ -62,7 +62,9 @@ public abstract class AbstractFbStatement implements FbStatement {
     private volatile StatementType type = StatementType.NONE;
     private volatile RowDescriptor parameterDescriptor;
     private volatile RowDescriptor fieldDescriptor;
+    private volatile boolean minimalFieldDescriptor;
     private volatile FbTransaction transaction;
+    private volatile int prefetchSize;
 
     private final TransactionListener transactionListener = new TransactionListener() {
         @Override
@@ -357,14 +359,51 @@ public abstract class AbstractFbStatement implements FbStatement {
      */
     protected void setFieldDescriptor(RowDescriptor fieldDescriptor) {
         this.fieldDescriptor = fieldDescriptor;
+        minimalFieldDescriptor = false;
+    }
+
+    @Override
+    public final RowDescriptor getFullFieldDescriptor() throws SQLException {
+        if (!minimalFieldDescriptor) {
+            return fieldDescriptor;
+        }
+        synchronized (getSynchronizationObject()) {
+            if (minimalFieldDescriptor) {
+                final byte[] requestItems = getFieldDescriptionInfoRequestItems();
+                final InfoProcessor.StatementInfo statementInfo = getSqlInfo(requestItems, getDefaultSqlInfoSize(),
+                        new StatementInfoProcessor(this, getDatabase(), requestItems));
+                setFieldDescriptor(statementInfo.getFields());
+            }
+            return fieldDescriptor;
+        }
     }
 
     /**
-     * @return The (full) statement info request items.
+     * @return The statement info request items used for prepare, either the full or the minimal items depending on
+     * {@link IConnectionProperties#isMinimalDescribe()}.
      * @see #getParameterDescriptionInfoRequestItems()
      */
     public byte[] getStatementInfoRequestItems() {
-        return ((AbstractFbDatabase) getDatabase()).getStatementInfoRequestItems();
+        final AbstractFbDatabase database = (AbstractFbDatabase) getDatabase();
+        return isMinimalDescribe()
+                ? database.getMinimalStatementInfoRequestItems()
+                : database.getStatementInfoRequestItems();
+    }
+
+    /**
+     * @return The info request items for the full description of the (result set) fields.
+     * @see #getFullFieldDescriptor()
+     */
+    protected byte[] getFieldDescriptionInfoRequestItems() {
+        final byte[] describeItems = getParameterDescriptionInfoRequestItems();
+        final byte[] requestItems = new byte[describeItems.length + 1];
+        requestItems[0] = ISCConstants.isc_info_sql_select;
+        System.arraycopy(describeItems, 0, requestItems, 1, describeItems.length);
+        return requestItems;
+    }
+
+    private boolean isMinimalDescribe() {
+        return getDatabase().getConnectionProperties().isMinimalDescribe();
     }
 
     /**
@@ -480,6 +519,16 @@ public abstract class AbstractFbStatement implements FbStatement {
         }
     }
 
+    @Override
+    public final void setPrefetchSize(int prefetchSize) {
+        this.prefetchSize = Math.max(0, prefetchSize);
+    }
+
+    @Override
+    public final int getPrefetchSize() {
+        return prefetchSize;
+    }
+
     @Override
     public final void addStatementListener(StatementListener statementListener) {
         if (getState() == StatementState.CLOSED) return;
@@ -597,6 +646,7 @@ public abstract class AbstractFbStatement implements FbStatement {
         setType(statementInfo.getStatementType());
         setFieldDescriptor(statementInfo.getFields());
         setParameterDescriptor(statementInfo.getParameters());
+        minimalFieldDescriptor = hasFields() && isMinimalDescribe();
     }
 
     /**
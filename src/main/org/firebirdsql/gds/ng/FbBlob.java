@@ -134,6 +134,47 @@ public interface FbBlob extends ExceptionListenable, AutoCloseable {
      */
     byte[] getSegment(int sizeRequested) throws SQLException;
 
+    /**
+     * Gets a segment of blob data into the supplied buffer.
+     * <p>
+     * This has the same behaviour as {@link #getSegment(int)}, but avoids allocating a new array for each segment.
+     * When <code>len</code> exceeds {@link #getMaximumSegmentSize()} it is silently reduced to the maximum segment
+     * size.
+     * </p>
+     *
+     * @param dst
+     *         Destination buffer
+     * @param off
+     *         Offset in <code>dst</code>
+     * @param len
+     *         Requested segment size (> 0)
+     * @return Number of bytes retrieved into <code>dst</code> (may be less than requested, <code>0</code> at the end
+     * of the blob)
+     * @throws SQLException
+     *         If this is an output blob, the blob is closed, the transaction is not active, or a database connection
+     *         error occurred.
+     * @throws IndexOutOfBoundsException
+     *         If <code>off</code> and <code>len</code> do not specify a range within <code>dst</code>
+     * @since 4.0
+     */
+    int getSegment(byte[] dst, int off, int len) throws SQLException;
+
+    /**
+     * Opens this blob, reads its complete content and closes it.
+     * <p>
+     * Implementations may combine opening the blob and requesting its length in a single round trip to the server.
+     * </p>
+     *
+     * @return Content of the blob
+     * @throws SQLException
+     *         If this is an output blob, the blob is already open, the transaction is not active, a database
+     *         connection error occurred, the blob is too large for a byte array
+     *         ({@link org.firebirdsql.gds.JaybirdErrorCodes#jb_blobTooLarge}), or the blob ended before its reported
+     *         length ({@link org.firebirdsql.gds.JaybirdErrorCodes#jb_blobUnexpectedEof}).
+     * @since 4.0
+     */
+    byte[] openAndReadFully() throws SQLException;
+
     /**
      * Writes a segment of blob data.
      * <p>
@@ -151,6 +192,34 @@ public interface FbBlob extends ExceptionListenable, AutoCloseable {
      */
     void putSegment(byte[] segment) throws SQLException;
 
+    /**
+     * Writes blob data as one or more segments.
+     * <p>
+     * The data is split into segments of at most <code>segmentSize</code> (limited to
+     * {@link #getMaximumSegmentSize()}). Contrary to
+     * {@link #putSegment(byte[])}, the data does not need to be copied to a separate array per segment, and
+     * implementations may send several segments before checking the responses of the server.
+     * </p>
+     *
+     * @param data
+     *         Data to write
+     * @param off
+     *         Offset in <code>data</code>
+     * @param len
+     *         Number of bytes to write (> 0)
+     * @param segmentSize
+     *         Maximum size of a segment (> 0), larger values are limited to {@link #getMaximumSegmentSize()}
+     * @throws SQLException
+     *         If this is an input blob, the blob is closed, the transaction is not active, <code>len</code> is 0,
+     *         or a database connection error occurred.
+     * @throws IndexOutOfBoundsException
+     *         If <code>off</code> and <code>len</code> do not specify a range within <code>data</code>
+     * @throws IllegalArgumentException
+     *         If <code>segmentSize</code> is 0 or less
+     * @since 4.0
+     */
+    void putSegments(byte[] data, int off, int len, int segmentSize) throws SQLException;
+
     /**
      * Performs a seek on a blob with the specified <code>seekMode</code> and <code>offset</code>.
      * <p>
@@ -47,6 +47,11 @@ public final class FbConnectionProperties extends AbstractAttachProperties<IConn
     private int pageCacheSize;
     private boolean resultSetDefaultHoldable;
     private boolean columnLabelForName;
+    private boolean minimalDescribe;
+    private int adaptiveFetchBufferSize;
+    private int blobReadAhead;
+    private int blobWriteBatchSize;
+    private boolean abortOnValidationTimeout;
     private final DatabaseParameterBuffer extraDatabaseParameters = new DatabaseParameterBufferImp(
             DatabaseParameterBufferImp.DpbMetaData.DPB_VERSION_1,
             EncodingFactory.getPlatformEncoding());
@@ -71,6 +76,11 @@ public final class FbConnectionProperties extends AbstractAttachProperties<IConn
             pageCacheSize = src.getPageCacheSize();
             resultSetDefaultHoldable = src.isResultSetDefaultHoldable();
             columnLabelForName = src.isColumnLabelForName();
+            minimalDescribe = src.isMinimalDescribe();
+            adaptiveFetchBufferSize = src.getAdaptiveFetchBufferSize();
+            blobReadAhead = src.getBlobReadAhead();
+            blobWriteBatchSize = src.getBlobWriteBatchSize();
+            abortOnValidationTimeout = src.isAbortOnValidationTimeout();
             for (Parameter parameter : src.getExtraDatabaseParameters()) {
                 parameter.copyTo(extraDatabaseParameters, null);
             }
@@ -143,6 +153,61 @@ public final class FbConnectionProperties extends AbstractAttachProperties<IConn
         return columnLabelForName;
     }
 
+    @Override
+    public void setMinimalDescribe(final boolean minimalDescribe) {
+        this.minimalDescribe = minimalDescribe;
+        dirtied();
+    }
+
+    @Override
+    public boolean isMinimalDescribe() {
+        return minimalDescribe;
+    }
+
+    @Override
+    public void setAdaptiveFetchBufferSize(final int adaptiveFetchBufferSize) {
+        this.adaptiveFetchBufferSize = adaptiveFetchBufferSize;
+        dirtied();
+    }
+
+    @Override
+    public int getAdaptiveFetchBufferSize() {
+        return adaptiveFetchBufferSize;
+    }
+
+    @Override
+    public void setBlobReadAhead(final int blobReadAhead) {
+        this.blobReadAhead = blobReadAhead;
+        dirtied();
+    }
+
+    @Override
+    public int getBlobReadAhead() {
+        return blobReadAhead;
+    }
+
+    @Override
+    public void setBlobWriteBatchSize(final int blobWriteBatchSize) {
+        this.blobWriteBatchSize = blobWriteBatchSize;
+        dirtied();
+    }
+
+    @Override
+    public int getBlobWriteBatchSize() {
+        return blobWriteBatchSize;
+    }
+
+    @Override
+    public void setAbortOnValidationTimeout(final boolean abortOnValidationTimeout) {
+        this.abortOnValidationTimeout = abortOnValidationTimeout;
+        dirtied();
+    }
+
+    @Override
+    public boolean isAbortOnValidationTimeout() {
+        return abortOnValidationTimeout;
+    }
+
     @Override
     public DatabaseParameterBuffer getExtraDatabaseParameters() {
         return extraDatabaseParameters;
@@ -211,6 +276,21 @@ public final class FbConnectionProperties extends AbstractAttachProperties<IConn
             case isc_dpb_column_label_for_name:
                 setColumnLabelForName(true);
                 break;
+            case isc_dpb_minimal_describe:
+                setMinimalDescribe(true);
+                break;
+            case isc_dpb_adaptive_fetch_buffer_size:
+                setAdaptiveFetchBufferSize(parameter.getValueAsInt());
+                break;
+            case isc_dpb_blob_read_ahead:
+                setBlobReadAhead(parameter.getValueAsInt());
+                break;
+            case isc_dpb_blob_write_batch_size:
+                setBlobWriteBatchSize(parameter.getValueAsInt());
+                break;
+            case isc_dpb_abort_on_validation_timeout:
+                setAbortOnValidationTimeout(true);
+                break;
             case isc_dpb_wire_crypt_level:
                 String propertyValue = parameter.getValueAsString();
                 try {
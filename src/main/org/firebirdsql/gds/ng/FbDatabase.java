@@ -201,6 +201,27 @@ public interface FbDatabase extends FbAttachment {
      */
     byte[] getDatabaseInfo(byte[] requestItems, int maxBufferLength) throws SQLException;
 
+    /**
+     * Checks if the connection is usable by performing a lightweight round trip to the server.
+     * <p>
+     * If the server does not respond within {@code timeoutMillis}, the connection is no longer usable: implementations
+     * that support the timeout close the connection and throw an {@link java.sql.SQLTimeoutException}.
+     * The timeout does not need to include waiting for an operation in progress on the connection, unless
+     * {@link IConnectionProperties#isAbortOnValidationTimeout()} is {@code true}.
+     * Implementations that cannot bound the round trip may ignore the timeout.
+     * </p>
+     *
+     * @param timeoutMillis
+     *         Maximum time in milliseconds to wait for the response, {@code 0} for no timeout (other than the
+     *         configured socket timeout)
+     * @throws java.sql.SQLTimeoutException
+     *         If the server did not respond within the timeout
+     * @throws SQLException
+     *         If the connection is not usable
+     * @since 4.0
+     */
+    void ping(int timeoutMillis) throws SQLException;
+
     /**
      * Performs an execute immediate of a statement.
      * <p>
@@ -35,6 +35,11 @@ public final class FbImmutableConnectionProperties extends AbstractImmutableAtta
     private final int pageCacheSize;
     private final boolean resultSetDefaultHoldable;
     private final boolean columnLabelForName;
+    private final boolean minimalDescribe;
+    private final int adaptiveFetchBufferSize;
+    private final int blobReadAhead;
+    private final int blobWriteBatchSize;
+    private final boolean abortOnValidationTimeout;
     private final DatabaseParameterBuffer extraDatabaseParameters;
 
     /**
@@ -54,6 +59,11 @@ public final class FbImmutableConnectionProperties extends AbstractImmutableAtta
         pageCacheSize = src.getPageCacheSize();
         resultSetDefaultHoldable = src.isResultSetDefaultHoldable();
         columnLabelForName = src.isColumnLabelForName();
+        minimalDescribe = src.isMinimalDescribe();
+        adaptiveFetchBufferSize = src.getAdaptiveFetchBufferSize();
+        blobReadAhead = src.getBlobReadAhead();
+        blobWriteBatchSize = src.getBlobWriteBatchSize();
+        abortOnValidationTimeout = src.isAbortOnValidationTimeout();
         extraDatabaseParameters = src.getExtraDatabaseParameters().deepCopy();
     }
 
@@ -112,6 +122,56 @@ public final class FbImmutableConnectionProperties extends AbstractImmutableAtta
         return columnLabelForName;
     }
 
+    @Override
+    public void setMinimalDescribe(final boolean minimalDescribe) {
+        immutable();
+    }
+
+    @Override
+    public boolean isMinimalDescribe() {
+        return minimalDescribe;
+    }
+
+    @Override
+    public void setAdaptiveFetchBufferSize(final int adaptiveFetchBufferSize) {
+        immutable();
+    }
+
+    @Override
+    public int getAdaptiveFetchBufferSize() {
+        return adaptiveFetchBufferSize;
+    }
+
+    @Override
+    public void setBlobReadAhead(final int blobReadAhead) {
+        immutable();
+    }
+
+    @Override
+    public int getBlobReadAhead() {
+        return blobReadAhead;
+    }
+
+    @Override
+    public void setBlobWriteBatchSize(final int blobWriteBatchSize) {
+        immutable();
+    }
+
+    @Override
+    public int getBlobWriteBatchSize() {
+        return blobWriteBatchSize;
+    }
+
+    @Override
+    public void setAbortOnValidationTimeout(final boolean abortOnValidationTimeout) {
+        immutable();
+    }
+
+    @Override
+    public boolean isAbortOnValidationTimeout() {
+        return abortOnValidationTimeout;
+    }
+
     @Override
     public DatabaseParameterBuffer getExtraDatabaseParameters() {
         return extraDatabaseParameters.deepCopy();
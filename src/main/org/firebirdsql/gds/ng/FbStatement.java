@@ -72,6 +72,22 @@ public interface FbStatement extends ExceptionListenable {
      */
     RowDescriptor getFieldDescriptor();
 
+    /**
+     * Gets the descriptor of the fields returned by this statement, including names and relation information.
+     * <p>
+     * When the statement was prepared with a minimal describe (see
+     * {@link IConnectionProperties#isMinimalDescribe()}), the descriptor returned by {@link #getFieldDescriptor()}
+     * only contains the field types. This method requests the remaining information from the server on first use, and
+     * replaces the field descriptor of this statement.
+     * </p>
+     *
+     * @return descriptor of the fields returned by this statement, with names and relation information
+     * @throws SQLException
+     *         For errors retrieving the field information, or when this statement is closed
+     * @since 4.0
+     */
+    RowDescriptor getFullFieldDescriptor() throws SQLException;
+
     /**
      * @return The statement type
      */
@@ -155,6 +171,28 @@ public interface FbStatement extends ExceptionListenable {
      */
     void fetchRows(int fetchSize) throws SQLException;
 
+    /**
+     * Sets the number of rows to fetch together with the execute of a statement with a cursor.
+     * <p>
+     * When set to a value <code>&gt; 0</code>, implementations may request the first rows in the same round trip as the
+     * execute. These rows are sent to the registered {@link org.firebirdsql.gds.ng.listeners.StatementListener}
+     * instances on the first call to {@link #fetchRows(int)}, which then does not fetch rows from the server.
+     * </p>
+     *
+     * @param prefetchSize
+     *         Number of rows to fetch with the execute, <code>0</code> (the default) to fetch rows only on
+     *         {@link #fetchRows(int)}
+     * @since 4.0
+     */
+    void setPrefetchSize(int prefetchSize);
+
+    /**
+     * @return Number of rows to fetch together with the execute of a statement with a cursor
+     * @see #setPrefetchSize(int)
+     * @since 4.0
+     */
+    int getPrefetchSize();
+
     /**
      * Registers a {@link org.firebirdsql.gds.ng.listeners.StatementListener}.
      *
@@ -157,6 +157,119 @@ public interface IConnectionProperties extends IAttachProperties<IConnectionProp
      */
     boolean isColumnLabelForName();
 
+    /**
+     * Set if statement prepare only requests the information needed to decode rows.
+     * <p>
+     * With <code>minimalDescribe=true</code>, the prepare of a statement does not request the names and relation
+     * information of the columns, which reduces the size of the prepare response for statements with many columns.
+     * This information is requested when it is needed, for example for {@link java.sql.ResultSet#getMetaData()} or
+     * {@link java.sql.ResultSet#findColumn(String)} (see {@link FbStatement#getFullFieldDescriptor()}).
+     * </p>
+     *
+     * @param minimalDescribe
+     *         <code>false</code> (default) request all column information on prepare, <code>true</code> request only
+     *         the column types on prepare
+     */
+    void setMinimalDescribe(boolean minimalDescribe);
+
+    /**
+     * Gets the current setting of <code>minimalDescribe</code>
+     *
+     * @return <code>false</code> (default) request all column information on prepare, <code>true</code> request only
+     *         the column types on prepare
+     * @see #setMinimalDescribe(boolean)
+     */
+    boolean isMinimalDescribe();
+
+    /**
+     * Set the buffer size for the adaptive fetch size of result sets.
+     * <p>
+     * When set to a value greater than {@code 0}, result sets without an explicit fetch size derive the number of rows
+     * per fetch from this target size in bytes and the maximum length of a row, adjusted by the time the application
+     * spends consuming the rows compared to the time needed to fetch them.
+     * </p>
+     *
+     * @param adaptiveFetchBufferSize
+     *         Target size in bytes of the rows of a single fetch, <code>0</code> (default) disables adaptive fetch size
+     */
+    void setAdaptiveFetchBufferSize(int adaptiveFetchBufferSize);
+
+    /**
+     * Gets the buffer size for the adaptive fetch size of result sets.
+     *
+     * @return Target size in bytes of the rows of a single fetch, <code>0</code> (default) adaptive fetch size is
+     *         disabled
+     * @see #setAdaptiveFetchBufferSize(int)
+     */
+    int getAdaptiveFetchBufferSize();
+
+    /**
+     * Set the number of blob segment requests to keep outstanding when reading a blob.
+     * <p>
+     * When set to a value greater than {@code 1}, blobs read with the version 11 or higher wire protocol send up to
+     * this number of segment requests before reading the responses, instead of waiting for the response of each
+     * request before sending the next.
+     * </p>
+     *
+     * @param blobReadAhead
+     *         Number of outstanding segment requests, <code>0</code> (default) or <code>1</code> disables read-ahead
+     */
+    void setBlobReadAhead(int blobReadAhead);
+
+    /**
+     * Gets the number of blob segment requests to keep outstanding when reading a blob.
+     *
+     * @return Number of outstanding segment requests, <code>0</code> (default) or <code>1</code> read-ahead is
+     *         disabled
+     * @see #setBlobReadAhead(int)
+     */
+    int getBlobReadAhead();
+
+    /**
+     * Set the maximum number of bytes of blob segments to send before checking the responses of the server.
+     * <p>
+     * When set to a value greater than {@code 0}, blobs written with the version 11 or higher wire protocol send
+     * segments up to this number of bytes without waiting for the response of each segment, and check the responses
+     * once for the whole batch. Values larger than 8 MB are reduced to 8 MB.
+     * </p>
+     *
+     * @param blobWriteBatchSize
+     *         Maximum size in bytes of a batch of segments, <code>0</code> (default) disables batching
+     */
+    void setBlobWriteBatchSize(int blobWriteBatchSize);
+
+    /**
+     * Gets the maximum number of bytes of blob segments to send before checking the responses of the server.
+     *
+     * @return Maximum size in bytes of a batch of segments, <code>0</code> (default) batching is disabled
+     * @see #setBlobWriteBatchSize(int)
+     */
+    int getBlobWriteBatchSize();
+
+    /**
+     * Set if connection validation closes a connection that is busy for longer than the validation timeout.
+     * <p>
+     * By default, {@link java.sql.Connection#isValid(int)} returns <code>false</code> when another operation in
+     * progress on the connection does not complete within the timeout, and leaves that operation (and the connection)
+     * alone. With <code>abortOnValidationTimeout=true</code>, the connection is closed instead, which ends the
+     * operation in progress with an error (pure Java connections only).
+     * </p>
+     *
+     * @param abortOnValidationTimeout
+     *         <code>false</code> (default) leave a busy connection open, <code>true</code> close a connection that is
+     *         busy for longer than the validation timeout
+     */
+    void setAbortOnValidationTimeout(boolean abortOnValidationTimeout);
+
+    /**
+     * Gets the current setting of <code>abortOnValidationTimeout</code>
+     *
+     * @return <code>false</code> (default) leave a busy connection open, <code>true</code> close a connection that is
+     *         busy for longer than the validation timeout
+     * @see #setAbortOnValidationTimeout(boolean)
+     */
+    boolean isAbortOnValidationTimeout();
+
     /**
      * Gets the extra database parameters. This can be used to pass extra database parameters that are not directly
      * supported.
@@ -0,0 +1,56 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.ng;
+
+/**
+ * Statistics on the acquisition of the connection lock.
+ * <p>
+ * Only acquisitions by the main entry points of the JDBC implementation (statement execution, fetching rows and
+ * reading blobs) are recorded.
+ * </p>
+ *
+ * @since 4.0
+ */
+public interface LockStatistics {
+
+    /**
+     * @return Number of recorded lock acquisitions
+     */
+    long getLockAcquisitionCount();
+
+    /**
+     * @return Number of recorded lock acquisitions that waited at least {@link SyncObject#CONTENTION_THRESHOLD_NANOS}
+     */
+    long getContendedLockAcquisitionCount();
+
+    /**
+     * @return Total time in nanoseconds threads waited for contended lock acquisitions
+     */
+    long getLockWaitTimeNanos();
+
+    /**
+     * @return Maximum time in nanoseconds a thread waited for a lock acquisition
+     */
+    long getMaxLockWaitTimeNanos();
+
+    /**
+     * Resets the lock statistics.
+     */
+    void resetLockStatistics();
+}
@@ -88,6 +88,17 @@ enum ServerVersionInformation {
      */
     public abstract byte[] getParameterDescriptionInfoRequestItems();
 
+    /**
+     * Statement info request items for a minimal describe: the statement type and the types of fields and parameters,
+     * without names and relation information.
+     *
+     * @return The minimal statement info request items.
+     * @see #getStatementInfoRequestItems()
+     */
+    public byte[] getMinimalStatementInfoRequestItems() {
+        return Constants.MINIMAL_STATEMENT_INFO.clone();
+    }
+
     /**
      * Convenience method to check if the majorVersion.minorVersion of this instance is equal to or smaller than the
      * specified version.
@@ -141,6 +152,22 @@ enum ServerVersionInformation {
     }
 
     private static class Constants {
+        public static final byte[] MINIMAL_STATEMENT_INFO = new byte[] {
+                isc_info_sql_stmt_type,
+                isc_info_sql_select,
+                isc_info_sql_describe_vars,
+                isc_info_sql_sqlda_seq,
+                isc_info_sql_type, isc_info_sql_sub_type,
+                isc_info_sql_scale, isc_info_sql_length,
+                isc_info_sql_describe_end,
+
+                isc_info_sql_bind,
+                isc_info_sql_describe_vars,
+                isc_info_sql_sqlda_seq,
+                isc_info_sql_type, isc_info_sql_sub_type,
+                isc_info_sql_scale, isc_info_sql_length,
+                isc_info_sql_describe_end
+        };
         public static final byte[] V1_0_STATEMENT_INFO = new byte[] {
                 isc_info_sql_stmt_type,
                 isc_info_sql_select,
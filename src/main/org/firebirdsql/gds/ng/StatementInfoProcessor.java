@@ -42,6 +42,7 @@ public final class StatementInfoProcessor implements InfoProcessor<InfoProcessor
 
     private final AbstractFbStatement statement;
     private final FbDatabase database;
+    private final byte[] requestItems;
 
     /**
      * Creates an instance of this class.
@@ -52,8 +53,26 @@ public final class StatementInfoProcessor implements InfoProcessor<InfoProcessor
      *         Database object
      */
     public StatementInfoProcessor(final AbstractFbStatement statement, final FbDatabase database) {
+        this(statement, database, null);
+    }
+
+    /**
+     * Creates an instance of this class for a response to the specified info request items.
+     *
+     * @param statement
+     *         Statement object
+     * @param database
+     *         Database object
+     * @param requestItems
+     *         Info request items used for the response, these are used to request the remainder on truncation
+     *         ({@code null} to use {@link AbstractFbStatement#getStatementInfoRequestItems()})
+     * @since 4.0
+     */
+    public StatementInfoProcessor(final AbstractFbStatement statement, final FbDatabase database,
+            final byte[] requestItems) {
         this.statement = statement;
         this.database = database;
+        this.requestItems = requestItems;
     }
 
     @Override
@@ -95,7 +114,7 @@ public final class StatementInfoProcessor implements InfoProcessor<InfoProcessor
      * @throws SQLException
      */
     private void handleTruncatedInfo(final StatementInfo info) throws SQLException {
-        final byte[] originalInfo = statement.getStatementInfoRequestItems();
+        final byte[] originalInfo = requestItems != null ? requestItems : statement.getStatementInfoRequestItems();
         // Adding 2 * 4 bytes for the isc_info_sql_sqlda_start item (see handling of isc_info_sql_select and isc_info_sql_bind)
         final byte[] newInfoItems = new byte[originalInfo.length + 2 * 4];
         int newIndex = 0;
@@ -19,23 +19,126 @@
 package org.firebirdsql.gds.ng;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Object for synchronization that has an id that might be helpful during debugging.
+ * <p>
+ * The connection monitor also keeps statistics on how long threads waited to acquire it. These statistics are
+ * recorded by the main entry points of the JDBC implementation (statement execution, fetching rows and reading blobs)
+ * through {@link #lockRequested(Object)} and {@link #lockAcquired(Object, long)}, and are available through
+ * {@link org.firebirdsql.jdbc.FirebirdConnection#getLockStatistics()}. Acquisitions that waited less than
+ * {@link #CONTENTION_THRESHOLD_NANOS} are counted as uncontended.
+ * </p>
  *
  * @author <a href="mailto:mrotteveel@users.sourceforge.net">Mark Rotteveel</a>
  * @since 3.0
  */
-public final class SyncObject {
+public final class SyncObject implements LockStatistics {
+
+    /**
+     * Minimum time in nanoseconds a thread has to wait to acquire the lock for it to count as a contended acquisition.
+     */
+    public static final long CONTENTION_THRESHOLD_NANOS = 5000;
 
     private static final AtomicInteger counter = new AtomicInteger();
+    private static final long NOT_RECORDED = Long.MIN_VALUE;
 
     private final int id;
+    private final AtomicLong lockAcquisitionCount = new AtomicLong();
+    private final AtomicLong contendedLockAcquisitionCount = new AtomicLong();
+    private final AtomicLong lockWaitTimeNanos = new AtomicLong();
+    private final AtomicLong maxLockWaitTimeNanos = new AtomicLong();
 
     public SyncObject() {
         id = counter.getAndIncrement();
     }
 
+    /**
+     * Marks the start of the acquisition of the lock of {@code syncObject} by the current thread.
+     * <p>
+     * To be used together with {@link #lockAcquired(Object, long)}, which records the time waited for the lock as the
+     * first statement inside the {@code synchronized} block, so the lock is acquired only once:
+     * </p>
+     * <pre>
+     * final long lockRequested = SyncObject.lockRequested(syncObject);
+     * synchronized (syncObject) {
+     *     SyncObject.lockAcquired(syncObject, lockRequested);
+     *     // ...
+     * }
+     * </pre>
+     *
+     * @param syncObject
+     *         Synchronization object to acquire
+     * @return Start time of the acquisition, or a marker value if nothing should be recorded ({@code syncObject} is
+     * not a {@code SyncObject}, or the current thread already holds its lock)
+     */
+    public static long lockRequested(Object syncObject) {
+        return syncObject instanceof SyncObject && !Thread.holdsLock(syncObject)
+                ? System.nanoTime()
+                : NOT_RECORDED;
+    }
+
+    /**
+     * Records the time the current thread waited for the lock of {@code syncObject}.
+     * <p>
+     * Must be called by the thread holding the lock, with the value returned by {@link #lockRequested(Object)}.
+     * </p>
+     *
+     * @param syncObject
+     *         Synchronization object that was acquired
+     * @param lockRequested
+     *         Value returned by {@link #lockRequested(Object)} before acquiring the lock
+     */
+    public static void lockAcquired(Object syncObject, long lockRequested) {
+        if (lockRequested != NOT_RECORDED) {
+            ((SyncObject) syncObject).lockAcquired(System.nanoTime() - lockRequested);
+        }
+    }
+
+    private void lockAcquired(long waitTimeNanos) {
+        lockAcquisitionCount.incrementAndGet();
+        if (waitTimeNanos < CONTENTION_THRESHOLD_NANOS) {
+            return;
+        }
+        contendedLockAcquisitionCount.incrementAndGet();
+        lockWaitTimeNanos.addAndGet(waitTimeNanos);
+        long currentMax;
+        while ((currentMax = maxLockWaitTimeNanos.get()) < waitTimeNanos) {
+            if (maxLockWaitTimeNanos.compareAndSet(currentMax, waitTimeNanos)) {
+                break;
+            }
+        }
+    }
+
+    @Override
+    public long getLockAcquisitionCount() {
+        return lockAcquisitionCount.get();
+    }
+
+    @Override
+    public long getContendedLockAcquisitionCount() {
+        return contendedLockAcquisitionCount.get();
+    }
+
+    @Override
+    public long getLockWaitTimeNanos() {
+        return lockWaitTimeNanos.get();
+    }
+
+    @Override
+    public long getMaxLockWaitTimeNanos() {
+        return maxLockWaitTimeNanos.get();
+    }
+
+    @Override
+    public void resetLockStatistics() {
+        lockAcquisitionCount.set(0);
+        contendedLockAcquisitionCount.set(0);
+        lockWaitTimeNanos.set(0);
+        maxLockWaitTimeNanos.set(0);
+    }
+
     @Override
     public int hashCode() {
         return id;
@@ -231,9 +231,22 @@ public final class FieldDescriptor {
      * @since 4.0
      */
     public boolean isDbKey() {
-        return "DB_KEY".equals(originalName)
-                && isFbType(SQL_TEXT)
-                && (subType & 0xFF) == CS_BINARY;
+        return "DB_KEY".equals(originalName) && isDbKeyType();
+    }
+
+    /**
+     * Check if the type of this field matches the type of a {@code RDB$DB_KEY} ({@code CHAR CHARACTER SET OCTETS}),
+     * without checking its name.
+     * <p>
+     * This can be used to decide if the name of the field is needed, when it was not described.
+     * </p>
+     *
+     * @return {@code true} if the field has the type of a RDB$DB_KEY
+     * @see #isDbKey()
+     * @since 4.0
+     */
+    public boolean isDbKeyType() {
+        return isFbType(SQL_TEXT) && (subType & 0xFF) == CS_BINARY;
     }
 
     /**
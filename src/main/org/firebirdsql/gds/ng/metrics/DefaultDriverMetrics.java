@@ -0,0 +1,155 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.ng.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Default implementation of {@link DriverMetrics} that aggregates metrics of all connections in memory.
+ * <p>
+ * Recording metrics is lock-free and does not allocate. The collected metrics can be pulled through the methods of
+ * this class (see {@link DriverMetricsProvider#getDriverMetrics()}), or through JMX (see {@link DriverMetricsMXBean}).
+ * </p>
+ *
+ * @since 4.0
+ */
+public final class DefaultDriverMetrics implements DriverMetrics, DriverMetricsMXBean {
+
+    private final StripedCounter bytesSent = new StripedCounter();
+    private final StripedCounter bytesReceived = new StripedCounter();
+    private final LogLinearHistogram responseWaitTimes = new LogLinearHistogram();
+    private final LogLinearHistogram fetchSizes = new LogLinearHistogram();
+    private final Map<OperationType, LogLinearHistogram> operationTimes = new EnumMap<>(OperationType.class);
+
+    public DefaultDriverMetrics() {
+        for (OperationType operationType : OperationType.values()) {
+            operationTimes.put(operationType, new LogLinearHistogram());
+        }
+    }
+
+    @Override
+    public void bytesSent(int count) {
+        bytesSent.add(count);
+    }
+
+    @Override
+    public void bytesReceived(int count) {
+        bytesReceived.add(count);
+    }
+
+    @Override
+    public void responseReceived(long waitTimeNanos) {
+        responseWaitTimes.record(waitTimeNanos);
+    }
+
+    @Override
+    public void operationCompleted(OperationType operationType, long elapsedNanos) {
+        operationTimes.get(operationType).record(elapsedNanos);
+    }
+
+    @Override
+    public void rowsFetched(int rowCount) {
+        fetchSizes.record(rowCount);
+    }
+
+    @Override
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+
+    @Override
+    public long getBytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    @Override
+    public long getResponseCount() {
+        return responseWaitTimes.getCount();
+    }
+
+    @Override
+    public long getResponseWaitTimeNanos() {
+        return responseWaitTimes.getTotal();
+    }
+
+    @Override
+    public long getFetchCount() {
+        return fetchSizes.getCount();
+    }
+
+    @Override
+    public long getRowsFetched() {
+        return fetchSizes.getTotal();
+    }
+
+    @Override
+    public long getOperationCount(String operationType) {
+        return getOperationTimes(OperationType.valueOf(operationType)).getCount();
+    }
+
+    @Override
+    public long getOperationTimeNanos(String operationType) {
+        return getOperationTimes(OperationType.valueOf(operationType)).getTotal();
+    }
+
+    @Override
+    public long getMaxOperationTimeNanos(String operationType) {
+        return getOperationTimes(OperationType.valueOf(operationType)).getMax();
+    }
+
+    @Override
+    public long getOperationTimeNanosAtPercentile(String operationType, double percentile) {
+        return getOperationTimes(OperationType.valueOf(operationType)).getValueAtPercentile(percentile);
+    }
+
+    /**
+     * @return Histogram of the time in nanoseconds spent waiting for a response from the server
+     */
+    public LogLinearHistogram getResponseWaitTimes() {
+        return responseWaitTimes;
+    }
+
+    /**
+     * @return Histogram of the number of rows received per fetch request
+     */
+    public LogLinearHistogram getFetchSizes() {
+        return fetchSizes;
+    }
+
+    /**
+     * @param operationType
+     *         Type of operation
+     * @return Histogram of the time in nanoseconds of completed operations of the type
+     */
+    public LogLinearHistogram getOperationTimes(OperationType operationType) {
+        return operationTimes.get(operationType);
+    }
+
+    @Override
+    public void reset() {
+        bytesSent.reset();
+        bytesReceived.reset();
+        responseWaitTimes.reset();
+        fetchSizes.reset();
+        for (LogLinearHistogram histogram : operationTimes.values()) {
+            histogram.reset();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.ng.metrics;
+
+/**
+ * Service provider interface for collecting metrics of the wire protocol implementation.
+ * <p>
+ * An implementation is selected once, when {@link DriverMetricsProvider} is initialized, through the system properties
+ * {@code org.firebirdsql.jdbc.enableMetrics} (selects {@link DefaultDriverMetrics}) or
+ * {@code org.firebirdsql.jdbc.metricsImplementation} (name of a class implementing this interface with a public
+ * no-arg constructor).
+ * </p>
+ * <p>
+ * Implementations must be thread-safe, and should be cheap and non-blocking: methods are called on the hot path of the
+ * driver, often while holding the connection lock. Implementations must not throw exceptions.
+ * </p>
+ *
+ * @since 4.0
+ */
+public interface DriverMetrics {
+
+    /**
+     * Reports bytes written to the socket of a connection.
+     *
+     * @param count
+     *         Number of bytes
+     */
+    void bytesSent(int count);
+
+    /**
+     * Reports bytes read from the socket of a connection.
+     *
+     * @param count
+     *         Number of bytes
+     */
+    void bytesReceived(int count);
+
+    /**
+     * Reports the receipt of a response from the server.
+     *
+     * @param waitTimeNanos
+     *         Time in nanoseconds spent reading the operation code of the response, this is usually the time blocked
+     *         waiting for the server
+     */
+    void responseReceived(long waitTimeNanos);
+
+    /**
+     * Reports the successful completion of an operation.
+     *
+     * @param operationType
+     *         Type of operation
+     * @param elapsedNanos
+     *         Elapsed time in nanoseconds
+     */
+    void operationCompleted(OperationType operationType, long elapsedNanos);
+
+    /**
+     * Reports the number of rows received in response to a single fetch request.
+     *
+     * @param rowCount
+     *         Number of rows
+     */
+    void rowsFetched(int rowCount);
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.ng.metrics;
+
+/**
+ * JMX management interface of {@link DefaultDriverMetrics}.
+ * <p>
+ * Registered with the platform MBean server under the name {@value DriverMetricsProvider#OBJECT_NAME} when the
+ * default metrics implementation is enabled.
+ * </p>
+ *
+ * @since 4.0
+ */
+public interface DriverMetricsMXBean {
+
+    /**
+     * @return Total number of bytes written to the socket of connections
+     */
+    long getBytesSent();
+
+    /**
+     * @return Total number of bytes read from the socket of connections
+     */
+    long getBytesReceived();
+
+    /**
+     * @return Number of responses received from the server
+     */
+    long getResponseCount();
+
+    /**
+     * @return Total time in nanoseconds spent waiting for responses from the server
+     */
+    long getResponseWaitTimeNanos();
+
+    /**
+     * @return Number of fetch requests ({@code op_fetch})
+     */
+    long getFetchCount();
+
+    /**
+     * @return Total number of rows received through fetch requests
+     */
+    long getRowsFetched();
+
+    /**
+     * @param operationType
+     *         Name of an {@link OperationType}
+     * @return Number of completed operations of the type
+     */
+    long getOperationCount(String operationType);
+
+    /**
+     * @param operationType
+     *         Name of an {@link OperationType}
+     * @return Total time in nanoseconds of completed operations of the type
+     */
+    long getOperationTimeNanos(String operationType);
+
+    /**
+     * @param operationType
+     *         Name of an {@link OperationType}
+     * @return Maximum time in nanoseconds of a completed operation of the type
+     */
+    long getMaxOperationTimeNanos(String operationType);
+
+    /**
+     * @param operationType
+     *         Name of an {@link OperationType}
+     * @param percentile
+     *         Percentile (between {@code 0} and {@code 100})
+     * @return Approximate time in nanoseconds at the percentile for completed operations of the type
+     */
+    long getOperationTimeNanosAtPercentile(String operationType, double percentile);
+
+    /**
+     * Resets all metrics.
+     */
+    void reset();
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.ng.metrics;
+
+import org.firebirdsql.gds.JaybirdSystemProperties;
+import org.firebirdsql.logging.Logger;
+import org.firebirdsql.logging.LoggerFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Provides the {@link DriverMetrics} implementation used by the driver, and static methods for reporting metrics.
+ * <p>
+ * The implementation is selected once, when this class is initialized:
+ * </p>
+ * <ul>
+ * <li>System property {@value JaybirdSystemProperties#METRICS_IMPLEMENTATION_PROP}: name of a class implementing
+ * {@link DriverMetrics} with a public no-arg constructor</li>
+ * <li>System property {@value JaybirdSystemProperties#ENABLE_METRICS_PROP} set to {@code true}:
+ * {@link DefaultDriverMetrics}, which is also registered with the platform MBean server under the name
+ * {@value #OBJECT_NAME}</li>
+ * </ul>
+ * <p>
+ * If neither property is set, metrics are disabled: the reporting methods only check a static final flag, and no
+ * timestamps are taken.
+ * </p>
+ *
+ * @since 4.0
+ */
+public final class DriverMetricsProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(DriverMetricsProvider.class);
+
+    /**
+     * JMX object name of the default metrics implementation.
+     */
+    public static final String OBJECT_NAME = "org.firebirdsql:type=DriverMetrics";
+
+    private static final DriverMetrics DRIVER_METRICS;
+    private static final boolean METRICS_ENABLED;
+
+    static {
+        DriverMetrics driverMetrics = null;
+        try {
+            driverMetrics = createDriverMetrics(JaybirdSystemProperties.getMetricsImplementation(),
+                    JaybirdSystemProperties.isEnableMetrics());
+        } catch (Exception e) {
+            log.error("Unable to initialize driver metrics, metrics will be disabled", e);
+        } finally {
+            DRIVER_METRICS = driverMetrics;
+            METRICS_ENABLED = driverMetrics != null;
+        }
+    }
+
+    private DriverMetricsProvider() {
+        // no instances
+    }
+
+    /**
+     * @return {@code true} if metrics are enabled
+     */
+    public static boolean isMetricsEnabled() {
+        return METRICS_ENABLED;
+    }
+
+    /**
+     * @return The metrics implementation, or {@code null} if metrics are disabled
+     */
+    public static DriverMetrics getDriverMetrics() {
+        return DRIVER_METRICS;
+    }
+
+    /**
+     * Starts timing an operation.
+     *
+     * @return Current value of {@link System#nanoTime()}, or {@code 0} if metrics are disabled
+     * @see #operationCompleted(OperationType, long)
+     */
+    public static long startTimer() {
+        return METRICS_ENABLED ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Reports the successful completion of an operation.
+     *
+     * @param operationType
+     *         Type of operation
+     * @param startNanos
+     *         Value obtained from {@link #startTimer()} when the operation started
+     */
+    public static void operationCompleted(OperationType operationType, long startNanos) {
+        if (METRICS_ENABLED) {
+            DRIVER_METRICS.operationCompleted(operationType, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Reports the receipt of a response from the server.
+     *
+     * @param startNanos
+     *         Value obtained from {@link #startTimer()} before reading the response
+     */
+    public static void responseReceived(long startNanos) {
+        if (METRICS_ENABLED) {
+            DRIVER_METRICS.responseReceived(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Reports the number of rows received in response to a single fetch request.
+     *
+     * @param rowCount
+     *         Number of rows
+     */
+    public static void rowsFetched(int rowCount) {
+        if (METRICS_ENABLED) {
+            DRIVER_METRICS.rowsFetched(rowCount);
+        }
+    }
+
+    private static DriverMetrics createDriverMetrics(String metricsImplementation, boolean enableMetrics)
+            throws ReflectiveOperationException {
+        if (metricsImplementation != null && !DefaultDriverMetrics.class.getName().equals(metricsImplementation)) {
+            Class<?> metricsClass = Class.forName(metricsImplementation);
+            if (!DriverMetrics.class.isAssignableFrom(metricsClass)) {
+                throw new IllegalArgumentException(
+                        metricsImplementation + " does not implement " + DriverMetrics.class.getName());
+            }
+            return (DriverMetrics) metricsClass.newInstance();
+        }
+        if (metricsImplementation != null || enableMetrics) {
+            DefaultDriverMetrics defaultDriverMetrics = new DefaultDriverMetrics();
+            registerMBean(defaultDriverMetrics);
+            return defaultDriverMetrics;
+        }
+        return null;
+    }
+
+    private static void registerMBean(DefaultDriverMetrics driverMetrics) {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (!mBeanServer.isRegistered(objectName)) {
+                mBeanServer.registerMBean(driverMetrics, objectName);
+            }
+        } catch (Exception e) {
+            log.warn("Unable to register driver metrics MBean " + OBJECT_NAME + "; see debug level for stack trace");
+            log.debug("Unable to register driver metrics MBean", e);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.ng.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of non-negative long values with logarithmic buckets that are linearly subdivided (similar to
+ * HdrHistogram).
+ * <p>
+ * With the default precision, values below 16 are recorded exactly, larger values are recorded in buckets with a
+ * relative width of at most 1/16th (6.25%) of the value, using 960 buckets. A lower precision uses fewer buckets
+ * (see {@link #LogLinearHistogram(int)}). Recording is allocation-free and lock-free; reading is not an atomic snapshot
+ * when values are recorded concurrently.
+ * </p>
+ *
+ * @since 4.0
+ */
+public final class LogLinearHistogram {
+
+    /**
+     * Default number of bits of sub-bucket precision.
+     */
+    public static final int DEFAULT_PRECISION = 4;
+    private static final int MAX_PRECISION = 8;
+
+    private final int subBucketBits;
+    private final int subBucketCount;
+    private final int subBucketMask;
+    private final int bucketCount;
+    private final AtomicLongArray buckets;
+    private final StripedCounter count = new StripedCounter();
+    private final StripedCounter total = new StripedCounter();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Creates a histogram with the default precision ({@value #DEFAULT_PRECISION} bits).
+     */
+    public LogLinearHistogram() {
+        this(DEFAULT_PRECISION);
+    }
+
+    /**
+     * Creates a histogram with the specified precision.
+     * <p>
+     * Values below {@code 2^precision} are recorded exactly, larger values are recorded in buckets with a relative
+     * width of at most {@code 1/2^precision}. The histogram uses {@code (64 - precision) * 2^precision} buckets, for
+     * example 248 buckets for a precision of 2 (relative width of 25%).
+     * </p>
+     *
+     * @param precision
+     *         Number of bits of sub-bucket precision (between {@code 1} and {@value #MAX_PRECISION})
+     */
+    public LogLinearHistogram(int precision) {
+        if (precision < 1 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException(
+                    "precision should be between 1 and " + MAX_PRECISION + ", was: " + precision);
+        }
+        subBucketBits = precision;
+        subBucketCount = 1 << precision;
+        subBucketMask = subBucketCount - 1;
+        // Largest shift is for values with the highest bit at position 62
+        bucketCount = subBucketCount + (63 - precision) * subBucketCount;
+        buckets = new AtomicLongArray(bucketCount);
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value
+     *         Value to record, negative values are recorded as {@code 0}
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        buckets.incrementAndGet(bucketIndex(value));
+        count.increment();
+        total.add(value);
+        long currentMax;
+        while ((currentMax = max.get()) < value) {
+            if (max.compareAndSet(currentMax, value)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * @return Number of recorded values
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return Sum of all recorded values
+     */
+    public long getTotal() {
+        return total.sum();
+    }
+
+    /**
+     * @return Largest recorded value, {@code 0} if no values were recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @return Mean of the recorded values, {@code 0} if no values were recorded
+     */
+    public double getMean() {
+        final long currentCount = getCount();
+        return currentCount == 0 ? 0 : (double) getTotal() / currentCount;
+    }
+
+    /**
+     * Gets the (approximate) value at the specified percentile.
+     *
+     * @param percentile
+     *         Percentile (between {@code 0} and {@code 100})
+     * @return Highest value of the bucket containing the percentile (never larger than {@link #getMax()}), or {@code 0}
+     * if no values were recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile should be between 0 and 100, was: " + percentile);
+        }
+        long totalCount = 0;
+        for (int idx = 0; idx < bucketCount; idx++) {
+            totalCount += buckets.get(idx);
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+        final long targetCount = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long runningCount = 0;
+        for (int idx = 0; idx < bucketCount; idx++) {
+            runningCount += buckets.get(idx);
+            if (runningCount >= targetCount) {
+                return Math.min(highestValueInBucket(idx), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Removes all recorded values.
+     */
+    public void reset() {
+        for (int idx = 0; idx < bucketCount; idx++) {
+            buckets.set(idx, 0);
+        }
+        count.reset();
+        total.reset();
+        max.set(0);
+    }
+
+    int bucketCount() {
+        return bucketCount;
+    }
+
+    int bucketIndex(long value) {
+        if (value < subBucketCount) {
+            return (int) value;
+        }
+        final int shift = 63 - Long.numberOfLeadingZeros(value) - subBucketBits;
+        final int subBucket = (int) (value >>> shift) & subBucketMask;
+        return subBucketCount + shift * subBucketCount + subBucket;
+    }
+
+    long highestValueInBucket(int bucketIndex) {
+        if (bucketIndex < subBucketCount) {
+            return bucketIndex;
+        }
+        final int shift = (bucketIndex - subBucketCount) / subBucketCount;
+        final long subBucket = (bucketIndex - subBucketCount) % subBucketCount;
+        final long lowestValue = (subBucketCount + subBucket) << shift;
+        return lowestValue + (1L << shift) - 1;
+    }
+}
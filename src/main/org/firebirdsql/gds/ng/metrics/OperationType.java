@@ -0,0 +1,67 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.ng.metrics;
+
+/**
+ * Types of operations for which the latency is reported to {@link DriverMetrics}.
+ *
+ * @since 4.0
+ */
+public enum OperationType {
+    /**
+     * Preparing a statement (including allocation of the statement handle, if needed).
+     */
+    STATEMENT_PREPARE,
+    /**
+     * Executing a statement (including reading the singleton result of {@code op_execute2}).
+     */
+    STATEMENT_EXECUTE,
+    /**
+     * Fetching a batch of rows with {@code op_fetch}.
+     */
+    STATEMENT_FETCH,
+    /**
+     * Opening or creating a blob.
+     */
+    BLOB_OPEN,
+    /**
+     * Retrieving a blob segment.
+     */
+    BLOB_GET_SEGMENT,
+    /**
+     * Sending a blob segment.
+     */
+    BLOB_PUT_SEGMENT,
+    /**
+     * Starting a transaction.
+     */
+    TRANSACTION_START,
+    /**
+     * Committing a transaction.
+     */
+    TRANSACTION_COMMIT,
+    /**
+     * Rolling back a transaction.
+     */
+    TRANSACTION_ROLLBACK,
+    /**
+     * Preparing a transaction (first phase of two-phase commit).
+     */
+    TRANSACTION_PREPARE
+}
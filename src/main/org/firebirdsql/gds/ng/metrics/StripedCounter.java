@@ -0,0 +1,68 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.ng.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counter that spreads updates from different threads over multiple cells to reduce contention.
+ * <p>
+ * Comparable to {@code java.util.concurrent.atomic.LongAdder}, which is not available on Java 7. Cells are padded to
+ * be on separate cache lines.
+ * </p>
+ *
+ * @since 4.0
+ */
+final class StripedCounter {
+
+    private static final int STRIPES = 16;
+    // 8 longs = 64 bytes, the common cache line size
+    private static final int PADDING = 8;
+
+    private final AtomicLongArray cells = new AtomicLongArray(STRIPES * PADDING);
+
+    void add(long value) {
+        cells.addAndGet(cellIndex(), value);
+    }
+
+    void increment() {
+        add(1);
+    }
+
+    /**
+     * @return Sum of all cells, this is not an atomic snapshot when there are concurrent updates
+     */
+    long sum() {
+        long sum = 0;
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            sum += cells.get(stripe * PADDING);
+        }
+        return sum;
+    }
+
+    void reset() {
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            cells.set(stripe * PADDING, 0);
+        }
+    }
+
+    private static int cellIndex() {
+        return ((int) Thread.currentThread().getId() & (STRIPES - 1)) * PADDING;
+    }
+}
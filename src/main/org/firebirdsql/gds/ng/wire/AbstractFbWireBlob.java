@@ -99,13 +99,8 @@ public abstract class AbstractFbWireBlob extends AbstractFbBlob implements FbWir
         try {
             synchronized (getSynchronizationObject()) {
                 try {
-                    final XdrOutputStream xdrOut = getDatabase().getXdrStreamAccess().getXdrOut();
-                    xdrOut.writeInt(WireProtocolConstants.op_info_blob);
-                    xdrOut.writeInt(getHandle());
-                    xdrOut.writeInt(0); // incarnation
-                    xdrOut.writeBuffer(requestItems);
-                    xdrOut.writeInt(bufferLength);
-                    xdrOut.flush();
+                    sendBlobInfo(requestItems, bufferLength);
+                    getDatabase().getXdrStreamAccess().getXdrOut().flush();
                 } catch (IOException ex) {
                     throw new FbExceptionBuilder().exception(ISCConstants.isc_net_write_err).cause(ex).toSQLException();
                 }
@@ -122,4 +117,26 @@ public abstract class AbstractFbWireBlob extends AbstractFbBlob implements FbWir
             throw e;
         }
     }
-}
+
+    /**
+     * Writes an {@code op_info_blob} packet for this blob, without flushing.
+     *
+     * @param requestItems
+     *         Information items to request
+     * @param bufferLength
+     *         Response buffer length to use
+     * @throws SQLException
+     *         If no connection is opened
+     * @throws IOException
+     *         For errors writing the packet
+     */
+    protected final void sendBlobInfo(final byte[] requestItems, final int bufferLength)
+            throws SQLException, IOException {
+        final XdrOutputStream xdrOut = getDatabase().getXdrStreamAccess().getXdrOut();
+        xdrOut.writeInt(WireProtocolConstants.op_info_blob);
+        xdrOut.writeInt(getHandle());
+        xdrOut.writeInt(0); // incarnation
+        xdrOut.writeBuffer(requestItems);
+        xdrOut.writeInt(bufferLength);
+    }
+}
\ No newline at end of file
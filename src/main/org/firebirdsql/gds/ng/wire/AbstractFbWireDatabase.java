@@ -27,6 +27,7 @@ import org.firebirdsql.gds.impl.wire.XdrOutputStream;
 import org.firebirdsql.gds.ng.*;
 
 import java.io.IOException;
+import java.net.SocketTimeoutException;
 import java.sql.SQLException;
 
 import static java.util.Objects.requireNonNull;
@@ -127,6 +128,77 @@ public abstract class AbstractFbWireDatabase extends AbstractFbDatabase<WireData
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation requests the ODS version, with the socket timeout temporarily set to {@code timeoutMillis}.
+     * When the timeout expires, the connection is closed, as the protocol state is unknown (the response may still
+     * arrive). If {@link IConnectionProperties#isAbortOnValidationTimeout()} is {@code true}, the timeout also covers
+     * waiting for the connection lock: if the ping does not complete in time (for example because another operation
+     * is in progress on the connection), the socket is aborted, which ends that operation with an error.
+     * </p>
+     */
+    @Override
+    public final void ping(int timeoutMillis) throws SQLException {
+        if (timeoutMillis <= 0) {
+            synchronized (getSynchronizationObject()) {
+                checkAttached();
+                getDatabaseInfo(PING_INFO_BLOCK, 10);
+            }
+            return;
+        }
+        // Armed before acquiring the lock, so the timeout also bounds the wait for an operation in progress
+        final PingTimeout pingTimeout = getConnectionProperties().isAbortOnValidationTimeout()
+                ? new PingTimeout(connection)
+                : null;
+        if (pingTimeout != null) {
+            pingTimeout.arm(timeoutMillis);
+        }
+        SQLException pingException = null;
+        try {
+            synchronized (getSynchronizationObject()) {
+                checkAttached();
+                try {
+                    connection.setTemporarySocketTimeout(timeoutMillis);
+                    getDatabaseInfo(PING_INFO_BLOCK, 10);
+                } finally {
+                    connection.resetSocketTimeout();
+                }
+            }
+        } catch (SQLException e) {
+            pingException = e;
+        }
+        final boolean aborted = pingTimeout != null && pingTimeout.disarm();
+        if (aborted || pingException != null && isCausedBySocketTimeout(pingException)) {
+            final SQLException timeoutException = new FbExceptionBuilder()
+                    .timeoutException(JaybirdErrorCodes.jb_pingTimeout)
+                    .messageParameter(timeoutMillis)
+                    .cause(pingException)
+                    .toFlatSQLException();
+            try {
+                closeConnection();
+            } catch (IOException ioe) {
+                timeoutException.addSuppressed(ioe);
+            } finally {
+                // closeConnection() does nothing if the socket was already aborted
+                setDetached();
+            }
+            throw timeoutException;
+        }
+        if (pingException != null) {
+            throw pingException;
+        }
+    }
+
+    private static boolean isCausedBySocketTimeout(Throwable throwable) {
+        for (Throwable current = throwable; current != null; current = current.getCause()) {
+            if (current instanceof SocketTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Closes the WireConnection associated with this connection.
      *
@@ -167,12 +239,23 @@ public abstract class AbstractFbWireDatabase extends AbstractFbDatabase<WireData
         wireOperations.consumePackets(numberOfResponses, warningCallback);
     }
 
+    @Override
+    public final void processDeferredActions() {
+        wireOperations.processDeferredActions();
+    }
+
     @Override
     public final GenericResponse readGenericResponse(WarningMessageCallback warningCallback)
             throws SQLException, IOException {
         return wireOperations.readGenericResponse(warningCallback);
     }
 
+    @Override
+    public final SegmentResponse readSegmentResponse(byte[] dst, int off, int len,
+            WarningMessageCallback warningCallback) throws SQLException, IOException {
+        return wireOperations.readSegmentResponse(dst, off, len, warningCallback);
+    }
+
     @Override
     public final SqlResponse readSqlResponse(WarningMessageCallback warningCallback) throws SQLException, IOException {
         return wireOperations.readSqlResponse(warningCallback);
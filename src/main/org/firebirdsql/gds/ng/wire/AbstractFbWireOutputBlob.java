@@ -76,6 +76,16 @@ public abstract class AbstractFbWireOutputBlob extends AbstractFbWireBlob {
         }
     }
 
+    @Override
+    public final int getSegment(byte[] dst, int off, int len) throws SQLException {
+        try {
+            throw new FbExceptionBuilder().nonTransientException(ISCConstants.isc_segstr_no_read).toSQLException();
+        } catch (SQLException e) {
+            exceptionListenerDispatcher.errorOccurred(e);
+            throw e;
+        }
+    }
+
     @Override
     public final void seek(int offset, SeekMode seekMode) throws SQLException {
         try {
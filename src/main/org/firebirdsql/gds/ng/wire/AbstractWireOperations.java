@@ -94,7 +94,9 @@ public abstract class AbstractWireOperations implements FbWireOperations {
     @Override
     public final SQLException readStatusVector() throws SQLException {
         boolean debug = log.isDebugEnabled();
-        final FbExceptionBuilder builder = new FbExceptionBuilder();
+        // Builder is only created when the status vector contains an error or warning (a successful status vector
+        // is just isc_arg_gds, 0, isc_arg_end)
+        FbExceptionBuilder builder = null;
         final XdrInputStream xdrIn = getXdrIn();
         try {
             while (true) {
@@ -105,6 +107,7 @@ public abstract class AbstractWireOperations implements FbWireOperations {
                     errorCode = xdrIn.readInt();
                     if (debug) log.debug("readStatusVector arg:isc_arg_gds int: " + errorCode);
                     if (errorCode != 0) {
+                        if (builder == null) builder = new FbExceptionBuilder();
                         builder.exception(errorCode);
                     }
                     break;
@@ -112,6 +115,7 @@ public abstract class AbstractWireOperations implements FbWireOperations {
                     errorCode = xdrIn.readInt();
                     if (debug) log.debug("readStatusVector arg:isc_arg_warning int: " + errorCode);
                     if (errorCode != 0) {
+                        if (builder == null) builder = new FbExceptionBuilder();
                         builder.warning(errorCode);
                     }
                     break;
@@ -119,26 +123,30 @@ public abstract class AbstractWireOperations implements FbWireOperations {
                 case isc_arg_string:
                     String stringValue = xdrIn.readString(getEncoding());
                     if (debug) log.debug("readStatusVector string: " + stringValue);
+                    if (builder == null) builder = new FbExceptionBuilder();
                     builder.messageParameter(stringValue);
                     break;
                 case isc_arg_sql_state:
                     String sqlState = xdrIn.readString(getEncoding());
                     if (debug) log.debug("readStatusVector sqlstate: " + sqlState);
+                    if (builder == null) builder = new FbExceptionBuilder();
                     builder.sqlState(sqlState);
                     break;
                 case isc_arg_number:
                     int intValue = xdrIn.readInt();
                     if (debug) log.debug("readStatusVector arg:isc_arg_number int: " + intValue);
+                    if (builder == null) builder = new FbExceptionBuilder();
                     builder.messageParameter(intValue);
                     break;
                 case isc_arg_end:
-                    if (builder.isEmpty()) {
+                    if (builder == null || builder.isEmpty()) {
                         return null;
                     }
                     return builder.toFlatSQLException();
                 default:
                     int e = xdrIn.readInt();
                     if (debug) log.debug("readStatusVector arg: " + arg + " int: " + e);
+                    if (builder == null) builder = new FbExceptionBuilder();
                     builder.messageParameter(e);
                     break;
                 }
@@ -201,7 +209,7 @@ public abstract class AbstractWireOperations implements FbWireOperations {
         case op_response:
             return new GenericResponse(xdrIn.readInt(), xdrIn.readLong(), xdrIn.readBuffer(), readStatusVector());
         case op_fetch_response:
-            return new FetchResponse(xdrIn.readInt(), xdrIn.readInt());
+            return FetchResponse.valueOf(xdrIn.readInt(), xdrIn.readInt());
         case op_sql_response:
             return new SqlResponse(xdrIn.readInt());
         default:
@@ -255,6 +263,50 @@ public abstract class AbstractWireOperations implements FbWireOperations {
         return (GenericResponse) readResponse(warningCallback);
     }
 
+    @Override
+    public final SegmentResponse readSegmentResponse(final byte[] dst, final int off, final int len,
+            WarningMessageCallback warningCallback) throws SQLException, IOException {
+        synchronized (syncObject) {
+            final int operation = readNextOperation();
+            if (operation != op_response) {
+                throw new FbExceptionBuilder().nonTransientException(JaybirdErrorCodes.jb_unexpectedOperationCode)
+                        .messageParameter(operation)
+                        .messageParameter("readSegmentResponse")
+                        .toFlatSQLException();
+            }
+            final XdrInputStream xdrIn = getXdrIn();
+            final int objectHandle = xdrIn.readInt();
+            xdrIn.readLong(); // blob id, not used for op_get_segment
+            final int dataLength = xdrIn.readInt();
+            int remaining = dataLength;
+            int position = off;
+            while (remaining > 0) {
+                // segment length is a 2 byte VAX (little endian) integer
+                final int segmentLength = Short.reverseBytes((short) xdrIn.readShort()) & 0xFFFF;
+                remaining -= 2;
+                if (segmentLength > remaining || segmentLength > off + len - position) {
+                    // Consume the remainder of the response so the next response can be read
+                    xdrIn.skipFully(remaining);
+                    xdrIn.skipPadding(dataLength);
+                    readStatusVector();
+                    throw new IOException("Segment data in response exceeds the requested length " + len);
+                }
+                xdrIn.readFully(dst, position, segmentLength);
+                position += segmentLength;
+                remaining -= segmentLength;
+            }
+            xdrIn.skipPadding(dataLength);
+            final SQLException exception = readStatusVector();
+            if (exception instanceof SQLWarning) {
+                (warningCallback != null ? warningCallback : defaultWarningMessageCallback)
+                        .processWarning((SQLWarning) exception);
+            } else if (exception != null) {
+                throw exception;
+            }
+            return new SegmentResponse(objectHandle, position - off);
+        }
+    }
+
     @Override
     public final SqlResponse readSqlResponse(WarningMessageCallback warningCallback) throws SQLException, IOException {
         return (SqlResponse) readResponse(warningCallback);
@@ -91,6 +91,35 @@ public interface FbWireDatabase extends FbDatabase, FbWireAttachment {
      */
     void enqueueDeferredAction(DeferredAction deferredAction);
 
+    /**
+     * Reads the responses of all enqueued deferred actions and processes them.
+     * <p>
+     * For FbDatabase implementations that do not support deferred actions, this method does nothing.
+     * </p>
+     */
+    void processDeferredActions();
+
+    /**
+     * Reads the response to an {@code op_get_segment} request, decoding the segment data directly into {@code dst}.
+     *
+     * @param dst
+     *         Destination buffer
+     * @param off
+     *         Offset in {@code dst}
+     * @param len
+     *         Maximum number of bytes to decode into {@code dst}
+     * @param callback
+     *         Callback object for warnings, <code>null</code> for default callback
+     * @return SegmentResponse
+     * @throws SQLException
+     *         For errors returned from the server, or when attempting to read.
+     * @throws IOException
+     *         For errors reading the response from the connection.
+     * @see FbWireOperations#readSegmentResponse(byte[], int, int, WarningMessageCallback)
+     */
+    SegmentResponse readSegmentResponse(byte[] dst, int off, int len, WarningMessageCallback callback)
+            throws SQLException, IOException;
+
     /**
      * Consumes packets notifying for warnings, but ignoring exceptions thrown from the packet.
      * <p>
@@ -107,6 +107,30 @@ public interface FbWireOperations {
      */
     SqlResponse readSqlResponse(WarningMessageCallback callback) throws SQLException, IOException;
 
+    /**
+     * Reads the response to an {@code op_get_segment} request, decoding the segment data directly into {@code dst}.
+     * <p>
+     * The segment length prefixes in the response data are removed, so {@code dst} receives only the blob data.
+     * </p>
+     *
+     * @param dst
+     *         Destination buffer
+     * @param off
+     *         Offset in {@code dst}
+     * @param len
+     *         Maximum number of bytes to decode into {@code dst}; the size requested from the server should not exceed
+     *         {@code len} plus the 2 bytes of a segment length prefix
+     * @param callback
+     *         Callback object for warnings, <code>null</code> for default callback
+     * @return SegmentResponse
+     * @throws SQLException
+     *         For errors returned from the server, or when attempting to read.
+     * @throws IOException
+     *         For errors reading the response from the connection, or if the segment data exceeds {@code len}.
+     */
+    SegmentResponse readSegmentResponse(byte[] dst, int off, int len, WarningMessageCallback callback)
+            throws SQLException, IOException;
+
     /**
      * Enqueue a deferred action.
      * <p>
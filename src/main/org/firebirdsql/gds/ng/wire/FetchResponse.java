@@ -24,12 +24,18 @@
  */
 package org.firebirdsql.gds.ng.wire;
 
+import org.firebirdsql.gds.ISCConstants;
+
 /**
  * @author <a href="mailto:mrotteveel@users.sourceforge.net">Mark Rotteveel</a>
  * @since 3.0
  */
 public final class FetchResponse implements Response {
 
+    private static final FetchResponse ROW = new FetchResponse(ISCConstants.FETCH_OK, 1);
+    private static final FetchResponse END_OF_BATCH = new FetchResponse(ISCConstants.FETCH_OK, 0);
+    private static final FetchResponse NO_MORE_ROWS = new FetchResponse(ISCConstants.FETCH_NO_MORE_ROWS, 0);
+
     private final int status;
     private final int count;
 
@@ -38,6 +44,33 @@ public final class FetchResponse implements Response {
         this.count = count;
     }
     
+    /**
+     * Returns a fetch response with the specified status and count.
+     * <p>
+     * The responses received while fetching rows (a row, the end of a fetch batch and the end of the cursor) are
+     * shared instances, so the fetch loop does not allocate a response per row.
+     * </p>
+     *
+     * @param status
+     *         Fetch status
+     * @param count
+     *         Number of rows in the response
+     * @return Fetch response
+     * @since 4.0
+     */
+    public static FetchResponse valueOf(int status, int count) {
+        if (status == ISCConstants.FETCH_OK) {
+            if (count == 1) {
+                return ROW;
+            } else if (count == 0) {
+                return END_OF_BATCH;
+            }
+        } else if (status == ISCConstants.FETCH_NO_MORE_ROWS && count == 0) {
+            return NO_MORE_ROWS;
+        }
+        return new FetchResponse(status, count);
+    }
+
     public int getStatus() {
         return status;
     }
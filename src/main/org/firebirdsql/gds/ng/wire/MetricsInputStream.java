@@ -0,0 +1,71 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.ng.wire;
+
+import org.firebirdsql.gds.ng.metrics.DriverMetrics;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream that reports the number of bytes read to {@link DriverMetrics}.
+ * <p>
+ * Only used when metrics are enabled. Wraps the socket stream, so it counts the bytes as transferred over the network
+ * (before buffering and decryption by {@link org.firebirdsql.gds.impl.wire.XdrInputStream}).
+ * </p>
+ *
+ * @since 4.0
+ */
+final class MetricsInputStream extends FilterInputStream {
+
+    private final DriverMetrics driverMetrics;
+
+    MetricsInputStream(InputStream in, DriverMetrics driverMetrics) {
+        super(in);
+        this.driverMetrics = driverMetrics;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int b = in.read();
+        if (b != -1) {
+            driverMetrics.bytesReceived(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        final int count = in.read(b, off, len);
+        if (count > 0) {
+            driverMetrics.bytesReceived(count);
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        final long count = in.skip(n);
+        if (count > 0) {
+            driverMetrics.bytesReceived((int) count);
+        }
+        return count;
+    }
+}
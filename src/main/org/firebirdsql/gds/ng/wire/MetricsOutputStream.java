@@ -0,0 +1,56 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.ng.wire;
+
+import org.firebirdsql.gds.ng.metrics.DriverMetrics;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Output stream that reports the number of bytes written to {@link DriverMetrics}.
+ * <p>
+ * Only used when metrics are enabled. Wraps the socket stream, so it counts the bytes as transferred over the network
+ * (after buffering and encryption by {@link org.firebirdsql.gds.impl.wire.XdrOutputStream}).
+ * </p>
+ *
+ * @since 4.0
+ */
+final class MetricsOutputStream extends FilterOutputStream {
+
+    private final DriverMetrics driverMetrics;
+
+    MetricsOutputStream(OutputStream out, DriverMetrics driverMetrics) {
+        super(out);
+        this.driverMetrics = driverMetrics;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        driverMetrics.bytesSent(1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        driverMetrics.bytesSent(len);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.ng.wire;
+
+import org.firebirdsql.util.HashedTimerWheel;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timeout of a ping of a wire protocol connection.
+ * <p>
+ * The connection lock cannot be acquired with a timeout, so a ping can be blocked by an operation in progress on
+ * the connection for longer than its timeout. When the timeout expires before it is disarmed, the socket of the
+ * connection is aborted with {@link WireConnection#abortSocket()}, which ends the blocking operation (and the ping).
+ * This is only used when {@code abortOnValidationTimeout} is enabled. All pings share a single
+ * {@link HashedTimerWheel}.
+ * </p>
+ *
+ * @since 4.0
+ */
+final class PingTimeout extends HashedTimerWheel.Timeout {
+
+    private static final HashedTimerWheel TIMER_WHEEL =
+            new HashedTimerWheel("Jaybird ping timeout", 100, TimeUnit.MILLISECONDS, 64);
+
+    private static final int IDLE = 0;
+    private static final int ARMED = 1;
+    private static final int FIRED = 2;
+
+    private final HashedTimerWheel timerWheel;
+    private final WireConnection<?, ?> connection;
+    // fields below are guarded by this
+    private int state = IDLE;
+    private long armedGeneration;
+
+    PingTimeout(WireConnection<?, ?> connection) {
+        this(connection, TIMER_WHEEL);
+    }
+
+    PingTimeout(WireConnection<?, ?> connection, HashedTimerWheel timerWheel) {
+        this.connection = connection;
+        this.timerWheel = timerWheel;
+    }
+
+    /**
+     * Arms the timeout.
+     *
+     * @param timeoutMillis
+     *         Timeout in milliseconds (must be larger than {@code 0})
+     */
+    synchronized void arm(int timeoutMillis) {
+        // An expiration run during scheduling blocks until the state is set
+        armedGeneration = timerWheel.schedule(this, timeoutMillis, TimeUnit.MILLISECONDS);
+        state = ARMED;
+    }
+
+    /**
+     * Disarms the timeout.
+     * <p>
+     * When this method returns {@code false}, the socket has not been aborted and will not be aborted by this timeout.
+     * </p>
+     *
+     * @return {@code true} if the timeout expired (and the socket was aborted) before it was disarmed
+     */
+    boolean disarm() {
+        timerWheel.cancel(this);
+        synchronized (this) {
+            final boolean fired = state == FIRED;
+            state = IDLE;
+            return fired;
+        }
+    }
+
+    @Override
+    protected void expired(long generation) {
+        synchronized (this) {
+            if (state != ARMED || generation != armedGeneration) {
+                return;
+            }
+            state = FIRED;
+            // Aborted while holding the lock, so disarm() cannot return before the socket is closed
+            connection.abortSocket();
+        }
+    }
+}
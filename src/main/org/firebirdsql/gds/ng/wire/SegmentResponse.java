@@ -0,0 +1,51 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.ng.wire;
+
+/**
+ * Response to an {@code op_get_segment} request, where the segment data has been decoded directly into a buffer
+ * supplied by the caller.
+ *
+ * @see FbWireOperations#readSegmentResponse(byte[], int, int, org.firebirdsql.gds.ng.WarningMessageCallback)
+ * @since 4.0
+ */
+public final class SegmentResponse implements Response {
+
+    private final int objectHandle;
+    private final int segmentLength;
+
+    public SegmentResponse(int objectHandle, int segmentLength) {
+        this.objectHandle = objectHandle;
+        this.segmentLength = segmentLength;
+    }
+
+    /**
+     * @return Object handle of the response ({@code 2} signals end of blob)
+     */
+    public int getObjectHandle() {
+        return objectHandle;
+    }
+
+    /**
+     * @return Number of bytes of segment data decoded into the buffer
+     */
+    public int getSegmentLength() {
+        return segmentLength;
+    }
+}
@@ -30,15 +30,20 @@ import org.firebirdsql.gds.ng.AbstractConnection;
 import org.firebirdsql.gds.ng.FbExceptionBuilder;
 import org.firebirdsql.gds.ng.IAttachProperties;
 import org.firebirdsql.gds.ng.IConnectionProperties;
+import org.firebirdsql.gds.ng.metrics.DriverMetrics;
+import org.firebirdsql.gds.ng.metrics.DriverMetricsProvider;
 import org.firebirdsql.gds.ng.wire.auth.ClientAuthBlock;
 import org.firebirdsql.gds.ng.wire.crypt.EncryptionIdentifier;
 import org.firebirdsql.gds.ng.wire.crypt.KnownServerKey;
+import org.firebirdsql.jdbc.SQLStateConstants;
 import org.firebirdsql.logging.Logger;
 import org.firebirdsql.logging.LoggerFactory;
 
 import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.*;
 import java.nio.charset.StandardCharsets;
 import java.security.AccessController;
@@ -46,8 +51,11 @@ import java.security.PrivilegedAction;
 import java.sql.SQLException;
 import java.sql.SQLTimeoutException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static org.firebirdsql.gds.impl.wire.WireProtocolConstants.*;
@@ -72,7 +80,8 @@ public abstract class WireConnection<T extends IAttachProperties<T>, C extends F
     private final ClientAuthBlock clientAuthBlock;
     // Micro-optimization: we usually expect at most 1 (Firebird 3), and usually 0 (Firebird 2.5 and earlier)
     private final List<KnownServerKey> knownServerKeys = new ArrayList<>(1);
-    private Socket socket;
+    // volatile as abortSocket() may be called without holding the connection lock
+    private volatile Socket socket;
     private ProtocolCollection protocols;
     private int protocolVersion;
     private int protocolArchitecture;
@@ -181,8 +190,30 @@ public abstract class WireConnection<T extends IAttachProperties<T>, C extends F
                     socket.setSoTimeout(desiredTimeout);
                 }
             } catch (SocketException e) {
-                // TODO Add SQLState
-                throw new SQLException("Unable to change socket timeout (SO_TIMEOUT)", e);
+                throw new SQLException("Unable to change socket timeout (SO_TIMEOUT)",
+                        SQLStateConstants.SQL_STATE_CONNECTION_FAILURE, e);
+            }
+        }
+    }
+
+    /**
+     * Temporarily changes the socket blocking timeout (SO_TIMEOUT) of the socket, without changing the configured
+     * socket timeout. Use {@link #resetSocketTimeout()} to restore the configured socket timeout. Does nothing if
+     * currently not connected.
+     *
+     * @param socketTimeout
+     *         Value of the socket timeout (in milliseconds), {@code 0} for no timeout
+     * @throws SQLException
+     *         If the timeout value cannot be changed
+     * @since 4.0
+     */
+    public final void setTemporarySocketTimeout(int socketTimeout) throws SQLException {
+        if (isConnected()) {
+            try {
+                socket.setSoTimeout(Math.max(socketTimeout, 0));
+            } catch (SocketException e) {
+                throw new SQLException("Unable to change socket timeout (SO_TIMEOUT)",
+                        SQLStateConstants.SQL_STATE_CONNECTION_FAILURE, e);
             }
         }
     }
@@ -251,8 +282,15 @@ public abstract class WireConnection<T extends IAttachProperties<T>, C extends F
     @Override
     public final C identify() throws SQLException {
         try {
-            xdrIn = new XdrInputStream(socket.getInputStream());
-            xdrOut = new XdrOutputStream(socket.getOutputStream());
+            InputStream socketIn = socket.getInputStream();
+            OutputStream socketOut = socket.getOutputStream();
+            if (DriverMetricsProvider.isMetricsEnabled()) {
+                final DriverMetrics driverMetrics = DriverMetricsProvider.getDriverMetrics();
+                socketIn = new MetricsInputStream(socketIn, driverMetrics);
+                socketOut = new MetricsOutputStream(socketOut, driverMetrics);
+            }
+            xdrIn = new XdrInputStream(socketIn);
+            xdrOut = new XdrOutputStream(socketOut);
 
             xdrOut.writeInt(op_connect);
             xdrOut.writeInt(op_attach);
@@ -364,12 +402,14 @@ public abstract class WireConnection<T extends IAttachProperties<T>, C extends F
 
     void addServerKeys(byte[] serverKeys) throws SQLException {
         final ClumpletReader newKeys = new ClumpletReader(ClumpletReader.Kind.UnTagged, serverKeys);
-        for (newKeys.rewind(); !newKeys.isEof(); newKeys.moveNext()) {
-            if (newKeys.getClumpTag() == TAG_KNOWN_PLUGINS) {
+        newKeys.rewind();
+        while (!newKeys.isEof()) {
+            int currentTag = newKeys.getClumpTag();
+            if (currentTag == TAG_KNOWN_PLUGINS || currentTag == TAG_PLUGIN_SPECIFIC) {
+                newKeys.moveNext();
                 continue;
             }
 
-            int currentTag = newKeys.getClumpTag();
             if (currentTag != TAG_KEY_TYPE) {
                 throw new SQLException("Unexpected tag type: " + currentTag);
             }
@@ -383,10 +423,30 @@ public abstract class WireConnection<T extends IAttachProperties<T>, C extends F
             if (currentTag != TAG_KEY_PLUGINS) {
                 throw new SQLException("Unexpected tag type: " + currentTag);
             }
-
             String keyPlugins = newKeys.getString(StandardCharsets.US_ASCII);
-            knownServerKeys.add(new KnownServerKey(keyType, keyPlugins));
+
+            // Plugin specific data (eg the ChaCha IV) follows the key it applies to
+            Map<String, byte[]> pluginSpecificData = new HashMap<>();
+            for (newKeys.moveNext(); !newKeys.isEof() && newKeys.getClumpTag() == TAG_PLUGIN_SPECIFIC;
+                 newKeys.moveNext()) {
+                addPluginSpecificData(pluginSpecificData, newKeys.getBytes());
+            }
+            knownServerKeys.add(new KnownServerKey(keyType, keyPlugins, pluginSpecificData));
+        }
+    }
+
+    /**
+     * Adds plugin specific data, formatted as the plugin name, a NUL byte and the data.
+     */
+    private static void addPluginSpecificData(Map<String, byte[]> pluginSpecificData, byte[] clumpletData) {
+        for (int idx = 0; idx < clumpletData.length; idx++) {
+            if (clumpletData[idx] == 0) {
+                String pluginName = new String(clumpletData, 0, idx, StandardCharsets.US_ASCII);
+                pluginSpecificData.put(pluginName, Arrays.copyOfRange(clumpletData, idx + 1, clumpletData.length));
+                return;
+            }
         }
+        log.debug("Ignoring plugin specific data without plugin name separator");
     }
 
     void clearServerKeys() {
@@ -417,10 +477,12 @@ public abstract class WireConnection<T extends IAttachProperties<T>, C extends F
      *         if an error occurs while reading from the underlying InputStream
      */
     public final int readNextOperation() throws IOException {
+        final long start = DriverMetricsProvider.startTimer();
         int op;
         do {
             op = xdrIn.readInt();
         } while (op == op_dummy);
+        DriverMetricsProvider.responseReceived(start);
         return op;
     }
 
@@ -462,6 +524,25 @@ public abstract class WireConnection<T extends IAttachProperties<T>, C extends F
         }
     }
 
+    /**
+     * Aborts the TCP/IP connection by closing the socket, without flushing or closing the XDR streams.
+     * <p>
+     * Contrary to {@link #close()}, this method can be called by a thread that does not hold the connection lock, to
+     * end a blocking read or write of the thread that does. Exceptions closing the socket are ignored.
+     * </p>
+     *
+     * @since 4.0
+     */
+    final void abortSocket() {
+        final Socket socket = this.socket;
+        if (socket == null) return;
+        try {
+            socket.close();
+        } catch (IOException e) {
+            log.debug("Ignoring exception aborting socket", e);
+        }
+    }
+
     @Override
     protected final void finalize() throws Throwable {
         try {
@@ -522,4 +603,23 @@ public abstract class WireConnection<T extends IAttachProperties<T>, C extends F
         }
         return encryptionIdentifiers;
     }
+
+    /**
+     * Gets the plugin specific data sent by the server for an encryption plugin.
+     *
+     * @param encryptionIdentifier
+     *         Encryption identifier
+     * @return Plugin specific data (eg an initialization vector), or {@code null} if the server did not send data for
+     * this encryption identifier
+     * @since 4.0
+     */
+    public final byte[] getPluginSpecificData(EncryptionIdentifier encryptionIdentifier) {
+        for (KnownServerKey knownServerKey : knownServerKeys) {
+            byte[] pluginSpecificData = knownServerKey.getPluginSpecificData(encryptionIdentifier);
+            if (pluginSpecificData != null) {
+                return pluginSpecificData;
+            }
+        }
+        return null;
+    }
 }
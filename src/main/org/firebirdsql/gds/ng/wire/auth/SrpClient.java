@@ -52,6 +52,11 @@ public final class SrpClient {
 
     private static final SecureRandom random = new SecureRandom();
     private static final byte[] SEPARATOR_BYTES = ":".getBytes(StandardCharsets.UTF_8);
+    private static final MessageDigest SHA1_PROTOTYPE = createSha1();
+    /**
+     * {@code H(N)^H(g) mod N}, the constant first part of the client proof.
+     */
+    private static final byte[] N_G_HASH_POWER = calculateNGHashPower();
 
     private BigInteger publicKey;   /* A */
     private BigInteger privateKey;  /* a */
@@ -97,18 +102,31 @@ public final class SrpClient {
         return hexString;
     }
 
-    private static byte[] sha1(byte[]... ba) {
+    private static MessageDigest createSha1() {
         try {
-            MessageDigest md = MessageDigest.getInstance("SHA-1");
-            for (byte[] b : ba) {
-                md.update(b);
-            }
-            return md.digest();
+            return MessageDigest.getInstance("SHA-1");
         } catch (NoSuchAlgorithmException e) {
             throw new RuntimeException("SHA-1 MessageDigest not available", e);
         }
     }
 
+    private static MessageDigest getSha1() {
+        // Cloning avoids the provider lookup of MessageDigest.getInstance
+        try {
+            return (MessageDigest) SHA1_PROTOTYPE.clone();
+        } catch (CloneNotSupportedException e) {
+            return createSha1();
+        }
+    }
+
+    private static byte[] sha1(byte[]... ba) {
+        MessageDigest md = getSha1();
+        for (byte[] b : ba) {
+            md.update(b);
+        }
+        return md.digest();
+    }
+
     private static byte[] pad(BigInteger n) {
         final byte[] bn = toBigByteArray(n);
         if (bn.length > SRP_KEY_SIZE) {
@@ -117,6 +135,12 @@ public final class SrpClient {
         return bn;
     }
 
+    private static byte[] calculateNGHashPower() {
+        final BigInteger n1 = fromBigByteArray(sha1(toBigByteArray(N)));
+        final BigInteger n2 = fromBigByteArray(sha1(toBigByteArray(g)));
+        return toBigByteArray(n1.modPow(n2, N));
+    }
+
     private static BigInteger getScramble(BigInteger x, BigInteger y) {
         return fromBigByteArray(sha1(pad(x), pad(y)));
     }
@@ -188,9 +212,7 @@ public final class SrpClient {
 
     byte[] clientProof(String user, String password, byte[] salt, BigInteger serverPublicKey) {
         final byte[] K = getClientSessionKey(user, password, salt, serverPublicKey);
-        final BigInteger n1 = fromBigByteArray(sha1(toBigByteArray(N)));
-        final BigInteger n2 = fromBigByteArray(sha1(toBigByteArray(g)));
-        final byte[] M = sha1(toBigByteArray(n1.modPow(n2, N)),
+        final byte[] M = sha1(N_G_HASH_POWER,
                 sha1(user.toUpperCase().getBytes(StandardCharsets.UTF_8)), salt,
                 toBigByteArray(publicKey), toBigByteArray(serverPublicKey), K);
 
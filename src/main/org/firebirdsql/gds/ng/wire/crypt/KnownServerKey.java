@@ -21,7 +21,9 @@ package org.firebirdsql.gds.ng.wire.crypt;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import static java.util.Objects.requireNonNull;
@@ -38,16 +40,48 @@ public final class KnownServerKey {
 
     private final String keyType;
     private final List<String> plugins;
+    private final Map<String, byte[]> pluginSpecificData;
 
     public KnownServerKey(String keyType, List<String> plugins) {
-        this.keyType = requireNonNull(keyType, "keyType");
-        this.plugins = Collections.unmodifiableList(new ArrayList<>(requireNonNull(plugins, "plugins")));
+        this(keyType, plugins, Collections.<String, byte[]>emptyMap());
     }
 
     public KnownServerKey(String keyType, String plugins) {
         this(keyType, Arrays.asList(CRYPT_PLUGIN_LIST_SPLIT.split(plugins)));
     }
 
+    /**
+     * Creates a known server key with plugin specific data.
+     *
+     * @param keyType
+     *         Key type
+     * @param plugins
+     *         Plugins supporting the key type
+     * @param pluginSpecificData
+     *         Plugin specific data (eg an initialization vector) by plugin name
+     * @since 4.0
+     */
+    public KnownServerKey(String keyType, List<String> plugins, Map<String, byte[]> pluginSpecificData) {
+        this.keyType = requireNonNull(keyType, "keyType");
+        this.plugins = Collections.unmodifiableList(new ArrayList<>(requireNonNull(plugins, "plugins")));
+        this.pluginSpecificData = pluginSpecificData.isEmpty()
+                ? Collections.<String, byte[]>emptyMap()
+                : Collections.unmodifiableMap(new HashMap<>(pluginSpecificData));
+    }
+
+    /**
+     * @param keyType
+     *         Key type
+     * @param plugins
+     *         Plugins supporting the key type (separated by space, tab, comma or semicolon)
+     * @param pluginSpecificData
+     *         Plugin specific data (eg an initialization vector) by plugin name
+     * @since 4.0
+     */
+    public KnownServerKey(String keyType, String plugins, Map<String, byte[]> pluginSpecificData) {
+        this(keyType, Arrays.asList(CRYPT_PLUGIN_LIST_SPLIT.split(plugins)), pluginSpecificData);
+    }
+
     public List<EncryptionIdentifier> getIdentifiers() {
         List<EncryptionIdentifier> identifiers = new ArrayList<>(plugins.size());
         for (String plugin : plugins) {
@@ -55,4 +89,22 @@ public final class KnownServerKey {
         }
         return identifiers;
     }
+
+    /**
+     * Gets the plugin specific data sent by the server for an encryption identifier.
+     *
+     * @param encryptionIdentifier
+     *         Encryption identifier
+     * @return Plugin specific data, or {@code null} if this key does not support the encryption identifier, or if
+     * the server did not send plugin specific data for the plugin
+     * @since 4.0
+     */
+    public byte[] getPluginSpecificData(EncryptionIdentifier encryptionIdentifier) {
+        if (!keyType.equals(encryptionIdentifier.getType())
+                || !plugins.contains(encryptionIdentifier.getPluginName())) {
+            return null;
+        }
+        byte[] data = pluginSpecificData.get(encryptionIdentifier.getPluginName());
+        return data != null ? data.clone() : null;
+    }
 }
@@ -0,0 +1,204 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.ng.wire.crypt.chacha;
+
+import org.firebirdsql.gds.VaxEncoding;
+import org.firebirdsql.gds.ng.FbExceptionBuilder;
+import org.firebirdsql.gds.ng.wire.auth.ClientAuthBlock;
+import org.firebirdsql.gds.ng.wire.crypt.EncryptionIdentifier;
+import org.firebirdsql.gds.ng.wire.crypt.EncryptionInitInfo;
+import org.firebirdsql.gds.ng.wire.crypt.EncryptionPlugin;
+import org.firebirdsql.util.SQLExceptionChainBuilder;
+
+import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
+import javax.crypto.spec.SecretKeySpec;
+import java.lang.reflect.Constructor;
+import java.security.GeneralSecurityException;
+import java.security.InvalidAlgorithmParameterException;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.spec.AlgorithmParameterSpec;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.firebirdsql.gds.JaybirdErrorCodes.*;
+
+/**
+ * ChaCha (ChaCha20) encryption plugin, compatible with the Firebird 4 {@code ChaCha} wire crypt plugin.
+ * <p>
+ * The key is the SHA-256 hash of the session key, the initialization vector is sent by the server as plugin specific
+ * data: either a 12 byte nonce, or a 12 byte nonce followed by a 4 byte (little endian) initial counter.
+ * </p>
+ * <p>
+ * The {@code javax.crypto.spec.ChaCha20ParameterSpec} class is accessed reflectively, as it is only available in
+ * Java 11 and higher.
+ * </p>
+ *
+ * @since 4.0
+ */
+public final class ChaChaEncryptionPlugin implements EncryptionPlugin {
+
+    private static final String CHACHA20 = "ChaCha20";
+    private static final int NONCE_LENGTH = 12;
+    private static final int NONCE_COUNTER_LENGTH = 16;
+    private static final Constructor<? extends AlgorithmParameterSpec> PARAMETER_SPEC_CONSTRUCTOR =
+            findParameterSpecConstructor();
+
+    private final ClientAuthBlock clientAuthBlock;
+    private final byte[] iv;
+
+    /**
+     * Creates a ChaCha encryption plugin.
+     *
+     * @param clientAuthBlock
+     *         Client authentication block providing the session key
+     * @param iv
+     *         Initialization vector sent by the server, can be {@code null} (initialization will fail)
+     */
+    public ChaChaEncryptionPlugin(ClientAuthBlock clientAuthBlock, byte[] iv) {
+        this.clientAuthBlock = clientAuthBlock;
+        this.iv = iv != null ? iv.clone() : null;
+    }
+
+    @Override
+    public EncryptionIdentifier getEncryptionIdentifier() {
+        return ChaChaEncryptionPluginSpi.CHACHA_ID;
+    }
+
+    @Override
+    public EncryptionInitInfo initializeEncryption() {
+        try {
+            if (!clientAuthBlock.supportsEncryption()) {
+                throw new FbExceptionBuilder().nonTransientException(jb_cryptNoCryptKeyAvailable)
+                        .messageParameter(getEncryptionIdentifier().toString())
+                        .toFlatSQLException();
+            }
+            return initializeEncryption(clientAuthBlock.getSessionKey());
+        } catch (SQLException e) {
+            return EncryptionInitInfo.failure(getEncryptionIdentifier(), e);
+        }
+    }
+
+    /**
+     * Initializes the encryption with the specified session key.
+     *
+     * @param sessionKey
+     *         Session key
+     * @return Object with the result of initialization
+     */
+    EncryptionInitInfo initializeEncryption(byte[] sessionKey) {
+        SQLExceptionChainBuilder<SQLException> chainBuilder = new SQLExceptionChainBuilder<>();
+        byte[] key = deriveKey(sessionKey, chainBuilder);
+        AlgorithmParameterSpec parameterSpec = getParameterSpec(chainBuilder);
+        if (chainBuilder.hasException()) {
+            return EncryptionInitInfo.failure(getEncryptionIdentifier(), chainBuilder.getException());
+        }
+
+        Cipher encryptionCipher = createCipher(Cipher.ENCRYPT_MODE, key, parameterSpec, chainBuilder);
+        Cipher decryptionCipher = createCipher(Cipher.DECRYPT_MODE, key, parameterSpec, chainBuilder);
+        if (chainBuilder.hasException()) {
+            return EncryptionInitInfo.failure(getEncryptionIdentifier(), chainBuilder.getException());
+        }
+        return EncryptionInitInfo.success(getEncryptionIdentifier(), encryptionCipher, decryptionCipher);
+    }
+
+    /**
+     * @return {@code true} if the ChaCha20 cipher is supported by this JVM
+     */
+    static boolean isAvailable() {
+        if (PARAMETER_SPEC_CONSTRUCTOR == null) {
+            return false;
+        }
+        try {
+            Cipher.getInstance(CHACHA20);
+            return true;
+        } catch (GeneralSecurityException e) {
+            return false;
+        }
+    }
+
+    private byte[] deriveKey(byte[] sessionKey, SQLExceptionChainBuilder<SQLException> chainBuilder) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(sessionKey);
+        } catch (NoSuchAlgorithmException e) {
+            chainBuilder.append(new FbExceptionBuilder().nonTransientException(jb_cryptAlgorithmNotAvailable)
+                    .messageParameter(getEncryptionIdentifier().toString())
+                    .cause(e).toFlatSQLException());
+            return null;
+        }
+    }
+
+    private AlgorithmParameterSpec getParameterSpec(SQLExceptionChainBuilder<SQLException> chainBuilder) {
+        if (PARAMETER_SPEC_CONSTRUCTOR == null) {
+            chainBuilder.append(new FbExceptionBuilder().nonTransientException(jb_cryptAlgorithmNotAvailable)
+                    .messageParameter(getEncryptionIdentifier().toString())
+                    .toFlatSQLException());
+            return null;
+        }
+        if (iv == null || !(iv.length == NONCE_LENGTH || iv.length == NONCE_COUNTER_LENGTH)) {
+            chainBuilder.append(new FbExceptionBuilder().nonTransientException(jb_cryptInvalidIV)
+                    .messageParameter(getEncryptionIdentifier().toString())
+                    .toFlatSQLException());
+            return null;
+        }
+        byte[] nonce = Arrays.copyOf(iv, NONCE_LENGTH);
+        int counter = iv.length == NONCE_COUNTER_LENGTH
+                ? VaxEncoding.iscVaxInteger(iv, NONCE_LENGTH, NONCE_COUNTER_LENGTH - NONCE_LENGTH)
+                : 0;
+        try {
+            return PARAMETER_SPEC_CONSTRUCTOR.newInstance(nonce, counter);
+        } catch (ReflectiveOperationException e) {
+            chainBuilder.append(new FbExceptionBuilder().nonTransientException(jb_cryptAlgorithmNotAvailable)
+                    .messageParameter(getEncryptionIdentifier().toString())
+                    .cause(e).toFlatSQLException());
+            return null;
+        }
+    }
+
+    private Cipher createCipher(int mode, byte[] key, AlgorithmParameterSpec parameterSpec,
+            SQLExceptionChainBuilder<SQLException> chainBuilder) {
+        try {
+            Cipher chaChaCipher = Cipher.getInstance(CHACHA20);
+            chaChaCipher.init(mode, new SecretKeySpec(key, CHACHA20), parameterSpec);
+            return chaChaCipher;
+        } catch (NoSuchPaddingException | NoSuchAlgorithmException e) {
+            chainBuilder.append(new FbExceptionBuilder().nonTransientException(jb_cryptAlgorithmNotAvailable)
+                    .messageParameter(getEncryptionIdentifier().toString())
+                    .cause(e).toFlatSQLException());
+        } catch (InvalidKeyException | InvalidAlgorithmParameterException e) {
+            chainBuilder.append(new FbExceptionBuilder().nonTransientException(jb_cryptInvalidKey)
+                    .messageParameter(getEncryptionIdentifier().toString())
+                    .cause(e).toFlatSQLException());
+        }
+        return null;
+    }
+
+    private static Constructor<? extends AlgorithmParameterSpec> findParameterSpecConstructor() {
+        try {
+            return Class.forName("javax.crypto.spec.ChaCha20ParameterSpec")
+                    .asSubclass(AlgorithmParameterSpec.class)
+                    .getConstructor(byte[].class, int.class);
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            // Java 10 or earlier
+            return null;
+        }
+    }
+}
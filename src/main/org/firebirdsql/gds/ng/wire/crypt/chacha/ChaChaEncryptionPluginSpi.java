@@ -0,0 +1,55 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.ng.wire.crypt.chacha;
+
+import org.firebirdsql.gds.ng.wire.WireConnection;
+import org.firebirdsql.gds.ng.wire.crypt.EncryptionIdentifier;
+import org.firebirdsql.gds.ng.wire.crypt.EncryptionPlugin;
+import org.firebirdsql.gds.ng.wire.crypt.EncryptionPluginSpi;
+
+/**
+ * ChaCha (ChaCha20) encryption plugin provider.
+ * <p>
+ * The ChaCha20 cipher is only available in Java 11 and higher, use {@link #isAvailable()} to check if the plugin
+ * can be used in the current JVM.
+ * </p>
+ *
+ * @since 4.0
+ */
+public final class ChaChaEncryptionPluginSpi implements EncryptionPluginSpi {
+
+    static final EncryptionIdentifier CHACHA_ID = new EncryptionIdentifier("Symmetric", "ChaCha");
+
+    @Override
+    public EncryptionIdentifier getEncryptionIdentifier() {
+        return CHACHA_ID;
+    }
+
+    @Override
+    public EncryptionPlugin createEncryptionPlugin(WireConnection<?, ?> connection) {
+        return new ChaChaEncryptionPlugin(connection.getClientAuthBlock(), connection.getPluginSpecificData(CHACHA_ID));
+    }
+
+    /**
+     * @return {@code true} if the ChaCha20 cipher is supported by this JVM
+     */
+    public static boolean isAvailable() {
+        return ChaChaEncryptionPlugin.isAvailable();
+    }
+}
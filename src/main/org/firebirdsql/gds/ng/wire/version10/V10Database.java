@@ -27,6 +27,8 @@ import org.firebirdsql.gds.ng.FbStatement;
 import org.firebirdsql.gds.ng.FbTransaction;
 import org.firebirdsql.gds.ng.TransactionState;
 import org.firebirdsql.gds.ng.fields.BlrCalculator;
+import org.firebirdsql.gds.ng.metrics.DriverMetricsProvider;
+import org.firebirdsql.gds.ng.metrics.OperationType;
 import org.firebirdsql.gds.ng.wire.*;
 import org.firebirdsql.jdbc.SQLStateConstants;
 import org.firebirdsql.logging.Logger;
@@ -282,6 +284,7 @@ public class V10Database extends AbstractFbWireDatabase implements FbWireDatabas
         try {
             checkAttached();
             synchronized (getSynchronizationObject()) {
+                final long start = DriverMetricsProvider.startTimer();
                 try {
                     final XdrOutputStream xdrOut = getXdrOut();
                     xdrOut.writeInt(op_transaction);
@@ -297,6 +300,7 @@ public class V10Database extends AbstractFbWireDatabase implements FbWireDatabas
                     final FbWireTransaction transaction = protocolDescriptor.createTransaction(this,
                             response.getObjectHandle(), TransactionState.ACTIVE);
                     transactionAdded(transaction);
+                    DriverMetricsProvider.operationCompleted(OperationType.TRANSACTION_START, start);
                     return transaction;
                 } catch (IOException ioex) {
                     throw new FbExceptionBuilder().exception(ISCConstants.isc_net_read_err).cause(ioex)
@@ -23,9 +23,10 @@ import org.firebirdsql.gds.ISCConstants;
 import org.firebirdsql.gds.impl.wire.XdrOutputStream;
 import org.firebirdsql.gds.ng.FbExceptionBuilder;
 import org.firebirdsql.gds.ng.listeners.DatabaseListener;
+import org.firebirdsql.gds.ng.metrics.DriverMetricsProvider;
+import org.firebirdsql.gds.ng.metrics.OperationType;
 import org.firebirdsql.gds.ng.wire.*;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.sql.SQLException;
 
@@ -52,23 +53,15 @@ public class V10InputBlob extends AbstractFbWireInputBlob implements FbWireBlob,
     public void open() throws SQLException {
         try {
             synchronized (getSynchronizationObject()) {
+                final long start = DriverMetricsProvider.startTimer();
                 checkDatabaseAttached();
                 checkTransactionActive();
                 checkBlobClosed();
 
                 final FbWireDatabase database = getDatabase();
                 try {
-                    final XdrOutputStream xdrOut = database.getXdrStreamAccess().getXdrOut();
-                    final BlobParameterBuffer blobParameterBuffer = getBlobParameterBuffer();
-                    if (blobParameterBuffer == null) {
-                        xdrOut.writeInt(op_open_blob);
-                    } else {
-                        xdrOut.writeInt(op_open_blob2);
-                        xdrOut.writeTyped(blobParameterBuffer);
-                    }
-                    xdrOut.writeInt(getTransaction().getHandle());
-                    xdrOut.writeLong(getBlobId());
-                    xdrOut.flush();
+                    sendOpen();
+                    database.getXdrStreamAccess().getXdrOut().flush();
                 } catch (IOException e) {
                     throw new FbExceptionBuilder().exception(ISCConstants.isc_net_write_err).cause(e).toSQLException();
                 }
@@ -80,6 +73,7 @@ public class V10InputBlob extends AbstractFbWireInputBlob implements FbWireBlob,
                 } catch (IOException e) {
                     throw new FbExceptionBuilder().exception(ISCConstants.isc_net_read_err).cause(e).toSQLException();
                 }
+                DriverMetricsProvider.operationCompleted(OperationType.BLOB_OPEN, start);
                 // TODO Request information on the blob?
             }
         } catch (SQLException e) {
@@ -88,6 +82,27 @@ public class V10InputBlob extends AbstractFbWireInputBlob implements FbWireBlob,
         }
     }
 
+    /**
+     * Writes an {@code op_open_blob} or {@code op_open_blob2} packet for this blob, without flushing.
+     *
+     * @throws SQLException
+     *         If no connection is opened or the transaction is not active
+     * @throws IOException
+     *         For errors writing the packet
+     */
+    protected final void sendOpen() throws SQLException, IOException {
+        final XdrOutputStream xdrOut = getDatabase().getXdrStreamAccess().getXdrOut();
+        final BlobParameterBuffer blobParameterBuffer = getBlobParameterBuffer();
+        if (blobParameterBuffer == null) {
+            xdrOut.writeInt(op_open_blob);
+        } else {
+            xdrOut.writeInt(op_open_blob2);
+            xdrOut.writeTyped(blobParameterBuffer);
+        }
+        xdrOut.writeInt(getTransaction().getHandle());
+        xdrOut.writeLong(getBlobId());
+    }
+
     @Override
     public byte[] getSegment(final int sizeRequested) throws SQLException {
         try {
@@ -103,43 +118,63 @@ public class V10InputBlob extends AbstractFbWireInputBlob implements FbWireBlob,
                 checkTransactionActive();
                 checkBlobOpen();
 
+                final long start = DriverMetricsProvider.startTimer();
                 final GenericResponse response;
                 final FbWireDatabase database = getDatabase();
                 try {
-                    final XdrOutputStream xdrOut = database.getXdrStreamAccess().getXdrOut();
-                    xdrOut.writeInt(op_get_segment);
-                    xdrOut.writeInt(getHandle());
-                    xdrOut.writeInt(actualSize);
-                    xdrOut.writeInt(0); // length of segment send buffer (always 0 in get)
-                    xdrOut.flush();
+                    sendGetSegment(actualSize);
+                    database.getXdrStreamAccess().getXdrOut().flush();
                 } catch (IOException e) {
                     throw new FbExceptionBuilder().exception(ISCConstants.isc_net_write_err).cause(e).toSQLException();
                 }
                 try {
                     response = database.readGenericResponse(null);
-                    // TODO Meaning of 2
-                    if (response.getObjectHandle() == 2) {
+                    if (isEndOfBlob(response.getObjectHandle())) {
                         // TODO what if I seek on a stream blob?
                         setEof();
                     }
                 } catch (IOException e) {
                     throw new FbExceptionBuilder().exception(ISCConstants.isc_net_read_err).cause(e).toSQLException();
                 }
+                DriverMetricsProvider.operationCompleted(OperationType.BLOB_GET_SEGMENT, start);
 
-                final byte[] responseBuffer = response.getData();
-                if (responseBuffer.length == 0) {
-                    return responseBuffer;
-                }
+                return decodeSegmentData(response.getData());
+            }
+        } catch (SQLException e) {
+            exceptionListenerDispatcher.errorOccurred(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getSegment(final byte[] dst, final int off, final int len) throws SQLException {
+        try {
+            checkSegmentBuffer(dst, off, len);
+            final int actualLength = Math.min(len, getMaximumSegmentSize());
+            synchronized (getSynchronizationObject()) {
+                checkDatabaseAttached();
+                checkTransactionActive();
+                checkBlobOpen();
 
-                final ByteArrayOutputStream bos = new ByteArrayOutputStream(actualSize);
-                int position = 0;
-                while (position < responseBuffer.length) {
-                    final int segmentLength = iscVaxInteger2(responseBuffer, position);
-                    position += 2;
-                    bos.write(responseBuffer, position, segmentLength);
-                    position += segmentLength;
+                final long start = DriverMetricsProvider.startTimer();
+                final FbWireDatabase database = getDatabase();
+                try {
+                    sendGetSegment(2 + actualLength);
+                    database.getXdrStreamAccess().getXdrOut().flush();
+                } catch (IOException e) {
+                    throw new FbExceptionBuilder().exception(ISCConstants.isc_net_write_err).cause(e).toSQLException();
+                }
+                final SegmentResponse response;
+                try {
+                    response = database.readSegmentResponse(dst, off, actualLength, null);
+                    if (isEndOfBlob(response.getObjectHandle())) {
+                        setEof();
+                    }
+                } catch (IOException e) {
+                    throw new FbExceptionBuilder().exception(ISCConstants.isc_net_read_err).cause(e).toSQLException();
                 }
-                return bos.toByteArray();
+                DriverMetricsProvider.operationCompleted(OperationType.BLOB_GET_SEGMENT, start);
+                return response.getSegmentLength();
             }
         } catch (SQLException e) {
             exceptionListenerDispatcher.errorOccurred(e);
@@ -147,6 +182,87 @@ public class V10InputBlob extends AbstractFbWireInputBlob implements FbWireBlob,
         }
     }
 
+    /**
+     * Checks the arguments of {@link #getSegment(byte[], int, int)}.
+     *
+     * @throws SQLException
+     *         If <code>len</code> is not greater than <code>0</code>
+     * @throws IndexOutOfBoundsException
+     *         If <code>off</code> and <code>len</code> do not specify a range within <code>dst</code>
+     */
+    protected static void checkSegmentBuffer(final byte[] dst, final int off, final int len) throws SQLException {
+        if (len <= 0) {
+            throw new FbExceptionBuilder().exception(jb_blobGetSegmentNegative)
+                    .messageParameter(len)
+                    .toSQLException();
+        }
+        if (off < 0 || len > dst.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Writes an {@code op_get_segment} packet for this blob, without flushing.
+     *
+     * @param actualSize
+     *         Size of the response buffer requested (including the 2 bytes of the segment length)
+     * @throws SQLException
+     *         If no connection is opened
+     * @throws IOException
+     *         For errors writing the packet
+     */
+    protected final void sendGetSegment(int actualSize) throws SQLException, IOException {
+        final XdrOutputStream xdrOut = getDatabase().getXdrStreamAccess().getXdrOut();
+        xdrOut.writeInt(op_get_segment);
+        xdrOut.writeInt(getHandle());
+        xdrOut.writeInt(actualSize);
+        xdrOut.writeInt(0); // length of segment send buffer (always 0 in get)
+    }
+
+    /**
+     * Checks if an {@code op_get_segment} response signals the end of the blob.
+     *
+     * @param responseObjectHandle
+     *         Object handle of the response
+     * @return {@code true} if the response contains the last segment of the blob
+     */
+    protected static boolean isEndOfBlob(final int responseObjectHandle) {
+        // TODO Meaning of 2
+        return responseObjectHandle == 2;
+    }
+
+    /**
+     * Decodes the data of an {@code op_get_segment} response.
+     *
+     * @param responseBuffer
+     *         Response data consisting of one or more segments, each prefixed with a 2 byte length
+     * @return Segment data without the segment length prefixes
+     */
+    protected static byte[] decodeSegmentData(final byte[] responseBuffer) {
+        if (responseBuffer.length == 0) {
+            return responseBuffer;
+        }
+
+        int dataLength = 0;
+        int position = 0;
+        while (position < responseBuffer.length) {
+            final int segmentLength = iscVaxInteger2(responseBuffer, position);
+            dataLength += segmentLength;
+            position += 2 + segmentLength;
+        }
+        final byte[] data = new byte[dataLength];
+        int dataPosition = 0;
+        position = 0;
+        while (position < responseBuffer.length) {
+            final int segmentLength = iscVaxInteger2(responseBuffer, position);
+            position += 2;
+            System.arraycopy(responseBuffer, position, data, dataPosition, segmentLength);
+            position += segmentLength;
+            dataPosition += segmentLength;
+        }
+        return data;
+    }
+
     @Override
     public void seek(int offset, SeekMode seekMode) throws SQLException {
         try {
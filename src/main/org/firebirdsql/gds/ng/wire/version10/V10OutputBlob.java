@@ -24,6 +24,8 @@ import org.firebirdsql.gds.impl.wire.XdrOutputStream;
 import org.firebirdsql.gds.ng.FbBlob;
 import org.firebirdsql.gds.ng.FbExceptionBuilder;
 import org.firebirdsql.gds.ng.listeners.DatabaseListener;
+import org.firebirdsql.gds.ng.metrics.DriverMetricsProvider;
+import org.firebirdsql.gds.ng.metrics.OperationType;
 import org.firebirdsql.gds.ng.wire.*;
 
 import java.io.IOException;
@@ -52,6 +54,7 @@ public class V10OutputBlob extends AbstractFbWireOutputBlob implements FbWireBlo
     public void open() throws SQLException {
         try {
             synchronized (getSynchronizationObject()) {
+                final long start = DriverMetricsProvider.startTimer();
                 checkDatabaseAttached();
                 checkTransactionActive();
                 checkBlobClosed();
@@ -84,6 +87,7 @@ public class V10OutputBlob extends AbstractFbWireOutputBlob implements FbWireBlo
                 } catch (IOException e) {
                     throw new FbExceptionBuilder().exception(ISCConstants.isc_net_read_err).cause(e).toSQLException();
                 }
+                DriverMetricsProvider.operationCompleted(OperationType.BLOB_OPEN, start);
                 // TODO Request information on the blob?
             }
         } catch (SQLException e) {
@@ -107,21 +111,29 @@ public class V10OutputBlob extends AbstractFbWireOutputBlob implements FbWireBlo
                 checkTransactionActive();
                 checkBlobOpen();
 
-                final FbWireDatabase database = getDatabase();
-                try {
-                    final XdrOutputStream xdrOut = database.getXdrStreamAccess().getXdrOut();
-                    xdrOut.writeInt(op_put_segment);
-                    xdrOut.writeInt(getHandle());
-                    xdrOut.writeInt(segment.length);
-                    xdrOut.writeBuffer(segment);
-                    xdrOut.flush();
-                } catch (IOException e) {
-                    throw new FbExceptionBuilder().exception(ISCConstants.isc_net_write_err).cause(e).toSQLException();
-                }
-                try {
-                    database.readResponse(null);
-                } catch (IOException e) {
-                    throw new FbExceptionBuilder().exception(ISCConstants.isc_net_read_err).cause(e).toSQLException();
+                putSegmentAndReadResponse(segment, 0, segment.length);
+            }
+        } catch (SQLException e) {
+            exceptionListenerDispatcher.errorOccurred(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void putSegments(byte[] data, int off, int len, int segmentSize) throws SQLException {
+        checkPutSegmentsArguments(data, off, len, segmentSize);
+        try {
+            synchronized (getSynchronizationObject()) {
+                checkDatabaseAttached();
+                checkTransactionActive();
+                checkBlobOpen();
+
+                final int maximumSegmentSize = Math.min(segmentSize, getMaximumSegmentSize());
+                while (len > 0) {
+                    final int currentSegmentSize = Math.min(len, maximumSegmentSize);
+                    putSegmentAndReadResponse(data, off, currentSegmentSize);
+                    off += currentSegmentSize;
+                    len -= currentSegmentSize;
                 }
             }
         } catch (SQLException e) {
@@ -129,4 +141,44 @@ public class V10OutputBlob extends AbstractFbWireOutputBlob implements FbWireBlo
             throw e;
         }
     }
+
+    private void putSegmentAndReadResponse(byte[] data, int off, int len) throws SQLException {
+        final long start = DriverMetricsProvider.startTimer();
+        final FbWireDatabase database = getDatabase();
+        try {
+            sendPutSegment(data, off, len);
+            database.getXdrStreamAccess().getXdrOut().flush();
+        } catch (IOException e) {
+            throw new FbExceptionBuilder().exception(ISCConstants.isc_net_write_err).cause(e).toSQLException();
+        }
+        try {
+            database.readResponse(null);
+        } catch (IOException e) {
+            throw new FbExceptionBuilder().exception(ISCConstants.isc_net_read_err).cause(e).toSQLException();
+        }
+        DriverMetricsProvider.operationCompleted(OperationType.BLOB_PUT_SEGMENT, start);
+    }
+
+    /**
+     * Writes an {@code op_put_segment} packet for this blob, without flushing.
+     *
+     * @param data
+     *         Segment data
+     * @param off
+     *         Offset in {@code data}
+     * @param len
+     *         Length of the segment (not more than {@link #getMaximumSegmentSize()})
+     * @throws SQLException
+     *         If no connection is opened
+     * @throws IOException
+     *         For errors writing the packet
+     */
+    protected final void sendPutSegment(byte[] data, int off, int len) throws SQLException, IOException {
+        final XdrOutputStream xdrOut = getDatabase().getXdrStreamAccess().getXdrOut();
+        xdrOut.writeInt(op_put_segment);
+        xdrOut.writeInt(getHandle());
+        xdrOut.writeInt(len);
+        xdrOut.writeInt(len);
+        xdrOut.write(data, off, len, (4 - len) & 3);
+    }
 }
@@ -27,6 +27,8 @@ import org.firebirdsql.gds.ng.StatementState;
 import org.firebirdsql.gds.ng.StatementType;
 import org.firebirdsql.gds.ng.WarningMessageCallback;
 import org.firebirdsql.gds.ng.fields.*;
+import org.firebirdsql.gds.ng.metrics.DriverMetricsProvider;
+import org.firebirdsql.gds.ng.metrics.OperationType;
 import org.firebirdsql.gds.ng.wire.*;
 import org.firebirdsql.logging.Logger;
 import org.firebirdsql.logging.LoggerFactory;
@@ -35,6 +37,8 @@ import java.io.IOException;
 import java.sql.SQLException;
 import java.sql.SQLNonTransientException;
 import java.sql.SQLWarning;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.firebirdsql.gds.ng.TransactionHelper.checkTransactionActive;
 
@@ -52,6 +56,13 @@ public class V10Statement extends AbstractFbWireStatement implements FbWireState
 
     private static final Logger log = LoggerFactory.getLogger(V10Statement.class);
 
+    /**
+     * Rows fetched together with the execute, not yet sent to the listeners; {@code null} if there are none.
+     */
+    private List<RowValue> prefetchedRows;
+    private boolean prefetchedAllRows;
+    private SQLException prefetchException;
+
     /**
      * Creates a new instance of V10Statement for the specified database.
      *
@@ -179,6 +190,7 @@ public class V10Statement extends AbstractFbWireStatement implements FbWireState
     public void prepare(final String statementText) throws SQLException {
         try {
             synchronized (getSynchronizationObject()) {
+                final long start = DriverMetricsProvider.startTimer();
                 checkTransactionActive(getTransaction());
                 final StatementState currentState = getState();
                 if (!isPrepareAllowed(currentState)) {
@@ -218,6 +230,7 @@ public class V10Statement extends AbstractFbWireStatement implements FbWireState
                     switchState(StatementState.ERROR);
                     throw new FbExceptionBuilder().exception(ISCConstants.isc_net_read_err).cause(ex).toSQLException();
                 }
+                DriverMetricsProvider.operationCompleted(OperationType.STATEMENT_PREPARE, start);
             }
         } catch (SQLException e) {
             exceptionListenerDispatcher.errorOccurred(e);
@@ -293,6 +306,7 @@ public class V10Statement extends AbstractFbWireStatement implements FbWireState
         final StatementState initialState = getState();
         try {
             synchronized (getSynchronizationObject()) {
+                final long start = DriverMetricsProvider.startTimer();
                 checkStatementValid();
                 checkTransactionActive(getTransaction());
                 validateParameters(parameters);
@@ -302,6 +316,9 @@ public class V10Statement extends AbstractFbWireStatement implements FbWireState
 
                 final StatementType statementType = getType();
                 final boolean hasSingletonResult = hasSingletonResult();
+                final int prefetchSize = !hasSingletonResult && statementType.isTypeWithCursor()
+                        ? getPrefetchSize()
+                        : 0;
                 int expectedResponseCount = 0;
                 try {
                     if (hasSingletonResult) {
@@ -312,6 +329,10 @@ public class V10Statement extends AbstractFbWireStatement implements FbWireState
                                     : WireProtocolConstants.op_execute,
                             parameters);
                     expectedResponseCount++;
+                    if (prefetchSize > 0) {
+                        // Fetch the first rows in the same round trip as the execute
+                        sendFetch(prefetchSize);
+                    }
                     getXdrOut().flush();
                 } catch (IOException ex) {
                     switchState(StatementState.ERROR);
@@ -319,6 +340,7 @@ public class V10Statement extends AbstractFbWireStatement implements FbWireState
                 }
 
                 final WarningMessageCallback statementWarningCallback = getStatementWarningCallback();
+                boolean prefetchResponsePending = prefetchSize > 0;
                 try {
                     final FbWireDatabase db = getDatabase();
                     try {
@@ -349,8 +371,16 @@ public class V10Statement extends AbstractFbWireStatement implements FbWireState
 
                         // This should always be a GenericResponse, otherwise something went fundamentally wrong anyway
                         processExecuteResponse((GenericResponse) response);
+
+                        if (prefetchResponsePending) {
+                            prefetchResponsePending = false;
+                            processPrefetchResponse();
+                        }
                     } finally {
                         db.consumePackets(expectedResponseCount, getStatementWarningCallback());
+                        if (prefetchResponsePending) {
+                            discardPrefetchResponse();
+                        }
                     }
 
                     if (getState() != StatementState.ERROR) {
@@ -360,6 +390,7 @@ public class V10Statement extends AbstractFbWireStatement implements FbWireState
                     switchState(StatementState.ERROR);
                     throw new FbExceptionBuilder().exception(ISCConstants.isc_net_read_err).cause(ex).toSQLException();
                 }
+                DriverMetricsProvider.operationCompleted(OperationType.STATEMENT_EXECUTE, start);
             }
         } catch (SQLException e) {
             if (getState() != StatementState.ERROR) {
@@ -439,7 +470,12 @@ public class V10Statement extends AbstractFbWireStatement implements FbWireState
                     throw new FbExceptionBuilder().exception(ISCConstants.isc_cursor_not_open).toSQLException();
                 }
                 if (isAllRowsFetched()) return;
+                if (prefetchedRows != null) {
+                    queuePrefetchedRows();
+                    return;
+                }
 
+                final long start = DriverMetricsProvider.startTimer();
                 try {
                     sendFetch(fetchSize);
                     getXdrOut().flush();
@@ -453,6 +489,7 @@ public class V10Statement extends AbstractFbWireStatement implements FbWireState
                     switchState(StatementState.ERROR);
                     throw new FbExceptionBuilder().exception(ISCConstants.isc_net_read_err).cause(ex).toSQLException();
                 }
+                DriverMetricsProvider.operationCompleted(OperationType.STATEMENT_FETCH, start);
             }
         } catch (SQLException e) {
             exceptionListenerDispatcher.errorOccurred(e);
@@ -468,10 +505,12 @@ public class V10Statement extends AbstractFbWireStatement implements FbWireState
      */
     protected void processFetchResponse() throws IOException, SQLException {
         Response response;
+        int rowCount = 0;
         while (!isAllRowsFetched() && (response = getDatabase().readResponse(getStatementWarningCallback())) instanceof FetchResponse) {
             final FetchResponse fetchResponse = (FetchResponse) response;
             if (fetchResponse.getCount() > 0 && fetchResponse.getStatus() == ISCConstants.FETCH_OK) {
                 queueRowData(readSqlData());
+                rowCount++;
             } else if (fetchResponse.getStatus() == ISCConstants.FETCH_NO_MORE_ROWS) {
                 setAllRowsFetched(true);
                 // Note: we are not explicitly 'closing' the cursor here
@@ -480,9 +519,86 @@ public class V10Statement extends AbstractFbWireStatement implements FbWireState
                 break;
             }
         }
+        DriverMetricsProvider.rowsFetched(rowCount);
         // TODO Handle other response type?
     }
 
+    /**
+     * Process the response to the fetch sent together with the execute, by reading the returned rows and keeping them
+     * until the first call to {@link #fetchRows(int)}.
+     * <p>
+     * Errors returned by the server for the fetch are also kept, and reported by the first call to
+     * {@link #fetchRows(int)}, as they would have been without fetching together with the execute.
+     * </p>
+     *
+     * @throws IOException
+     * @throws SQLException
+     */
+    protected void processPrefetchResponse() throws IOException, SQLException {
+        final List<RowValue> rows = new ArrayList<>();
+        try {
+            Response response;
+            while ((response = getDatabase().readResponse(getStatementWarningCallback())) instanceof FetchResponse) {
+                final FetchResponse fetchResponse = (FetchResponse) response;
+                if (fetchResponse.getCount() > 0 && fetchResponse.getStatus() == ISCConstants.FETCH_OK) {
+                    rows.add(readSqlData());
+                } else {
+                    prefetchedAllRows = fetchResponse.getStatus() == ISCConstants.FETCH_NO_MORE_ROWS;
+                    break;
+                }
+            }
+        } catch (SQLException e) {
+            prefetchException = e;
+        }
+        prefetchedRows = rows;
+        DriverMetricsProvider.rowsFetched(rows.size());
+    }
+
+    /**
+     * Reads and ignores the response to the fetch sent together with a failed execute (the server responds with an
+     * error, as no cursor was opened).
+     */
+    private void discardPrefetchResponse() {
+        try {
+            getDatabase().readResponse(getStatementWarningCallback());
+        } catch (SQLException | IOException e) {
+            log.debug("Ignored response to fetch after failed execute", e);
+        }
+    }
+
+    /**
+     * Sends the rows fetched together with the execute to the listeners.
+     *
+     * @throws SQLException
+     *         The error returned by the server for the fetch, if any
+     */
+    private void queuePrefetchedRows() throws SQLException {
+        final List<RowValue> rows = prefetchedRows;
+        prefetchedRows = null;
+        for (RowValue row : rows) {
+            queueRowData(row);
+        }
+        if (prefetchException != null) {
+            final SQLException exception = prefetchException;
+            prefetchException = null;
+            throw exception;
+        }
+        if (prefetchedAllRows) {
+            prefetchedAllRows = false;
+            setAllRowsFetched(true);
+        }
+    }
+
+    @Override
+    protected void reset(boolean resetAll) {
+        synchronized (getSynchronizationObject()) {
+            super.reset(resetAll);
+            prefetchedRows = null;
+            prefetchedAllRows = false;
+            prefetchException = null;
+        }
+    }
+
     /**
      * Sends the fetch request to the database.
      *
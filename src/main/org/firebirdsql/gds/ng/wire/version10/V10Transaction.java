@@ -21,6 +21,8 @@ package org.firebirdsql.gds.ng.wire.version10;
 import org.firebirdsql.gds.ISCConstants;
 import org.firebirdsql.gds.impl.wire.XdrOutputStream;
 import org.firebirdsql.gds.ng.*;
+import org.firebirdsql.gds.ng.metrics.DriverMetricsProvider;
+import org.firebirdsql.gds.ng.metrics.OperationType;
 import org.firebirdsql.gds.ng.wire.FbWireDatabase;
 import org.firebirdsql.gds.ng.wire.FbWireTransaction;
 import org.firebirdsql.gds.ng.wire.GenericResponse;
@@ -81,9 +83,11 @@ public class V10Transaction extends AbstractFbTransaction implements FbWireTrans
     public void commit() throws SQLException {
         try {
             synchronized (getSynchronizationObject()) {
+                final long start = DriverMetricsProvider.startTimer();
                 switchState(TransactionState.COMMITTING);
                 finishTransaction(op_commit);
                 switchState(TransactionState.COMMITTED);
+                DriverMetricsProvider.operationCompleted(OperationType.TRANSACTION_COMMIT, start);
             }
         } catch (SQLException e) {
             exceptionListenerDispatcher.errorOccurred(e);
@@ -101,9 +105,11 @@ public class V10Transaction extends AbstractFbTransaction implements FbWireTrans
     public void rollback() throws SQLException {
         try {
             synchronized (getSynchronizationObject()) {
+                final long start = DriverMetricsProvider.startTimer();
                 switchState(TransactionState.ROLLING_BACK);
                 finishTransaction(op_rollback);
                 switchState(TransactionState.ROLLED_BACK);
+                DriverMetricsProvider.operationCompleted(OperationType.TRANSACTION_ROLLBACK, start);
             }
         } catch (SQLException e) {
             exceptionListenerDispatcher.errorOccurred(e);
@@ -139,6 +145,7 @@ public class V10Transaction extends AbstractFbTransaction implements FbWireTrans
     public void prepare(byte[] recoveryInformation) throws SQLException {
         try {
             synchronized (getSynchronizationObject()) {
+                final long start = DriverMetricsProvider.startTimer();
                 switchState(TransactionState.PREPARING);
                 try {
                     final XdrOutputStream xdrOut = getXdrOut();
@@ -160,6 +167,7 @@ public class V10Transaction extends AbstractFbTransaction implements FbWireTrans
                     throw new FbExceptionBuilder().exception(ISCConstants.isc_net_read_err).cause(ioex).toSQLException();
                 }
                 switchState(TransactionState.PREPARED);
+                DriverMetricsProvider.operationCompleted(OperationType.TRANSACTION_PREPARE, start);
             }
         } catch (SQLException e) {
             exceptionListenerDispatcher.errorOccurred(e);
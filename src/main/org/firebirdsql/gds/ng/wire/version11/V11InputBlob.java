@@ -0,0 +1,399 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.ng.wire.version11;
+
+import org.firebirdsql.gds.BlobParameterBuffer;
+import org.firebirdsql.gds.ISCConstants;
+import org.firebirdsql.gds.ng.BlobLengthProcessor;
+import org.firebirdsql.gds.ng.FbExceptionBuilder;
+import org.firebirdsql.gds.ng.WarningMessageCallback;
+import org.firebirdsql.gds.ng.metrics.DriverMetricsProvider;
+import org.firebirdsql.gds.ng.metrics.OperationType;
+import org.firebirdsql.gds.ng.wire.*;
+import org.firebirdsql.gds.ng.wire.version10.V10InputBlob;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+import static org.firebirdsql.gds.JaybirdErrorCodes.jb_blobGetSegmentNegative;
+import static org.firebirdsql.gds.impl.wire.WireProtocolConstants.INVALID_OBJECT;
+
+/**
+ * Input {@link org.firebirdsql.gds.ng.wire.FbWireBlob} implementation for the version 11 wire protocol.
+ * <p>
+ * When connection property {@code blobReadAhead} is greater than {@code 1}, this blob keeps up to that number of
+ * {@code op_get_segment} requests outstanding. The requests are sent without waiting for their response, and the
+ * responses are read as deferred actions in the order of the requests. Segments received ahead of the caller are
+ * buffered until requested through {@link #getSegment(int)}. After the server reports end of blob, no further
+ * requests are sent.
+ * </p>
+ * <p>
+ * With read-ahead disabled (the default), this blob behaves as {@link V10InputBlob}.
+ * </p>
+ * <p>
+ * For {@link #openAndReadFully()}, the open and the length request are sent in a single flush, using the lazy object
+ * handle of the protocol to refer to the blob being opened. The segments are only requested after the open succeeded:
+ * if the open fails, the lazy handle refers to the object created last on the connection (which could be another open
+ * blob), and only the length request is harmless when applied to another object. A blob that fits in the first
+ * segment is read in two round trips; the close is sent deferred with the next operation.
+ * </p>
+ *
+ * @since 4.0
+ */
+public class V11InputBlob extends V10InputBlob {
+
+    /**
+     * Buffered segment data not yet returned from {@link #getSegment(int)}; access under synchronization object.
+     */
+    private final Deque<byte[]> readAheadSegments = new ArrayDeque<>();
+    private int readAheadOffset;
+    private int outstandingRequests;
+    private boolean readAheadEof;
+    private SQLException readAheadException;
+
+    public V11InputBlob(FbWireDatabase database, FbWireTransaction transaction,
+            BlobParameterBuffer blobParameterBuffer, long blobId) {
+        super(database, transaction, blobParameterBuffer, blobId);
+    }
+
+    @Override
+    public void open() throws SQLException {
+        synchronized (getSynchronizationObject()) {
+            clearReadAhead();
+            super.open();
+        }
+    }
+
+    @Override
+    public byte[] openAndReadFully() throws SQLException {
+        try {
+            synchronized (getSynchronizationObject()) {
+                checkDatabaseAttached();
+                checkTransactionActive();
+                checkBlobClosed();
+                clearReadAhead();
+
+                final long start = DriverMetricsProvider.startTimer();
+                final FbWireDatabase database = getDatabase();
+                final BlobLengthProcessor blobLengthProcessor = createBlobLengthProcessor();
+                final ResponseHolder openResponse = new ResponseHolder();
+                final ResponseHolder infoResponse = new ResponseHolder();
+                try {
+                    sendOpen();
+                    database.enqueueDeferredAction(openResponse);
+                    // Until the open response has been processed, the lazy handle refers to the object created last,
+                    // only requests without side effects may use it
+                    setHandle(INVALID_OBJECT);
+                    sendBlobInfo(blobLengthProcessor.getBlobLengthItems(), 20);
+                    database.enqueueDeferredAction(infoResponse);
+                    database.getXdrStreamAccess().getXdrOut().flush();
+                } catch (IOException e) {
+                    throw new FbExceptionBuilder().exception(ISCConstants.isc_net_write_err).cause(e).toSQLException();
+                }
+                database.processDeferredActions();
+                if (openResponse.response == null || infoResponse.response == null) {
+                    // Deferred actions are discarded when the response cannot be read
+                    throw new FbExceptionBuilder().exception(ISCConstants.isc_net_read_err).toSQLException();
+                }
+                // Errors of the info request are a consequence of a failed open
+                throwOnError(openResponse.response);
+                setHandle(((GenericResponse) openResponse.response).getObjectHandle());
+                setOpen(true);
+                resetEof();
+                DriverMetricsProvider.operationCompleted(OperationType.BLOB_OPEN, start);
+                try {
+                    throwOnError(infoResponse.response);
+                    final long length = blobLengthProcessor.process(
+                            ((GenericResponse) infoResponse.response).getData());
+                    return readFully(length);
+                } finally {
+                    close();
+                }
+            }
+        } catch (SQLException e) {
+            exceptionListenerDispatcher.errorOccurred(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public byte[] getSegment(final int sizeRequested) throws SQLException {
+        final int readAhead = getReadAhead();
+        if (readAhead <= 1 && !hasReadAheadData()) {
+            return super.getSegment(sizeRequested);
+        }
+        try {
+            if (sizeRequested <= 0) {
+                throw new FbExceptionBuilder().exception(jb_blobGetSegmentNegative)
+                        .messageParameter(sizeRequested)
+                        .toSQLException();
+            }
+            synchronized (getSynchronizationObject()) {
+                fillReadAhead(readAhead, sizeRequested);
+                final byte[] segment = nextReadAheadSegment(sizeRequested);
+                readAheadSegmentTaken(readAhead, sizeRequested);
+                return segment;
+            }
+        } catch (SQLException e) {
+            exceptionListenerDispatcher.errorOccurred(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getSegment(final byte[] dst, final int off, final int len) throws SQLException {
+        final int readAhead = getReadAhead();
+        if (readAhead <= 1 && !hasReadAheadData()) {
+            return super.getSegment(dst, off, len);
+        }
+        try {
+            checkSegmentBuffer(dst, off, len);
+            synchronized (getSynchronizationObject()) {
+                fillReadAhead(readAhead, len);
+                final int length = copyReadAheadSegment(dst, off, len);
+                readAheadSegmentTaken(readAhead, len);
+                return length;
+            }
+        } catch (SQLException e) {
+            exceptionListenerDispatcher.errorOccurred(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void seek(int offset, SeekMode seekMode) throws SQLException {
+        synchronized (getSynchronizationObject()) {
+            if (outstandingRequests > 0) {
+                getDatabase().processDeferredActions();
+            }
+            // The server position is ahead of the caller by the buffered segments
+            final int bufferedLength = getReadAheadLength();
+            clearReadAhead();
+            if (seekMode == SeekMode.RELATIVE) {
+                offset -= bufferedLength;
+            }
+            super.seek(offset, seekMode);
+        }
+    }
+
+    /**
+     * @return Configured number of outstanding segment requests
+     */
+    private int getReadAhead() {
+        return getDatabase().getConnectionProperties().getBlobReadAhead();
+    }
+
+    /**
+     * Ensures buffered segment data is available, requesting and receiving segments if necessary.
+     */
+    private void fillReadAhead(final int readAhead, final int sizeRequested) throws SQLException {
+        checkDatabaseAttached();
+        checkTransactionActive();
+        checkBlobOpen();
+
+        if (readAheadSegments.isEmpty()) {
+            if (outstandingRequests == 0 && readAheadException == null && !readAheadEof) {
+                sendGetSegments(readAhead, sizeRequested);
+            }
+            if (outstandingRequests > 0) {
+                receiveGetSegments();
+            }
+            if (readAheadSegments.isEmpty() && readAheadException != null) {
+                final SQLException exception = readAheadException;
+                readAheadException = null;
+                throw exception;
+            }
+        }
+    }
+
+    /**
+     * Signals end of blob after the last buffered segment has been taken, or requests the next segments.
+     */
+    private void readAheadSegmentTaken(final int readAhead, final int sizeRequested) throws SQLException {
+        if (readAheadSegments.isEmpty() && readAheadEof) {
+            setEof();
+        } else if (readAhead > 1 && outstandingRequests == 0 && readAheadException == null && !readAheadEof) {
+            // Request the next segments while the caller processes the buffered segments
+            sendGetSegments(readAhead, sizeRequested);
+        }
+    }
+
+    /**
+     * Sends {@code count} segment requests, and enqueues their responses as deferred actions.
+     */
+    private void sendGetSegments(final int count, final int sizeRequested) throws SQLException {
+        final int actualSize = 2 + Math.min(sizeRequested, getMaximumSegmentSize());
+        final FbWireDatabase database = getDatabase();
+        try {
+            for (int idx = 0; idx < count; idx++) {
+                sendGetSegment(actualSize);
+                database.enqueueDeferredAction(new GetSegmentDeferredAction());
+                outstandingRequests++;
+            }
+            database.getXdrStreamAccess().getXdrOut().flush();
+        } catch (IOException e) {
+            throw new FbExceptionBuilder().exception(ISCConstants.isc_net_write_err).cause(e).toSQLException();
+        }
+    }
+
+    /**
+     * Reads the responses of all outstanding segment requests.
+     */
+    private void receiveGetSegments() throws SQLException {
+        final long start = DriverMetricsProvider.startTimer();
+        getDatabase().processDeferredActions();
+        if (outstandingRequests > 0) {
+            // Deferred actions are discarded when the response cannot be read
+            outstandingRequests = 0;
+            throw new FbExceptionBuilder().exception(ISCConstants.isc_net_read_err).toSQLException();
+        }
+        DriverMetricsProvider.operationCompleted(OperationType.BLOB_GET_SEGMENT, start);
+    }
+
+    private void processGetSegmentResponse(final Response response) {
+        synchronized (getSynchronizationObject()) {
+            outstandingRequests--;
+            if (readAheadEof || readAheadException != null) {
+                // Responses after end of blob or an error are ignored
+                return;
+            }
+            final GenericResponse genericResponse = (GenericResponse) response;
+            final SQLException exception = genericResponse.getException();
+            if (exception != null && !(exception instanceof SQLWarning)) {
+                readAheadException = exception;
+                return;
+            }
+            if (isEndOfBlob(genericResponse.getObjectHandle())) {
+                readAheadEof = true;
+            }
+            final byte[] segment = decodeSegmentData(genericResponse.getData());
+            if (segment.length > 0 || readAheadSegments.isEmpty() && readAheadEof) {
+                readAheadSegments.add(segment);
+            }
+        }
+    }
+
+    /**
+     * Takes at most {@code sizeRequested} bytes from the first buffered segment.
+     */
+    private byte[] nextReadAheadSegment(final int sizeRequested) {
+        final byte[] segment = readAheadSegments.peekFirst();
+        if (segment == null) {
+            return new byte[0];
+        }
+        final int remaining = segment.length - readAheadOffset;
+        if (readAheadOffset == 0 && remaining <= sizeRequested) {
+            readAheadSegments.removeFirst();
+            return segment;
+        }
+        final int length = Math.min(remaining, sizeRequested);
+        final byte[] result = Arrays.copyOfRange(segment, readAheadOffset, readAheadOffset + length);
+        if (length == remaining) {
+            readAheadSegments.removeFirst();
+            readAheadOffset = 0;
+        } else {
+            readAheadOffset += length;
+        }
+        return result;
+    }
+
+    /**
+     * Copies at most {@code len} bytes from the first buffered segment into {@code dst}.
+     */
+    private int copyReadAheadSegment(final byte[] dst, final int off, final int len) {
+        final byte[] segment = readAheadSegments.peekFirst();
+        if (segment == null) {
+            return 0;
+        }
+        final int remaining = segment.length - readAheadOffset;
+        final int length = Math.min(remaining, len);
+        System.arraycopy(segment, readAheadOffset, dst, off, length);
+        if (length == remaining) {
+            readAheadSegments.removeFirst();
+            readAheadOffset = 0;
+        } else {
+            readAheadOffset += length;
+        }
+        return length;
+    }
+
+    private static void throwOnError(final Response response) throws SQLException {
+        final SQLException exception = ((GenericResponse) response).getException();
+        if (exception != null && !(exception instanceof SQLWarning)) {
+            throw exception;
+        }
+    }
+
+    /**
+     * @return {@code true} if there is buffered segment data, or an outstanding request or error to process
+     */
+    private boolean hasReadAheadData() {
+        synchronized (getSynchronizationObject()) {
+            return !readAheadSegments.isEmpty() || outstandingRequests > 0 || readAheadException != null;
+        }
+    }
+
+    private int getReadAheadLength() {
+        int length = -readAheadOffset;
+        for (byte[] segment : readAheadSegments) {
+            length += segment.length;
+        }
+        return length;
+    }
+
+    private void clearReadAhead() {
+        readAheadSegments.clear();
+        readAheadOffset = 0;
+        readAheadEof = false;
+        readAheadException = null;
+    }
+
+    /**
+     * Deferred action that keeps the response for processing after the deferred actions have been processed.
+     */
+    private static final class ResponseHolder implements DeferredAction {
+        private Response response;
+
+        @Override
+        public void processResponse(Response response) {
+            this.response = response;
+        }
+
+        @Override
+        public WarningMessageCallback getWarningMessageCallback() {
+            return null;
+        }
+    }
+
+    private final class GetSegmentDeferredAction implements DeferredAction {
+        @Override
+        public void processResponse(Response response) {
+            processGetSegmentResponse(response);
+        }
+
+        @Override
+        public WarningMessageCallback getWarningMessageCallback() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.ng.wire.version11;
+
+import org.firebirdsql.gds.BlobParameterBuffer;
+import org.firebirdsql.gds.ISCConstants;
+import org.firebirdsql.gds.ng.FbExceptionBuilder;
+import org.firebirdsql.gds.ng.WarningMessageCallback;
+import org.firebirdsql.gds.ng.metrics.DriverMetricsProvider;
+import org.firebirdsql.gds.ng.metrics.OperationType;
+import org.firebirdsql.gds.ng.wire.*;
+import org.firebirdsql.gds.ng.wire.version10.V10OutputBlob;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+
+/**
+ * Output {@link org.firebirdsql.gds.ng.wire.FbWireBlob} implementation for the version 11 wire protocol.
+ * <p>
+ * When connection property {@code blobWriteBatchSize} is greater than {@code 0},
+ * {@link #putSegments(byte[], int, int, int)} sends {@code op_put_segment} packets up to that number of bytes without
+ * waiting for their response. The responses are read as deferred actions, and checked once per batch. If the server reports an error for a segment, the first
+ * error is thrown after all responses of the batch have been read. The batch size is limited to
+ * {@link #MAX_BATCH_SIZE}, so the number of unread responses stays small enough to fit in the socket buffers.
+ * </p>
+ * <p>
+ * With batching disabled (the default), this blob behaves as {@link V10OutputBlob}.
+ * </p>
+ *
+ * @since 4.0
+ */
+public class V11OutputBlob extends V10OutputBlob {
+
+    /**
+     * Upper limit of the batch size, larger values of {@code blobWriteBatchSize} are reduced to this value.
+     */
+    public static final int MAX_BATCH_SIZE = 8 * 1024 * 1024;
+
+    private int outstandingResponses;
+    private SQLException batchException;
+
+    public V11OutputBlob(FbWireDatabase database, FbWireTransaction transaction,
+            BlobParameterBuffer blobParameterBuffer) {
+        super(database, transaction, blobParameterBuffer);
+    }
+
+    @Override
+    public void putSegments(byte[] data, int off, int len, int segmentSize) throws SQLException {
+        final int batchSize = getBatchSize();
+        if (batchSize <= 0) {
+            super.putSegments(data, off, len, segmentSize);
+            return;
+        }
+        checkPutSegmentsArguments(data, off, len, segmentSize);
+        try {
+            synchronized (getSynchronizationObject()) {
+                checkDatabaseAttached();
+                checkTransactionActive();
+                checkBlobOpen();
+
+                final long start = DriverMetricsProvider.startTimer();
+                final int maximumSegmentSize = Math.min(segmentSize, getMaximumSegmentSize());
+                final FbWireDatabase database = getDatabase();
+                int batchedBytes = 0;
+                try {
+                    while (len > 0) {
+                        final int currentSegmentSize = Math.min(len, maximumSegmentSize);
+                        sendPutSegment(data, off, currentSegmentSize);
+                        database.enqueueDeferredAction(new PutSegmentDeferredAction());
+                        outstandingResponses++;
+                        off += currentSegmentSize;
+                        len -= currentSegmentSize;
+                        batchedBytes += currentSegmentSize;
+                        if (batchedBytes >= batchSize || len == 0) {
+                            database.getXdrStreamAccess().getXdrOut().flush();
+                            completeBatch();
+                            batchedBytes = 0;
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new FbExceptionBuilder().exception(ISCConstants.isc_net_write_err).cause(e).toSQLException();
+                } finally {
+                    if (outstandingResponses > 0) {
+                        // Make sure no responses are left behind for later operations
+                        discardBatch();
+                    }
+                }
+                DriverMetricsProvider.operationCompleted(OperationType.BLOB_PUT_SEGMENT, start);
+            }
+        } catch (SQLException e) {
+            exceptionListenerDispatcher.errorOccurred(e);
+            throw e;
+        }
+    }
+
+    /**
+     * @return Configured batch size in bytes, limited to {@link #MAX_BATCH_SIZE}
+     */
+    private int getBatchSize() {
+        return Math.min(getDatabase().getConnectionProperties().getBlobWriteBatchSize(), MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Reads the responses of the current batch, and throws the first error reported by the server.
+     */
+    private void completeBatch() throws SQLException {
+        getDatabase().processDeferredActions();
+        final SQLException exception = batchException;
+        batchException = null;
+        if (outstandingResponses > 0) {
+            // Deferred actions are discarded when the response cannot be read
+            outstandingResponses = 0;
+            throw new FbExceptionBuilder().exception(ISCConstants.isc_net_read_err).toSQLException();
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    private void discardBatch() {
+        try {
+            getDatabase().getXdrStreamAccess().getXdrOut().flush();
+            getDatabase().processDeferredActions();
+        } catch (IOException | SQLException e) {
+            // Connection is broken; the exception of the original failure is reported to the caller
+        } finally {
+            outstandingResponses = 0;
+            batchException = null;
+        }
+    }
+
+    private void processPutSegmentResponse(Response response) {
+        synchronized (getSynchronizationObject()) {
+            outstandingResponses--;
+            if (response instanceof GenericResponse) {
+                final SQLException exception = ((GenericResponse) response).getException();
+                if (exception != null && !(exception instanceof SQLWarning) && batchException == null) {
+                    batchException = exception;
+                }
+            }
+        }
+    }
+
+    private final class PutSegmentDeferredAction implements DeferredAction {
+        @Override
+        public void processResponse(Response response) {
+            processPutSegmentResponse(response);
+        }
+
+        @Override
+        public WarningMessageCallback getWarningMessageCallback() {
+            return null;
+        }
+    }
+}
@@ -22,6 +22,8 @@ import org.firebirdsql.gds.ISCConstants;
 import org.firebirdsql.gds.ng.FbExceptionBuilder;
 import org.firebirdsql.gds.ng.StatementState;
 import org.firebirdsql.gds.ng.WarningMessageCallback;
+import org.firebirdsql.gds.ng.metrics.DriverMetricsProvider;
+import org.firebirdsql.gds.ng.metrics.OperationType;
 import org.firebirdsql.gds.ng.wire.DeferredAction;
 import org.firebirdsql.gds.ng.wire.FbWireDatabase;
 import org.firebirdsql.gds.ng.wire.Response;
@@ -54,6 +56,7 @@ public class V11Statement extends V10Statement {
     public void prepare(final String statementText) throws SQLException {
         try {
             synchronized (getSynchronizationObject()) {
+                final long start = DriverMetricsProvider.startTimer();
                 checkTransactionActive(getTransaction());
                 final StatementState currentState = getState();
                 if (!isPrepareAllowed(currentState)) {
@@ -94,6 +97,7 @@ public class V11Statement extends V10Statement {
                     switchState(StatementState.ERROR);
                     throw new FbExceptionBuilder().exception(ISCConstants.isc_net_read_err).cause(ex).toSQLException();
                 }
+                DriverMetricsProvider.operationCompleted(OperationType.STATEMENT_PREPARE, start);
             }
         } catch (SQLException e) {
             exceptionListenerDispatcher.errorOccurred(e);
@@ -36,6 +36,7 @@ import org.firebirdsql.gds.ng.wire.crypt.EncryptionInitInfo;
 import org.firebirdsql.gds.ng.wire.crypt.EncryptionPlugin;
 import org.firebirdsql.gds.ng.wire.crypt.EncryptionPluginSpi;
 import org.firebirdsql.gds.ng.wire.crypt.arc4.Arc4EncryptionPluginSpi;
+import org.firebirdsql.gds.ng.wire.crypt.chacha.ChaChaEncryptionPluginSpi;
 import org.firebirdsql.gds.ng.wire.version11.V11WireOperations;
 import org.firebirdsql.logging.Logger;
 import org.firebirdsql.logging.LoggerFactory;
@@ -43,6 +44,7 @@ import org.firebirdsql.util.SQLExceptionChainBuilder;
 
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -56,6 +58,8 @@ import static org.firebirdsql.gds.impl.wire.WireProtocolConstants.*;
 public class V13WireOperations extends V11WireOperations {
 
     private static final Logger log = LoggerFactory.getLogger(V13WireOperations.class);
+    private static final Map<EncryptionIdentifier, EncryptionPluginSpi> SUPPORTED_ENCRYPTION_PLUGINS =
+            createSupportedEncryptionPlugins();
 
     public V13WireOperations(WireConnection<?, ?> connection,
             WarningMessageCallback defaultWarningMessageCallback, Object syncObject) {
@@ -171,14 +175,9 @@ public class V13WireOperations extends V11WireOperations {
         boolean initializedEncryption = false;
         SQLExceptionChainBuilder<SQLException> chainBuilder = new SQLExceptionChainBuilder<>();
 
-        // TODO Define separately and make configurable
-        Map<EncryptionIdentifier, EncryptionPluginSpi> supportedEncryptionPlugins = new HashMap<>();
-        EncryptionPluginSpi encryptionPluginSpi = new Arc4EncryptionPluginSpi();
-        supportedEncryptionPlugins.put(encryptionPluginSpi.getEncryptionIdentifier(), encryptionPluginSpi);
-
         for (EncryptionIdentifier encryptionIdentifier : getEncryptionIdentifiers()) {
             EncryptionPluginSpi currentEncryptionSpi =
-                    supportedEncryptionPlugins.get(encryptionIdentifier);
+                    SUPPORTED_ENCRYPTION_PLUGINS.get(encryptionIdentifier);
             if (currentEncryptionSpi == null) {
                 continue;
             }
@@ -221,6 +220,22 @@ public class V13WireOperations extends V11WireOperations {
         }
     }
 
+    // TODO Make configurable
+    private static Map<EncryptionIdentifier, EncryptionPluginSpi> createSupportedEncryptionPlugins() {
+        Map<EncryptionIdentifier, EncryptionPluginSpi> supportedEncryptionPlugins = new HashMap<>();
+        // ChaCha20 requires Java 11 or higher; the order of plugins is determined by the server
+        if (ChaChaEncryptionPluginSpi.isAvailable()) {
+            registerEncryptionPlugin(supportedEncryptionPlugins, new ChaChaEncryptionPluginSpi());
+        }
+        registerEncryptionPlugin(supportedEncryptionPlugins, new Arc4EncryptionPluginSpi());
+        return Collections.unmodifiableMap(supportedEncryptionPlugins);
+    }
+
+    private static void registerEncryptionPlugin(Map<EncryptionIdentifier, EncryptionPluginSpi> encryptionPlugins,
+            EncryptionPluginSpi encryptionPluginSpi) {
+        encryptionPlugins.put(encryptionPluginSpi.getEncryptionIdentifier(), encryptionPluginSpi);
+    }
+
     protected void enableEncryption(EncryptionInitInfo encryptionInitInfo) throws SQLException, IOException {
         final XdrInputStream xdrIn = getXdrIn();
         final XdrOutputStream xdrOut = getXdrOut();
@@ -30,6 +30,9 @@ import org.firebirdsql.gds.ng.listeners.DefaultDatabaseListener;
 import org.firebirdsql.gds.ng.listeners.DefaultStatementListener;
 import org.firebirdsql.gds.ng.listeners.ExceptionListener;
 import org.firebirdsql.jdbc.FBConnection;
+import org.firebirdsql.jdbc.MetadataCache;
+import org.firebirdsql.jdbc.ParsedStatementCache;
+import org.firebirdsql.jdbc.StatementStatistics;
 import org.firebirdsql.jdbc.SQLStateConstants;
 import org.firebirdsql.jdbc.Synchronizable;
 import org.firebirdsql.jdbc.field.FBField;
@@ -1405,6 +1408,33 @@ public class FBManagedConnection implements ManagedConnection, XAResource, Excep
     public ManagedConnectionFactory getManagedConnectionFactory() {
         return mcf;
     }
+
+    /**
+     * Get the cache of parsed statement text shared with other connections of the same managed connection factory.
+     *
+     * @return Parsed statement cache
+     */
+    public ParsedStatementCache getParsedStatementCache() {
+        return mcf.getParsedStatementCache();
+    }
+
+    /**
+     * Get the cache of database metadata shared with other connections of the same managed connection factory.
+     *
+     * @return Metadata cache
+     */
+    public MetadataCache getMetadataCache() {
+        return mcf.getMetadataCache();
+    }
+
+    /**
+     * Get the statement statistics collector shared with other connections of the same managed connection factory.
+     *
+     * @return Statement statistics
+     */
+    public StatementStatistics getStatementStatistics() {
+        return mcf.getStatementStatistics();
+    }
     
     /**
      * Set whether this connection is to be readonly
@@ -34,6 +34,9 @@ import org.firebirdsql.jdbc.FBConnection;
 import org.firebirdsql.jdbc.FBConnectionProperties;
 import org.firebirdsql.jdbc.FBDataSource;
 import org.firebirdsql.jdbc.FirebirdConnectionProperties;
+import org.firebirdsql.jdbc.MetadataCache;
+import org.firebirdsql.jdbc.ParsedStatementCache;
+import org.firebirdsql.jdbc.StatementStatistics;
 
 import javax.resource.NotSupportedException;
 import javax.resource.ResourceException;
@@ -94,6 +97,15 @@ public class FBManagedConnectionFactory implements ManagedConnectionFactory, Fir
     // Maps supplied XID to internal transaction handle.
     private transient final Map<Xid, FBManagedConnection> xidMap = new ConcurrentHashMap<>();
 
+    // Parse results of statement text shared by connections of this factory
+    private transient final ParsedStatementCache parsedStatementCache = new ParsedStatementCache();
+
+    // Database metadata shared by connections of this factory
+    private transient final MetadataCache metadataCache = new MetadataCache();
+
+    // Opt-in execution statistics of statements executed by connections of this factory
+    private transient final StatementStatistics statementStatistics = new StatementStatistics();
+
     private transient final Object startLock = new Object();
     private transient boolean started = false;
 
@@ -126,6 +138,33 @@ public class FBManagedConnectionFactory implements ManagedConnectionFactory, Fir
         return GDSFactory.getDatabaseFactoryForType(getGDSType());
     }
 
+    /**
+     * Get the cache of parsed statement text shared by the connections created by this factory.
+     *
+     * @return Parsed statement cache
+     */
+    public ParsedStatementCache getParsedStatementCache() {
+        return parsedStatementCache;
+    }
+
+    /**
+     * Get the cache of database metadata shared by the connections created by this factory.
+     *
+     * @return Metadata cache
+     */
+    public MetadataCache getMetadataCache() {
+        return metadataCache;
+    }
+
+    /**
+     * Get the statement statistics collector shared by the connections created by this factory.
+     *
+     * @return Statement statistics (disabled by default)
+     */
+    public StatementStatistics getStatementStatistics() {
+        return statementStatistics;
+    }
+
     /**
      * Get the GDS implementation type around which this factory is based.
      * 
@@ -444,7 +483,8 @@ public class FBManagedConnectionFactory implements ManagedConnectionFactory, Fir
     
     public FBConnectionRequestInfo getDefaultConnectionRequestInfo() throws ResourceException {
         try {
-            return new FBConnectionRequestInfo(getDatabaseParameterBuffer().deepCopy());
+            // getDatabaseParameterBuffer() returns a copy
+            return new FBConnectionRequestInfo(getDatabaseParameterBuffer());
         } catch(SQLException ex) {
             throw new FBResourceException(ex);
         }
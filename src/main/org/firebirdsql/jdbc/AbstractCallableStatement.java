@@ -29,6 +29,7 @@ import java.util.*;
 import org.firebirdsql.gds.DatabaseParameterBuffer;
 import org.firebirdsql.gds.impl.DatabaseParameterBufferExtension;
 import org.firebirdsql.gds.impl.GDSHelper;
+import org.firebirdsql.gds.ng.SyncObject;
 import org.firebirdsql.jdbc.escape.FBEscapedCallParser;
 import org.firebirdsql.jdbc.escape.FBEscapedParser.EscapeParserMode;
 import org.firebirdsql.jdbc.field.FBField;
@@ -91,21 +92,21 @@ public abstract class AbstractCallableStatement extends FBPreparedStatement impl
     throws SQLException {
         super(c, rsType, rsConcurrency, rsHoldability, statementListener, blobListener);
 
-        DatabaseParameterBuffer dpb = c.getDatabaseParameterBuffer();
-
-        EscapeParserMode mode = EscapeParserMode.USE_BUILT_IN;
+        if (connection != null) {
+            // Escape processing and call parsing are done once per statement text, statements get a copy
+            connection.checkValidity();
+            procedureCall = connection.getParsedStatementCache().getProcedureCall(sql, connection.getEscapedParser());
+        } else {
+            DatabaseParameterBuffer dpb = c.getDatabaseParameterBuffer();
 
-        if (dpb.hasArgument(DatabaseParameterBufferExtension.USE_STANDARD_UDF))
-            mode = EscapeParserMode.USE_STANDARD_UDF;
+            EscapeParserMode mode = EscapeParserMode.USE_BUILT_IN;
 
-        FBEscapedCallParser parser = new FBEscapedCallParser(mode);
+            if (dpb.hasArgument(DatabaseParameterBufferExtension.USE_STANDARD_UDF))
+                mode = EscapeParserMode.USE_STANDARD_UDF;
 
-        // here statement is parsed twice, once in c.nativeSQL(...)
-        // and second time in parser.parseCall(...)... not nice, maybe
-        // in the future should be fixed by calling FBEscapedParser for
-        // each parameter in FBEscapedCallParser class
-        // TODO Might be unnecessary now FBEscapedParser processes nested escapes
-        procedureCall = parser.parseCall(nativeSQL(sql));
+            FBEscapedCallParser parser = new FBEscapedCallParser(mode);
+            procedureCall = parser.parseCall(nativeSQL(sql));
+        }
 
         if (storedProcMetaData.canGetSelectableInformation()) {
             setSelectabilityAutomatically(storedProcMetaData);
@@ -130,7 +131,9 @@ public abstract class AbstractCallableStatement extends FBPreparedStatement impl
     @Override
     protected List<Long> executeBatchInternal() throws SQLException {
         checkValidity();
+        final long lockRequested = SyncObject.lockRequested(getSynchronizationObject());
         synchronized (getSynchronizationObject()) {
+            SyncObject.lockAcquired(getSynchronizationObject(), lockRequested);
             boolean success = false;
             try {
                 notifyStatementStarted();
@@ -242,7 +245,9 @@ public abstract class AbstractCallableStatement extends FBPreparedStatement impl
     public boolean execute() throws SQLException {
         procedureCall.checkParameters();
         boolean hasResultSet = false;
+        final long lockRequested = SyncObject.lockRequested(getSynchronizationObject());
         synchronized (getSynchronizationObject()) {
+            SyncObject.lockAcquired(getSynchronizationObject(), lockRequested);
             notifyStatementStarted();
 
             try {
@@ -267,7 +272,9 @@ public abstract class AbstractCallableStatement extends FBPreparedStatement impl
      */
     public ResultSet executeQuery() throws SQLException {
         procedureCall.checkParameters();
+        final long lockRequested = SyncObject.lockRequested(getSynchronizationObject());
         synchronized (getSynchronizationObject()) {
+            SyncObject.lockAcquired(getSynchronizationObject(), lockRequested);
             notifyStatementStarted();
             prepareFixedStatement(procedureCall.getSQL(isSelectableProcedure()));
 
@@ -287,7 +294,9 @@ public abstract class AbstractCallableStatement extends FBPreparedStatement impl
      */
     public int executeUpdate() throws SQLException {
         procedureCall.checkParameters();
+        final long lockRequested = SyncObject.lockRequested(getSynchronizationObject());
         synchronized (getSynchronizationObject()) {
+            SyncObject.lockAcquired(getSynchronizationObject(), lockRequested);
             try {
                 notifyStatementStarted();
                 prepareFixedStatement(procedureCall.getSQL(isSelectableProcedure()));
@@ -347,7 +356,7 @@ public abstract class AbstractCallableStatement extends FBPreparedStatement impl
         final boolean hasResultSet = super.internalExecute(sendOutParams);
         if (hasResultSet && isSingletonResult) {
             // Safeguarding first row so it will work even if the result set from getResultSet is manipulated
-            singletonRs = new FBResultSet(fbStatement.getFieldDescriptor(), connection,
+            singletonRs = new FBResultSet(fbStatement.getFullFieldDescriptor(), connection,
                     new ArrayList<>(specialResult), true);
         }
         return hasResultSet;
@@ -29,6 +29,7 @@ import java.util.List;
 import org.firebirdsql.jdbc.parser.JaybirdStatementModel;
 import org.firebirdsql.jdbc.parser.StatementParser;
 import org.firebirdsql.jdbc.parser.StatementParser.ParseException;
+import org.firebirdsql.jdbc.parser.StatementParserImpl;
 import org.firebirdsql.logging.Logger;
 import org.firebirdsql.logging.LoggerFactory;
 
@@ -51,23 +52,7 @@ public abstract class AbstractGeneratedKeysQuery {
     private static final int IDX_COLUMN_NAME = 4;
     private static final int IDX_ORDINAL_POSITION = 17;
 
-    private static final String GENERATED_KEYS_FUNCTIONALITY_NOT_AVAILABLE =
-            "Generated keys functionality not available, most likely cause: antlr-runtime not available on classpath";
-
-    private static final StatementParser parser;
-    static {
-    	// Attempt to load statement parser
-        StatementParser temp = null;
-        try {
-            temp = (StatementParser)Class.forName("org.firebirdsql.jdbc.parser.StatementParserImpl").newInstance();
-        } catch (Throwable ex) {
-            // Unable to load class of parser implementation, antlr4-runtime not in path
-            Logger log = LoggerFactory.getLogger(AbstractGeneratedKeysQuery.class);
-            log.error("Unable to load generated key parser. " + GENERATED_KEYS_FUNCTIONALITY_NOT_AVAILABLE , ex);
-        } finally {
-            parser = temp;
-        }
-    }
+    private static final StatementParser parser = new StatementParserImpl();
 
     private final String originalSQL;
     private String modifiedSQL;
@@ -101,16 +86,13 @@ public abstract class AbstractGeneratedKeysQuery {
      *            {@link java.sql.Statement#RETURN_GENERATED_KEYS}
      * @throws SQLException
      *             If the supplied autoGeneratedKeys value does not match valid
-     *             values or if the parser cannot be loaded when autoGeneratedKeys = RETURN_GENERATED_KEYS.
+     *             values
      */
     public AbstractGeneratedKeysQuery(String sql, int autoGeneratedKeys) throws SQLException {
         this(sql);
         
         switch (autoGeneratedKeys) {
         case Statement.RETURN_GENERATED_KEYS:
-            if (!isGeneratedKeysSupportLoaded()) {
-                throw new FBDriverNotCapableException(GENERATED_KEYS_FUNCTIONALITY_NOT_AVAILABLE);
-            }
             queryType = QUERY_TYPE_ADD_ALL_COLUMNS;
             break;
         case Statement.NO_GENERATED_KEYS:
@@ -144,13 +126,11 @@ public abstract class AbstractGeneratedKeysQuery {
      * @param columnIndexes
      *            Array of ORDINAL_POSITION values of the columns to return as
      *            generated key
-     * @throws SQLException If the parser cannot be loaded
+     * @throws SQLException For compatibility, not thrown
      */
     public AbstractGeneratedKeysQuery(String sql, int[] columnIndexes) throws SQLException {
         this(sql);
-        if (!isGeneratedKeysSupportLoaded()) {
-            throw new FBDriverNotCapableException(GENERATED_KEYS_FUNCTIONALITY_NOT_AVAILABLE);
-        } else if (columnIndexes != null && columnIndexes.length != 0) {
+        if (columnIndexes != null && columnIndexes.length != 0) {
             this.columnIndexes = columnIndexes.clone();
             queryType = QUERY_TYPE_ADD_INDEXED;
         } else {
@@ -175,13 +155,11 @@ public abstract class AbstractGeneratedKeysQuery {
      *            SQL statement
      * @param columnNames
      *            Array of column names to return as generated key
-     * @throws SQLException If the parser cannot be loaded
+     * @throws SQLException For compatibility, not thrown
      */
     public AbstractGeneratedKeysQuery(String sql, String[] columnNames) throws SQLException {
         this(sql);
-        if (!isGeneratedKeysSupportLoaded()) {
-            throw new FBDriverNotCapableException(GENERATED_KEYS_FUNCTIONALITY_NOT_AVAILABLE);
-        } else if (columnNames != null && columnNames.length != 0) {
+        if (columnNames != null && columnNames.length != 0) {
             this.columnNames = columnNames.clone();
             queryType = QUERY_TYPE_ADD_COLUMNS;
         } else {
@@ -240,19 +218,8 @@ public abstract class AbstractGeneratedKeysQuery {
     /**
      * Parses the original SQL query and checks if it already has a RETURNING
      * clause
-     * @throws SQLException If query parsing is not available
      */
-    private void processStatementModel() throws SQLException {
-        if (!isGeneratedKeysSupportLoaded()) {
-            if (queryType == QUERY_TYPE_KEEP_UNMODIFIED) {
-                // JDBC specifies that NO_GENERATED_KEYS (signified here by QUERY_TYPE_KEEP_UNMODIFIED) 
-            	// should not result in failure if processing generated keys is not possible
-                return;
-            } else {
-                // This condition should already have been caught in constructors, but do it anyway:
-                throw new FBDriverNotCapableException(GENERATED_KEYS_FUNCTIONALITY_NOT_AVAILABLE);
-            }
-        }
+    private void processStatementModel() {
         try {
             statementModel = parseInsertStatement(originalSQL);
             if (statementModel.hasReturning()) {
@@ -405,6 +372,15 @@ public abstract class AbstractGeneratedKeysQuery {
      */
     abstract DatabaseMetaData getDatabaseMetaData() throws SQLException;
 
+    /**
+     * Returns the cache to use for the statement model of the parsed query.
+     *
+     * @return Parsed statement cache, or {@code null} to always parse the query
+     */
+    ParsedStatementCache getParsedStatementCache() {
+        return null;
+    }
+
     /**
      * Parse the INSERT statement and extract the corresponding model.
      * 
@@ -415,14 +391,18 @@ public abstract class AbstractGeneratedKeysQuery {
      * @throws ParseException if statement cannot be parsed.
      */
     private JaybirdStatementModel parseInsertStatement(String sql) throws ParseException {
+        final ParsedStatementCache parsedStatementCache = getParsedStatementCache();
+        if (parsedStatementCache != null) {
+            return parsedStatementCache.getStatementModel(sql, parser);
+        }
         return parser.parseInsertStatement(sql);
     }
 
     /**
      * Indicates if generated keys support has been loaded and available for use.
      * <p>
-     * This method returns {@code false} when the antlr-runtime is not on the classpath or the {@link StatementParser}
-     * implementation could not be loaded for other reasons.
+     * Since Jaybird 4 the statement parser no longer depends on antlr-runtime, and this method always returns
+     * {@code true}.
      * </p>
      *
      * @return {@code true} if generated keys can be used in the driver (assuming the Firebird version supports it)
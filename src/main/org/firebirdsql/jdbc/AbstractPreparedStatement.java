@@ -21,6 +21,7 @@ package org.firebirdsql.jdbc;
 import org.firebirdsql.gds.impl.GDSHelper;
 import org.firebirdsql.gds.ng.FbStatement;
 import org.firebirdsql.gds.ng.StatementType;
+import org.firebirdsql.gds.ng.SyncObject;
 import org.firebirdsql.gds.ng.fields.FieldDescriptor;
 import org.firebirdsql.gds.ng.fields.FieldValue;
 import org.firebirdsql.gds.ng.fields.RowDescriptor;
@@ -36,6 +37,7 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
 import java.net.URL;
+import java.nio.channels.ReadableByteChannel;
 import java.sql.*;
 import java.sql.Date;
 import java.util.*;
@@ -183,7 +185,9 @@ public abstract class AbstractPreparedStatement extends FBStatement implements F
      */
     @Override
     public ResultSet executeQuery() throws SQLException {
+        final long lockRequested = SyncObject.lockRequested(getSynchronizationObject());
         synchronized (getSynchronizationObject()) {
+            SyncObject.lockAcquired(getSynchronizationObject(), lockRequested);
             checkValidity();
             notifyStatementStarted();
 
@@ -205,7 +209,9 @@ public abstract class AbstractPreparedStatement extends FBStatement implements F
      *                if a database access error occurs
      */
     public int executeUpdate() throws SQLException {
+        final long lockRequested = SyncObject.lockRequested(getSynchronizationObject());
         synchronized (getSynchronizationObject()) {
+            SyncObject.lockAcquired(getSynchronizationObject(), lockRequested);
             checkValidity();
             notifyStatementStarted();
             try {
@@ -724,7 +730,9 @@ public abstract class AbstractPreparedStatement extends FBStatement implements F
      * @see Statement#execute
      */
     public boolean execute() throws SQLException {
+        final long lockRequested = SyncObject.lockRequested(getSynchronizationObject());
         synchronized (getSynchronizationObject()) {
+            SyncObject.lockAcquired(getSynchronizationObject(), lockRequested);
             checkValidity();
             notifyStatementStarted();
             
@@ -786,7 +794,7 @@ public abstract class AbstractPreparedStatement extends FBStatement implements F
             flushFields();
 
             try {
-                fbStatement.execute(fieldValues);
+                executeWithTimeout(fieldValues);
                 return currentStatementResult == StatementResult.RESULT_SET;
             } catch (SQLException e) {
                 currentStatementResult = StatementResult.NO_MORE_RESULTS;
@@ -867,7 +875,9 @@ public abstract class AbstractPreparedStatement extends FBStatement implements F
 
     @Override
     protected List<Long> executeBatchInternal() throws SQLException {
+        final long lockRequested = SyncObject.lockRequested(getSynchronizationObject());
         synchronized (getSynchronizationObject()) {
+            SyncObject.lockAcquired(getSynchronizationObject(), lockRequested);
             checkValidity();
             final BatchStatementListener batchStatementListener;
             boolean commit = false;
@@ -1014,6 +1024,13 @@ public abstract class AbstractPreparedStatement extends FBStatement implements F
         setBlob(parameterIndex, blob);
     }
 
+    @Override
+    public void setBlob(int parameterIndex, ReadableByteChannel channel, long length) throws SQLException {
+        FBBlob blob = new FBBlob(gdsHelper, blobListener);
+        blob.copyChannel(channel, length);
+        setBlob(parameterIndex, blob);
+    }
+
     /**
      * Sets the designated parameter to the given <code>Clob</code> object.
      * 
@@ -1098,7 +1115,7 @@ public abstract class AbstractPreparedStatement extends FBStatement implements F
      */
     public ResultSetMetaData getMetaData() throws SQLException {
         checkValidity();
-        return new FBResultSetMetaData(fbStatement.getFieldDescriptor(), connection);
+        return new FBResultSetMetaData(fbStatement.getFullFieldDescriptor(), connection);
     }
 
     /**
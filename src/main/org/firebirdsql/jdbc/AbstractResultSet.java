@@ -29,6 +29,7 @@ import org.firebirdsql.gds.JaybirdErrorCodes;
 import org.firebirdsql.gds.impl.GDSHelper;
 import org.firebirdsql.gds.ng.FbExceptionBuilder;
 import org.firebirdsql.gds.ng.FbStatement;
+import org.firebirdsql.gds.ng.fields.FieldDescriptor;
 import org.firebirdsql.gds.ng.fields.RowDescriptor;
 import org.firebirdsql.gds.ng.fields.RowValue;
 import org.firebirdsql.jdbc.field.*;
@@ -53,6 +54,8 @@ public abstract class AbstractResultSet implements ResultSet, FirebirdResultSet,
     protected final GDSHelper gdsHelper;
 
     protected final RowDescriptor rowDescriptor;
+    private final FbStatement statementHandle;
+    private RowDescriptor fullRowDescriptor;
 
     protected RowValue row;
 
@@ -112,6 +115,7 @@ public abstract class AbstractResultSet implements ResultSet, FirebirdResultSet,
         this.listener = listener != null ? listener : FBObjectListener.NoActionResultSetListener.instance();
         trimStrings = metaDataQuery;
         rowDescriptor = stmt.getFieldDescriptor();
+        statementHandle = stmt;
         fields = new FBField[rowDescriptor.getCount()];
         colNames = new HashMap<>(rowDescriptor.getCount(), 1);
         this.fbStatement = fbStatement;
@@ -132,16 +136,16 @@ public abstract class AbstractResultSet implements ResultSet, FirebirdResultSet,
                     rsType == ResultSet.TYPE_FORWARD_ONLY);
         } else if (fbStatement.isUpdatableCursor()) {
             fbFetcher = new FBUpdatableCursorFetcher(gdsHelper, fbStatement, stmt, this, fbStatement.getMaxRows(),
-                    fbStatement.getFetchSize());
+                    fbStatement.getFetchSize(), fbStatement.createAdaptiveFetchSize(rowDescriptor));
         } else {
             assert rsType == ResultSet.TYPE_FORWARD_ONLY : "Expected TYPE_FORWARD_ONLY";
             fbFetcher = new FBStatementFetcher(gdsHelper, fbStatement, stmt, this, fbStatement.getMaxRows(),
-                    fbStatement.getFetchSize());
+                    fbStatement.getFetchSize(), fbStatement.createAdaptiveFetchSize(rowDescriptor));
         }
 
         if (rsConcurrency == ResultSet.CONCUR_UPDATABLE) {
             try {
-                rowUpdater = new FBRowUpdater(connection, rowDescriptor, this, cached, listener);
+                rowUpdater = new FBRowUpdater(connection, getFullRowDescriptor(), this, cached, listener);
             } catch (FBResultSetNotUpdatableException ex) {
                 fbStatement.addWarning(FbExceptionBuilder
                         .forWarning(JaybirdErrorCodes.jb_concurrencyResetReadOnlyReasonNotUpdatable)
@@ -178,6 +182,7 @@ public abstract class AbstractResultSet implements ResultSet, FirebirdResultSet,
         fbFetcher = new FBCachedFetcher(rows, this, rowDescriptor, null, false);
         trimStrings = false;
         this.rowDescriptor = rowDescriptor;
+        statementHandle = null;
         fields = new FBField[rowDescriptor.getCount()];
         colNames = new HashMap<>(rowDescriptor.getCount(), 1);
         prepareVars(true);
@@ -229,6 +234,7 @@ public abstract class AbstractResultSet implements ResultSet, FirebirdResultSet,
         fbFetcher = new FBCachedFetcher(rows, this, rowDescriptor, gdsHelper, retrieveBlobs);
         trimStrings = true;
         this.rowDescriptor = rowDescriptor;
+        statementHandle = null;
         fields = new FBField[rowDescriptor.getCount()];
         colNames = new HashMap<>(rowDescriptor.getCount(), 1);
         prepareVars(true);
@@ -237,6 +243,23 @@ public abstract class AbstractResultSet implements ResultSet, FirebirdResultSet,
         rsHoldability = ResultSet.CLOSE_CURSORS_AT_COMMIT;
     }
 
+    /**
+     * Gets the row descriptor with the names and relation information of the columns.
+     * <p>
+     * If the statement was prepared with a minimal describe, this information is requested on first use.
+     * </p>
+     *
+     * @return Row descriptor with names and relation information
+     * @throws SQLException
+     *         For errors retrieving the column information
+     */
+    private RowDescriptor getFullRowDescriptor() throws SQLException {
+        if (fullRowDescriptor == null) {
+            fullRowDescriptor = statementHandle != null ? statementHandle.getFullFieldDescriptor() : rowDescriptor;
+        }
+        return fullRowDescriptor;
+    }
+
     private void prepareVars(boolean cached) throws SQLException {
         for (int i = 0; i < rowDescriptor.getCount(); i++) {
             final int fieldPosition = i;
@@ -252,8 +275,23 @@ public abstract class AbstractResultSet implements ResultSet, FirebirdResultSet,
                 }
             };
 
-            fields[i] = FBField.createField(rowDescriptor.getFieldDescriptor(i), dataProvider, gdsHelper, cached);
+            fields[i] = FBField.createField(getFieldDescriptorForField(i), dataProvider, gdsHelper, cached);
+        }
+    }
+
+    /**
+     * Gets the field descriptor to create the field of a column.
+     * <p>
+     * The field type of a {@code RDB$DB_KEY} column depends on its name, which a minimal describe does not provide.
+     * For columns with the type of a {@code RDB$DB_KEY}, the full row descriptor is used in that case.
+     * </p>
+     */
+    private FieldDescriptor getFieldDescriptorForField(int index) throws SQLException {
+        final FieldDescriptor fieldDescriptor = rowDescriptor.getFieldDescriptor(index);
+        if (fieldDescriptor.getOriginalName() == null && fieldDescriptor.isDbKeyType()) {
+            return getFullRowDescriptor().getFieldDescriptor(index);
         }
+        return fieldDescriptor;
     }
 
     /**
@@ -621,6 +659,11 @@ public abstract class AbstractResultSet implements ResultSet, FirebirdResultSet,
         return getField(columnIndex).getLong();
     }
 
+    @Override
+    public long getScaledLong(int columnIndex) throws SQLException {
+        return getField(columnIndex).getScaledLong();
+    }
+
     /**
      * Retrieve the value of the designated column in the current row of
      * this ResultSet as an <code>Object</code>.
@@ -905,6 +948,11 @@ public abstract class AbstractResultSet implements ResultSet, FirebirdResultSet,
         return getField(columnName).getLong();
     }
 
+    @Override
+    public long getScaledLong(String columnLabel) throws SQLException {
+        return getField(columnLabel).getScaledLong();
+    }
+
     /**
      * Retrieves the value of the designated column in the current row of this
      * <code>ResultSet</code> object as a <code>float</code> value.
@@ -1110,7 +1158,7 @@ public abstract class AbstractResultSet implements ResultSet, FirebirdResultSet,
 
     public ResultSetMetaData getMetaData() throws SQLException {
         checkOpen();
-        return new FBResultSetMetaData(rowDescriptor, connection);
+        return new FBResultSetMetaData(getFullRowDescriptor(), connection);
     }
 
     /**
@@ -1160,28 +1208,29 @@ public abstract class AbstractResultSet implements ResultSet, FirebirdResultSet,
         if (columnName == null || columnName.equals("")) {
             throw new SQLException("Empty string does not identify column.", SQLStateConstants.SQL_STATE_INVALID_COLUMN);
         }
+        final RowDescriptor fullRowDescriptor = getFullRowDescriptor();
         if (columnName.startsWith("\"") && columnName.endsWith("\"")) {
             columnName = columnName.substring(1, columnName.length() - 1);
             // case-sensitively check column aliases 
-            for (int i = 0; i < rowDescriptor.getCount(); i++) {
-                if (columnName.equals(rowDescriptor.getFieldDescriptor(i).getFieldName())) {
+            for (int i = 0; i < fullRowDescriptor.getCount(); i++) {
+                if (columnName.equals(fullRowDescriptor.getFieldDescriptor(i).getFieldName())) {
                     return ++i;
                 }
             }
             // case-sensitively check column names
-            for (int i = 0; i < rowDescriptor.getCount(); i++) {
-                if (columnName.equals(rowDescriptor.getFieldDescriptor(i).getOriginalName())) {
+            for (int i = 0; i < fullRowDescriptor.getCount(); i++) {
+                if (columnName.equals(fullRowDescriptor.getFieldDescriptor(i).getOriginalName())) {
                     return ++i;
                 }
             }
         } else {
-            for (int i = 0; i < rowDescriptor.getCount(); i++) {
-                if (columnName.equalsIgnoreCase(rowDescriptor.getFieldDescriptor(i).getFieldName())) {
+            for (int i = 0; i < fullRowDescriptor.getCount(); i++) {
+                if (columnName.equalsIgnoreCase(fullRowDescriptor.getFieldDescriptor(i).getFieldName())) {
                     return ++i;
                 }
             }
-            for (int i = 0; i < rowDescriptor.getCount(); i++) {
-                if (columnName.equalsIgnoreCase(rowDescriptor.getFieldDescriptor(i).getOriginalName())) {
+            for (int i = 0; i < fullRowDescriptor.getCount(); i++) {
+                if (columnName.equalsIgnoreCase(fullRowDescriptor.getFieldDescriptor(i).getOriginalName())) {
                     return ++i;
                 }
             }
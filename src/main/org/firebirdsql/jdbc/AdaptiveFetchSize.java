@@ -0,0 +1,194 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.jdbc;
+
+import org.firebirdsql.gds.ng.fields.FieldDescriptor;
+import org.firebirdsql.gds.ng.fields.RowDescriptor;
+
+import static org.firebirdsql.gds.ISCConstants.*;
+
+/**
+ * Fetch size policy for result sets without an explicit fetch size, enabled with connection property
+ * {@code adaptiveFetchBufferSize}.
+ * <p>
+ * The maximum fetch size is the buffer size divided by the (estimated) maximum length of a row on the wire, so
+ * narrow rows are fetched in large batches, and rows with long (var)chars in small batches. Within that maximum,
+ * the fetch size is adjusted based on the time of a fetch compared to the time the application spends consuming the
+ * rows of the previous batch: if the fetch time is a significant part of the total, the fetch size is doubled, if it
+ * is negligible, the fetch size is halved to reduce memory use and the time until the next row is available.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ *
+ * @since 4.0
+ */
+final class AdaptiveFetchSize {
+
+    /**
+     * Maximum fetch size, the wire protocol transfers the fetch size as an unsigned short.
+     */
+    static final int MAXIMUM_FETCH_SIZE = 8192;
+    static final int MINIMUM_FETCH_SIZE = 10;
+    /**
+     * Fetch size is doubled if the consumer time is less than this factor times the fetch time.
+     */
+    private static final int GROW_THRESHOLD = 4;
+    /**
+     * Fetch size is halved if the consumer time is more than this factor times the fetch time.
+     */
+    private static final int SHRINK_THRESHOLD = 64;
+
+    private final int maximumFetchSize;
+    private final int minimumFetchSize;
+    private final StatementStatisticsListener statisticsListener;
+    private int fetchSize;
+    private long fetchStart;
+    private long fetchEnd;
+    private long previousFetchNanos = -1;
+
+    /**
+     * Creates an adaptive fetch size policy.
+     *
+     * @param rowDescriptor
+     *         Row descriptor of the result set
+     * @param bufferSize
+     *         Target size in bytes of the rows of a single fetch
+     * @param statisticsListener
+     *         Statistics listener to report the chosen fetch sizes, or {@code null}
+     */
+    AdaptiveFetchSize(RowDescriptor rowDescriptor, int bufferSize, StatementStatisticsListener statisticsListener) {
+        maximumFetchSize = maximumFetchSize(rowDescriptor, bufferSize);
+        minimumFetchSize = Math.min(MINIMUM_FETCH_SIZE, maximumFetchSize);
+        fetchSize = Math.min(FBFetcher.MAX_FETCH_ROWS, maximumFetchSize);
+        this.statisticsListener = statisticsListener;
+    }
+
+    /**
+     * Determines the fetch size of the first fetch, without creating a policy instance.
+     *
+     * @param rowDescriptor
+     *         Row descriptor of the result set
+     * @param bufferSize
+     *         Target size in bytes of the rows of a single fetch
+     * @return Initial fetch size
+     */
+    static int initialFetchSize(RowDescriptor rowDescriptor, int bufferSize) {
+        return Math.min(FBFetcher.MAX_FETCH_ROWS, maximumFetchSize(rowDescriptor, bufferSize));
+    }
+
+    private static int maximumFetchSize(RowDescriptor rowDescriptor, int bufferSize) {
+        return Math.max(1, Math.min(bufferSize / estimateRowLength(rowDescriptor), MAXIMUM_FETCH_SIZE));
+    }
+
+    /**
+     * @return Current fetch size, without adjusting it for the next fetch
+     */
+    int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Determines the fetch size for the next fetch, this must be followed by a call to {@link #fetchCompleted(long)}
+     * when the fetch completes.
+     *
+     * @param now
+     *         Current time (as {@link System#nanoTime()})
+     * @return Fetch size to use
+     */
+    int nextFetchSize(long now) {
+        if (previousFetchNanos >= 0) {
+            final long consumerNanos = now - fetchEnd;
+            if (consumerNanos < GROW_THRESHOLD * previousFetchNanos) {
+                fetchSize = Math.min(2 * fetchSize, maximumFetchSize);
+            } else if (consumerNanos > SHRINK_THRESHOLD * previousFetchNanos) {
+                fetchSize = Math.max(fetchSize / 2, minimumFetchSize);
+            }
+        }
+        fetchStart = now;
+        if (statisticsListener != null) {
+            statisticsListener.fetchSizeChosen(fetchSize);
+        }
+        return fetchSize;
+    }
+
+    /**
+     * Records the completion of a fetch.
+     *
+     * @param now
+     *         Current time (as {@link System#nanoTime()})
+     */
+    void fetchCompleted(long now) {
+        fetchEnd = now;
+        // At least 1 to have consistent comparisons with timers of low resolution
+        previousFetchNanos = Math.max(1, now - fetchStart);
+    }
+
+    int getMaximumFetchSize() {
+        return maximumFetchSize;
+    }
+
+    /**
+     * Estimates the maximum length of a row on the wire.
+     * <p>
+     * The estimate follows the io length of the types (see
+     * {@link org.firebirdsql.gds.ng.fields.BlrCalculator#calculateIoLength(FieldDescriptor)}), with values padded to
+     * a multiple of 4 bytes and a 4 byte null indicator per column.
+     * </p>
+     *
+     * @param rowDescriptor
+     *         Row descriptor
+     * @return Estimated maximum row length in bytes (at least {@code 1})
+     */
+    static int estimateRowLength(RowDescriptor rowDescriptor) {
+        long rowLength = 0;
+        for (FieldDescriptor fieldDescriptor : rowDescriptor) {
+            final int fieldLength;
+            switch (fieldDescriptor.getType() & ~1) {
+            case SQL_TEXT:
+                fieldLength = fieldDescriptor.getLength();
+                break;
+            case SQL_VARYING:
+                // Length prefix and data
+                fieldLength = 4 + fieldDescriptor.getLength();
+                break;
+            case SQL_NULL:
+                fieldLength = 0;
+                break;
+            case SQL_SHORT:
+            case SQL_LONG:
+            case SQL_FLOAT:
+            case SQL_TYPE_TIME:
+            case SQL_TYPE_DATE:
+            case SQL_BOOLEAN:
+                fieldLength = 4;
+                break;
+            case SQL_DEC34:
+            case SQL_DEC_FIXED:
+                fieldLength = 16;
+                break;
+            default:
+                fieldLength = 8;
+                break;
+            }
+            rowLength += ((fieldLength + 3) & ~3) + 4;
+        }
+        return (int) Math.max(1, Math.min(rowLength, Integer.MAX_VALUE));
+    }
+}
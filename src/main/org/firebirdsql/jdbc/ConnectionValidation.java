@@ -0,0 +1,91 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.jdbc;
+
+import org.firebirdsql.gds.ng.FbDatabase;
+
+import java.sql.SQLException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Validation of a connection with a timeout for {@link FBConnection#isValid(int)}.
+ * <p>
+ * The ping of a connection needs the connection lock, which cannot be acquired with a timeout. To bound the
+ * validation of a connection that is busy with another operation, the ping runs on a (daemon) thread of a shared
+ * pool, and the caller waits for its result at most for the timeout. A ping that has not completed in time continues
+ * on the pool thread until the operation in progress releases the connection lock, or until the connection is
+ * closed (see {@link org.firebirdsql.gds.ng.IConnectionProperties#isAbortOnValidationTimeout()}).
+ * </p>
+ *
+ * @since 4.0
+ */
+final class ConnectionValidation {
+
+    private ConnectionValidation() {
+        // no instances
+    }
+
+    /**
+     * Pings the database, waiting at most {@code timeoutMillis} for the result.
+     *
+     * @param database
+     *         Database to ping
+     * @param timeoutMillis
+     *         Timeout in milliseconds (must be larger than {@code 0})
+     * @return {@code true} if the ping completed successfully within the timeout
+     */
+    static boolean ping(final FbDatabase database, final int timeoutMillis) {
+        final Future<?> ping = ExecutorHolder.EXECUTOR.submit(new Callable<Void>() {
+            @Override
+            public Void call() throws SQLException {
+                database.ping(timeoutMillis);
+                return null;
+            }
+        });
+        try {
+            ping.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        }
+    }
+
+    private static final class ExecutorHolder {
+        private static final ExecutorService EXECUTOR = new ThreadPoolExecutor(0, Integer.MAX_VALUE,
+                60, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                final Thread thread = new Thread(runnable, "Jaybird connection validation");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+}
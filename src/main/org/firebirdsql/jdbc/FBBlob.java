@@ -26,6 +26,10 @@ import org.firebirdsql.gds.ng.FbBlob;
 import org.firebirdsql.util.SQLExceptionChainBuilder;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
 import java.sql.Blob;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
@@ -317,6 +321,37 @@ public class FBBlob implements FirebirdBlob, Synchronizable {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The segments are read into a single buffer of the maximum segment size, which is written to the channel
+     * after each read.
+     * </p>
+     */
+    public long transferTo(WritableByteChannel target) throws SQLException {
+        synchronized (getSynchronizationObject()) {
+            blobListener.executionStarted(this);
+            try (FbBlob blob = gdsHelper.openBlob(blob_id, SEGMENTED)) {
+                final byte[] segment = new byte[blob.getMaximumSegmentSize()];
+                final ByteBuffer buffer = ByteBuffer.wrap(segment);
+                long total = 0;
+                while (!blob.isEof()) {
+                    final int length = blob.getSegment(segment, 0, segment.length);
+                    buffer.clear().limit(length);
+                    while (buffer.hasRemaining()) {
+                        target.write(buffer);
+                    }
+                    total += length;
+                }
+                return total;
+            } catch (IOException ex) {
+                throw new FBSQLException(ex);
+            } finally {
+                blobListener.executionCompleted(this);
+            }
+        }
+    }
+
     public InputStream getBinaryStream() throws SQLException {
         synchronized (getSynchronizationObject()) {
             FBBlobInputStream blobstream = new FBBlobInputStream(this);
@@ -481,6 +516,60 @@ public class FBBlob implements FirebirdBlob, Synchronizable {
         }
     }
 
+    /**
+     * Copy the contents of a <code>ReadableByteChannel</code> into this Blob.
+     * <p>
+     * Calling with length {@code -1} will copy until the end of the channel is reached. The channel is not closed by
+     * this method. Selectable channels must be in blocking mode.
+     * </p>
+     *
+     * @param channel the channel from which data will be copied
+     * @param length The maximum number of bytes to read from the channel, {@code -1} to read the whole channel
+     * @throws SQLException if {@code length} is less than {@code -1}, if {@code channel} is in non-blocking mode, or
+     * if a database access error occurs
+     * @since 4.0
+     */
+    public void copyChannel(ReadableByteChannel channel, long length) throws SQLException {
+        if (length < -1L) {
+            throw new FBSQLException("Length should be -1 or higher, was: " + length,
+                    SQLStateConstants.SQL_STATE_INVALID_ARG_VALUE);
+        }
+        if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+            throw new FBSQLException("Channel should be in blocking mode",
+                    SQLStateConstants.SQL_STATE_INVALID_ARG_VALUE);
+        }
+        try (OutputStream os = setBinaryStream(1)) {
+            final byte[] data = new byte[length == -1L ? bufferLength : (int) Math.min(bufferLength, length)];
+            final ByteBuffer buffer = ByteBuffer.wrap(data);
+            boolean endOfChannel = false;
+            while (!endOfChannel && (length == -1L || length > 0)) {
+                buffer.clear();
+                if (length != -1L && length < buffer.capacity()) {
+                    buffer.limit((int) length);
+                }
+                // Fill the buffer, so the output stream can write it as a batch of full segments
+                while (buffer.hasRemaining()) {
+                    final int read = channel.read(buffer);
+                    if (read == -1) {
+                        endOfChannel = true;
+                        break;
+                    } else if (read == 0) {
+                        // No data available right now: write what we have instead of retrying immediately
+                        break;
+                    }
+                }
+                if (buffer.position() > 0) {
+                    os.write(data, 0, buffer.position());
+                    if (length != -1L) {
+                        length -= buffer.position();
+                    }
+                }
+            }
+        } catch (IOException ioe) {
+            throw new SQLException(ioe);
+        }
+    }
+
     /**
      * Copy data from a character stream into this Blob.
      * <p>
@@ -21,6 +21,7 @@
 package org.firebirdsql.jdbc;
 
 import org.firebirdsql.gds.ng.FbBlob;
+import org.firebirdsql.gds.ng.SyncObject;
 
 import java.io.EOFException;
 import java.io.IOException;
@@ -32,17 +33,20 @@ import java.sql.SQLException;
  */
 public final class FBBlobInputStream extends InputStream implements FirebirdBlob.BlobInputStream {
 
-    /**
-     * Maximum blob segment size, see IB 6 Data Definition Guide, page 78 ("BLOB segment length")
-     */
-    private static final int READ_FULLY_BUFFER_SIZE = 32 * 1024;
     private static final byte[] EMPTY_BUFFER = new byte[0];
 
+    /**
+     * Buffer for reads smaller than the buffer length of the blob; allocated on first use and reused for each segment.
+     */
     private byte[] buffer = EMPTY_BUFFER;
     private FbBlob blobHandle;
     private int pos = 0;
+    /**
+     * End of the valid data in {@link #buffer}.
+     */
+    private int limit = 0;
 
-    private boolean closed;
+    private volatile boolean closed;
 
     private final FBBlob owner;
 
@@ -93,42 +97,70 @@ public final class FBBlobInputStream extends InputStream implements FirebirdBlob
     }
 
     public int available() throws IOException {
-        assert buffer != null : "Buffer should never be null";
-        return buffer.length - pos;
+        synchronized (owner.getSynchronizationObject()) {
+            assert buffer != null : "Buffer should never be null";
+            return limit - pos;
+        }
     }
 
     /**
      * Checks the available buffer size, retrieving a segment from the server if necessary.
+     * <p>
+     * Must be called while holding the lock on the synchronization object of the blob.
+     * </p>
      *
      * @return The number of bytes available in the buffer, or <code>-1</code> if the end of the stream is reached.
      * @throws IOException if an I/O error occurs, or if the stream has been closed.
      */
     private int checkBuffer() throws IOException {
         assert buffer != null : "Buffer should never be null";
-        synchronized (owner.getSynchronizationObject()) {
-            checkClosed();
-            if (pos < buffer.length) {
-                return buffer.length - pos;
-            }
-            if (blobHandle.isEof()) {
-                return -1;
-            }
+        checkClosed();
+        if (pos < limit) {
+            return limit - pos;
+        }
+        final int bufferLength = owner.getBufferLength();
+        if (buffer.length < bufferLength) {
+            buffer = new byte[bufferLength];
+        }
+        final int length = readSegment(buffer, 0, bufferLength);
+        pos = 0;
+        limit = Math.max(length, 0);
+        return length;
+    }
 
-            try {
-                buffer = blobHandle.getSegment(owner.getBufferLength());
-                pos = 0;
-                return buffer.length != 0 ? buffer.length : -1;
-            } catch (SQLException ge) {
-                throw new IOException("Blob read problem: " + ge.toString(), ge);
-            }
+    /**
+     * Reads a segment from the server directly into the specified array.
+     * <p>
+     * Must be called while holding the lock on the synchronization object of the blob.
+     * </p>
+     *
+     * @return Number of bytes read, or <code>-1</code> if the end of the stream is reached.
+     * @throws IOException if an I/O error occurs, or if the stream has been closed.
+     */
+    private int readSegment(byte[] b, int off, int len) throws IOException {
+        checkClosed();
+        if (blobHandle.isEof()) {
+            return -1;
+        }
+
+        try {
+            final int length = blobHandle.getSegment(b, off, len);
+            return length != 0 ? length : -1;
+        } catch (SQLException ge) {
+            throw new IOException("Blob read problem: " + ge.toString(), ge);
         }
     }
 
     public int read() throws IOException {
-        if (checkBuffer() == -1) {
-            return -1;
+        final Object syncObject = owner.getSynchronizationObject();
+        final long lockRequested = SyncObject.lockRequested(syncObject);
+        synchronized (syncObject) {
+            SyncObject.lockAcquired(syncObject, lockRequested);
+            if (checkBuffer() == -1) {
+                return -1;
+            }
+            return buffer[pos++] & 0xFF;
         }
-        return buffer[pos++] & 0xFF;
     }
 
     public int read(byte[] b, int off, int len) throws IOException {
@@ -140,13 +172,23 @@ public final class FBBlobInputStream extends InputStream implements FirebirdBlob
             return 0;
         }
 
-        final int toCopy = Math.min(checkBuffer(), len);
-        if (toCopy == -1) {
-            return -1;
+        final Object syncObject = owner.getSynchronizationObject();
+        final long lockRequested = SyncObject.lockRequested(syncObject);
+        synchronized (syncObject) {
+            SyncObject.lockAcquired(syncObject, lockRequested);
+            if (pos >= limit && len >= owner.getBufferLength()) {
+                // Buffer is empty and the request is at least a full buffer: read directly into the destination
+                return readSegment(b, off, len);
+            }
+
+            final int toCopy = Math.min(checkBuffer(), len);
+            if (toCopy == -1) {
+                return -1;
+            }
+            System.arraycopy(buffer, pos, b, off, toCopy);
+            pos += toCopy;
+            return toCopy;
         }
-        System.arraycopy(buffer, pos, b, off, toCopy);
-        pos += toCopy;
-        return toCopy;
     }
 
     public void readFully(byte[] b, int off, int len) throws IOException {
@@ -160,12 +202,9 @@ public final class FBBlobInputStream extends InputStream implements FirebirdBlob
 
         int counter = 0;
         int pos = off;
-        byte[] buffer = new byte[Math.min(READ_FULLY_BUFFER_SIZE, len)];
-
         int toRead = len;
 
-        while (toRead > 0 && (counter = read(buffer, 0, Math.min(toRead, buffer.length))) != -1) {
-            System.arraycopy(buffer, 0, b, pos, counter);
+        while (toRead > 0 && (counter = read(b, pos, toRead)) != -1) {
             pos += counter;
             toRead -= counter;
         }
@@ -191,6 +230,7 @@ public final class FBBlobInputStream extends InputStream implements FirebirdBlob
                 closed = true;
                 buffer = EMPTY_BUFFER;
                 pos = 0;
+                limit = 0;
             }
         }
     }
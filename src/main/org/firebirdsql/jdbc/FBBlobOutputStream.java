@@ -89,20 +89,6 @@ public final class FBBlobOutputStream extends OutputStream implements FirebirdBl
         if (count == buf.length) flush();
     }
 
-    /**
-     * Writes a byte array directly to the blob.
-     *
-     * @param buf
-     *         Byte array to write
-     * @throws SQLException
-     *         For errors writing to the blob
-     */
-    private void writeSegment(byte[] buf) throws SQLException {
-        synchronized (owner.getSynchronizationObject()) {
-            blobHandle.putSegment(buf);
-        }
-    }
-
     /**
      * {@inheritDoc}
      * <p>
@@ -148,32 +134,9 @@ public final class FBBlobOutputStream extends OutputStream implements FirebirdBl
      */
     private void writeInternal(byte[] b, int off, int len) throws IOException {
         try {
-            if (off == 0 && len == b.length && len <= owner.getBufferLength()) {
-                /*
-                 * If we are just writing the entire byte array, we need to
-                 * do nothing but just write it over
-                 */
-                writeSegment(b);
-            } else {
-                /*
-                 * In this case, we need to chunk it over since <code>putBlobSegment</code>
-                 * cannot currently support length and offset.
-                 */
-                int chunk = Math.min(owner.getBufferLength(), len);
-                byte[] buffer = new byte[chunk];
-                while (len > 0) {
-                    chunk = Math.min(len, chunk);
-
-                    // this allows us to reuse the buffer if its size has not changed
-                    if (chunk != buffer.length) {
-                        buffer = new byte[chunk];
-                    }
-                    System.arraycopy(b, off, buffer, 0, chunk);
-                    writeSegment(buffer);
-
-                    len -= chunk;
-                    off += chunk;
-                }
+            // Splits into segments of the blob buffer length (and optionally batches them) without copying
+            synchronized (owner.getSynchronizationObject()) {
+                blobHandle.putSegments(b, off, len, owner.getBufferLength());
             }
         } catch (SQLException ge) {
             throw new IOException("Problem writing to FBBlobOutputStream: " + ge.getMessage(), ge);
@@ -23,6 +23,8 @@ import org.firebirdsql.gds.ng.SyncObject;
 import java.sql.SQLException;
 import java.sql.Blob;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 
 /**
  * This class represents a cached blob field.
@@ -102,6 +104,26 @@ public final class FBCachedBlob implements FirebirdBlob, Synchronizable {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * For an instance of <code>FBCachedBlob</code> the cached data is written directly to the channel. Nothing is
+     * written if the field is null.
+     * </p>
+     */
+    public long transferTo(WritableByteChannel target) throws SQLException {
+        if (blobData == null) return 0;
+        try {
+            final ByteBuffer buffer = ByteBuffer.wrap(blobData);
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+            return blobData.length;
+        } catch (IOException e) {
+            throw new FBSQLException(e);
+        }
+    }
+
     /**
      * Find the first entry of the specified pattern.
      *
@@ -26,6 +26,7 @@ import org.firebirdsql.gds.impl.DatabaseParameterBufferExtension;
 import org.firebirdsql.gds.impl.GDSHelper;
 import org.firebirdsql.gds.ng.FbDatabase;
 import org.firebirdsql.gds.ng.FbExceptionBuilder;
+import org.firebirdsql.gds.ng.LockStatistics;
 import org.firebirdsql.jca.FBConnectionRequestInfo;
 import org.firebirdsql.jca.FBLocalTransaction;
 import org.firebirdsql.jca.FBManagedConnection;
@@ -40,6 +41,7 @@ import javax.resource.ResourceException;
 import java.sql.*;
 import java.util.*;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.firebirdsql.gds.impl.DatabaseParameterBufferExtension.USE_FIREBIRD_AUTOCOMMIT;
@@ -80,7 +82,7 @@ public class FBConnection implements FirebirdConnection, Synchronizable {
     private int resultSetHoldability = ResultSet.CLOSE_CURSORS_AT_COMMIT;
 
     private StoredProcedureMetaData storedProcedureMetaData;
-    private FBEscapedParser escapedParser;
+    private volatile FBEscapedParser escapedParser;
 	 
     /**
      * Create a new AbstractConnection instance based on a
@@ -388,10 +390,42 @@ public class FBConnection implements FirebirdConnection, Synchronizable {
      * @exception SQLException if a database access error occurs
      */
     public String nativeSQL(String sql) throws SQLException {
-        synchronized (getSynchronizationObject()) {
-            checkValidity();
-            return getEscapedParser().parse(sql);
-        }
+        // Escape processing is connection-local and does not need the connection lock
+        checkValidity();
+        return getParsedStatementCache().getNativeSql(sql, getEscapedParser());
+    }
+
+    /**
+     * Returns the cache of parsed statement text shared with other connections of the same data source.
+     *
+     * @return Parsed statement cache
+     */
+    protected ParsedStatementCache getParsedStatementCache() {
+        return mc.getParsedStatementCache();
+    }
+
+    /**
+     * Returns the cache of database metadata shared with other connections of the same data source.
+     *
+     * @return Metadata cache (with caching disabled if not available)
+     */
+    protected MetadataCache getMetadataCache() {
+        return mc != null ? mc.getMetadataCache() : MetadataCache.DISABLED;
+    }
+
+    /**
+     * Returns the statement statistics collector shared with other connections of the same data source.
+     *
+     * @return Statement statistics, or {@code null} if not available
+     */
+    protected StatementStatistics getStatementStatistics() {
+        return mc != null ? mc.getStatementStatistics() : null;
+    }
+
+    @Override
+    public LockStatistics getLockStatistics() {
+        final Object syncObject = getSynchronizationObject();
+        return syncObject instanceof LockStatistics ? (LockStatistics) syncObject : null;
     }
     
     /**
@@ -595,28 +629,48 @@ public class FBConnection implements FirebirdConnection, Synchronizable {
     public boolean isClosed() {
         return mc == null;
     }
-    
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Validation performs a lightweight info request. For pure Java connections, the socket timeout is temporarily
+     * set to {@code timeout}; if the server does not respond in time, the physical connection is closed (as its
+     * state is unknown) and {@code false} is returned. Native connections ignore the timeout for the round trip.
+     * </p>
+     * <p>
+     * The timeout includes waiting for an operation in progress on the connection. If that operation does not
+     * complete in time, {@code false} is returned and the operation continues, unless connection property
+     * {@code abortOnValidationTimeout} is enabled, in which case the physical connection is closed (pure Java
+     * connections only).
+     * </p>
+     * <p>
+     * To validate multiple connections concurrently, see {@link FBConnectionValidator}.
+     * </p>
+     */
     public boolean isValid(int timeout) throws SQLException {
         if (timeout < 0) {
             throw new SQLException("Timeout should be >= 0", SQLStateConstants.SQL_STATE_INVALID_ARG_VALUE);
         }
-        synchronized (getSynchronizationObject()) {
-            if (isClosed()) {
-                return false;
-            }
-            // TODO Check if we can set the connection timeout temporarily for this call
-            if (timeout != 0) {
-                addWarning(new SQLWarning(
-                        String.format("Connection.isValid does not support non-zero timeouts, timeout value %d has been ignored",
-                                timeout)));
-            }
-            try {
-                getFbDatabase().getDatabaseInfo(
-                        new byte[] { ISCConstants.isc_info_ods_version, ISCConstants.isc_info_end }, 10);
-                return true;
-            } catch (SQLException ex) {
-                return false;
-            }
+        // Not synchronized: the ping acquires the connection lock itself, and with a timeout that wait is bounded
+        final FBManagedConnection mc = this.mc;
+        if (mc == null) {
+            return false;
+        }
+        final FbDatabase database;
+        try {
+            database = mc.getGDSHelper().getCurrentDatabase();
+        } catch (SQLException ex) {
+            return false;
+        }
+        if (timeout != 0) {
+            return ConnectionValidation.ping(database,
+                    (int) Math.min(TimeUnit.SECONDS.toMillis(timeout), Integer.MAX_VALUE));
+        }
+        try {
+            database.ping(0);
+            return true;
+        } catch (SQLException ex) {
+            return false;
         }
     }
 
@@ -1665,6 +1719,11 @@ public class FBConnection implements FirebirdConnection, Synchronizable {
         DatabaseMetaData getDatabaseMetaData() throws SQLException {
             return getMetaData();
         }
+
+        @Override
+        ParsedStatementCache getParsedStatementCache() {
+            return FBConnection.this.getParsedStatementCache();
+        }
     }
 	 
 }
@@ -68,6 +68,10 @@ public class FBConnectionProperties implements FirebirdConnectionProperties, Ser
     private int defaultTransactionIsolation = Connection.TRANSACTION_READ_COMMITTED;
     private Map<Integer, TransactionParameterBuffer> customMapping = new HashMap<>();
     private FBTpbMapper mapper;
+    /**
+     * Database parameter buffer derived from {@link #properties}, discarded when a property is changed.
+     */
+    private transient volatile DatabaseParameterBuffer cachedDpb;
 
     private int getIntProperty(String name) {
         Integer value = (Integer) properties.get(getCanonicalName(name));
@@ -90,6 +94,7 @@ public class FBConnectionProperties implements FirebirdConnectionProperties, Ser
 
     private void setIntProperty(String name, int value) {
         properties.put(getCanonicalName(name), value);
+        cachedDpb = null;
     }
 
     private void setStringProperty(String name, String value) {
@@ -103,6 +108,7 @@ public class FBConnectionProperties implements FirebirdConnectionProperties, Ser
         Object objValue = ParameterBufferHelper.parseDpbString(name, value);
 
         properties.put(name, objValue);
+        cachedDpb = null;
     }
 
     private void setBooleanProperty(String name, boolean value) {
@@ -111,6 +117,7 @@ public class FBConnectionProperties implements FirebirdConnectionProperties, Ser
         } else {
             properties.remove(name);
         }
+        cachedDpb = null;
     }
 
     public int hashCode() {
@@ -389,10 +396,25 @@ public class FBConnectionProperties implements FirebirdConnectionProperties, Ser
     }
 
     /**
+     * {@inheritDoc}
+     * <p>
+     * The database parameter buffer is created once (and recreated after a property change), this method returns a
+     * copy that can be modified by the caller. The copy shares the serialized form of the parameters with the cached
+     * database parameter buffer.
+     * </p>
+     *
      * @deprecated TODO Usage of this method should be removed or revised as current use of default encoding is not correct.
      */
     @Deprecated
     public DatabaseParameterBuffer getDatabaseParameterBuffer() throws SQLException {
+        DatabaseParameterBuffer dpb = cachedDpb;
+        if (dpb == null) {
+            cachedDpb = dpb = createDatabaseParameterBuffer();
+        }
+        return dpb.deepCopy();
+    }
+
+    private DatabaseParameterBuffer createDatabaseParameterBuffer() {
         // TODO Instance creation should be done through FbDatabase or database factory?
         DatabaseParameterBuffer dpb = new DatabaseParameterBufferImp(
                 DatabaseParameterBufferImp.DpbMetaData.DPB_VERSION_1,
@@ -0,0 +1,109 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Validates multiple connections concurrently, for example for a health check of the idle connections of a
+ * connection pool.
+ * <p>
+ * Each connection is validated with {@link Connection#isValid(int)} in a task submitted to an executor provided by
+ * the caller, and all validations share a single deadline. The total time of validating many connections is
+ * therefore bounded by the timeout, instead of by the sum of the round trips (or timeouts) of the individual
+ * connections.
+ * </p>
+ *
+ * @since 4.0
+ */
+public final class FBConnectionValidator {
+
+    private FBConnectionValidator() {
+        // no instances
+    }
+
+    /**
+     * Validates the connections concurrently.
+     * <p>
+     * A connection is reported invalid if {@link Connection#isValid(int)} returns {@code false}, throws an exception,
+     * or has not completed before the deadline of {@code timeout} seconds after the start of this method (for
+     * example because the executor has too few threads available). A validation that has not completed in time
+     * continues in the background; for Jaybird connections, {@link Connection#isValid(int)} itself returns when its
+     * timeout expires, also when the connection is busy with another operation.
+     * </p>
+     *
+     * @param connections
+     *         Connections to validate
+     * @param timeout
+     *         Timeout in seconds (as for {@link Connection#isValid(int)}), {@code 0} for no timeout
+     * @param executor
+     *         Executor to run the validations; should be able to run all validations concurrently
+     * @return Result of validation for each connection, in the order of {@code connections}
+     * @throws SQLException
+     *         If {@code timeout} is negative
+     * @throws java.util.concurrent.RejectedExecutionException
+     *         If the executor rejects a validation task
+     */
+    public static boolean[] validate(List<? extends Connection> connections, final int timeout, Executor executor)
+            throws SQLException {
+        if (timeout < 0) {
+            throw new SQLException("Timeout should be >= 0", SQLStateConstants.SQL_STATE_INVALID_ARG_VALUE);
+        }
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeout);
+        final List<FutureTask<Boolean>> validations = new ArrayList<>(connections.size());
+        for (final Connection connection : connections) {
+            FutureTask<Boolean> validation = new FutureTask<>(new Callable<Boolean>() {
+                @Override
+                public Boolean call() throws Exception {
+                    return connection.isValid(timeout);
+                }
+            });
+            validations.add(validation);
+            executor.execute(validation);
+        }
+
+        final boolean[] result = new boolean[validations.size()];
+        for (int idx = 0; idx < result.length; idx++) {
+            result[idx] = getResult(validations.get(idx), timeout != 0, deadline);
+        }
+        return result;
+    }
+
+    private static boolean getResult(FutureTask<Boolean> validation, boolean hasDeadline, long deadline) {
+        try {
+            return hasDeadline
+                    ? validation.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS)
+                    : validation.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        }
+    }
+}
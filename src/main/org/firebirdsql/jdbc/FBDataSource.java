@@ -126,6 +126,18 @@ public class FBDataSource extends RootCommonDataSource implements DataSource, Se
         }
     }
 
+    /**
+     * Get the statement statistics collector of the connections of this data source.
+     * <p>
+     * Statistics collection is disabled by default, use {@link StatementStatistics#setEnabled(boolean)} to enable it.
+     * </p>
+     *
+     * @return Statement statistics
+     */
+    public StatementStatistics getStatementStatistics() {
+        return mcf.getStatementStatistics();
+    }
+
     /**
      * <p>Sets the maximum time in seconds that this data source will wait
      * while attempting to connect to a database.  A value of zero
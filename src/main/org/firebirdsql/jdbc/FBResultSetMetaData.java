@@ -482,15 +482,19 @@ public class FBResultSetMetaData extends AbstractFieldMetaData implements Firebi
         // Apparently there is a limit in the UNION
         // It is necessary to split in several queries
         // Although the problem reported with 93 UNION use only 70
-        int pending = getFieldCount();
+        final int fieldCount = getFieldCount();
+        int nextField = 1;
         Map<FieldKey, ExtendedFieldInfo> result = new HashMap<>();
         final FBDatabaseMetaData metaData = (FBDatabaseMetaData) connection.getMetaData();
-        while (pending > 0) {
+        // Fields are looked up in the metadata cache shared with other connections, only missing fields are queried
+        final MetadataCache.Generation cacheGeneration = connection.getMetadataCache().getGeneration();
+        final List<FieldKey> requestedKeys = new ArrayList<>();
+        while (nextField <= fieldCount) {
             StringBuilder sb = new StringBuilder();
 
-            int maxLength = Math.min(pending, 70);
-            List<String> params = new ArrayList<>(2 * maxLength);
-            for (int i = 1; i <= maxLength; i++) {
+            final int lastField = Math.min(fieldCount, nextField + 69);
+            List<String> params = new ArrayList<>(2 * (lastField - nextField + 1));
+            for (int i = nextField; i <= lastField; i++) {
 
                 String relationName = getFieldDescriptor(i).getOriginalTableName();
                 String fieldName = getFieldDescriptor(i).getOriginalName();
@@ -498,6 +502,16 @@ public class FBResultSetMetaData extends AbstractFieldMetaData implements Firebi
                 if (relationName == null || relationName.equals("")
                         || fieldName == null || fieldName.equals("")) continue;
 
+                final FieldKey key = new FieldKey(relationName, fieldName);
+                if (cacheGeneration.hasExtendedFieldInfo(key)) {
+                    final ExtendedFieldInfo cachedFieldInfo = cacheGeneration.getExtendedFieldInfo(key);
+                    if (cachedFieldInfo != null) {
+                        result.put(key, cachedFieldInfo);
+                    }
+                    continue;
+                }
+                requestedKeys.add(key);
+
                 if (sb.length() > 0) {
                     sb.append('\n').append("UNION ALL").append('\n');
                 }
@@ -507,7 +521,7 @@ public class FBResultSetMetaData extends AbstractFieldMetaData implements Firebi
                 params.add(relationName);
             }
 
-            pending -= maxLength;
+            nextField = lastField + 1;
 
             if (sb.length() == 0) continue;
 
@@ -544,6 +558,9 @@ public class FBResultSetMetaData extends AbstractFieldMetaData implements Firebi
             }
             params.clear();
         }
+        for (FieldKey key : requestedKeys) {
+            cacheGeneration.putExtendedFieldInfo(key, result.get(key));
+        }
         return result;
     }
 
@@ -23,6 +23,7 @@ import org.firebirdsql.gds.JaybirdErrorCodes;
 import org.firebirdsql.gds.impl.DatabaseParameterBufferExtension;
 import org.firebirdsql.gds.impl.GDSHelper;
 import org.firebirdsql.gds.ng.*;
+import org.firebirdsql.gds.ng.fields.RowDescriptor;
 import org.firebirdsql.gds.ng.fields.RowValue;
 import org.firebirdsql.gds.ng.listeners.StatementListener;
 import org.firebirdsql.jdbc.escape.FBEscapedParser;
@@ -66,6 +67,8 @@ public class FBStatement implements FirebirdStatement, Synchronizable {
     protected final GDSHelper gdsHelper;
     private final Object syncObject;
     protected final FBObjectListener.StatementListener statementListener;
+    private StatementStatisticsListener statisticsListener;
+    private StatementTimeout statementTimeout;
 
     protected FbStatement fbStatement;
     
@@ -222,7 +225,9 @@ public class FBStatement implements FirebirdStatement, Synchronizable {
     public ResultSet executeQuery(String sql) throws  SQLException {
         checkValidity();
         currentStatementGeneratedKeys = false;
-        synchronized(getSynchronizationObject()) {
+        final long lockRequested = SyncObject.lockRequested(syncObject);
+        synchronized (syncObject) {
+            SyncObject.lockAcquired(syncObject, lockRequested);
             notifyStatementStarted();
             if (!internalExecute(sql)) {
                 throw new FBSQLException("Query did not return a result set.",
@@ -274,7 +279,9 @@ public class FBStatement implements FirebirdStatement, Synchronizable {
     public int executeUpdate(String sql) throws SQLException {
         checkValidity();
         currentStatementGeneratedKeys = false;
-        synchronized (getSynchronizationObject()) {
+        final long lockRequested = SyncObject.lockRequested(syncObject);
+        synchronized (syncObject) {
+            SyncObject.lockAcquired(syncObject, lockRequested);
             notifyStatementStarted();
             try {
                 if (internalExecute(sql)) { throw new FBSQLException(
@@ -551,7 +558,7 @@ public class FBStatement implements FirebirdStatement, Synchronizable {
     public ResultSet getGeneratedKeys() throws SQLException {
         checkValidity();
         if (isGeneratedKeyQuery() && isSingletonResult) {
-            return new FBResultSet(fbStatement.getFieldDescriptor(), new ArrayList<>(specialResult),
+            return new FBResultSet(fbStatement.getFullFieldDescriptor(), new ArrayList<>(specialResult),
                     resultSetListener);
         }
         return new FBResultSet(fbStatement.emptyRowDescriptor(), Collections.<RowValue>emptyList());
@@ -711,7 +718,13 @@ public class FBStatement implements FirebirdStatement, Synchronizable {
     /**
      * Sets the number of seconds the driver will
      * wait for a <code>Statement</code> object to execute to the given number of seconds.
-     * If the limit is exceeded, an <code>SQLException</code> is thrown.
+     * If the limit is exceeded, an <code>SQLTimeoutException</code> is thrown.
+     * <p>
+     * The timeout applies to the execution of the statement (not to fetching rows), and is only enforced on
+     * connections that support cancelling operations (pure Java protocol version 12 or higher, or native). As
+     * Firebird cancels the operation in progress on the connection, the timeout should not be used with statements
+     * executed concurrently on the same connection.
+     * </p>
      *
      * @param seconds the new query timeout limit in seconds; zero means
      * unlimited
@@ -833,7 +846,9 @@ public class FBStatement implements FirebirdStatement, Synchronizable {
      * @see #execute(String)
      */
     protected boolean executeImpl(String sql) throws SQLException {
-        synchronized (getSynchronizationObject()) {
+        final long lockRequested = SyncObject.lockRequested(syncObject);
+        synchronized (syncObject) {
+            SyncObject.lockAcquired(syncObject, lockRequested);
             notifyStatementStarted();
             boolean hasResultSet = false;
             try {
@@ -888,7 +903,7 @@ public class FBStatement implements FirebirdStatement, Synchronizable {
                 currentRs = new FBResultSet(connection, this, fbStatement, resultSetListener, metaDataQuery, rsType,
                         rsConcurrency, rsHoldability, false);
             } else if (!specialResult.isEmpty()) {
-                currentRs = new FBResultSet(fbStatement.getFieldDescriptor(),
+                currentRs = new FBResultSet(fbStatement.getFullFieldDescriptor(),
                         new ArrayList<>(specialResult), resultSetListener);
             }
             return currentRs;
@@ -1189,7 +1204,9 @@ public class FBStatement implements FirebirdStatement, Synchronizable {
         currentStatementGeneratedKeys = false;
 
         notifyStatementStarted();
-        synchronized (getSynchronizationObject()) {
+        final long lockRequested = SyncObject.lockRequested(syncObject);
+        synchronized (syncObject) {
+            SyncObject.lockAcquired(syncObject, lockRequested);
             boolean success = false;
             try {
                 List<Long> responses = new ArrayList<>(batchList.size());
@@ -1352,20 +1369,117 @@ public class FBStatement implements FirebirdStatement, Synchronizable {
         checkValidity();
 
         prepareFixedStatement(sql);
-        fbStatement.execute(RowValue.EMPTY_ROW_VALUE);
+        executeWithTimeout(RowValue.EMPTY_ROW_VALUE);
 
         return currentStatementResult == StatementResult.RESULT_SET;
     }
 
+    /**
+     * Executes the statement handle with the specified parameters, cancelling the execution when it exceeds the query
+     * timeout.
+     * <p>
+     * The query timeout is only enforced if the connection supports cancelling operations. When the query timeout is
+     * enforced, the first rows are not fetched together with the execute, so the timeout only covers the execute (as
+     * for other statements).
+     * </p>
+     *
+     * @param parameters
+     *         Parameter values
+     * @throws SQLException
+     *         For errors executing the statement, or a {@link SQLTimeoutException} if the execution was cancelled by
+     *         the query timeout
+     */
+    protected final void executeWithTimeout(RowValue parameters) throws SQLException {
+        final int timeout = queryTimeout;
+        if (timeout <= 0 || connection == null || !supportInfoFor(connection).supportsCancelOperation()) {
+            fbStatement.setPrefetchSize(determinePrefetchSize());
+            fbStatement.execute(parameters);
+            captureRequestedPlan();
+            return;
+        }
+        if (statementTimeout == null) {
+            statementTimeout = new StatementTimeout();
+        }
+        // A cancel during a prefetch would only be reported as a fetch error after the timeout was disarmed
+        fbStatement.setPrefetchSize(0);
+        statementTimeout.arm(gdsHelper, timeout);
+        boolean timedOut = false;
+        try {
+            fbStatement.execute(parameters);
+        } catch (SQLException e) {
+            timedOut = statementTimeout.disarm();
+            if (timedOut) {
+                throw new FbExceptionBuilder().timeoutException(JaybirdErrorCodes.jb_queryTimeout)
+                        .messageParameter(timeout)
+                        .cause(e)
+                        .toSQLException();
+            }
+            throw e;
+        } finally {
+            if (!timedOut) {
+                statementTimeout.disarm();
+            }
+        }
+        captureRequestedPlan();
+    }
+
+    private void captureRequestedPlan() {
+        if (statisticsListener != null) {
+            statisticsListener.captureRequestedPlan(fbStatement);
+        }
+    }
+
     protected void prepareFixedStatement(String sql) throws SQLException {
         // TODO: Statement should be created and allocated at FBStatement creation only.
         if (fbStatement == null) {
             fbStatement = gdsHelper.allocateStatement();
             fbStatement.addStatementListener(createStatementListener());
+            final StatementStatistics statementStatistics =
+                    connection != null ? connection.getStatementStatistics() : null;
+            if (statementStatistics != null && statementStatistics.isEnabled()) {
+                statisticsListener = new StatementStatisticsListener(statementStatistics);
+                fbStatement.addStatementListener(statisticsListener);
+            }
         } else {
             fbStatement.setTransaction(gdsHelper.getCurrentTransaction());
         }
-        fbStatement.prepare(escapedProcessing ? nativeSQL(sql) : sql);
+        final String statementText = escapedProcessing ? nativeSQL(sql) : sql;
+        fbStatement.prepare(statementText);
+        if (statisticsListener != null) {
+            statisticsListener.statementPrepared(statementText);
+        }
+    }
+
+    /**
+     * Determines the number of rows to fetch together with the execute of a statement with a cursor: the fetch size
+     * the result set would use for its first fetch.
+     *
+     * @return Number of rows to fetch with the execute, {@code 0} if the statement has no cursor
+     */
+    private int determinePrefetchSize() {
+        if (!fbStatement.getType().isTypeWithCursor()) {
+            return 0;
+        }
+        int prefetchSize = fetchSize;
+        if (prefetchSize == 0) {
+            final int bufferSize = gdsHelper.getConnectionProperties().getAdaptiveFetchBufferSize();
+            prefetchSize = bufferSize > 0
+                    ? AdaptiveFetchSize.initialFetchSize(fbStatement.getFieldDescriptor(), bufferSize)
+                    : FBFetcher.MAX_FETCH_ROWS;
+        }
+        return maxRows != 0 ? Math.min(prefetchSize, maxRows) : prefetchSize;
+    }
+
+    /**
+     * Creates the adaptive fetch size policy for a result set of this statement.
+     *
+     * @param rowDescriptor
+     *         Row descriptor of the result set
+     * @return Adaptive fetch size policy, or {@code null} if disabled by the connection properties
+     */
+    AdaptiveFetchSize createAdaptiveFetchSize(RowDescriptor rowDescriptor) {
+        final int bufferSize = gdsHelper.getConnectionProperties().getAdaptiveFetchBufferSize();
+        return bufferSize > 0 ? new AdaptiveFetchSize(rowDescriptor, bufferSize, statisticsListener) : null;
     }
 
     protected void addWarning(SQLWarning warning) {
@@ -22,6 +22,7 @@ import org.firebirdsql.gds.JaybirdErrorCodes;
 import org.firebirdsql.gds.impl.GDSHelper;
 import org.firebirdsql.gds.ng.FbExceptionBuilder;
 import org.firebirdsql.gds.ng.FbStatement;
+import org.firebirdsql.gds.ng.SyncObject;
 import org.firebirdsql.gds.ng.fields.RowValue;
 import org.firebirdsql.gds.ng.listeners.DefaultStatementListener;
 
@@ -37,7 +38,7 @@ import java.util.List;
  */
 class FBStatementFetcher implements FBFetcher {
 
-    private boolean closed;
+    private volatile boolean closed;
     private boolean wasFetched;
 
     protected final GDSHelper gdsHelper;
@@ -48,6 +49,7 @@ class FBStatementFetcher implements FBFetcher {
 
     protected final Synchronizable syncProvider;
     protected final FbStatement stmt;
+    private final AdaptiveFetchSize adaptiveFetchSize;
 
     private List<RowValue> rows = new ArrayList<>();
     private final RowListener rowListener = new RowListener();
@@ -66,7 +68,7 @@ class FBStatementFetcher implements FBFetcher {
     FBStatementFetcher(GDSHelper gdsHelper, Synchronizable syncProvider,
             FbStatement stmth,
             FBObjectListener.FetcherListener fetcherListener, int maxRows,
-            int fetchSize) throws SQLException {
+            int fetchSize, AdaptiveFetchSize adaptiveFetchSize) throws SQLException {
 
         this.gdsHelper = gdsHelper;
         this.stmt = stmth;
@@ -75,6 +77,7 @@ class FBStatementFetcher implements FBFetcher {
         this.fetcherListener = fetcherListener;
         this.maxRows = maxRows;
         this.fetchSize = fetchSize;
+        this.adaptiveFetchSize = adaptiveFetchSize;
 
         synchronized (syncProvider.getSynchronizationObject()) {
             isEmpty = false;
@@ -180,21 +183,36 @@ class FBStatementFetcher implements FBFetcher {
     }
 
     public void fetch() throws SQLException {
-        synchronized (syncProvider.getSynchronizationObject()) {
+        final Object syncObject = syncProvider.getSynchronizationObject();
+        final long lockRequested = SyncObject.lockRequested(syncObject);
+        synchronized (syncObject) {
+            SyncObject.lockAcquired(syncObject, lockRequested);
             checkClosed();
-            int maxRows = 0;
+            if (!allRowsFetched && (rows.isEmpty() || rows.size() == rowPosition)) {
+                int maxRows = 0;
 
-            if (this.maxRows != 0) maxRows = this.maxRows - rowNum;
+                if (this.maxRows != 0) maxRows = this.maxRows - rowNum;
 
-            int fetchSize = this.fetchSize;
-            if (fetchSize == 0) fetchSize = MAX_FETCH_ROWS;
+                // The first rows are usually fetched together with the execute, so the first fetch is not a
+                // measurement for the adaptive fetch size
+                final boolean adaptive = adaptiveFetchSize != null && wasFetched;
+                int fetchSize = this.fetchSize;
+                if (fetchSize == 0) {
+                    if (adaptive) {
+                        fetchSize = adaptiveFetchSize.nextFetchSize(System.nanoTime());
+                    } else {
+                        fetchSize = adaptiveFetchSize != null ? adaptiveFetchSize.getFetchSize() : MAX_FETCH_ROWS;
+                    }
+                }
 
-            if (maxRows != 0 && fetchSize > maxRows) fetchSize = maxRows;
+                if (maxRows != 0 && fetchSize > maxRows) fetchSize = maxRows;
 
-            if (!allRowsFetched && (rows.isEmpty() || rows.size() == rowPosition)) {
                 rows.clear();
                 stmt.fetchRows(fetchSize);
                 rowPosition = 0;
+                if (adaptive) {
+                    adaptiveFetchSize.fetchCompleted(System.nanoTime());
+                }
             }
 
             if (rows.size() > rowPosition) {
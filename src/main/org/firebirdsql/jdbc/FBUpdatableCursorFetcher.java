@@ -38,9 +38,9 @@ public class FBUpdatableCursorFetcher extends FBStatementFetcher {
     FBUpdatableCursorFetcher(GDSHelper gdsHelper, Synchronizable syncProvider,
             FbStatement stmth,
             FBObjectListener.FetcherListener fetcherListener, int maxRows,
-            int fetchSize) throws SQLException {
+            int fetchSize, AdaptiveFetchSize adaptiveFetchSize) throws SQLException {
         super(gdsHelper, syncProvider, stmth, fetcherListener, maxRows,
-                fetchSize);
+                fetchSize, adaptiveFetchSize);
     }
 
     @Override
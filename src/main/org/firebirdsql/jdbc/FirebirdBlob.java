@@ -29,6 +29,7 @@ import java.sql.Blob;
 import java.sql.SQLException;
 
 import java.io.*;
+import java.nio.channels.WritableByteChannel;
 
 /**
  * Firebird Blob abstraction. This interface defines methods to read and write
@@ -268,4 +269,20 @@ public interface FirebirdBlob extends Blob {
      */
     boolean isSegmented() throws SQLException;
 
+    /**
+     * Transfers the entire content of this blob to the specified channel.
+     * <p>
+     * Contrary to {@link #getBinaryStream()}, the data is written to the channel segment by segment without
+     * intermediate copies. The channel is not closed by this method.
+     * </p>
+     *
+     * @param target
+     *         Channel to write the blob content to
+     * @return Number of bytes transferred
+     * @throws SQLException
+     *         If the blob content cannot be read, or writing to the channel failed
+     * @since 4.0
+     */
+    long transferTo(WritableByteChannel target) throws SQLException;
+
 }
\ No newline at end of file
@@ -32,6 +32,7 @@ import java.sql.SQLException;
 import org.firebirdsql.gds.ISCConstants;
 import org.firebirdsql.gds.TransactionParameterBuffer;
 import org.firebirdsql.gds.ng.FbDatabase;
+import org.firebirdsql.gds.ng.LockStatistics;
 
 /**
  * Extension of {@link Connection} interface providing access to Firebird
@@ -154,4 +155,13 @@ public interface FirebirdConnection extends Connection {
      */
     FbDatabase getFbDatabase() throws SQLException;
 
+    /**
+     * Statistics on how long threads waited for the lock of this connection when executing statements, fetching rows
+     * or reading blobs.
+     *
+     * @return Lock statistics of this connection, or {@code null} if not available
+     * @since 4.0
+     */
+    LockStatistics getLockStatistics();
+
 }
\ No newline at end of file
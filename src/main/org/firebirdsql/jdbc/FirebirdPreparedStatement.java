@@ -25,6 +25,7 @@
  */
 package org.firebirdsql.jdbc;
 
+import java.nio.channels.ReadableByteChannel;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
@@ -91,5 +92,25 @@ public interface FirebirdPreparedStatement extends FirebirdStatement, PreparedSt
      * @return The identifier for the given statement's type
      */
     int getStatementType() throws SQLException;
+
+    /**
+     * Sets the designated parameter to a blob with the content read from the channel.
+     * <p>
+     * The data is read from the channel into a buffer and written to the blob in batches of full segments. The
+     * channel is not closed by this method.
+     * </p>
+     *
+     * @param parameterIndex
+     *         index of the first parameter is 1, the second is 2, ...
+     * @param channel
+     *         Channel containing the data to set the parameter value to
+     * @param length
+     *         Maximum number of bytes to read from the channel, or {@code -1} to read until the end of the channel
+     * @throws SQLException
+     *         if parameterIndex does not correspond to a parameter marker in the SQL statement, or if a database
+     *         access error occurs
+     * @since 4.0
+     */
+    void setBlob(int parameterIndex, ReadableByteChannel channel, long length) throws SQLException;
    
 }
@@ -46,4 +46,38 @@ public interface FirebirdResultSet extends ResultSet {
      * @see FirebirdPreparedStatement#getExecutionPlan()
      */
     String getExecutionPlan() throws SQLException;
+
+    /**
+     * Retrieves the value of the designated exact numeric column as its unscaled long value.
+     * <p>
+     * For a {@code NUMERIC} or {@code DECIMAL} column backed by {@code SMALLINT}, {@code INTEGER} or {@code BIGINT},
+     * this returns the stored value without applying the scale (eg {@code 12.34} in a {@code NUMERIC(18,2)} column
+     * returns {@code 1234}); the scale can be obtained with {@link java.sql.ResultSetMetaData#getScale(int)}. This
+     * avoids the creation of a {@link java.math.BigDecimal}. For integral columns without scale, this is the same as
+     * {@link #getLong(int)}.
+     * </p>
+     *
+     * @param columnIndex
+     *         The first column is 1, the second is 2, ...
+     * @return Unscaled value, or {@code 0} if the value is SQL {@code NULL}
+     * @throws SQLException
+     *         If the column is not an exact numeric column backed by {@code SMALLINT}, {@code INTEGER} or
+     *         {@code BIGINT}, or if this result set is closed
+     * @since 4.0
+     */
+    long getScaledLong(int columnIndex) throws SQLException;
+
+    /**
+     * Retrieves the value of the designated exact numeric column as its unscaled long value.
+     *
+     * @param columnLabel
+     *         Label of the column
+     * @return Unscaled value, or {@code 0} if the value is SQL {@code NULL}
+     * @throws SQLException
+     *         If the column is not an exact numeric column backed by {@code SMALLINT}, {@code INTEGER} or
+     *         {@code BIGINT}, or if this result set is closed
+     * @see #getScaledLong(int)
+     * @since 4.0
+     */
+    long getScaledLong(String columnLabel) throws SQLException;
 }
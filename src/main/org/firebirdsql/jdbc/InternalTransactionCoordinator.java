@@ -38,6 +38,7 @@ public final class InternalTransactionCoordinator implements FBObjectListener.St
 
     private final FBConnection connection;
     private AbstractTransactionCoordinator coordinator;
+    private boolean ddlInTransaction;
 
     InternalTransactionCoordinator(FBConnection connection) {
         this.connection = connection;
@@ -131,7 +132,16 @@ public final class InternalTransactionCoordinator implements FBObjectListener.St
     @Override
     public void statementCompleted(FBStatement stmt, boolean success) throws SQLException {
         synchronized (getSynchronizationObject()) {
-            coordinator.statementCompleted(stmt, success);
+            final boolean ddl = stmt.getStatementType() == StatementType.DDL.getStatementTypeCode();
+            try {
+                coordinator.statementCompleted(stmt, success);
+            } finally {
+                if (ddl) {
+                    // Other connections only see the change after commit, so invalidate again on commit
+                    ddlInTransaction |= !coordinator.isAutoCommit();
+                    connection.getMetadataCache().invalidate();
+                }
+            }
         }
     }
 
@@ -157,12 +167,20 @@ public final class InternalTransactionCoordinator implements FBObjectListener.St
 
     public void commit() throws SQLException {
         synchronized (getSynchronizationObject()) {
-            coordinator.commit();
+            try {
+                coordinator.commit();
+            } finally {
+                if (ddlInTransaction) {
+                    ddlInTransaction = false;
+                    connection.getMetadataCache().invalidate();
+                }
+            }
         }
     }
 
     public void rollback() throws SQLException {
         synchronized (getSynchronizationObject()) {
+            ddlInTransaction = false;
             coordinator.rollback();
         }
     }
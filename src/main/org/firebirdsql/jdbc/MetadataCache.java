@@ -0,0 +1,201 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.jdbc;
+
+import org.firebirdsql.gds.JaybirdSystemProperties;
+import org.firebirdsql.jdbc.AbstractFieldMetaData.ExtendedFieldInfo;
+import org.firebirdsql.jdbc.AbstractFieldMetaData.FieldKey;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Cache of database metadata shared by all connections created from the same
+ * {@link org.firebirdsql.jca.FBManagedConnectionFactory}.
+ * <p>
+ * The cache holds the selectability of stored procedures and the extended field information of result set
+ * columns, so connections don't need to query the system tables for each callable statement or result set metadata.
+ * As all connections of a factory use the same database, the factory identifies the database of the cache.
+ * </p>
+ * <p>
+ * Cached metadata is kept in a {@link Generation}. Invalidating the cache, when a DDL statement is executed through a
+ * connection of the factory or when the time to live of the current generation has expired, starts a new, empty
+ * generation. Metadata loaded concurrently for an older generation is stored in that generation only, and is not
+ * visible after the invalidation.
+ * </p>
+ * <p>
+ * Caching is opt-in: it is enabled by setting the time to live (in seconds) with system property
+ * {@link JaybirdSystemProperties#METADATA_CACHE_TTL}, the default of {@code 0} disables caching. Changes made by other
+ * clients of the database are only seen after the time to live has expired.
+ * </p>
+ *
+ * @since 4.0
+ */
+public final class MetadataCache {
+
+    private static final int DEFAULT_METADATA_CACHE_TTL = 0;
+    private static final int METADATA_CACHE_TTL = Math.max(0,
+            JaybirdSystemProperties.getMetadataCacheTtl(DEFAULT_METADATA_CACHE_TTL));
+
+    /**
+     * Metadata cache with caching disabled, for connections without a managed connection factory.
+     */
+    static final MetadataCache DISABLED = new MetadataCache(0, TimeUnit.SECONDS);
+
+    private final long timeToLiveNanos;
+    private final AtomicReference<Generation> currentGeneration;
+
+    /**
+     * Creates a metadata cache with the time to live configured through the system properties.
+     */
+    public MetadataCache() {
+        this(METADATA_CACHE_TTL, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Creates a metadata cache.
+     *
+     * @param timeToLive
+     *         Time to live of cached metadata, {@code 0} (or less) disables caching
+     * @param unit
+     *         Unit of {@code timeToLive}
+     */
+    public MetadataCache(long timeToLive, TimeUnit unit) {
+        timeToLiveNanos = unit.toNanos(Math.max(0, timeToLive));
+        currentGeneration = new AtomicReference<>(new Generation(System.nanoTime()));
+    }
+
+    /**
+     * @return {@code true} if metadata is cached (time to live larger than {@code 0}), {@code false} if caching is
+     * disabled
+     */
+    boolean isEnabled() {
+        return timeToLiveNanos != 0;
+    }
+
+    /**
+     * Returns the current generation of cached metadata, starting a new generation if the time to live has expired.
+     * <p>
+     * Callers should obtain the generation once, and use it for both lookup and storage of the metadata.
+     * </p>
+     *
+     * @return Current generation (a new, unshared, generation if caching is disabled)
+     */
+    Generation getGeneration() {
+        final long now = System.nanoTime();
+        if (timeToLiveNanos == 0) {
+            return new Generation(now);
+        }
+        final Generation generation = currentGeneration.get();
+        if (now - generation.created < timeToLiveNanos) {
+            return generation;
+        }
+        final Generation newGeneration = new Generation(now);
+        return currentGeneration.compareAndSet(generation, newGeneration)
+                ? newGeneration
+                : currentGeneration.get();
+    }
+
+    /**
+     * Removes all metadata from this cache.
+     */
+    public void invalidate() {
+        currentGeneration.set(new Generation(System.nanoTime()));
+    }
+
+    /**
+     * Metadata cached between two invalidations of the cache.
+     */
+    static final class Generation {
+
+        /**
+         * Maximum number of procedures in a generation; when exceeded, the procedures of the generation are cleared.
+         */
+        static final int MAX_PROCEDURES = 1000;
+
+        /**
+         * Marker for fields without extended field info (eg fields of views or expressions).
+         */
+        private static final ExtendedFieldInfo NO_EXTENDED_FIELD_INFO = new ExtendedFieldInfo();
+
+        private final long created;
+        private final ConcurrentMap<String, Boolean> procedureSelectable = new ConcurrentHashMap<>();
+        private final ConcurrentMap<FieldKey, ExtendedFieldInfo> extendedFieldInfo = new ConcurrentHashMap<>();
+
+        private Generation(long created) {
+            this.created = created;
+        }
+
+        /**
+         * @param procedureName
+         *         Procedure name (as stored in the metadata)
+         * @return {@code true} if the procedure is selectable, {@code false} if not (or if it does not exist), or
+         * {@code null} if not cached
+         */
+        Boolean getProcedureSelectable(String procedureName) {
+            return procedureSelectable.get(procedureName);
+        }
+
+        /**
+         * @param procedureName
+         *         Procedure name (as stored in the metadata)
+         * @param selectable
+         *         {@code true} if the procedure is selectable
+         */
+        void putProcedureSelectable(String procedureName, boolean selectable) {
+            if (procedureSelectable.size() >= MAX_PROCEDURES) {
+                // Simple but brute force maintenance: clear all procedures
+                procedureSelectable.clear();
+            }
+            procedureSelectable.put(procedureName, selectable);
+        }
+
+        /**
+         * @param key
+         *         Relation and field name
+         * @return {@code true} if the extended field info of the field is cached (including a cached absence)
+         */
+        boolean hasExtendedFieldInfo(FieldKey key) {
+            return extendedFieldInfo.containsKey(key);
+        }
+
+        /**
+         * @param key
+         *         Relation and field name
+         * @return Extended field info, or {@code null} if not cached or if the field has no extended field info
+         */
+        ExtendedFieldInfo getExtendedFieldInfo(FieldKey key) {
+            final ExtendedFieldInfo fieldInfo = extendedFieldInfo.get(key);
+            return fieldInfo != NO_EXTENDED_FIELD_INFO ? fieldInfo : null;
+        }
+
+        /**
+         * @param key
+         *         Relation and field name
+         * @param fieldInfo
+         *         Extended field info, or {@code null} if the field has no extended field info; the object must not be
+         *         modified afterwards
+         */
+        void putExtendedFieldInfo(FieldKey key, ExtendedFieldInfo fieldInfo) {
+            extendedFieldInfo.put(key, fieldInfo != null ? fieldInfo : NO_EXTENDED_FIELD_INFO);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.jdbc;
+
+import org.firebirdsql.gds.JaybirdSystemProperties;
+import org.firebirdsql.jdbc.escape.FBEscapedCallParser;
+import org.firebirdsql.jdbc.escape.FBEscapedParser;
+import org.firebirdsql.jdbc.escape.FBEscapedParser.EscapeParserMode;
+import org.firebirdsql.jdbc.parser.JaybirdStatementModel;
+import org.firebirdsql.jdbc.parser.StatementParser;
+import org.firebirdsql.jdbc.parser.StatementParser.ParseException;
+import org.firebirdsql.logging.Logger;
+import org.firebirdsql.logging.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded cache of the results of parsing statement text, shared by all connections created from the same
+ * {@link org.firebirdsql.jca.FBManagedConnectionFactory}.
+ * <p>
+ * The cache holds the result of JDBC escape processing and the parsed {@link FBProcedureCall} of callable statements
+ * (both keyed by statement text and {@link EscapeParserMode}), and the {@link JaybirdStatementModel} produced by the
+ * generated keys parser (keyed by statement text). These are pure functions of the statement text, so they can be
+ * shared safely across connections. The final query with the
+ * {@code RETURNING} clause added is not cached, as it depends on table metadata that can change through DDL.
+ * </p>
+ * <p>
+ * The maximum number of entries per cached item can be configured with system property
+ * {@link JaybirdSystemProperties#PARSED_STATEMENT_CACHE_SIZE}, a value of {@code 0} disables caching. When the maximum
+ * is exceeded, the cache is cleared.
+ * </p>
+ *
+ * @since 4.0
+ */
+public final class ParsedStatementCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParsedStatementCache.class);
+    private static final int DEFAULT_PARSED_STATEMENT_CACHE_SIZE = 500;
+    private static final int PARSED_STATEMENT_CACHE_SIZE = Math.max(0,
+            JaybirdSystemProperties.getParsedStatementCacheSize(DEFAULT_PARSED_STATEMENT_CACHE_SIZE));
+    private static final int LOG_CACHE_MAINTENANCE_WARNING = 10;
+
+    private final int maxSize;
+    private final Map<EscapeParserMode, ConcurrentMap<String, String>> nativeSqlCache =
+            new EnumMap<>(EscapeParserMode.class);
+    private final Map<EscapeParserMode, ConcurrentMap<String, FBProcedureCall>> procedureCallCache =
+            new EnumMap<>(EscapeParserMode.class);
+    /**
+     * Values are either an instance of {@link JaybirdStatementModel}, or an instance of {@link ParseFailure} for
+     * statement text that could not be parsed.
+     */
+    private final ConcurrentMap<String, Object> statementModelCache;
+    private final Lock cacheMaintenanceLock = new ReentrantLock();
+    private int cacheMaintenanceCount = 0;
+
+    /**
+     * Creates a parsed statement cache with the size configured through the system properties.
+     */
+    public ParsedStatementCache() {
+        this(PARSED_STATEMENT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a parsed statement cache.
+     *
+     * @param maxSize
+     *         Maximum number of entries per cached item, {@code 0} (or less) disables caching
+     */
+    public ParsedStatementCache(int maxSize) {
+        this.maxSize = Math.max(0, maxSize);
+        final int initialCapacity = Math.min(this.maxSize, 64);
+        for (EscapeParserMode mode : EscapeParserMode.values()) {
+            nativeSqlCache.put(mode, new ConcurrentHashMap<String, String>(initialCapacity));
+            procedureCallCache.put(mode, new ConcurrentHashMap<String, FBProcedureCall>(initialCapacity));
+        }
+        statementModelCache = new ConcurrentHashMap<>(initialCapacity);
+    }
+
+    /**
+     * Converts the JDBC escapes in the statement text to the native form, reusing a previously converted statement
+     * if available.
+     *
+     * @param sql
+     *         Statement text
+     * @param escapedParser
+     *         Escape parser to use when the statement text is not in the cache
+     * @return Native form of the statement text
+     * @throws SQLException
+     *         For errors parsing the escapes in the statement text
+     */
+    public String getNativeSql(String sql, FBEscapedParser escapedParser) throws SQLException {
+        if (maxSize == 0) {
+            return escapedParser.parse(sql);
+        }
+        final ConcurrentMap<String, String> cache = nativeSqlCache.get(escapedParser.getMode());
+        String nativeSql = cache.get(sql);
+        if (nativeSql == null) {
+            nativeSql = escapedParser.parse(sql);
+            addToCache(cache, sql, nativeSql);
+        }
+        return nativeSql;
+    }
+
+    /**
+     * Parses the (escaped) call statement text to a procedure call, reusing a previously parsed procedure call if
+     * available.
+     * <p>
+     * The cache holds an immutable template of the procedure call, the returned procedure call is a copy that is owned
+     * by the caller and can be modified (eg to set parameter values).
+     * </p>
+     *
+     * @param sql
+     *         Call statement text
+     * @param escapedParser
+     *         Escape parser to use when the statement text is not in the cache
+     * @return Procedure call
+     * @throws SQLException
+     *         For errors parsing the escapes or the call in the statement text
+     */
+    public FBProcedureCall getProcedureCall(String sql, FBEscapedParser escapedParser) throws SQLException {
+        if (maxSize == 0) {
+            return parseProcedureCall(sql, escapedParser);
+        }
+        final ConcurrentMap<String, FBProcedureCall> cache = procedureCallCache.get(escapedParser.getMode());
+        FBProcedureCall template = cache.get(sql);
+        if (template == null) {
+            template = parseProcedureCall(sql, escapedParser);
+            addToCache(cache, sql, template);
+        }
+        return (FBProcedureCall) template.clone();
+    }
+
+    private FBProcedureCall parseProcedureCall(String sql, FBEscapedParser escapedParser) throws SQLException {
+        FBEscapedCallParser callParser = new FBEscapedCallParser(escapedParser.getMode());
+        return callParser.parseCall(getNativeSql(sql, escapedParser));
+    }
+
+    /**
+     * Parses the statement text to a statement model, reusing a previously parsed model if available.
+     * <p>
+     * The returned model is shared and must be treated as read-only.
+     * </p>
+     *
+     * @param sql
+     *         Statement text
+     * @param statementParser
+     *         Statement parser to use when the statement text is not in the cache
+     * @return Statement model
+     * @throws ParseException
+     *         If the statement text could not be parsed (failures are cached as well, each caller receives its own
+     *         exception instance)
+     */
+    public JaybirdStatementModel getStatementModel(String sql, StatementParser statementParser)
+            throws ParseException {
+        if (maxSize == 0) {
+            return statementParser.parseInsertStatement(sql);
+        }
+        Object result = statementModelCache.get(sql);
+        if (result == null) {
+            try {
+                result = statementParser.parseInsertStatement(sql);
+            } catch (ParseException e) {
+                addToCache(statementModelCache, sql, new ParseFailure(e.getMessage()));
+                throw e;
+            }
+            addToCache(statementModelCache, sql, result);
+        }
+        if (result instanceof ParseFailure) {
+            throw new ParseException(((ParseFailure) result).message);
+        }
+        return (JaybirdStatementModel) result;
+    }
+
+    /**
+     * Removes all entries from this cache.
+     */
+    public void clear() {
+        for (ConcurrentMap<String, String> cache : nativeSqlCache.values()) {
+            cache.clear();
+        }
+        for (ConcurrentMap<String, FBProcedureCall> cache : procedureCallCache.values()) {
+            cache.clear();
+        }
+        statementModelCache.clear();
+    }
+
+    private <T> void addToCache(ConcurrentMap<String, T> cache, String sql, T value) {
+        cache.putIfAbsent(sql, value);
+        if (cache.size() > maxSize) {
+            performCacheMaintenance(cache);
+        }
+    }
+
+    private void performCacheMaintenance(ConcurrentMap<String, ?> cache) {
+        if (cacheMaintenanceLock.tryLock()) {
+            try {
+                // Simple but brute force maintenance: clear entire cache
+                cache.clear();
+                cacheMaintenanceCount++;
+            } finally {
+                cacheMaintenanceLock.unlock();
+            }
+
+            if (cacheMaintenanceCount % LOG_CACHE_MAINTENANCE_WARNING == 1 && logger.isDebugEnabled()) {
+                logger.debug("Cleared parsed statement cache (current reset count: " + cacheMaintenanceCount
+                        + "). Consider setting system property " + JaybirdSystemProperties.PARSED_STATEMENT_CACHE_SIZE
+                        + " to a value higher than the current maximum size of " + maxSize);
+            }
+        }
+    }
+
+    /**
+     * Cached result of statement text that could not be parsed.
+     * <p>
+     * Only the message is cached, as exception instances are mutable (stack trace, suppressed exceptions) and must not
+     * be shared between threads.
+     * </p>
+     */
+    private static final class ParseFailure {
+
+        private final String message;
+
+        private ParseFailure(String message) {
+            this.message = message;
+        }
+    }
+}
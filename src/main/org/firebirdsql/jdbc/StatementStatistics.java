@@ -0,0 +1,402 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.jdbc;
+
+import org.firebirdsql.gds.ng.FbStatement;
+import org.firebirdsql.gds.ng.metrics.LogLinearHistogram;
+import org.firebirdsql.logging.Logger;
+import org.firebirdsql.logging.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Opt-in collector of execution statistics per statement text, shared by all connections created from the same
+ * {@link org.firebirdsql.jca.FBManagedConnectionFactory}.
+ * <p>
+ * Statistics are collected for statements created after the collector has been enabled with
+ * {@link #setEnabled(boolean)}. For each distinct statement text (after escape processing), the collector records the
+ * number of executions, the execution time (from sending the execute to receiving its response, excluding fetches),
+ * and the number of rows and bytes of row data received. Optionally, the execution plan of the slowest statements is
+ * captured (see {@link #setPlanCaptureCount(int)}); capturing a plan costs an additional round trip to the server,
+ * which is made after the execute (and the rows fetched with it) has been completely processed.
+ * </p>
+ * <p>
+ * Execution times are kept in a histogram with a relative precision of 25% (248 buckets, about 2 KB per statement).
+ * </p>
+ * <p>
+ * The number of distinct statements is limited to {@link #getMaxStatements()}, executions of new statements beyond
+ * that limit are counted in {@link #getDroppedExecutionCount()}, but not recorded.
+ * </p>
+ *
+ * @since 4.0
+ */
+public final class StatementStatistics {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementStatistics.class);
+    public static final int DEFAULT_MAX_STATEMENTS = 1000;
+    private static final int EXECUTION_TIME_PRECISION = 2;
+
+    private static final Comparator<Entry> TOTAL_TIME_DESCENDING = new Comparator<Entry>() {
+        @Override
+        public int compare(Entry o1, Entry o2) {
+            long total1 = o1.getTotalTimeNanos();
+            long total2 = o2.getTotalTimeNanos();
+            return total1 < total2 ? 1 : (total1 == total2 ? 0 : -1);
+        }
+    };
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong droppedExecutionCount = new AtomicLong();
+    private final List<Entry> entriesWithPlan = new ArrayList<>();
+    private volatile boolean enabled;
+    private volatile int maxStatements = DEFAULT_MAX_STATEMENTS;
+    private volatile int planCaptureCount;
+
+    /**
+     * @return {@code true} if statistics are collected for new statements
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables collection of statistics.
+     * <p>
+     * Only statements created after enabling collection are tracked; disabling collection stops tracking of all
+     * statements.
+     * </p>
+     *
+     * @param enabled
+     *         {@code true} to enable collection
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return Maximum number of distinct statements tracked
+     */
+    public int getMaxStatements() {
+        return maxStatements;
+    }
+
+    /**
+     * @param maxStatements
+     *         Maximum number of distinct statements tracked (default {@value #DEFAULT_MAX_STATEMENTS})
+     */
+    public void setMaxStatements(int maxStatements) {
+        if (maxStatements < 1) {
+            throw new IllegalArgumentException("maxStatements should be 1 or higher, was: " + maxStatements);
+        }
+        this.maxStatements = maxStatements;
+    }
+
+    /**
+     * @return Number of slowest statements for which the execution plan is captured
+     */
+    public int getPlanCaptureCount() {
+        return planCaptureCount;
+    }
+
+    /**
+     * Sets the number of slowest statements (by maximum execution time) for which the execution plan is captured.
+     *
+     * @param planCaptureCount
+     *         Number of statements, {@code 0} (the default) disables plan capture
+     */
+    public void setPlanCaptureCount(int planCaptureCount) {
+        this.planCaptureCount = Math.max(0, planCaptureCount);
+    }
+
+    /**
+     * @return Number of executions not recorded because the maximum number of statements was reached
+     */
+    public long getDroppedExecutionCount() {
+        return droppedExecutionCount.get();
+    }
+
+    /**
+     * @param sql
+     *         Statement text (after escape processing)
+     * @return Statistics of the statement, or {@code null} if the statement has no statistics
+     */
+    public Entry getEntry(String sql) {
+        return entries.get(sql);
+    }
+
+    /**
+     * @return Statistics of all statements, ordered by total execution time (descending)
+     */
+    public List<Entry> getEntries() {
+        List<Entry> result = new ArrayList<>(entries.values());
+        Collections.sort(result, TOTAL_TIME_DESCENDING);
+        return result;
+    }
+
+    /**
+     * Removes all collected statistics (including captured plans).
+     */
+    public void reset() {
+        synchronized (entriesWithPlan) {
+            entries.clear();
+            entriesWithPlan.clear();
+            droppedExecutionCount.set(0);
+        }
+    }
+
+    /**
+     * Records a completed execution.
+     * <p>
+     * This method does not communicate with the server; if the execution plan of the statement needs to be captured,
+     * the caller should call {@link #capturePlan(Entry, FbStatement)} once the statement is idle.
+     * </p>
+     *
+     * @param entry
+     *         Entry of the statement
+     * @param elapsedNanos
+     *         Execution time in nanoseconds
+     * @return {@code true} if the execution plan of the statement should be captured
+     */
+    boolean executed(Entry entry, long elapsedNanos) {
+        entry.executionTimes.record(elapsedNanos);
+        final int currentPlanCaptureCount = planCaptureCount;
+        return currentPlanCaptureCount > 0 && entry.plan == null && isPlanCandidate(entry, currentPlanCaptureCount);
+    }
+
+    /**
+     * Captures the execution plan of the statement, if it is still one of the slowest statements.
+     *
+     * @param entry
+     *         Entry of the statement
+     * @param statement
+     *         Idle statement (no pending responses) used to retrieve the execution plan
+     */
+    void capturePlan(Entry entry, FbStatement statement) {
+        final int currentPlanCaptureCount = planCaptureCount;
+        if (currentPlanCaptureCount > 0 && entry.plan == null && isPlanCandidate(entry, currentPlanCaptureCount)) {
+            capturePlan(entry, statement, currentPlanCaptureCount);
+        }
+    }
+
+    /**
+     * Gets the entry for the statement text, creating it if necessary.
+     *
+     * @param sql
+     *         Statement text (after escape processing)
+     * @return Entry, or {@code null} if statistics are disabled or the maximum number of statements was reached
+     */
+    Entry getOrCreateEntry(String sql) {
+        if (!enabled) {
+            return null;
+        }
+        Entry entry = entries.get(sql);
+        if (entry == null) {
+            if (entries.size() >= maxStatements) {
+                droppedExecutionCount.incrementAndGet();
+                return null;
+            }
+            final Entry newEntry = new Entry(sql);
+            entry = entries.putIfAbsent(sql, newEntry);
+            if (entry == null) {
+                entry = newEntry;
+            }
+        }
+        return entry;
+    }
+
+    private boolean isPlanCandidate(Entry entry, int currentPlanCaptureCount) {
+        synchronized (entriesWithPlan) {
+            return entriesWithPlan.size() < currentPlanCaptureCount
+                    || entry.getMaxTimeNanos() > fastestWithPlan().getMaxTimeNanos();
+        }
+    }
+
+    private void capturePlan(Entry entry, FbStatement statement, int currentPlanCaptureCount) {
+        final String plan;
+        try {
+            plan = statement.getExecutionPlan();
+        } catch (SQLException e) {
+            log.debug("Unable to capture execution plan for statement statistics", e);
+            return;
+        }
+        synchronized (entriesWithPlan) {
+            if (entry.plan != null || !entries.containsKey(entry.getSql())) {
+                return;
+            }
+            entry.plan = plan;
+            entriesWithPlan.add(entry);
+            while (entriesWithPlan.size() > currentPlanCaptureCount) {
+                Entry fastest = fastestWithPlan();
+                entriesWithPlan.remove(fastest);
+                fastest.plan = null;
+            }
+        }
+    }
+
+    private Entry fastestWithPlan() {
+        Entry fastest = entriesWithPlan.get(0);
+        for (Entry candidate : entriesWithPlan) {
+            if (candidate.getMaxTimeNanos() < fastest.getMaxTimeNanos()) {
+                fastest = candidate;
+            }
+        }
+        return fastest;
+    }
+
+    /**
+     * Statistics of a single statement text.
+     */
+    public static final class Entry {
+
+        private final String sql;
+        private final LogLinearHistogram executionTimes = new LogLinearHistogram(EXECUTION_TIME_PRECISION);
+        private final AtomicLong rowsFetched = new AtomicLong();
+        private final AtomicLong bytesFetched = new AtomicLong();
+        private final AtomicLong adaptiveFetchCount = new AtomicLong();
+        private final AtomicLong adaptiveFetchSizeTotal = new AtomicLong();
+        private final AtomicLong maxAdaptiveFetchSize = new AtomicLong();
+        private volatile String plan;
+
+        private Entry(String sql) {
+            this.sql = sql;
+        }
+
+        /**
+         * @return Statement text (after escape processing)
+         */
+        public String getSql() {
+            return sql;
+        }
+
+        /**
+         * @return Hash code of the statement text, for use as a compact identifier
+         */
+        public int getSqlHash() {
+            return sql.hashCode();
+        }
+
+        /**
+         * @return Number of executions
+         */
+        public long getExecutionCount() {
+            return executionTimes.getCount();
+        }
+
+        /**
+         * @return Total execution time in nanoseconds
+         */
+        public long getTotalTimeNanos() {
+            return executionTimes.getTotal();
+        }
+
+        /**
+         * @return Maximum execution time in nanoseconds
+         */
+        public long getMaxTimeNanos() {
+            return executionTimes.getMax();
+        }
+
+        /**
+         * @param percentile
+         *         Percentile (between {@code 0} and {@code 100})
+         * @return Approximate execution time in nanoseconds at the percentile
+         */
+        public long getTimeNanosAtPercentile(double percentile) {
+            return executionTimes.getValueAtPercentile(percentile);
+        }
+
+        /**
+         * @return Number of rows received (including singleton results of executable procedures)
+         */
+        public long getRowsFetched() {
+            return rowsFetched.get();
+        }
+
+        /**
+         * @return Number of bytes of row data received (excluding protocol overhead)
+         */
+        public long getBytesFetched() {
+            return bytesFetched.get();
+        }
+
+        /**
+         * @return Number of fetches with a fetch size chosen by the adaptive fetch size policy (see connection
+         * property {@code adaptiveFetchBufferSize})
+         */
+        public long getAdaptiveFetchCount() {
+            return adaptiveFetchCount.get();
+        }
+
+        /**
+         * @return Mean of the fetch sizes chosen by the adaptive fetch size policy, {@code 0} if there were none
+         */
+        public double getMeanAdaptiveFetchSize() {
+            final long count = adaptiveFetchCount.get();
+            return count == 0 ? 0 : (double) adaptiveFetchSizeTotal.get() / count;
+        }
+
+        /**
+         * @return Maximum of the fetch sizes chosen by the adaptive fetch size policy, {@code 0} if there were none
+         */
+        public long getMaxAdaptiveFetchSize() {
+            return maxAdaptiveFetchSize.get();
+        }
+
+        /**
+         * @return Captured execution plan, or {@code null} if no plan was captured
+         */
+        public String getPlan() {
+            return plan;
+        }
+
+        void rowFetched(long byteCount) {
+            rowsFetched.incrementAndGet();
+            bytesFetched.addAndGet(byteCount);
+        }
+
+        void adaptiveFetchSizeChosen(int fetchSize) {
+            adaptiveFetchCount.incrementAndGet();
+            adaptiveFetchSizeTotal.addAndGet(fetchSize);
+            long currentMax;
+            while ((currentMax = maxAdaptiveFetchSize.get()) < fetchSize) {
+                if (maxAdaptiveFetchSize.compareAndSet(currentMax, fetchSize)) {
+                    break;
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "StatementStatistics.Entry{sql=" + sql
+                    + ", executionCount=" + getExecutionCount()
+                    + ", totalTimeNanos=" + getTotalTimeNanos()
+                    + ", maxTimeNanos=" + getMaxTimeNanos()
+                    + ", rowsFetched=" + getRowsFetched()
+                    + ", bytesFetched=" + getBytesFetched()
+                    + ", adaptiveFetchCount=" + getAdaptiveFetchCount() + '}';
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.jdbc;
+
+import org.firebirdsql.gds.ng.FbStatement;
+import org.firebirdsql.gds.ng.StatementState;
+import org.firebirdsql.gds.ng.fields.FieldValue;
+import org.firebirdsql.gds.ng.fields.RowValue;
+import org.firebirdsql.gds.ng.listeners.DefaultStatementListener;
+
+/**
+ * Statement listener that reports executions and received rows of a single statement handle to
+ * {@link StatementStatistics}.
+ * <p>
+ * The execution time is measured from the transition to {@link StatementState#EXECUTING} until the statement leaves
+ * that state; executions that fail before the server reported the execute are not recorded. The listener never
+ * communicates with the server itself: a requested execution plan is retrieved by
+ * {@link #captureRequestedPlan(FbStatement)} after the execute has been processed.
+ * </p>
+ *
+ * @since 4.0
+ */
+final class StatementStatisticsListener extends DefaultStatementListener {
+
+    private final StatementStatistics statementStatistics;
+    private StatementStatistics.Entry entry;
+    private long executeStart;
+    private boolean executed;
+    private boolean planCaptureRequested;
+
+    StatementStatisticsListener(StatementStatistics statementStatistics) {
+        this.statementStatistics = statementStatistics;
+    }
+
+    /**
+     * Sets the statement text of the (newly) prepared statement.
+     *
+     * @param sql
+     *         Statement text as sent to the server
+     */
+    void statementPrepared(String sql) {
+        entry = statementStatistics.getOrCreateEntry(sql);
+    }
+
+    /**
+     * Reports the fetch size chosen by the adaptive fetch size policy.
+     *
+     * @param fetchSize
+     *         Fetch size
+     */
+    void fetchSizeChosen(int fetchSize) {
+        if (entry == null) return;
+        entry.adaptiveFetchSizeChosen(fetchSize);
+    }
+
+    /**
+     * Captures the execution plan of the statement if requested by the last execution.
+     * <p>
+     * Must be called when the statement has no pending responses (that is, after the execute and the rows fetched with
+     * it have been processed).
+     * </p>
+     *
+     * @param statement
+     *         Statement
+     */
+    void captureRequestedPlan(FbStatement statement) {
+        if (!planCaptureRequested) return;
+        planCaptureRequested = false;
+        if (entry != null && statementStatistics.isEnabled()) {
+            statementStatistics.capturePlan(entry, statement);
+        }
+    }
+
+    @Override
+    public void receivedRow(FbStatement sender, RowValue rowValue) {
+        if (entry == null) return;
+        long byteCount = 0;
+        for (FieldValue fieldValue : rowValue) {
+            final byte[] fieldData = fieldValue.getFieldData();
+            if (fieldData != null) {
+                byteCount += fieldData.length;
+            }
+        }
+        entry.rowFetched(byteCount);
+    }
+
+    @Override
+    public void statementExecuted(FbStatement sender, boolean hasResultSet, boolean hasSingletonResult) {
+        executed = true;
+    }
+
+    @Override
+    public void statementStateChanged(FbStatement sender, StatementState newState, StatementState previousState) {
+        if (newState == StatementState.EXECUTING) {
+            executed = false;
+            planCaptureRequested = false;
+            executeStart = System.nanoTime();
+        } else if (previousState == StatementState.EXECUTING && executed && entry != null
+                && statementStatistics.isEnabled()) {
+            planCaptureRequested = statementStatistics.executed(entry, System.nanoTime() - executeStart);
+        }
+    }
+}
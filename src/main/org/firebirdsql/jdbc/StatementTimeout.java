@@ -0,0 +1,116 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.jdbc;
+
+import org.firebirdsql.gds.impl.GDSHelper;
+import org.firebirdsql.logging.Logger;
+import org.firebirdsql.logging.LoggerFactory;
+import org.firebirdsql.util.HashedTimerWheel;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query timeout of a statement.
+ * <p>
+ * When the timeout expires before it is disarmed, the operation in progress on the connection is cancelled with
+ * {@link GDSHelper#cancelOperation()}. All statements share a single {@link HashedTimerWheel}, and a statement reuses
+ * its timeout instance for each execute, so arming and disarming the timeout does not allocate and does not start
+ * threads.
+ * </p>
+ * <p>
+ * Each arm of the timeout is identified by the generation of its scheduling on the timer wheel, an expiration is
+ * ignored if the timeout was disarmed (and possibly armed again for a next execute) before the expiration was run.
+ * </p>
+ *
+ * @since 4.0
+ */
+final class StatementTimeout extends HashedTimerWheel.Timeout {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementTimeout.class);
+
+    private static final HashedTimerWheel TIMER_WHEEL =
+            new HashedTimerWheel("Jaybird query timeout", 100, TimeUnit.MILLISECONDS, 512);
+
+    private static final int IDLE = 0;
+    private static final int ARMED = 1;
+    private static final int FIRED = 2;
+
+    private final HashedTimerWheel timerWheel;
+    // fields below are guarded by this
+    private int state = IDLE;
+    private long armedGeneration;
+    private GDSHelper gdsHelper;
+
+    StatementTimeout() {
+        this(TIMER_WHEEL);
+    }
+
+    StatementTimeout(HashedTimerWheel timerWheel) {
+        this.timerWheel = timerWheel;
+    }
+
+    /**
+     * Arms the timeout.
+     *
+     * @param gdsHelper
+     *         GDS helper of the connection to cancel on expiration
+     * @param timeoutSeconds
+     *         Timeout in seconds (must be larger than {@code 0})
+     */
+    synchronized void arm(GDSHelper gdsHelper, int timeoutSeconds) {
+        // An expiration run during scheduling blocks until the state is set
+        armedGeneration = timerWheel.schedule(this, timeoutSeconds, TimeUnit.SECONDS);
+        this.gdsHelper = gdsHelper;
+        state = ARMED;
+    }
+
+    /**
+     * Disarms the timeout.
+     *
+     * @return {@code true} if the timeout expired (and the operation was cancelled) before it was disarmed
+     */
+    boolean disarm() {
+        timerWheel.cancel(this);
+        synchronized (this) {
+            final boolean fired = state == FIRED;
+            state = IDLE;
+            gdsHelper = null;
+            return fired;
+        }
+    }
+
+    @Override
+    protected void expired(long generation) {
+        final GDSHelper gdsHelper;
+        synchronized (this) {
+            if (state != ARMED || generation != armedGeneration) {
+                return;
+            }
+            state = FIRED;
+            gdsHelper = this.gdsHelper;
+        }
+        try {
+            gdsHelper.cancelOperation();
+        } catch (SQLException e) {
+            log.warn("Unable to cancel statement after query timeout; see debug level for stack trace");
+            log.debug("Unable to cancel statement after query timeout", e);
+        }
+    }
+}
@@ -25,12 +25,11 @@
  */
 package org.firebirdsql.jdbc;
 
-import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Factory to retrieve meta-data on stored procedures in a Firebird database.
@@ -48,7 +47,7 @@ public abstract class StoredProcedureMetaDataFactory {
      */
     public static StoredProcedureMetaData getInstance(FBConnection connection) throws SQLException {
         if (connectionHasProcedureMetadata(connection)) {
-            return new DefaultCallableStatementMetaData(connection);
+            return new DefaultCallableStatementMetaData(connection, connection.getMetadataCache());
         } else {
             return new DummyCallableStatementMetaData();
         }
@@ -71,26 +70,24 @@ public abstract class StoredProcedureMetaDataFactory {
 
 /**
  * A fully-functional implementation of {@link StoredProcedureMetaData}.
+ * <p>
+ * The selectability of a procedure is queried on demand for the procedure being called, and kept for the lifetime of
+ * the connection. When the {@link MetadataCache} is enabled, it is also shared with other connections.
+ * </p>
  */
 class DefaultCallableStatementMetaData implements StoredProcedureMetaData {
 
-    Set<String> selectableProcedureNames = new HashSet<String>();
+    private static final String GET_PROCEDURE_TYPE =
+            "SELECT RDB$PROCEDURE_TYPE FROM RDB$PROCEDURES WHERE RDB$PROCEDURE_NAME = ?";
 
-    public DefaultCallableStatementMetaData(Connection connection)
-            throws SQLException {
-        loadSelectableProcedureNames(connection);
-    }
+    private final FBConnection connection;
+    private final MetadataCache metadataCache;
+    // guarded by the connection lock (callable statements are created under the lock)
+    private final Map<String, Boolean> procedureSelectable = new HashMap<>();
 
-    private void loadSelectableProcedureNames(Connection connection) throws SQLException {
-        try (Statement stmt = connection.createStatement()) {
-            // TODO Replace with looking for specific procedure
-            String sql = "SELECT RDB$PROCEDURE_NAME FROM RDB$PROCEDURES WHERE RDB$PROCEDURE_TYPE = 1";
-            try (ResultSet resultSet = stmt.executeQuery(sql)) {
-                while (resultSet.next()) {
-                    selectableProcedureNames.add(resultSet.getString(1).trim().toUpperCase());
-                }
-            }
-        }
+    public DefaultCallableStatementMetaData(FBConnection connection, MetadataCache metadataCache) {
+        this.connection = connection;
+        this.metadataCache = metadataCache;
     }
 
     public boolean canGetSelectableInformation() {
@@ -98,7 +95,49 @@ class DefaultCallableStatementMetaData implements StoredProcedureMetaData {
     }
 
     public boolean isSelectable(String procedureName) throws SQLException {
-        return selectableProcedureNames.contains(procedureName.toUpperCase());
+        final String name = normalizeProcedureName(procedureName);
+        Boolean selectable = procedureSelectable.get(name);
+        if (selectable != null) {
+            return selectable;
+        }
+        if (metadataCache.isEnabled()) {
+            final MetadataCache.Generation cacheGeneration = metadataCache.getGeneration();
+            selectable = cacheGeneration.getProcedureSelectable(name);
+            if (selectable == null) {
+                selectable = loadProcedureSelectable(name);
+                cacheGeneration.putProcedureSelectable(name, selectable);
+            }
+        } else {
+            selectable = loadProcedureSelectable(name);
+        }
+        if (procedureSelectable.size() >= MetadataCache.Generation.MAX_PROCEDURES) {
+            // Simple but brute force maintenance: clear all procedures
+            procedureSelectable.clear();
+        }
+        procedureSelectable.put(name, selectable);
+        return selectable;
+    }
+
+    private boolean loadProcedureSelectable(String name) throws SQLException {
+        final FBDatabaseMetaData metaData = (FBDatabaseMetaData) connection.getMetaData();
+        try (ResultSet rs = metaData.doQuery(GET_PROCEDURE_TYPE, Collections.singletonList(name))) {
+            return rs.next() && rs.getInt(1) == 1;
+        }
+    }
+
+    /**
+     * Converts the procedure name as used in the call to the name stored in the metadata.
+     *
+     * @param procedureName
+     *         Procedure name, optionally quoted
+     * @return Name without quotes for a quoted name, otherwise the name in uppercase
+     */
+    static String normalizeProcedureName(String procedureName) {
+        final String name = procedureName.trim();
+        if (name.length() >= 2 && name.charAt(0) == '"' && name.charAt(name.length() - 1) == '"') {
+            return name.substring(1, name.length() - 1).replace("\"\"", "\"");
+        }
+        return name.toUpperCase();
     }
 }
 
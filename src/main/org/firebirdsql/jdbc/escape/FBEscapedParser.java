@@ -76,6 +76,13 @@ public final class FBEscapedParser {
         this.mode = mode;
     }
 
+    /**
+     * @return The escape parser mode of this parser
+     */
+    public EscapeParserMode getMode() {
+        return mode;
+    }
+
     /**
      * Check if the target SQL contains at least one of the escaped syntax
      * commands. This method performs a simple regex match, so it may
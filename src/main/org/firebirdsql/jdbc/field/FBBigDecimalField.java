@@ -51,12 +51,43 @@ final class FBBigDecimalField extends FBField {
     private static final BigDecimal BD_MAX_DOUBLE = new BigDecimal(MAX_DOUBLE_VALUE);
     private static final BigDecimal BD_MIN_DOUBLE = new BigDecimal(MIN_DOUBLE_VALUE);
 
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L, 10000000000L,
+            100000000000L, 1000000000000L, 10000000000000L, 100000000000000L, 1000000000000000L,
+            10000000000000000L, 100000000000000000L, 1000000000000000000L
+    };
+    /**
+     * Largest magnitude of a long that can be represented exactly as a double.
+     */
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+    /**
+     * Largest magnitude of a long that can be represented exactly as a float.
+     */
+    private static final long MAX_EXACT_FLOAT = 1L << 24;
+    /**
+     * Largest power of ten that can be represented exactly as a float.
+     */
+    private static final int MAX_EXACT_FLOAT_POWER_OF_TEN = 10;
+    /**
+     * Value of {@code fractionDigits} for fields that do not allow the scaled long fast path.
+     */
+    private static final int NO_FAST_PATH = -1;
+
     private final FieldDataSize fieldDataSize;
+    /**
+     * Number of digits after the decimal point ({@code -scale}) for SMALLINT, INTEGER and BIGINT backed fields, or
+     * {@link #NO_FAST_PATH} if conversions need to go through {@link BigDecimal}.
+     */
+    private final int fractionDigits;
 
     FBBigDecimalField(FieldDescriptor fieldDescriptor, FieldDataProvider dataProvider, int requiredType)
             throws SQLException {
         super(fieldDescriptor, dataProvider, requiredType);
         fieldDataSize = FieldDataSize.getFieldDataSize(fieldDescriptor);
+        final int digits = -1 * fieldDescriptor.getScale();
+        fractionDigits = fieldDataSize.isScaledLong() && digits >= 0 && digits < POWERS_OF_TEN.length
+                ? digits
+                : NO_FAST_PATH;
     }
 
     public boolean getBoolean() throws SQLException {
@@ -76,6 +107,14 @@ final class FBBigDecimalField extends FBField {
     }
 
     public double getDouble() throws SQLException {
+        if (fractionDigits != NO_FAST_PATH) {
+            if (isNull()) return DOUBLE_NULL_VALUE;
+            final long unscaledValue = getUnscaledValue();
+            if (-MAX_EXACT_DOUBLE <= unscaledValue && unscaledValue <= MAX_EXACT_DOUBLE) {
+                // Both operands are exact, so the division is correctly rounded (same result as BigDecimal)
+                return unscaledValue / (double) POWERS_OF_TEN[fractionDigits];
+            }
+        }
         BigDecimal value = getBigDecimal();
         if (value == null) return DOUBLE_NULL_VALUE;
 
@@ -83,6 +122,14 @@ final class FBBigDecimalField extends FBField {
     }
 
     public float getFloat() throws SQLException {
+        if (fractionDigits != NO_FAST_PATH && fractionDigits <= MAX_EXACT_FLOAT_POWER_OF_TEN) {
+            if (isNull()) return FLOAT_NULL_VALUE;
+            final long unscaledValue = getUnscaledValue();
+            if (-MAX_EXACT_FLOAT <= unscaledValue && unscaledValue <= MAX_EXACT_FLOAT) {
+                // Both operands are exact, so the division is correctly rounded (same result as BigDecimal)
+                return unscaledValue / (float) POWERS_OF_TEN[fractionDigits];
+            }
+        }
         BigDecimal value = getBigDecimal();
         if (value == null) return FLOAT_NULL_VALUE;
 
@@ -101,6 +148,11 @@ final class FBBigDecimalField extends FBField {
     }
 
     public long getLong() throws SQLException {
+        if (fractionDigits != NO_FAST_PATH) {
+            if (isNull()) return LONG_NULL_VALUE;
+            // Truncates towards zero, same as BigDecimal.longValue()
+            return getUnscaledValue() / POWERS_OF_TEN[fractionDigits];
+        }
         BigDecimal value = getBigDecimal();
         if (value == null) return LONG_NULL_VALUE;
 
@@ -122,6 +174,14 @@ final class FBBigDecimalField extends FBField {
     }
 
     public String getString() throws SQLException {
+        if (fractionDigits != NO_FAST_PATH) {
+            if (isNull()) return null;
+            final long unscaledValue = getUnscaledValue();
+            if (isPlainNotation(unscaledValue, fractionDigits)) {
+                return toPlainString(unscaledValue, fractionDigits);
+            }
+            return BigDecimal.valueOf(unscaledValue, fractionDigits).toString();
+        }
         BigDecimal value = getBigDecimal();
         if (value == null) return null;
 
@@ -136,11 +196,79 @@ final class FBBigDecimalField extends FBField {
 
     @Override
     public BigInteger getBigInteger() throws SQLException {
+        if (fractionDigits != NO_FAST_PATH) {
+            if (isNull()) return null;
+            return BigInteger.valueOf(getLong());
+        }
         BigDecimal value = getBigDecimal();
         if (value == null) return null;
         return value.toBigInteger();
     }
 
+    @Override
+    public long getScaledLong() throws SQLException {
+        if (!fieldDataSize.isScaledLong()) {
+            return super.getScaledLong();
+        }
+        if (isNull()) return LONG_NULL_VALUE;
+        return getUnscaledValue();
+    }
+
+    private long getUnscaledValue() throws SQLException {
+        return fieldDataSize.decodeUnscaled(fieldDescriptor, getFieldData());
+    }
+
+    /**
+     * Checks if {@link BigDecimal#toString()} would use plain notation for this value.
+     * <p>
+     * With a non-negative scale, {@code BigDecimal} only switches to scientific notation when the adjusted exponent
+     * ({@code precision - 1 - scale}) is less than {@code -6}.
+     * </p>
+     */
+    private static boolean isPlainNotation(long unscaledValue, int fractionDigits) {
+        if (fractionDigits <= 6) {
+            return true;
+        }
+        final long minimumMagnitude = POWERS_OF_TEN[fractionDigits - 6];
+        return unscaledValue >= minimumMagnitude || unscaledValue <= -minimumMagnitude;
+    }
+
+    /**
+     * Formats a scaled long in plain notation (equivalent to {@link BigDecimal#toPlainString()}).
+     *
+     * @param unscaledValue
+     *         Unscaled value
+     * @param fractionDigits
+     *         Number of digits after the decimal point
+     * @return String representation
+     */
+    static String toPlainString(long unscaledValue, int fractionDigits) {
+        if (fractionDigits == 0) {
+            return Long.toString(unscaledValue);
+        }
+        final boolean negative = unscaledValue < 0;
+        // Use negative magnitude so Long.MIN_VALUE needs no special handling
+        long value = negative ? unscaledValue : -unscaledValue;
+        // sign, 19 digits (or 18 fraction digits and leading zero) and decimal point
+        final char[] buffer = new char[22];
+        int position = buffer.length;
+        for (int i = 0; i < fractionDigits; i++) {
+            final long quotient = value / 10;
+            buffer[--position] = (char) ('0' + (quotient * 10 - value));
+            value = quotient;
+        }
+        buffer[--position] = '.';
+        do {
+            final long quotient = value / 10;
+            buffer[--position] = (char) ('0' + (quotient * 10 - value));
+            value = quotient;
+        } while (value != 0);
+        if (negative) {
+            buffer[--position] = '-';
+        }
+        return new String(buffer, position, buffer.length - position);
+    }
+
     //--- setXXX methods
 
     public void setBoolean(boolean value) throws SQLException {
@@ -212,8 +340,17 @@ final class FBBigDecimalField extends FBField {
         SHORT {
             @Override
             protected BigDecimal decode(FieldDescriptor fieldDescriptor, byte[] fieldData) {
-                long value = fieldDescriptor.getDatatypeCoder().decodeShort(fieldData);
-                return BigDecimal.valueOf(value, -1 * fieldDescriptor.getScale());
+                return BigDecimal.valueOf(decodeUnscaled(fieldDescriptor, fieldData), -1 * fieldDescriptor.getScale());
+            }
+
+            @Override
+            protected boolean isScaledLong() {
+                return true;
+            }
+
+            @Override
+            protected long decodeUnscaled(FieldDescriptor fieldDescriptor, byte[] fieldData) {
+                return fieldDescriptor.getDatatypeCoder().decodeShort(fieldData);
             }
 
             @Override
@@ -228,8 +365,17 @@ final class FBBigDecimalField extends FBField {
         INTEGER {
             @Override
             protected BigDecimal decode(FieldDescriptor fieldDescriptor, byte[] fieldData) {
-                long value = fieldDescriptor.getDatatypeCoder().decodeInt(fieldData);
-                return BigDecimal.valueOf(value, -1 * fieldDescriptor.getScale());
+                return BigDecimal.valueOf(decodeUnscaled(fieldDescriptor, fieldData), -1 * fieldDescriptor.getScale());
+            }
+
+            @Override
+            protected boolean isScaledLong() {
+                return true;
+            }
+
+            @Override
+            protected long decodeUnscaled(FieldDescriptor fieldDescriptor, byte[] fieldData) {
+                return fieldDescriptor.getDatatypeCoder().decodeInt(fieldData);
             }
 
             @Override
@@ -244,8 +390,17 @@ final class FBBigDecimalField extends FBField {
         LONG {
             @Override
             protected BigDecimal decode(FieldDescriptor fieldDescriptor, byte[] fieldData) {
-                long value = fieldDescriptor.getDatatypeCoder().decodeLong(fieldData);
-                return BigDecimal.valueOf(value, -1 * fieldDescriptor.getScale());
+                return BigDecimal.valueOf(decodeUnscaled(fieldDescriptor, fieldData), -1 * fieldDescriptor.getScale());
+            }
+
+            @Override
+            protected boolean isScaledLong() {
+                return true;
+            }
+
+            @Override
+            protected long decodeUnscaled(FieldDescriptor fieldDescriptor, byte[] fieldData) {
+                return fieldDescriptor.getDatatypeCoder().decodeLong(fieldData);
             }
 
             @Override
@@ -318,6 +473,29 @@ final class FBBigDecimalField extends FBField {
          */
         protected abstract byte[] encode(FieldDescriptor fieldDescriptor, BigDecimal value) throws SQLException;
 
+        /**
+         * @return {@code true} if the field data is an integral value with an implied scale
+         */
+        protected boolean isScaledLong() {
+            return false;
+        }
+
+        /**
+         * Decodes the provided fieldData to its unscaled value.
+         * <p>
+         * Only supported if {@link #isScaledLong()} returns {@code true}.
+         * </p>
+         *
+         * @param fieldDescriptor
+         *         Field descriptor
+         * @param fieldData
+         *         encoded data
+         * @return Unscaled value
+         */
+        protected long decodeUnscaled(FieldDescriptor fieldDescriptor, byte[] fieldData) {
+            throw new IllegalStateException("Field data size " + this + " is not a scaled long");
+        }
+
         /**
          * Helper method to rescale the BigDecimal to the provided scale and return the unscaled value of
          * the resulting BigDecimal.
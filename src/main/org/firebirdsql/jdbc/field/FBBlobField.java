@@ -19,7 +19,7 @@
 package org.firebirdsql.jdbc.field;
 
 import org.firebirdsql.encodings.Encoding;
-import org.firebirdsql.gds.ng.FbBlob;
+import org.firebirdsql.gds.JaybirdErrorCodes;
 import org.firebirdsql.gds.ng.fields.FieldDescriptor;
 import org.firebirdsql.jdbc.FBBlob;
 import org.firebirdsql.jdbc.FBClob;
@@ -102,26 +102,13 @@ class FBBlobField extends FBField implements FBFlushableField {
 
         final long blobId = getDatatypeCoder().decodeLong(blobIdBuffer);
         synchronized (((Synchronizable) getBlob()).getSynchronizationObject()) {
-            try (FbBlob blobHandle = gdsHelper.openBlob(blobId, FBBlob.SEGMENTED)) {
-                final int blobLength = (int) blobHandle.length();
-                final int bufferLength = gdsHelper.getBlobBufferLength();
-                final byte[] resultBuffer = new byte[blobLength];
-
-                int offset = 0;
-
-                while (offset < blobLength) {
-                    final byte[] segmentBuffer = blobHandle.getSegment(bufferLength);
-
-                    if (segmentBuffer.length == 0) {
-                        // unexpected EOF
-                        throw new TypeConversionException(BYTES_CONVERSION_ERROR);
-                    }
-
-                    System.arraycopy(segmentBuffer, 0, resultBuffer, offset, segmentBuffer.length);
-                    offset += segmentBuffer.length;
+            try {
+                return gdsHelper.readBlob(blobId, FBBlob.SEGMENTED);
+            } catch (SQLException e) {
+                if (e.getErrorCode() == JaybirdErrorCodes.jb_blobUnexpectedEof) {
+                    throw new TypeConversionException(BYTES_CONVERSION_ERROR, e);
                 }
-
-                return resultBuffer;
+                throw e;
             }
         }
     }
@@ -608,6 +608,22 @@ public abstract class FBField {
         throw new TypeConversionException(FBField.BIG_INTEGER_CONVERSION_ERROR);
     }
 
+    /**
+     * Retrieves the value of an exact numeric field as its unscaled long value.
+     * <p>
+     * For example, a {@code NUMERIC(18,2)} with value {@code 12.34} returns {@code 1234}. For integral fields without
+     * scale, this is the same as {@link #getLong()}.
+     * </p>
+     *
+     * @return Unscaled value, or {@code 0} for {@code NULL}
+     * @throws SQLException
+     *         If the field is not an exact numeric backed by {@code SMALLINT}, {@code INTEGER} or {@code BIGINT}
+     * @since 4.0
+     */
+    public long getScaledLong() throws SQLException {
+        throw new TypeConversionException(FBField.LONG_CONVERSION_ERROR);
+    }
+
     public RowId getRowId() throws SQLException {
         throw new TypeConversionException(FBField.ROWID_CONVERSION_ERROR);
     }
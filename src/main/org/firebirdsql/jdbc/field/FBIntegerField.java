@@ -83,6 +83,11 @@ final class FBIntegerField extends FBField {
         return getDatatypeCoder().decodeInt(getFieldData());
     }
 
+    @Override
+    public long getScaledLong() throws SQLException {
+        return getLong();
+    }
+
     @Override
     public float getFloat() throws SQLException {
         if (isNull()) return FLOAT_NULL_VALUE;
@@ -88,6 +88,11 @@ final class FBLongField extends FBField {
         return getDatatypeCoder().decodeLong(getFieldData());
     }
 
+    @Override
+    public long getScaledLong() throws SQLException {
+        return getLong();
+    }
+
     @Override
     public float getFloat() throws SQLException {
         if (isNull()) return FLOAT_NULL_VALUE;
@@ -78,6 +78,11 @@ class FBShortField extends FBField {
         return getDatatypeCoder().decodeShort(getFieldData());
     }
 
+    @Override
+    public long getScaledLong() throws SQLException {
+        return getLong();
+    }
+
     @Override
     public float getFloat() throws SQLException {
         if (isNull()) return FLOAT_NULL_VALUE;
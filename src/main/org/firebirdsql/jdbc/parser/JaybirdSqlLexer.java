@@ -1,449 +0,0 @@
-/*
- * Firebird Open Source JavaEE Connector - JDBC Driver
- *
- * Distributable under LGPL license.
- * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
- *
- * This program is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * LGPL License for more details.
- *
- * This file was created by members of the firebird development team.
- * All individual contributions remain the Copyright (C) of those
- * individuals.  Contributors to this file are either listed here or
- * can be obtained from a source control history command.
- *
- * All rights reserved.
- */
-
-// Generated from D:/Development/project/Jaybird/jaybird/src/main/org/firebirdsql/jdbc/parser\JaybirdSql.g4 by ANTLR 4.7
-package org.firebirdsql.jdbc.parser;
-
-import org.antlr.v4.runtime.*;
-import org.antlr.v4.runtime.atn.ATN;
-import org.antlr.v4.runtime.atn.ATNDeserializer;
-import org.antlr.v4.runtime.atn.LexerATNSimulator;
-import org.antlr.v4.runtime.atn.PredictionContextCache;
-import org.antlr.v4.runtime.dfa.DFA;
-
-@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
-public class JaybirdSqlLexer extends Lexer {
-	static { RuntimeMetaData.checkVersion("4.7", RuntimeMetaData.VERSION); }
-
-	protected static final DFA[] _decisionToDFA;
-	protected static final PredictionContextCache _sharedContextCache =
-		new PredictionContextCache();
-	public static final int
-		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, T__5=6, T__6=7, T__7=8, T__8=9, 
-		T__9=10, T__10=11, ALL=12, AND=13, AS=14, AVG=15, BOTH=16, CAST=17, CHARACTER=18, 
-		COUNT=19, COLLATE=20, DEFAULT=21, DELETE=22, DISTINCT=23, DB_KEY=24, EXTRACT=25, 
-		EXECUTE=26, FOR=27, FROM=28, GEN_ID=29, INSERT=30, INTO=31, LEADING=32, 
-		MATCHING=33, MINIMUM=34, MAXIMUM=35, NULL=36, NEXT=37, OR=38, PROCEDURE=39, 
-		RETURNING=40, SEGMENT=41, SELECT=42, SET=43, SUBSTRING=44, SUB_TYPE=45, 
-		SUM=46, TRIM=47, TRAILING=48, UNKNOWN=49, UPDATE=50, VALUE=51, VALUES=52, 
-		KW_BLOB=53, KW_BIGINT=54, KW_BOOLEAN=55, KW_CHAR=56, KW_DATE=57, KW_DECIMAL=58, 
-		KW_DOUBLE=59, KW_PRECISION=60, KW_FLOAT=61, KW_INTEGER=62, KW_INT=63, 
-		KW_NCHAR=64, KW_NUMERIC=65, KW_NVARCHAR=66, KW_SMALLINT=67, KW_TIME=68, 
-		KW_TIMESTAMP=69, KW_VARCHAR=70, KW_SIZE=71, LEFT_PAREN=72, RIGHT_PAREN=73, 
-		COMMA=74, INTEGER=75, NUMERIC=76, REAL=77, STRING=78, BINARY_STRING=79, 
-		TRUTH_VALUE=80, GENERIC_ID=81, QUOTED_ID=82, SL_COMMENT=83, COMMENT=84, 
-		WS=85;
-	public static String[] channelNames = {
-		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
-	};
-
-	public static String[] modeNames = {
-		"DEFAULT_MODE"
-	};
-
-	public static final String[] ruleNames = {
-		"T__0", "T__1", "T__2", "T__3", "T__4", "T__5", "T__6", "T__7", "T__8", 
-		"T__9", "T__10", "ALL", "AND", "AS", "AVG", "BOTH", "CAST", "CHARACTER", 
-		"COUNT", "COLLATE", "DEFAULT", "DELETE", "DISTINCT", "DB_KEY", "EXTRACT", 
-		"EXECUTE", "FOR", "FROM", "GEN_ID", "INSERT", "INTO", "LEADING", "MATCHING", 
-		"MINIMUM", "MAXIMUM", "NULL", "NEXT", "OR", "PROCEDURE", "RETURNING", 
-		"SEGMENT", "SELECT", "SET", "SUBSTRING", "SUB_TYPE", "SUM", "TRIM", "TRAILING", 
-		"UNKNOWN", "UPDATE", "VALUE", "VALUES", "KW_BLOB", "KW_BIGINT", "KW_BOOLEAN", 
-		"KW_CHAR", "KW_DATE", "KW_DECIMAL", "KW_DOUBLE", "KW_PRECISION", "KW_FLOAT", 
-		"KW_INTEGER", "KW_INT", "KW_NCHAR", "KW_NUMERIC", "KW_NVARCHAR", "KW_SMALLINT", 
-		"KW_TIME", "KW_TIMESTAMP", "KW_VARCHAR", "KW_SIZE", "LEFT_PAREN", "RIGHT_PAREN", 
-		"COMMA", "INTEGER", "NUMERIC", "REAL", "STRING", "BINARY_STRING", "TRUTH_VALUE", 
-		"GENERIC_ID", "QUOTED_ID", "HEXIT", "DIGIT", "ID_LETTER", "ID_NUMBER_OR_SYMBOL", 
-		"ID_QUOTED_UNICODE", "SL_COMMENT", "COMMENT", "WS"
-	};
-
-	private static final String[] _LITERAL_NAMES = {
-		null, "'='", "'.'", "'+'", "'-'", "'*'", "'/'", "'||'", "'?'", "'['", 
-		"']'", "':'", null, null, null, null, null, null, null, null, null, null, 
-		null, null, null, null, null, null, null, null, null, null, null, null, 
-		null, null, null, null, null, null, null, null, null, null, null, null, 
-		null, null, null, null, null, null, null, null, null, null, null, null, 
-		null, null, null, null, null, null, null, null, null, null, null, null, 
-		null, null, "'('", "')'", "','"
-	};
-	private static final String[] _SYMBOLIC_NAMES = {
-		null, null, null, null, null, null, null, null, null, null, null, null, 
-		"ALL", "AND", "AS", "AVG", "BOTH", "CAST", "CHARACTER", "COUNT", "COLLATE", 
-		"DEFAULT", "DELETE", "DISTINCT", "DB_KEY", "EXTRACT", "EXECUTE", "FOR", 
-		"FROM", "GEN_ID", "INSERT", "INTO", "LEADING", "MATCHING", "MINIMUM", 
-		"MAXIMUM", "NULL", "NEXT", "OR", "PROCEDURE", "RETURNING", "SEGMENT", 
-		"SELECT", "SET", "SUBSTRING", "SUB_TYPE", "SUM", "TRIM", "TRAILING", "UNKNOWN", 
-		"UPDATE", "VALUE", "VALUES", "KW_BLOB", "KW_BIGINT", "KW_BOOLEAN", "KW_CHAR", 
-		"KW_DATE", "KW_DECIMAL", "KW_DOUBLE", "KW_PRECISION", "KW_FLOAT", "KW_INTEGER", 
-		"KW_INT", "KW_NCHAR", "KW_NUMERIC", "KW_NVARCHAR", "KW_SMALLINT", "KW_TIME", 
-		"KW_TIMESTAMP", "KW_VARCHAR", "KW_SIZE", "LEFT_PAREN", "RIGHT_PAREN", 
-		"COMMA", "INTEGER", "NUMERIC", "REAL", "STRING", "BINARY_STRING", "TRUTH_VALUE", 
-		"GENERIC_ID", "QUOTED_ID", "SL_COMMENT", "COMMENT", "WS"
-	};
-	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
-
-	/**
-	 * @deprecated Use {@link #VOCABULARY} instead.
-	 */
-	@Deprecated
-	public static final String[] tokenNames;
-	static {
-		tokenNames = new String[_SYMBOLIC_NAMES.length];
-		for (int i = 0; i < tokenNames.length; i++) {
-			tokenNames[i] = VOCABULARY.getLiteralName(i);
-			if (tokenNames[i] == null) {
-				tokenNames[i] = VOCABULARY.getSymbolicName(i);
-			}
-
-			if (tokenNames[i] == null) {
-				tokenNames[i] = "<INVALID>";
-			}
-		}
-	}
-
-	@Override
-	@Deprecated
-	public String[] getTokenNames() {
-		return tokenNames;
-	}
-
-	@Override
-
-	public Vocabulary getVocabulary() {
-		return VOCABULARY;
-	}
-
-
-	protected java.util.ArrayList _errorMessages = new java.util.ArrayList();
-
-	public java.util.Collection getErrorMessages() {
-	    return _errorMessages;
-	}
-
-	public void emitErrorMessage(String msg) {
-	    _errorMessages.add(msg);
-	}
-
-
-	public JaybirdSqlLexer(CharStream input) {
-		super(input);
-		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
-	}
-
-	@Override
-	public String getGrammarFileName() { return "JaybirdSql.g4"; }
-
-	@Override
-	public String[] getRuleNames() { return ruleNames; }
-
-	@Override
-	public String getSerializedATN() { return _serializedATN; }
-
-	@Override
-	public String[] getChannelNames() { return channelNames; }
-
-	@Override
-	public String[] getModeNames() { return modeNames; }
-
-	@Override
-	public ATN getATN() { return _ATN; }
-
-	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\2W\u030e\b\1\4\2\t"+
-		"\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
-		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
-		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
-		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
-		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
-		",\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64\t"+
-		"\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\4:\t:\4;\t;\4<\t<\4=\t="+
-		"\4>\t>\4?\t?\4@\t@\4A\tA\4B\tB\4C\tC\4D\tD\4E\tE\4F\tF\4G\tG\4H\tH\4I"+
-		"\tI\4J\tJ\4K\tK\4L\tL\4M\tM\4N\tN\4O\tO\4P\tP\4Q\tQ\4R\tR\4S\tS\4T\tT"+
-		"\4U\tU\4V\tV\4W\tW\4X\tX\4Y\tY\4Z\tZ\4[\t[\3\2\3\2\3\3\3\3\3\4\3\4\3\5"+
-		"\3\5\3\6\3\6\3\7\3\7\3\b\3\b\3\b\3\t\3\t\3\n\3\n\3\13\3\13\3\f\3\f\3\r"+
-		"\3\r\3\r\3\r\3\16\3\16\3\16\3\16\3\17\3\17\3\17\3\20\3\20\3\20\3\20\3"+
-		"\21\3\21\3\21\3\21\3\21\3\22\3\22\3\22\3\22\3\22\3\23\3\23\3\23\3\23\3"+
-		"\23\3\23\3\23\3\23\3\23\3\23\3\24\3\24\3\24\3\24\3\24\3\24\3\25\3\25\3"+
-		"\25\3\25\3\25\3\25\3\25\3\25\3\26\3\26\3\26\3\26\3\26\3\26\3\26\3\26\3"+
-		"\27\3\27\3\27\3\27\3\27\3\27\3\27\3\30\3\30\3\30\3\30\3\30\3\30\3\30\3"+
-		"\30\3\30\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\32\3\32\3\32\3\32\3\32\3"+
-		"\32\3\32\3\32\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\34\3\34\3\34\3"+
-		"\34\3\35\3\35\3\35\3\35\3\35\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\37\3"+
-		"\37\3\37\3\37\3\37\3\37\3\37\3 \3 \3 \3 \3 \3!\3!\3!\3!\3!\3!\3!\3!\3"+
-		"\"\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3#\3#\3#\3#\3$\3$\3$\3$\3%\3%\3%\3"+
-		"%\3%\3&\3&\3&\3&\3&\3\'\3\'\3\'\3(\3(\3(\3(\3(\3(\3(\3(\3(\3(\3)\3)\3"+
-		")\3)\3)\3)\3)\3)\3)\3)\3*\3*\3*\3*\3*\3*\3*\3*\3+\3+\3+\3+\3+\3+\3+\3"+
-		",\3,\3,\3,\3-\3-\3-\3-\3-\3-\3-\3-\3-\3-\3.\3.\3.\3.\3.\3.\3.\3.\3.\3"+
-		"/\3/\3/\3/\3\60\3\60\3\60\3\60\3\60\3\61\3\61\3\61\3\61\3\61\3\61\3\61"+
-		"\3\61\3\61\3\62\3\62\3\62\3\62\3\62\3\62\3\62\3\62\3\63\3\63\3\63\3\63"+
-		"\3\63\3\63\3\63\3\64\3\64\3\64\3\64\3\64\3\64\3\65\3\65\3\65\3\65\3\65"+
-		"\3\65\3\65\3\66\3\66\3\66\3\66\3\66\3\67\3\67\3\67\3\67\3\67\3\67\3\67"+
-		"\38\38\38\38\38\38\38\38\39\39\39\39\39\3:\3:\3:\3:\3:\3;\3;\3;\3;\3;"+
-		"\3;\3;\3;\3<\3<\3<\3<\3<\3<\3<\3=\3=\3=\3=\3=\3=\3=\3=\3=\3=\3>\3>\3>"+
-		"\3>\3>\3>\3?\3?\3?\3?\3?\3?\3?\3?\3@\3@\3@\3@\3A\3A\3A\3A\3A\3A\3B\3B"+
-		"\3B\3B\3B\3B\3B\3B\3C\3C\3C\3C\3C\3C\3C\3C\3C\3D\3D\3D\3D\3D\3D\3D\3D"+
-		"\3D\3E\3E\3E\3E\3E\3F\3F\3F\3F\3F\3F\3F\3F\3F\3F\3G\3G\3G\3G\3G\3G\3G"+
-		"\3G\3H\3H\3H\3H\3H\3I\3I\3J\3J\3K\3K\3L\5L\u0265\nL\3L\6L\u0268\nL\rL"+
-		"\16L\u0269\3L\5L\u026d\nL\3L\3L\3L\3L\3L\6L\u0274\nL\rL\16L\u0275\5L\u0278"+
-		"\nL\3M\5M\u027b\nM\3M\3M\6M\u027f\nM\rM\16M\u0280\3M\5M\u0284\nM\3M\6"+
-		"M\u0287\nM\rM\16M\u0288\3M\3M\7M\u028d\nM\fM\16M\u0290\13M\5M\u0292\n"+
-		"M\3N\5N\u0295\nN\3N\6N\u0298\nN\rN\16N\u0299\3N\6N\u029d\nN\rN\16N\u029e"+
-		"\3N\3N\5N\u02a3\nN\3N\3N\3O\3O\3O\3O\7O\u02ab\nO\fO\16O\u02ae\13O\3O\3"+
-		"O\3P\3P\3P\3P\3P\7P\u02b7\nP\fP\16P\u02ba\13P\3P\3P\3Q\3Q\3Q\3Q\3Q\3Q"+
-		"\3Q\3Q\3Q\5Q\u02c7\nQ\3R\3R\3R\7R\u02cc\nR\fR\16R\u02cf\13R\3S\3S\6S\u02d3"+
-		"\nS\rS\16S\u02d4\3S\3S\3T\3T\5T\u02db\nT\3U\3U\3V\3V\3W\3W\5W\u02e3\n"+
-		"W\3X\3X\3X\5X\u02e8\nX\3Y\3Y\3Y\3Y\7Y\u02ee\nY\fY\16Y\u02f1\13Y\3Y\5Y"+
-		"\u02f4\nY\3Y\3Y\3Y\3Y\3Z\3Z\3Z\3Z\7Z\u02fe\nZ\fZ\16Z\u0301\13Z\3Z\3Z\3"+
-		"Z\3Z\3Z\3[\6[\u0309\n[\r[\16[\u030a\3[\3[\4\u02ef\u02ff\2\\\3\3\5\4\7"+
-		"\5\t\6\13\7\r\b\17\t\21\n\23\13\25\f\27\r\31\16\33\17\35\20\37\21!\22"+
-		"#\23%\24\'\25)\26+\27-\30/\31\61\32\63\33\65\34\67\359\36;\37= ?!A\"C"+
-		"#E$G%I&K\'M(O)Q*S+U,W-Y.[/]\60_\61a\62c\63e\64g\65i\66k\67m8o9q:s;u<w"+
-		"=y>{?}@\177A\u0081B\u0083C\u0085D\u0087E\u0089F\u008bG\u008dH\u008fI\u0091"+
-		"J\u0093K\u0095L\u0097M\u0099N\u009bO\u009dP\u009fQ\u00a1R\u00a3S\u00a5"+
-		"T\u00a7\2\u00a9\2\u00ab\2\u00ad\2\u00af\2\u00b1U\u00b3V\u00b5W\3\2\"\4"+
-		"\2CCcc\4\2NNnn\4\2PPpp\4\2FFff\4\2UUuu\4\2XXxx\4\2IIii\4\2DDdd\4\2QQq"+
-		"q\4\2VVvv\4\2JJjj\4\2EEee\4\2TTtt\4\2GGgg\4\2WWww\4\2HHhh\4\2KKkk\3\2"+
-		"aa\4\2MMmm\4\2[[{{\4\2ZZzz\4\2OOoo\4\2RRrr\4\2YYyy\4\2\\\\||\3\2))\4\2"+
-		"CHch\3\2\62;\4\2C\\c|\4\2&&aa\4\2\2#%\1\5\2\13\f\17\17\"\"\2\u0326\2\3"+
-		"\3\2\2\2\2\5\3\2\2\2\2\7\3\2\2\2\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2"+
-		"\2\17\3\2\2\2\2\21\3\2\2\2\2\23\3\2\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31"+
-		"\3\2\2\2\2\33\3\2\2\2\2\35\3\2\2\2\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2"+
-		"\2%\3\2\2\2\2\'\3\2\2\2\2)\3\2\2\2\2+\3\2\2\2\2-\3\2\2\2\2/\3\2\2\2\2"+
-		"\61\3\2\2\2\2\63\3\2\2\2\2\65\3\2\2\2\2\67\3\2\2\2\29\3\2\2\2\2;\3\2\2"+
-		"\2\2=\3\2\2\2\2?\3\2\2\2\2A\3\2\2\2\2C\3\2\2\2\2E\3\2\2\2\2G\3\2\2\2\2"+
-		"I\3\2\2\2\2K\3\2\2\2\2M\3\2\2\2\2O\3\2\2\2\2Q\3\2\2\2\2S\3\2\2\2\2U\3"+
-		"\2\2\2\2W\3\2\2\2\2Y\3\2\2\2\2[\3\2\2\2\2]\3\2\2\2\2_\3\2\2\2\2a\3\2\2"+
-		"\2\2c\3\2\2\2\2e\3\2\2\2\2g\3\2\2\2\2i\3\2\2\2\2k\3\2\2\2\2m\3\2\2\2\2"+
-		"o\3\2\2\2\2q\3\2\2\2\2s\3\2\2\2\2u\3\2\2\2\2w\3\2\2\2\2y\3\2\2\2\2{\3"+
-		"\2\2\2\2}\3\2\2\2\2\177\3\2\2\2\2\u0081\3\2\2\2\2\u0083\3\2\2\2\2\u0085"+
-		"\3\2\2\2\2\u0087\3\2\2\2\2\u0089\3\2\2\2\2\u008b\3\2\2\2\2\u008d\3\2\2"+
-		"\2\2\u008f\3\2\2\2\2\u0091\3\2\2\2\2\u0093\3\2\2\2\2\u0095\3\2\2\2\2\u0097"+
-		"\3\2\2\2\2\u0099\3\2\2\2\2\u009b\3\2\2\2\2\u009d\3\2\2\2\2\u009f\3\2\2"+
-		"\2\2\u00a1\3\2\2\2\2\u00a3\3\2\2\2\2\u00a5\3\2\2\2\2\u00b1\3\2\2\2\2\u00b3"+
-		"\3\2\2\2\2\u00b5\3\2\2\2\3\u00b7\3\2\2\2\5\u00b9\3\2\2\2\7\u00bb\3\2\2"+
-		"\2\t\u00bd\3\2\2\2\13\u00bf\3\2\2\2\r\u00c1\3\2\2\2\17\u00c3\3\2\2\2\21"+
-		"\u00c6\3\2\2\2\23\u00c8\3\2\2\2\25\u00ca\3\2\2\2\27\u00cc\3\2\2\2\31\u00ce"+
-		"\3\2\2\2\33\u00d2\3\2\2\2\35\u00d6\3\2\2\2\37\u00d9\3\2\2\2!\u00dd\3\2"+
-		"\2\2#\u00e2\3\2\2\2%\u00e7\3\2\2\2\'\u00f1\3\2\2\2)\u00f7\3\2\2\2+\u00ff"+
-		"\3\2\2\2-\u0107\3\2\2\2/\u010e\3\2\2\2\61\u0117\3\2\2\2\63\u011e\3\2\2"+
-		"\2\65\u0126\3\2\2\2\67\u012e\3\2\2\29\u0132\3\2\2\2;\u0137\3\2\2\2=\u013e"+
-		"\3\2\2\2?\u0145\3\2\2\2A\u014a\3\2\2\2C\u0152\3\2\2\2E\u015b\3\2\2\2G"+
-		"\u015f\3\2\2\2I\u0163\3\2\2\2K\u0168\3\2\2\2M\u016d\3\2\2\2O\u0170\3\2"+
-		"\2\2Q\u017a\3\2\2\2S\u0184\3\2\2\2U\u018c\3\2\2\2W\u0193\3\2\2\2Y\u0197"+
-		"\3\2\2\2[\u01a1\3\2\2\2]\u01aa\3\2\2\2_\u01ae\3\2\2\2a\u01b3\3\2\2\2c"+
-		"\u01bc\3\2\2\2e\u01c4\3\2\2\2g\u01cb\3\2\2\2i\u01d1\3\2\2\2k\u01d8\3\2"+
-		"\2\2m\u01dd\3\2\2\2o\u01e4\3\2\2\2q\u01ec\3\2\2\2s\u01f1\3\2\2\2u\u01f6"+
-		"\3\2\2\2w\u01fe\3\2\2\2y\u0205\3\2\2\2{\u020f\3\2\2\2}\u0215\3\2\2\2\177"+
-		"\u021d\3\2\2\2\u0081\u0221\3\2\2\2\u0083\u0227\3\2\2\2\u0085\u022f\3\2"+
-		"\2\2\u0087\u0238\3\2\2\2\u0089\u0241\3\2\2\2\u008b\u0246\3\2\2\2\u008d"+
-		"\u0250\3\2\2\2\u008f\u0258\3\2\2\2\u0091\u025d\3\2\2\2\u0093\u025f\3\2"+
-		"\2\2\u0095\u0261\3\2\2\2\u0097\u0277\3\2\2\2\u0099\u0291\3\2\2\2\u009b"+
-		"\u0294\3\2\2\2\u009d\u02a6\3\2\2\2\u009f\u02b1\3\2\2\2\u00a1\u02c6\3\2"+
-		"\2\2\u00a3\u02c8\3\2\2\2\u00a5\u02d0\3\2\2\2\u00a7\u02da\3\2\2\2\u00a9"+
-		"\u02dc\3\2\2\2\u00ab\u02de\3\2\2\2\u00ad\u02e2\3\2\2\2\u00af\u02e7\3\2"+
-		"\2\2\u00b1\u02e9\3\2\2\2\u00b3\u02f9\3\2\2\2\u00b5\u0308\3\2\2\2\u00b7"+
-		"\u00b8\7?\2\2\u00b8\4\3\2\2\2\u00b9\u00ba\7\60\2\2\u00ba\6\3\2\2\2\u00bb"+
-		"\u00bc\7-\2\2\u00bc\b\3\2\2\2\u00bd\u00be\7/\2\2\u00be\n\3\2\2\2\u00bf"+
-		"\u00c0\7,\2\2\u00c0\f\3\2\2\2\u00c1\u00c2\7\61\2\2\u00c2\16\3\2\2\2\u00c3"+
-		"\u00c4\7~\2\2\u00c4\u00c5\7~\2\2\u00c5\20\3\2\2\2\u00c6\u00c7\7A\2\2\u00c7"+
-		"\22\3\2\2\2\u00c8\u00c9\7]\2\2\u00c9\24\3\2\2\2\u00ca\u00cb\7_\2\2\u00cb"+
-		"\26\3\2\2\2\u00cc\u00cd\7<\2\2\u00cd\30\3\2\2\2\u00ce\u00cf\t\2\2\2\u00cf"+
-		"\u00d0\t\3\2\2\u00d0\u00d1\t\3\2\2\u00d1\32\3\2\2\2\u00d2\u00d3\t\2\2"+
-		"\2\u00d3\u00d4\t\4\2\2\u00d4\u00d5\t\5\2\2\u00d5\34\3\2\2\2\u00d6\u00d7"+
-		"\t\2\2\2\u00d7\u00d8\t\6\2\2\u00d8\36\3\2\2\2\u00d9\u00da\t\2\2\2\u00da"+
-		"\u00db\t\7\2\2\u00db\u00dc\t\b\2\2\u00dc \3\2\2\2\u00dd\u00de\t\t\2\2"+
-		"\u00de\u00df\t\n\2\2\u00df\u00e0\t\13\2\2\u00e0\u00e1\t\f\2\2\u00e1\""+
-		"\3\2\2\2\u00e2\u00e3\t\r\2\2\u00e3\u00e4\t\2\2\2\u00e4\u00e5\t\6\2\2\u00e5"+
-		"\u00e6\t\13\2\2\u00e6$\3\2\2\2\u00e7\u00e8\t\r\2\2\u00e8\u00e9\t\f\2\2"+
-		"\u00e9\u00ea\t\2\2\2\u00ea\u00eb\t\16\2\2\u00eb\u00ec\t\2\2\2\u00ec\u00ed"+
-		"\t\r\2\2\u00ed\u00ee\t\13\2\2\u00ee\u00ef\t\17\2\2\u00ef\u00f0\t\16\2"+
-		"\2\u00f0&\3\2\2\2\u00f1\u00f2\t\r\2\2\u00f2\u00f3\t\n\2\2\u00f3\u00f4"+
-		"\t\20\2\2\u00f4\u00f5\t\4\2\2\u00f5\u00f6\t\13\2\2\u00f6(\3\2\2\2\u00f7"+
-		"\u00f8\t\r\2\2\u00f8\u00f9\t\n\2\2\u00f9\u00fa\t\3\2\2\u00fa\u00fb\t\3"+
-		"\2\2\u00fb\u00fc\t\2\2\2\u00fc\u00fd\t\13\2\2\u00fd\u00fe\t\17\2\2\u00fe"+
-		"*\3\2\2\2\u00ff\u0100\t\5\2\2\u0100\u0101\t\17\2\2\u0101\u0102\t\21\2"+
-		"\2\u0102\u0103\t\2\2\2\u0103\u0104\t\20\2\2\u0104\u0105\t\3\2\2\u0105"+
-		"\u0106\t\13\2\2\u0106,\3\2\2\2\u0107\u0108\t\5\2\2\u0108\u0109\t\17\2"+
-		"\2\u0109\u010a\t\3\2\2\u010a\u010b\t\17\2\2\u010b\u010c\t\13\2\2\u010c"+
-		"\u010d\t\17\2\2\u010d.\3\2\2\2\u010e\u010f\t\5\2\2\u010f\u0110\t\22\2"+
-		"\2\u0110\u0111\t\6\2\2\u0111\u0112\t\13\2\2\u0112\u0113\t\22\2\2\u0113"+
-		"\u0114\t\4\2\2\u0114\u0115\t\r\2\2\u0115\u0116\t\13\2\2\u0116\60\3\2\2"+
-		"\2\u0117\u0118\t\5\2\2\u0118\u0119\t\t\2\2\u0119\u011a\t\23\2\2\u011a"+
-		"\u011b\t\24\2\2\u011b\u011c\t\17\2\2\u011c\u011d\t\25\2\2\u011d\62\3\2"+
-		"\2\2\u011e\u011f\t\17\2\2\u011f\u0120\t\26\2\2\u0120\u0121\t\13\2\2\u0121"+
-		"\u0122\t\16\2\2\u0122\u0123\t\2\2\2\u0123\u0124\t\r\2\2\u0124\u0125\t"+
-		"\13\2\2\u0125\64\3\2\2\2\u0126\u0127\t\17\2\2\u0127\u0128\t\26\2\2\u0128"+
-		"\u0129\t\17\2\2\u0129\u012a\t\r\2\2\u012a\u012b\t\20\2\2\u012b\u012c\t"+
-		"\13\2\2\u012c\u012d\t\17\2\2\u012d\66\3\2\2\2\u012e\u012f\t\21\2\2\u012f"+
-		"\u0130\t\n\2\2\u0130\u0131\t\16\2\2\u01318\3\2\2\2\u0132\u0133\t\21\2"+
-		"\2\u0133\u0134\t\16\2\2\u0134\u0135\t\n\2\2\u0135\u0136\t\27\2\2\u0136"+
-		":\3\2\2\2\u0137\u0138\t\b\2\2\u0138\u0139\t\17\2\2\u0139\u013a\t\4\2\2"+
-		"\u013a\u013b\t\23\2\2\u013b\u013c\t\22\2\2\u013c\u013d\t\5\2\2\u013d<"+
-		"\3\2\2\2\u013e\u013f\t\22\2\2\u013f\u0140\t\4\2\2\u0140\u0141\t\6\2\2"+
-		"\u0141\u0142\t\17\2\2\u0142\u0143\t\16\2\2\u0143\u0144\t\13\2\2\u0144"+
-		">\3\2\2\2\u0145\u0146\t\22\2\2\u0146\u0147\t\4\2\2\u0147\u0148\t\13\2"+
-		"\2\u0148\u0149\t\n\2\2\u0149@\3\2\2\2\u014a\u014b\t\3\2\2\u014b\u014c"+
-		"\t\17\2\2\u014c\u014d\t\2\2\2\u014d\u014e\t\5\2\2\u014e\u014f\t\22\2\2"+
-		"\u014f\u0150\t\4\2\2\u0150\u0151\t\b\2\2\u0151B\3\2\2\2\u0152\u0153\t"+
-		"\27\2\2\u0153\u0154\t\2\2\2\u0154\u0155\t\13\2\2\u0155\u0156\t\r\2\2\u0156"+
-		"\u0157\t\f\2\2\u0157\u0158\t\22\2\2\u0158\u0159\t\4\2\2\u0159\u015a\t"+
-		"\b\2\2\u015aD\3\2\2\2\u015b\u015c\t\27\2\2\u015c\u015d\t\22\2\2\u015d"+
-		"\u015e\t\4\2\2\u015eF\3\2\2\2\u015f\u0160\t\27\2\2\u0160\u0161\t\2\2\2"+
-		"\u0161\u0162\t\26\2\2\u0162H\3\2\2\2\u0163\u0164\t\4\2\2\u0164\u0165\t"+
-		"\20\2\2\u0165\u0166\t\3\2\2\u0166\u0167\t\3\2\2\u0167J\3\2\2\2\u0168\u0169"+
-		"\t\4\2\2\u0169\u016a\t\17\2\2\u016a\u016b\t\26\2\2\u016b\u016c\t\13\2"+
-		"\2\u016cL\3\2\2\2\u016d\u016e\t\n\2\2\u016e\u016f\t\16\2\2\u016fN\3\2"+
-		"\2\2\u0170\u0171\t\30\2\2\u0171\u0172\t\16\2\2\u0172\u0173\t\n\2\2\u0173"+
-		"\u0174\t\r\2\2\u0174\u0175\t\17\2\2\u0175\u0176\t\5\2\2\u0176\u0177\t"+
-		"\20\2\2\u0177\u0178\t\16\2\2\u0178\u0179\t\17\2\2\u0179P\3\2\2\2\u017a"+
-		"\u017b\t\16\2\2\u017b\u017c\t\17\2\2\u017c\u017d\t\13\2\2\u017d\u017e"+
-		"\t\20\2\2\u017e\u017f\t\16\2\2\u017f\u0180\t\4\2\2\u0180\u0181\t\22\2"+
-		"\2\u0181\u0182\t\4\2\2\u0182\u0183\t\b\2\2\u0183R\3\2\2\2\u0184\u0185"+
-		"\t\6\2\2\u0185\u0186\t\17\2\2\u0186\u0187\t\b\2\2\u0187\u0188\t\27\2\2"+
-		"\u0188\u0189\t\17\2\2\u0189\u018a\t\4\2\2\u018a\u018b\t\13\2\2\u018bT"+
-		"\3\2\2\2\u018c\u018d\t\6\2\2\u018d\u018e\t\17\2\2\u018e\u018f\t\3\2\2"+
-		"\u018f\u0190\t\17\2\2\u0190\u0191\t\r\2\2\u0191\u0192\t\13\2\2\u0192V"+
-		"\3\2\2\2\u0193\u0194\t\6\2\2\u0194\u0195\t\17\2\2\u0195\u0196\t\13\2\2"+
-		"\u0196X\3\2\2\2\u0197\u0198\t\6\2\2\u0198\u0199\t\20\2\2\u0199\u019a\t"+
-		"\t\2\2\u019a\u019b\t\6\2\2\u019b\u019c\t\13\2\2\u019c\u019d\t\16\2\2\u019d"+
-		"\u019e\t\22\2\2\u019e\u019f\t\4\2\2\u019f\u01a0\t\b\2\2\u01a0Z\3\2\2\2"+
-		"\u01a1\u01a2\t\6\2\2\u01a2\u01a3\t\20\2\2\u01a3\u01a4\t\t\2\2\u01a4\u01a5"+
-		"\t\23\2\2\u01a5\u01a6\t\13\2\2\u01a6\u01a7\t\25\2\2\u01a7\u01a8\t\30\2"+
-		"\2\u01a8\u01a9\t\17\2\2\u01a9\\\3\2\2\2\u01aa\u01ab\t\6\2\2\u01ab\u01ac"+
-		"\t\20\2\2\u01ac\u01ad\t\27\2\2\u01ad^\3\2\2\2\u01ae\u01af\t\13\2\2\u01af"+
-		"\u01b0\t\16\2\2\u01b0\u01b1\t\22\2\2\u01b1\u01b2\t\27\2\2\u01b2`\3\2\2"+
-		"\2\u01b3\u01b4\t\13\2\2\u01b4\u01b5\t\16\2\2\u01b5\u01b6\t\2\2\2\u01b6"+
-		"\u01b7\t\22\2\2\u01b7\u01b8\t\3\2\2\u01b8\u01b9\t\22\2\2\u01b9\u01ba\t"+
-		"\4\2\2\u01ba\u01bb\t\b\2\2\u01bbb\3\2\2\2\u01bc\u01bd\t\20\2\2\u01bd\u01be"+
-		"\t\4\2\2\u01be\u01bf\t\24\2\2\u01bf\u01c0\t\4\2\2\u01c0\u01c1\t\n\2\2"+
-		"\u01c1\u01c2\t\31\2\2\u01c2\u01c3\t\4\2\2\u01c3d\3\2\2\2\u01c4\u01c5\t"+
-		"\20\2\2\u01c5\u01c6\t\30\2\2\u01c6\u01c7\t\5\2\2\u01c7\u01c8\t\2\2\2\u01c8"+
-		"\u01c9\t\13\2\2\u01c9\u01ca\t\17\2\2\u01caf\3\2\2\2\u01cb\u01cc\t\7\2"+
-		"\2\u01cc\u01cd\t\2\2\2\u01cd\u01ce\t\3\2\2\u01ce\u01cf\t\20\2\2\u01cf"+
-		"\u01d0\t\17\2\2\u01d0h\3\2\2\2\u01d1\u01d2\t\7\2\2\u01d2\u01d3\t\2\2\2"+
-		"\u01d3\u01d4\t\3\2\2\u01d4\u01d5\t\20\2\2\u01d5\u01d6\t\17\2\2\u01d6\u01d7"+
-		"\t\6\2\2\u01d7j\3\2\2\2\u01d8\u01d9\t\t\2\2\u01d9\u01da\t\3\2\2\u01da"+
-		"\u01db\t\n\2\2\u01db\u01dc\t\t\2\2\u01dcl\3\2\2\2\u01dd\u01de\t\t\2\2"+
-		"\u01de\u01df\t\22\2\2\u01df\u01e0\t\b\2\2\u01e0\u01e1\t\22\2\2\u01e1\u01e2"+
-		"\t\4\2\2\u01e2\u01e3\t\13\2\2\u01e3n\3\2\2\2\u01e4\u01e5\t\t\2\2\u01e5"+
-		"\u01e6\t\n\2\2\u01e6\u01e7\t\n\2\2\u01e7\u01e8\t\3\2\2\u01e8\u01e9\t\17"+
-		"\2\2\u01e9\u01ea\t\2\2\2\u01ea\u01eb\t\4\2\2\u01ebp\3\2\2\2\u01ec\u01ed"+
-		"\t\r\2\2\u01ed\u01ee\t\f\2\2\u01ee\u01ef\t\2\2\2\u01ef\u01f0\t\16\2\2"+
-		"\u01f0r\3\2\2\2\u01f1\u01f2\t\5\2\2\u01f2\u01f3\t\2\2\2\u01f3\u01f4\t"+
-		"\13\2\2\u01f4\u01f5\t\17\2\2\u01f5t\3\2\2\2\u01f6\u01f7\t\5\2\2\u01f7"+
-		"\u01f8\t\17\2\2\u01f8\u01f9\t\r\2\2\u01f9\u01fa\t\22\2\2\u01fa\u01fb\t"+
-		"\27\2\2\u01fb\u01fc\t\2\2\2\u01fc\u01fd\t\3\2\2\u01fdv\3\2\2\2\u01fe\u01ff"+
-		"\t\5\2\2\u01ff\u0200\t\n\2\2\u0200\u0201\t\20\2\2\u0201\u0202\t\t\2\2"+
-		"\u0202\u0203\t\3\2\2\u0203\u0204\t\17\2\2\u0204x\3\2\2\2\u0205\u0206\t"+
-		"\30\2\2\u0206\u0207\t\16\2\2\u0207\u0208\t\17\2\2\u0208\u0209\t\r\2\2"+
-		"\u0209\u020a\t\22\2\2\u020a\u020b\t\6\2\2\u020b\u020c\t\22\2\2\u020c\u020d"+
-		"\t\n\2\2\u020d\u020e\t\4\2\2\u020ez\3\2\2\2\u020f\u0210\t\21\2\2\u0210"+
-		"\u0211\t\3\2\2\u0211\u0212\t\n\2\2\u0212\u0213\t\2\2\2\u0213\u0214\t\13"+
-		"\2\2\u0214|\3\2\2\2\u0215\u0216\t\22\2\2\u0216\u0217\t\4\2\2\u0217\u0218"+
-		"\t\13\2\2\u0218\u0219\t\17\2\2\u0219\u021a\t\b\2\2\u021a\u021b\t\17\2"+
-		"\2\u021b\u021c\t\16\2\2\u021c~\3\2\2\2\u021d\u021e\t\22\2\2\u021e\u021f"+
-		"\t\4\2\2\u021f\u0220\t\13\2\2\u0220\u0080\3\2\2\2\u0221\u0222\t\4\2\2"+
-		"\u0222\u0223\t\r\2\2\u0223\u0224\t\f\2\2\u0224\u0225\t\2\2\2\u0225\u0226"+
-		"\t\16\2\2\u0226\u0082\3\2\2\2\u0227\u0228\t\4\2\2\u0228\u0229\t\20\2\2"+
-		"\u0229\u022a\t\27\2\2\u022a\u022b\t\17\2\2\u022b\u022c\t\16\2\2\u022c"+
-		"\u022d\t\22\2\2\u022d\u022e\t\r\2\2\u022e\u0084\3\2\2\2\u022f\u0230\t"+
-		"\4\2\2\u0230\u0231\t\7\2\2\u0231\u0232\t\2\2\2\u0232\u0233\t\16\2\2\u0233"+
-		"\u0234\t\r\2\2\u0234\u0235\t\f\2\2\u0235\u0236\t\2\2\2\u0236\u0237\t\16"+
-		"\2\2\u0237\u0086\3\2\2\2\u0238\u0239\t\6\2\2\u0239\u023a\t\27\2\2\u023a"+
-		"\u023b\t\2\2\2\u023b\u023c\t\3\2\2\u023c\u023d\t\3\2\2\u023d\u023e\t\22"+
-		"\2\2\u023e\u023f\t\4\2\2\u023f\u0240\t\13\2\2\u0240\u0088\3\2\2\2\u0241"+
-		"\u0242\t\13\2\2\u0242\u0243\t\22\2\2\u0243\u0244\t\27\2\2\u0244\u0245"+
-		"\t\17\2\2\u0245\u008a\3\2\2\2\u0246\u0247\t\13\2\2\u0247\u0248\t\22\2"+
-		"\2\u0248\u0249\t\27\2\2\u0249\u024a\t\17\2\2\u024a\u024b\t\6\2\2\u024b"+
-		"\u024c\t\13\2\2\u024c\u024d\t\2\2\2\u024d\u024e\t\27\2\2\u024e\u024f\t"+
-		"\30\2\2\u024f\u008c\3\2\2\2\u0250\u0251\t\7\2\2\u0251\u0252\t\2\2\2\u0252"+
-		"\u0253\t\16\2\2\u0253\u0254\t\r\2\2\u0254\u0255\t\f\2\2\u0255\u0256\t"+
-		"\2\2\2\u0256\u0257\t\16\2\2\u0257\u008e\3\2\2\2\u0258\u0259\t\6\2\2\u0259"+
-		"\u025a\t\22\2\2\u025a\u025b\t\32\2\2\u025b\u025c\t\17\2\2\u025c\u0090"+
-		"\3\2\2\2\u025d\u025e\7*\2\2\u025e\u0092\3\2\2\2\u025f\u0260\7+\2\2\u0260"+
-		"\u0094\3\2\2\2\u0261\u0262\7.\2\2\u0262\u0096\3\2\2\2\u0263\u0265\7/\2"+
-		"\2\u0264\u0263\3\2\2\2\u0264\u0265\3\2\2\2\u0265\u0267\3\2\2\2\u0266\u0268"+
-		"\5\u00a9U\2\u0267\u0266\3\2\2\2\u0268\u0269\3\2\2\2\u0269\u0267\3\2\2"+
-		"\2\u0269\u026a\3\2\2\2\u026a\u0278\3\2\2\2\u026b\u026d\7/\2\2\u026c\u026b"+
-		"\3\2\2\2\u026c\u026d\3\2\2\2\u026d\u026e\3\2\2\2\u026e\u026f\7\62\2\2"+
-		"\u026f\u0273\t\26\2\2\u0270\u0271\5\u00a7T\2\u0271\u0272\5\u00a7T\2\u0272"+
-		"\u0274\3\2\2\2\u0273\u0270\3\2\2\2\u0274\u0275\3\2\2\2\u0275\u0273\3\2"+
-		"\2\2\u0275\u0276\3\2\2\2\u0276\u0278\3\2\2\2\u0277\u0264\3\2\2\2\u0277"+
-		"\u026c\3\2\2\2\u0278\u0098\3\2\2\2\u0279\u027b\7/\2\2\u027a\u0279\3\2"+
-		"\2\2\u027a\u027b\3\2\2\2\u027b\u027c\3\2\2\2\u027c\u027e\7\60\2\2\u027d"+
-		"\u027f\5\u00a9U\2\u027e\u027d\3\2\2\2\u027f\u0280\3\2\2\2\u0280\u027e"+
-		"\3\2\2\2\u0280\u0281\3\2\2\2\u0281\u0292\3\2\2\2\u0282\u0284\7/\2\2\u0283"+
-		"\u0282\3\2\2\2\u0283\u0284\3\2\2\2\u0284\u0286\3\2\2\2\u0285\u0287\5\u00a9"+
-		"U\2\u0286\u0285\3\2\2\2\u0287\u0288\3\2\2\2\u0288\u0286\3\2\2\2\u0288"+
-		"\u0289\3\2\2\2\u0289\u028a\3\2\2\2\u028a\u028e\7\60\2\2\u028b\u028d\5"+
-		"\u00a9U\2\u028c\u028b\3\2\2\2\u028d\u0290\3\2\2\2\u028e\u028c\3\2\2\2"+
-		"\u028e\u028f\3\2\2\2\u028f\u0292\3\2\2\2\u0290\u028e\3\2\2\2\u0291\u027a"+
-		"\3\2\2\2\u0291\u0283\3\2\2\2\u0292\u009a\3\2\2\2\u0293\u0295\7/\2\2\u0294"+
-		"\u0293\3\2\2\2\u0294\u0295\3\2\2\2\u0295\u029c\3\2\2\2\u0296\u0298\5\u00a9"+
-		"U\2\u0297\u0296\3\2\2\2\u0298\u0299\3\2\2\2\u0299\u0297\3\2\2\2\u0299"+
-		"\u029a\3\2\2\2\u029a\u029d\3\2\2\2\u029b\u029d\5\u0099M\2\u029c\u0297"+
-		"\3\2\2\2\u029c\u029b\3\2\2\2\u029d\u029e\3\2\2\2\u029e\u029c\3\2\2\2\u029e"+
-		"\u029f\3\2\2\2\u029f\u02a0\3\2\2\2\u02a0\u02a2\t\17\2\2\u02a1\u02a3\7"+
-		"/\2\2\u02a2\u02a1\3\2\2\2\u02a2\u02a3\3\2\2\2\u02a3\u02a4\3\2\2\2\u02a4"+
-		"\u02a5\4\62;\2\u02a5\u009c\3\2\2\2\u02a6\u02ac\7)\2\2\u02a7\u02ab\n\33"+
-		"\2\2\u02a8\u02a9\7)\2\2\u02a9\u02ab\7)\2\2\u02aa\u02a7\3\2\2\2\u02aa\u02a8"+
-		"\3\2\2\2\u02ab\u02ae\3\2\2\2\u02ac\u02aa\3\2\2\2\u02ac\u02ad\3\2\2\2\u02ad"+
-		"\u02af\3\2\2\2\u02ae\u02ac\3\2\2\2\u02af\u02b0\7)\2\2\u02b0\u009e\3\2"+
-		"\2\2\u02b1\u02b2\t\26\2\2\u02b2\u02b8\7)\2\2\u02b3\u02b4\5\u00a7T\2\u02b4"+
-		"\u02b5\5\u00a7T\2\u02b5\u02b7\3\2\2\2\u02b6\u02b3\3\2\2\2\u02b7\u02ba"+
-		"\3\2\2\2\u02b8\u02b6\3\2\2\2\u02b8\u02b9\3\2\2\2\u02b9\u02bb\3\2\2\2\u02ba"+
-		"\u02b8\3\2\2\2\u02bb\u02bc\7)\2\2\u02bc\u00a0\3\2\2\2\u02bd\u02be\t\13"+
-		"\2\2\u02be\u02bf\t\16\2\2\u02bf\u02c0\t\20\2\2\u02c0\u02c7\t\17\2\2\u02c1"+
-		"\u02c2\t\21\2\2\u02c2\u02c3\t\2\2\2\u02c3\u02c4\t\3\2\2\u02c4\u02c5\t"+
-		"\6\2\2\u02c5\u02c7\t\17\2\2\u02c6\u02bd\3\2\2\2\u02c6\u02c1\3\2\2\2\u02c7"+
-		"\u00a2\3\2\2\2\u02c8\u02cd\5\u00abV\2\u02c9\u02cc\5\u00abV\2\u02ca\u02cc"+
-		"\5\u00adW\2\u02cb\u02c9\3\2\2\2\u02cb\u02ca\3\2\2\2\u02cc\u02cf\3\2\2"+
-		"\2\u02cd\u02cb\3\2\2\2\u02cd\u02ce\3\2\2\2\u02ce\u00a4\3\2\2\2\u02cf\u02cd"+
-		"\3\2\2\2\u02d0\u02d2\7$\2\2\u02d1\u02d3\5\u00afX\2\u02d2\u02d1\3\2\2\2"+
-		"\u02d3\u02d4\3\2\2\2\u02d4\u02d2\3\2\2\2\u02d4\u02d5\3\2\2\2\u02d5\u02d6"+
-		"\3\2\2\2\u02d6\u02d7\7$\2\2\u02d7\u00a6\3\2\2\2\u02d8\u02db\5\u00a9U\2"+
-		"\u02d9\u02db\t\34\2\2\u02da\u02d8\3\2\2\2\u02da\u02d9\3\2\2\2\u02db\u00a8"+
-		"\3\2\2\2\u02dc\u02dd\t\35\2\2\u02dd\u00aa\3\2\2\2\u02de\u02df\t\36\2\2"+
-		"\u02df\u00ac\3\2\2\2\u02e0\u02e3\5\u00a9U\2\u02e1\u02e3\t\37\2\2\u02e2"+
-		"\u02e0\3\2\2\2\u02e2\u02e1\3\2\2\2\u02e3\u00ae\3\2\2\2\u02e4\u02e8\t "+
-		"\2\2\u02e5\u02e6\7$\2\2\u02e6\u02e8\7$\2\2\u02e7\u02e4\3\2\2\2\u02e7\u02e5"+
-		"\3\2\2\2\u02e8\u00b0\3\2\2\2\u02e9\u02ea\7/\2\2\u02ea\u02eb\7/\2\2\u02eb"+
-		"\u02ef\3\2\2\2\u02ec\u02ee\13\2\2\2\u02ed\u02ec\3\2\2\2\u02ee\u02f1\3"+
-		"\2\2\2\u02ef\u02f0\3\2\2\2\u02ef\u02ed\3\2\2\2\u02f0\u02f3\3\2\2\2\u02f1"+
-		"\u02ef\3\2\2\2\u02f2\u02f4\7\17\2\2\u02f3\u02f2\3\2\2\2\u02f3\u02f4\3"+
-		"\2\2\2\u02f4\u02f5\3\2\2\2\u02f5\u02f6\7\f\2\2\u02f6\u02f7\3\2\2\2\u02f7"+
-		"\u02f8\bY\2\2\u02f8\u00b2\3\2\2\2\u02f9\u02fa\7\61\2\2\u02fa\u02fb\7,"+
-		"\2\2\u02fb\u02ff\3\2\2\2\u02fc\u02fe\13\2\2\2\u02fd\u02fc\3\2\2\2\u02fe"+
-		"\u0301\3\2\2\2\u02ff\u0300\3\2\2\2\u02ff\u02fd\3\2\2\2\u0300\u0302\3\2"+
-		"\2\2\u0301\u02ff\3\2\2\2\u0302\u0303\7,\2\2\u0303\u0304\7\61\2\2\u0304"+
-		"\u0305\3\2\2\2\u0305\u0306\bZ\2\2\u0306\u00b4\3\2\2\2\u0307\u0309\t!\2"+
-		"\2\u0308\u0307\3\2\2\2\u0309\u030a\3\2\2\2\u030a\u0308\3\2\2\2\u030a\u030b"+
-		"\3\2\2\2\u030b\u030c\3\2\2\2\u030c\u030d\b[\2\2\u030d\u00b6\3\2\2\2!\2"+
-		"\u0264\u0269\u026c\u0275\u0277\u027a\u0280\u0283\u0288\u028e\u0291\u0294"+
-		"\u0299\u029c\u029e\u02a2\u02aa\u02ac\u02b8\u02c6\u02cb\u02cd\u02d4\u02da"+
-		"\u02e2\u02e7\u02ef\u02f3\u02ff\u030a\3\b\2\2";
-	public static final ATN _ATN =
-		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
-	static {
-		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
-		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
-			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
-		}
-	}
-}
\ No newline at end of file
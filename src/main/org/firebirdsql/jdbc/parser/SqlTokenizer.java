@@ -0,0 +1,253 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.jdbc.parser;
+
+/**
+ * Single pass tokenizer for Firebird SQL statement text.
+ * <p>
+ * The tokenizer does not allocate objects per token: the current token is described by its type and its start and
+ * end offsets in the statement text. Whitespace and comments ({@code -- ...} and {@code /* ... *&#47;}) are skipped.
+ * </p>
+ * <p>
+ * Recognized tokens are generic identifiers (which includes keywords), quoted identifiers, string literals (including
+ * Firebird 3 alternate quoting: {@code q'{...}'}), numbers and single character symbols. The tokenizer is lenient: it
+ * does not report errors, unterminated literals, identifiers or comments extend to the end of the statement text.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ *
+ * @since 4.0
+ */
+final class SqlTokenizer {
+
+    enum TokenType {
+        /**
+         * Unquoted identifier or keyword.
+         */
+        GENERIC_IDENTIFIER,
+        QUOTED_IDENTIFIER,
+        STRING_LITERAL,
+        NUMBER,
+        /**
+         * Any other (single) character.
+         */
+        SYMBOL
+    }
+
+    private final String sql;
+    private final int length;
+    private int position;
+    private TokenType tokenType;
+    private int tokenStart;
+    private int tokenEnd;
+
+    SqlTokenizer(String sql) {
+        this.sql = sql;
+        this.length = sql.length();
+    }
+
+    /**
+     * Advances to the next token.
+     *
+     * @return {@code true} if there is a next token, {@code false} if the end of the statement text has been reached
+     */
+    boolean next() {
+        skipWhitespaceAndComments();
+        if (position >= length) {
+            tokenType = null;
+            tokenStart = tokenEnd = length;
+            return false;
+        }
+        tokenStart = position;
+        final char c = sql.charAt(position);
+        if (c == '"') {
+            tokenType = TokenType.QUOTED_IDENTIFIER;
+            position = endOfQuoted(position + 1, '"');
+        } else if (c == '\'') {
+            tokenType = TokenType.STRING_LITERAL;
+            position = endOfQuoted(position + 1, '\'');
+        } else if ((c == 'q' || c == 'Q') && position + 2 < length && sql.charAt(position + 1) == '\'') {
+            tokenType = TokenType.STRING_LITERAL;
+            position = endOfAlternateQuoted(position + 2);
+        } else if (Character.isLetter(c)) {
+            tokenType = TokenType.GENERIC_IDENTIFIER;
+            position = endOfIdentifier(position + 1);
+        } else if (isDigit(c) || c == '.' && position + 1 < length && isDigit(sql.charAt(position + 1))) {
+            tokenType = TokenType.NUMBER;
+            position = endOfNumber(position + 1);
+        } else {
+            tokenType = TokenType.SYMBOL;
+            position++;
+        }
+        tokenEnd = position;
+        return true;
+    }
+
+    /**
+     * @return Statement text of this tokenizer
+     */
+    String sql() {
+        return sql;
+    }
+
+    /**
+     * @return Type of the current token, {@code null} at the end of the statement text
+     */
+    TokenType tokenType() {
+        return tokenType;
+    }
+
+    int tokenStart() {
+        return tokenStart;
+    }
+
+    int tokenEnd() {
+        return tokenEnd;
+    }
+
+    /**
+     * @return Text of the current token as it occurs in the statement text (including quotes)
+     */
+    String tokenText() {
+        return sql.substring(tokenStart, tokenEnd);
+    }
+
+    /**
+     * Checks if the current token is the specified keyword.
+     *
+     * @param keyword
+     *         Keyword (in uppercase)
+     * @return {@code true} if the current token is a generic identifier equal (ignoring case) to {@code keyword}
+     */
+    boolean isKeyword(String keyword) {
+        return tokenType == TokenType.GENERIC_IDENTIFIER
+                && tokenEnd - tokenStart == keyword.length()
+                && sql.regionMatches(true, tokenStart, keyword, 0, keyword.length());
+    }
+
+    /**
+     * Checks if the current token is the specified symbol.
+     *
+     * @param symbol
+     *         Symbol character
+     * @return {@code true} if the current token is a symbol equal to {@code symbol}
+     */
+    boolean isSymbol(char symbol) {
+        return tokenType == TokenType.SYMBOL && sql.charAt(tokenStart) == symbol;
+    }
+
+    /**
+     * @return {@code true} if the current token is a generic or quoted identifier
+     */
+    boolean isIdentifier() {
+        return tokenType == TokenType.GENERIC_IDENTIFIER || tokenType == TokenType.QUOTED_IDENTIFIER;
+    }
+
+    private void skipWhitespaceAndComments() {
+        while (position < length) {
+            final char c = sql.charAt(position);
+            if (Character.isWhitespace(c)) {
+                position++;
+            } else if (c == '-' && position + 1 < length && sql.charAt(position + 1) == '-') {
+                final int endOfLine = sql.indexOf('\n', position + 2);
+                position = endOfLine == -1 ? length : endOfLine + 1;
+            } else if (c == '/' && position + 1 < length && sql.charAt(position + 1) == '*') {
+                final int endOfComment = sql.indexOf("*/", position + 2);
+                position = endOfComment == -1 ? length : endOfComment + 2;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private int endOfQuoted(int start, char quote) {
+        int current = start;
+        while (current < length) {
+            if (sql.charAt(current++) == quote) {
+                if (current < length && sql.charAt(current) == quote) {
+                    // doubled quote is an escaped quote
+                    current++;
+                } else {
+                    return current;
+                }
+            }
+        }
+        return length;
+    }
+
+    private int endOfAlternateQuoted(int delimiterPosition) {
+        final char endDelimiter = alternateEndDelimiter(sql.charAt(delimiterPosition));
+        int current = delimiterPosition + 1;
+        while (current + 1 < length) {
+            if (sql.charAt(current) == endDelimiter && sql.charAt(current + 1) == '\'') {
+                return current + 2;
+            }
+            current++;
+        }
+        return length;
+    }
+
+    private static char alternateEndDelimiter(char startDelimiter) {
+        switch (startDelimiter) {
+        case '(':
+            return ')';
+        case '{':
+            return '}';
+        case '[':
+            return ']';
+        case '<':
+            return '>';
+        default:
+            return startDelimiter;
+        }
+    }
+
+    private int endOfIdentifier(int start) {
+        int current = start;
+        while (current < length) {
+            final char c = sql.charAt(current);
+            if (!(Character.isLetterOrDigit(c) || c == '_' || c == '$')) {
+                break;
+            }
+            current++;
+        }
+        return current;
+    }
+
+    private int endOfNumber(int start) {
+        int current = start;
+        while (current < length) {
+            final char c = sql.charAt(current);
+            if (isDigit(c) || c == '.' || Character.isLetter(c)) {
+                current++;
+            } else if ((c == '-' || c == '+') && (sql.charAt(current - 1) == 'e' || sql.charAt(current - 1) == 'E')) {
+                // exponent sign
+                current++;
+            } else {
+                break;
+            }
+        }
+        return current;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
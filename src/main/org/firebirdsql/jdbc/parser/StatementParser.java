@@ -19,8 +19,7 @@
 package org.firebirdsql.jdbc.parser;
 
 /**
- * Interface for accessing the parser. This is intended to shield the rest of Jaybird from
- * problems when the antlr-runtime is not on the classpath.
+ * Interface for accessing the parser for generated keys support.
  * 
  * @author <a href="mailto:mrotteveel@users.sourceforge.net">Mark Rotteveel</a>
  * @since 2.2
@@ -18,14 +18,17 @@
  */
 package org.firebirdsql.jdbc.parser;
 
-import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.RecognitionException;
-
 /**
- * Concrete implementation for accessing the parser. This is intended to shield the rest of Jaybird from
- * problems when the antlr-runtime is not on the classpath.
+ * Hand-written implementation of the statement parser for generated keys support.
+ * <p>
+ * This parser makes a single pass over the statement text using {@link SqlTokenizer}. It only recognizes the parts of
+ * {@code INSERT}, {@code UPDATE}, {@code DELETE} and {@code UPDATE OR INSERT} statements that are needed for generated
+ * keys support: the statement type, the table name, the column list of an insert and the {@code RETURNING} clause.
+ * Other parts of the statement are skipped without validation.
+ * </p>
+ * <p>
+ * Before Jaybird 4, this was implemented using an ANTLR grammar and required antlr-runtime on the classpath.
+ * </p>
  * 
  * @author <a href="mailto:mrotteveel@users.sourceforge.net">Mark Rotteveel</a>
  * @since 2.2
@@ -33,25 +36,152 @@ import org.antlr.v4.runtime.RecognitionException;
 public class StatementParserImpl implements StatementParser {
 
     public JaybirdStatementModel parseInsertStatement(String sql) throws ParseException {
-        try {
-            CharStream stream = CharStreams.fromString(sql);
-            JaybirdSqlLexer lexer = new JaybirdSqlLexer(stream);
-            CommonTokenStream tokenStream = new CommonTokenStream(lexer);
-            
-            JaybirdSqlParser parser = new JaybirdSqlParser(tokenStream);
-            parser.getErrorListeners().clear();
-            parser.statement();
-
-            JaybirdStatementModel statementModel = parser.getStatementModel();
-            if (statementModel.getStatementType() == JaybirdStatementModel.UNDETECTED_TYPE) {
-                throw new ParseException("Unable to detect statement type or unsupported statement type");
-            }
-            if (statementModel.getTableName() == null) {
+        final SqlTokenizer tokenizer = new SqlTokenizer(sql);
+        final JaybirdStatementModel statementModel = new JaybirdStatementModel();
+        if (!tokenizer.next()) {
+            throw new ParseException("Unable to detect statement type or unsupported statement type");
+        }
+
+        if (tokenizer.isKeyword("INSERT")) {
+            statementModel.setStatementType(JaybirdStatementModel.INSERT_TYPE);
+            parseInsertTarget(tokenizer, statementModel);
+        } else if (tokenizer.isKeyword("UPDATE")) {
+            if (!tokenizer.next()) {
                 throw new ParseException("Unable to parse query: no table name found");
             }
-            return statementModel;
-        } catch (RecognitionException e) {
-            throw new ParseException("Unable to parse query", e);
+            if (tokenizer.isKeyword("OR")) {
+                expectKeyword(tokenizer, "INSERT");
+                statementModel.setStatementType(JaybirdStatementModel.UPDATE_OR_INSERT_TYPE);
+                parseInsertTarget(tokenizer, statementModel);
+            } else {
+                statementModel.setStatementType(JaybirdStatementModel.UPDATE_TYPE);
+                parseTableName(tokenizer, statementModel);
+                tokenizer.next();
+            }
+        } else if (tokenizer.isKeyword("DELETE")) {
+            statementModel.setStatementType(JaybirdStatementModel.DELETE_TYPE);
+            expectKeyword(tokenizer, "FROM");
+            tokenizer.next();
+            parseTableName(tokenizer, statementModel);
+            tokenizer.next();
+        } else {
+            throw new ParseException("Unable to detect statement type or unsupported statement type");
+        }
+
+        parseUntilReturning(tokenizer, statementModel);
+        return statementModel;
+    }
+
+    /**
+     * Parses {@code INTO tableName [(columnList)] [DEFAULT VALUES]}, positions the tokenizer on the first token after
+     * these parts.
+     */
+    private static void parseInsertTarget(SqlTokenizer tokenizer, JaybirdStatementModel statementModel)
+            throws ParseException {
+        expectKeyword(tokenizer, "INTO");
+        tokenizer.next();
+        parseTableName(tokenizer, statementModel);
+        if (!tokenizer.next()) {
+            return;
+        }
+        if (tokenizer.isSymbol('(')) {
+            parseInsertColumns(tokenizer, statementModel);
+            if (!tokenizer.next()) {
+                return;
+            }
+        }
+        if (tokenizer.isKeyword("DEFAULT")) {
+            if (tokenizer.next() && tokenizer.isKeyword("VALUES")) {
+                statementModel.setDefaultValues(true);
+                tokenizer.next();
+            }
+        }
+    }
+
+    private static void parseTableName(SqlTokenizer tokenizer, JaybirdStatementModel statementModel)
+            throws ParseException {
+        if (!tokenizer.isIdentifier()) {
+            throw new ParseException("Unable to parse query: no table name found");
+        }
+        statementModel.setTableName(tokenizer.tokenText());
+    }
+
+    /**
+     * Parses the column list of an insert, the tokenizer must be positioned on the opening parenthesis, and will be
+     * positioned on the closing parenthesis when done.
+     */
+    private static void parseInsertColumns(SqlTokenizer tokenizer, JaybirdStatementModel statementModel)
+            throws ParseException {
+        while (tokenizer.next()) {
+            if (tokenizer.isIdentifier()) {
+                statementModel.addColumn(tokenizer.tokenText());
+            } else {
+                throw new ParseException("Unable to parse query: expected column name, found: "
+                        + tokenizer.tokenText());
+            }
+            if (!tokenizer.next()) {
+                break;
+            } else if (tokenizer.isSymbol(')')) {
+                return;
+            } else if (!tokenizer.isSymbol(',')) {
+                throw new ParseException("Unable to parse query: expected ',' or ')', found: " + tokenizer.tokenText());
+            }
+        }
+        throw new ParseException("Unable to parse query: unexpected end of column list");
+    }
+
+    /**
+     * Skips tokens until the {@code RETURNING} clause at the top level of the statement (if any), and parses the
+     * items of the returning clause. The tokenizer must be positioned on the first token to check.
+     */
+    private static void parseUntilReturning(SqlTokenizer tokenizer, JaybirdStatementModel statementModel) {
+        int depth = 0;
+        while (tokenizer.tokenType() != null) {
+            if (tokenizer.isSymbol('(')) {
+                depth++;
+            } else if (tokenizer.isSymbol(')')) {
+                depth--;
+            } else if (depth == 0 && tokenizer.isKeyword("RETURNING")) {
+                parseReturningItems(tokenizer, statementModel);
+                return;
+            }
+            tokenizer.next();
+        }
+    }
+
+    private static void parseReturningItems(SqlTokenizer tokenizer, JaybirdStatementModel statementModel) {
+        final String sql = tokenizer.sql();
+        int depth = 0;
+        int itemStart = -1;
+        int itemEnd = -1;
+        while (tokenizer.next()) {
+            if (depth == 0 && (tokenizer.isSymbol(',') || tokenizer.isSymbol(';') || tokenizer.isKeyword("INTO"))) {
+                if (itemStart != -1) {
+                    statementModel.addReturningColumn(sql.substring(itemStart, itemEnd));
+                    itemStart = -1;
+                }
+                if (!tokenizer.isSymbol(',')) {
+                    return;
+                }
+                continue;
+            } else if (tokenizer.isSymbol('(')) {
+                depth++;
+            } else if (tokenizer.isSymbol(')')) {
+                depth--;
+            }
+            if (itemStart == -1) {
+                itemStart = tokenizer.tokenStart();
+            }
+            itemEnd = tokenizer.tokenEnd();
+        }
+        if (itemStart != -1) {
+            statementModel.addReturningColumn(sql.substring(itemStart, itemEnd));
+        }
+    }
+
+    private static void expectKeyword(SqlTokenizer tokenizer, String keyword) throws ParseException {
+        if (!(tokenizer.next() && tokenizer.isKeyword(keyword))) {
+            throw new ParseException("Unable to parse query: expected " + keyword);
         }
     }
 }
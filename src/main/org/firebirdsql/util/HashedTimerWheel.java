@@ -0,0 +1,295 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.util;
+
+import org.firebirdsql.logging.Logger;
+import org.firebirdsql.logging.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hashed timer wheel for timeouts that are usually cancelled before they expire (eg query timeouts).
+ * <p>
+ * Timeouts are placed in one of a fixed number of buckets based on their deadline tick. Scheduling and cancelling a
+ * timeout is O(1) and does not allocate: timeouts are intrusive list nodes (subclasses of {@link Timeout}) that can be
+ * reused after they expired or were cancelled. A single daemon thread advances the wheel once per tick and runs the
+ * expired timeouts; the thread is started on demand and stops after being idle for a while.
+ * </p>
+ * <p>
+ * Expiration has a granularity of one tick: a timeout expires between its delay and its delay plus one tick. Expired
+ * timeouts are run on the timer thread, so {@link Timeout#expired(long)} should be short and must not block for long.
+ * </p>
+ * <p>
+ * Expired timeouts are run after the wheel lock is released, so a timeout can be cancelled (or even rescheduled)
+ * between the moment it expired and the moment {@link Timeout#expired(long)} is called. Each scheduling of a timeout
+ * has a generation number, implementations should ignore an expiration for a generation that is no longer current.
+ * </p>
+ *
+ * @since 4.0
+ */
+@InternalApi
+public final class HashedTimerWheel {
+
+    private static final Logger log = LoggerFactory.getLogger(HashedTimerWheel.class);
+    private static final long IDLE_TIME_BEFORE_EXIT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final String threadName;
+    private final long tickNanos;
+    private final int mask;
+    private final Timeout[] buckets;
+    private final Object lock = new Object();
+    // fields below are guarded by lock
+    private long currentTick;
+    private int pendingCount;
+    private Thread worker;
+
+    /**
+     * Creates a timer wheel.
+     *
+     * @param threadName
+     *         Name of the timer thread
+     * @param tickDuration
+     *         Duration of a tick
+     * @param unit
+     *         Unit of {@code tickDuration}
+     * @param wheelSize
+     *         Number of buckets (rounded up to a power of two)
+     */
+    public HashedTimerWheel(String threadName, long tickDuration, TimeUnit unit, int wheelSize) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration should be positive, was: " + tickDuration);
+        }
+        if (wheelSize < 1 || wheelSize > 1 << 16) {
+            throw new IllegalArgumentException("wheelSize should be between 1 and 65536, was: " + wheelSize);
+        }
+        this.threadName = threadName;
+        this.tickNanos = unit.toNanos(tickDuration);
+        final int normalizedSize = Integer.highestOneBit(wheelSize - 1) << 1;
+        buckets = new Timeout[Math.max(1, normalizedSize)];
+        mask = buckets.length - 1;
+    }
+
+    /**
+     * Schedules a timeout.
+     *
+     * @param timeout
+     *         Timeout to schedule (must not be scheduled already)
+     * @param delay
+     *         Delay until expiration
+     * @param unit
+     *         Unit of {@code delay}
+     * @return Generation of this scheduling of the timeout, passed to {@link Timeout#expired(long)}
+     * @throws IllegalStateException
+     *         If the timeout is already scheduled
+     */
+    public long schedule(Timeout timeout, long delay, TimeUnit unit) {
+        final long delayTicks = Math.max(1, (unit.toNanos(delay) + tickNanos - 1) / tickNanos);
+        synchronized (lock) {
+            if (timeout.wheel != null) {
+                throw new IllegalStateException("Timeout already scheduled");
+            }
+            timeout.wheel = this;
+            timeout.generation++;
+            timeout.deadlineTick = currentTick + delayTicks;
+            final int bucketIndex = (int) (timeout.deadlineTick & mask);
+            final Timeout head = buckets[bucketIndex];
+            timeout.next = head;
+            if (head != null) {
+                head.previous = timeout;
+            }
+            buckets[bucketIndex] = timeout;
+            pendingCount++;
+            if (worker == null) {
+                startWorker();
+            }
+            return timeout.generation;
+        }
+    }
+
+    /**
+     * Cancels a timeout.
+     *
+     * @param timeout
+     *         Timeout to cancel
+     * @return {@code true} if the timeout was cancelled, {@code false} if it was not scheduled on this wheel (eg it
+     * already expired)
+     */
+    public boolean cancel(Timeout timeout) {
+        synchronized (lock) {
+            if (timeout.wheel != this) {
+                return false;
+            }
+            unlink(timeout);
+            return true;
+        }
+    }
+
+    /**
+     * @return Number of scheduled timeouts
+     */
+    public int getPendingCount() {
+        synchronized (lock) {
+            return pendingCount;
+        }
+    }
+
+    private void unlink(Timeout timeout) {
+        final Timeout previous = timeout.previous;
+        final Timeout next = timeout.next;
+        if (previous != null) {
+            previous.next = next;
+        } else {
+            buckets[(int) (timeout.deadlineTick & mask)] = next;
+        }
+        if (next != null) {
+            next.previous = previous;
+        }
+        timeout.previous = null;
+        timeout.next = null;
+        timeout.wheel = null;
+        pendingCount--;
+    }
+
+    private void startWorker() {
+        final Thread thread = new Thread(new Worker(), threadName);
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    /**
+     * Advances the wheel to {@code targetTick}, collecting the expired timeouts.
+     *
+     * @return Expired timeouts, linked through {@link Timeout#nextExpired}, or {@code null} if none expired
+     */
+    private Timeout advanceTo(long targetTick) {
+        Timeout expired = null;
+        synchronized (lock) {
+            while (currentTick < targetTick) {
+                currentTick++;
+                Timeout timeout = buckets[(int) (currentTick & mask)];
+                while (timeout != null) {
+                    final Timeout next = timeout.next;
+                    if (timeout.deadlineTick <= currentTick) {
+                        unlink(timeout);
+                        timeout.expiredGeneration = timeout.generation;
+                        timeout.nextExpired = expired;
+                        expired = timeout;
+                    }
+                    timeout = next;
+                }
+            }
+        }
+        return expired;
+    }
+
+    private final class Worker implements Runnable {
+
+        @Override
+        public void run() {
+            final long startNanos = System.nanoTime();
+            final long startTick;
+            synchronized (lock) {
+                startTick = currentTick;
+            }
+            long idleSinceNanos = -1;
+            try {
+                while (true) {
+                    final long elapsedNanos = System.nanoTime() - startNanos;
+                    final long targetTick = startTick + elapsedNanos / tickNanos;
+                    Timeout expired = advanceTo(targetTick);
+                    while (expired != null) {
+                        final Timeout next = expired.nextExpired;
+                        expired.nextExpired = null;
+                        runExpired(expired);
+                        expired = next;
+                    }
+
+                    synchronized (lock) {
+                        if (pendingCount == 0) {
+                            final long now = System.nanoTime();
+                            if (idleSinceNanos == -1) {
+                                idleSinceNanos = now;
+                            } else if (now - idleSinceNanos >= IDLE_TIME_BEFORE_EXIT_NANOS) {
+                                worker = null;
+                                return;
+                            }
+                        } else {
+                            idleSinceNanos = -1;
+                        }
+                    }
+
+                    final long sleepNanos = (targetTick - startTick + 1) * tickNanos - (System.nanoTime() - startNanos);
+                    if (sleepNanos > 0) {
+                        TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                    }
+                }
+            } catch (InterruptedException e) {
+                log.debug("Timer thread " + threadName + " interrupted, stopping");
+                synchronized (lock) {
+                    worker = null;
+                    if (pendingCount > 0) {
+                        startWorker();
+                    }
+                }
+            }
+        }
+
+        private void runExpired(Timeout timeout) {
+            try {
+                timeout.expired(timeout.expiredGeneration);
+            } catch (Throwable t) {
+                log.warn("Exception running expired timeout; see debug level for stack trace");
+                log.debug("Exception running expired timeout", t);
+            }
+        }
+    }
+
+    /**
+     * Timeout that can be scheduled on a {@link HashedTimerWheel}.
+     * <p>
+     * A timeout can only be scheduled once at a time, but can be rescheduled after it expired or was cancelled.
+     * </p>
+     */
+    public abstract static class Timeout {
+
+        // fields below are guarded by the lock of the wheel
+        private HashedTimerWheel wheel;
+        private long generation;
+        private long deadlineTick;
+        private Timeout previous;
+        private Timeout next;
+        // fields below are set under the lock of the wheel, and only used by the timer thread afterwards
+        private long expiredGeneration;
+        private Timeout nextExpired;
+
+        /**
+         * Called on the timer thread when the timeout expired.
+         * <p>
+         * The timeout may have been cancelled or rescheduled after it expired and before this method is called;
+         * implementations should compare {@code generation} with the value returned by
+         * {@link HashedTimerWheel#schedule(Timeout, long, TimeUnit)}.
+         * </p>
+         *
+         * @param generation
+         *         Generation of the scheduling that expired
+         */
+        protected abstract void expired(long generation);
+    }
+}
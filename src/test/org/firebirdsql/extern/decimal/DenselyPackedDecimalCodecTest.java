@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2018 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.extern.decimal;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link DenselyPackedDecimalCodec}, including the long arithmetic paths used for Decimal32, Decimal64 and
+ * Decimal128.
+ */
+public class DenselyPackedDecimalCodecTest {
+
+    private static final int[] DIGITS = { 7, 16, 34 };
+
+    @Test
+    public void roundTripEachGroupValueInEachPosition() {
+        for (int numberOfDigits : DIGITS) {
+            final DenselyPackedDecimalCodec codec = new DenselyPackedDecimalCodec(numberOfDigits);
+            final int groups = numberOfDigits / DenselyPackedDecimalCodec.DIGITS_PER_GROUP;
+            for (int group = 0; group < groups; group++) {
+                final BigInteger multiplier = BigInteger.valueOf(1000).pow(group);
+                for (int groupValue = 0; groupValue < 1000; groupValue++) {
+                    final BigInteger value = BigInteger.valueOf(groupValue).multiply(multiplier);
+                    assertRoundTrip(codec, numberOfDigits, value);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void roundTripRandomValues() {
+        final Random random = new Random(3141592653L);
+        for (int numberOfDigits : DIGITS) {
+            final DenselyPackedDecimalCodec codec = new DenselyPackedDecimalCodec(numberOfDigits);
+            for (int i = 0; i < 10000; i++) {
+                final int digits = 1 + random.nextInt(numberOfDigits);
+                final BigInteger value = new BigInteger(digits * 4, random)
+                        .mod(BigInteger.TEN.pow(digits));
+                assertRoundTrip(codec, numberOfDigits, value);
+            }
+        }
+    }
+
+    @Test
+    public void roundTripMaximumValues() {
+        for (int numberOfDigits : DIGITS) {
+            final DenselyPackedDecimalCodec codec = new DenselyPackedDecimalCodec(numberOfDigits);
+            assertRoundTrip(codec, numberOfDigits, BigInteger.TEN.pow(numberOfDigits).subtract(BigInteger.ONE));
+        }
+    }
+
+    @Test
+    public void decodeNegative() {
+        final DenselyPackedDecimalCodec codec = new DenselyPackedDecimalCodec(34);
+        final byte[] decBytes = new byte[16];
+        final BigInteger value = new BigInteger("1234567890123456789012345678901234");
+        final int firstDigit = codec.encodeValue(value, decBytes);
+
+        assertEquals(value.negate(), codec.decodeValue(Signum.NEGATIVE, firstDigit, decBytes));
+        assertEquals(new BigDecimal(value.negate(), 5),
+                codec.decodeBigDecimal(Signum.NEGATIVE, firstDigit, decBytes, 5));
+    }
+
+    @Test
+    public void decimal64KnownEncodings() {
+        assertKnownEncoding(Decimal64.valueOf("1"), "2238000000000001");
+        assertKnownEncoding(Decimal64.valueOf("-7.50"), "a2300000000003d0");
+        assertKnownEncoding(Decimal64.valueOf("9.999999999999999E+384"), "77fcff3fcff3fcff");
+    }
+
+    @Test
+    public void decimal128KnownEncodings() {
+        assertKnownEncoding(Decimal128.valueOf("1"), "22080000000000000000000000000001");
+        assertKnownEncoding(Decimal128.valueOf("-7.50"), "a20780000000000000000000000003d0");
+        assertKnownEncoding(Decimal128.valueOf("9.999999999999999999999999999999999E+6144"),
+                "77ffcff3fcff3fcff3fcff3fcff3fcff");
+    }
+
+    @Test
+    public void specialValuesRoundTrip() {
+        final Decimal128[] decimal128Values = { Decimal128.POSITIVE_INFINITY, Decimal128.NEGATIVE_INFINITY,
+                Decimal128.POSITIVE_NAN, Decimal128.NEGATIVE_NAN, Decimal128.POSITIVE_SIGNALING_NAN,
+                Decimal128.NEGATIVE_SIGNALING_NAN };
+        for (Decimal128 value : decimal128Values) {
+            assertEquals(value, Decimal128.parseBytes(value.toBytes()));
+        }
+        final Decimal64[] decimal64Values = { Decimal64.POSITIVE_INFINITY, Decimal64.NEGATIVE_INFINITY,
+                Decimal64.POSITIVE_NAN, Decimal64.NEGATIVE_NAN, Decimal64.POSITIVE_SIGNALING_NAN,
+                Decimal64.NEGATIVE_SIGNALING_NAN };
+        for (Decimal64 value : decimal64Values) {
+            assertEquals(value, Decimal64.parseBytes(value.toBytes()));
+        }
+    }
+
+    private static void assertRoundTrip(DenselyPackedDecimalCodec codec, int numberOfDigits, BigInteger value) {
+        final byte[] decBytes = new byte[numberOfDigits == 7 ? 4 : numberOfDigits == 16 ? 8 : 16];
+        final int firstDigit = codec.encodeValue(value, decBytes);
+
+        assertEquals("Unexpected decoded value", value, codec.decodeValue(Signum.POSITIVE, firstDigit, decBytes));
+        assertEquals("Unexpected decoded BigDecimal value", new BigDecimal(value, 2),
+                codec.decodeBigDecimal(Signum.POSITIVE, firstDigit, decBytes, 2));
+    }
+
+    private static void assertKnownEncoding(Decimal<?> value, String expectedHex) {
+        final byte[] expectedBytes = new BigInteger(expectedHex, 16).toByteArray();
+        final byte[] expected = new byte[expectedHex.length() / 2];
+        System.arraycopy(expectedBytes, Math.max(0, expectedBytes.length - expected.length), expected,
+                Math.max(0, expected.length - expectedBytes.length),
+                Math.min(expected.length, expectedBytes.length));
+
+        assertArrayEquals("Unexpected encoding for " + value, expected, value.toBytes());
+        if (value instanceof Decimal64) {
+            assertEquals(value, Decimal64.parseBytes(expected));
+        } else {
+            assertEquals(value, Decimal128.parseBytes(expected));
+        }
+    }
+}
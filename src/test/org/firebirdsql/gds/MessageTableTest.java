@@ -0,0 +1,115 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeNotNull;
+
+/**
+ * Tests for {@link MessageTable}.
+ */
+public class MessageTableTest {
+
+    @Test
+    public void lookupOfValues() {
+        final Map<Integer, String> values = new HashMap<>();
+        values.put(335544321, "arithmetic exception, numeric overflow, or string truncation");
+        values.put(-1, "negative code");
+        values.put(337248256, "Jaybird message with {0} and non-ASCII \u00e9\u20ac");
+        values.put(42, "arithmetic exception, numeric overflow, or string truncation");
+        final MessageTable table = MessageTable.of(values);
+
+        assertEquals(values.size(), table.size());
+        for (Map.Entry<Integer, String> entry : values.entrySet()) {
+            assertEquals(entry.getValue(), table.get(entry.getKey()));
+        }
+        assertNull(table.get(0));
+        assertNull(table.get(Integer.MAX_VALUE));
+        assertNull(table.get(Integer.MIN_VALUE));
+    }
+
+    @Test
+    public void emptyTable() {
+        final MessageTable table = MessageTable.of(new HashMap<Integer, String>());
+
+        assertEquals(0, table.size());
+        assertNull(table.get(1));
+    }
+
+    @Test
+    public void identicalValuesAreStoredOnce() {
+        final Map<Integer, String> values = new HashMap<>();
+        values.put(1, "HY000");
+        final int singleSize = MessageTable.toBytes(values).length;
+        values.put(2, "HY000");
+
+        // Second entry only adds code, offset and length
+        assertEquals(singleSize + 3 * 4, MessageTable.toBytes(values).length);
+    }
+
+    @Test
+    public void readRoundTrip() throws IOException {
+        final Map<Integer, String> values = new HashMap<>();
+        values.put(1, "one");
+        values.put(2, "two");
+
+        final MessageTable table = MessageTable.read(new ByteArrayInputStream(MessageTable.toBytes(values)));
+
+        assertEquals("one", table.get(1));
+        assertEquals("two", table.get(2));
+    }
+
+    @Test(expected = IOException.class)
+    public void readInvalidData() throws IOException {
+        MessageTable.read(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12 }));
+    }
+
+    @Test
+    public void generatedMessageTableMatchesPropertyFiles() throws Exception {
+        assertGeneratedTableMatches(GDSExceptionHelper.MESSAGES_TABLE,
+                GDSExceptionHelper.loadResource(false, GDSExceptionHelper.MESSAGES, GDSExceptionHelper.JAYBIRD_MESSAGES));
+    }
+
+    @Test
+    public void generatedSQLStateTableMatchesPropertyFiles() throws Exception {
+        assertGeneratedTableMatches(GDSExceptionHelper.SQLSTATES_TABLE,
+                GDSExceptionHelper.loadResource(true, GDSExceptionHelper.SQLSTATES, GDSExceptionHelper.JAYBIRD_SQLSTATES));
+    }
+
+    private static void assertGeneratedTableMatches(String tableResource, Map<Integer, String> expectedValues)
+            throws IOException {
+        try (InputStream in = MessageTableTest.class.getResourceAsStream("/" + tableResource)) {
+            assumeNotNull(in);
+            final MessageTable table = MessageTable.read(in);
+
+            assertEquals("Unexpected number of entries in " + tableResource, expectedValues.size(), table.size());
+            for (Map.Entry<Integer, String> entry : expectedValues.entrySet()) {
+                assertEquals("Unexpected value for " + entry.getKey(), entry.getValue(), table.get(entry.getKey()));
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.impl;
+
+import org.firebirdsql.encodings.EncodingFactory;
+import org.firebirdsql.gds.DatabaseParameterBuffer;
+import org.firebirdsql.gds.ISCConstants;
+import org.firebirdsql.gds.TransactionParameterBuffer;
+import org.firebirdsql.gds.impl.wire.XdrOutputStream;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the caching of the serialized form of the arguments in {@link ParameterBufferBase}.
+ */
+public class ParameterBufferBaseTest {
+
+    @Test
+    public void toBytesReflectsModifications() {
+        TransactionParameterBuffer tpb = createTpb();
+        byte[] original = tpb.toBytes();
+
+        tpb.addArgument(ISCConstants.isc_tpb_read);
+
+        byte[] afterAdd = tpb.toBytes();
+        assertArrayEquals(appendByte(original, ISCConstants.isc_tpb_read), afterAdd);
+
+        tpb.removeArgument(ISCConstants.isc_tpb_read);
+
+        assertArrayEquals(original, tpb.toBytes());
+    }
+
+    @Test
+    public void toBytesReturnsCopy() {
+        TransactionParameterBuffer tpb = createTpb();
+        byte[] original = tpb.toBytes();
+
+        tpb.toBytes()[0] = 42;
+
+        assertArrayEquals(original, tpb.toBytes());
+    }
+
+    @Test
+    public void toBytesWithTypeIsTypeFollowedByArguments() {
+        TransactionParameterBuffer tpb = createTpb();
+
+        byte[] bytesWithType = tpb.toBytesWithType();
+
+        assertEquals(ISCConstants.isc_tpb_version3, bytesWithType[0]);
+        assertArrayEquals(tpb.toBytes(), Arrays.copyOfRange(bytesWithType, 1, bytesWithType.length));
+    }
+
+    @Test
+    public void deepCopyIsIndependentOfOriginal() {
+        TransactionParameterBuffer tpb = createTpb();
+        byte[] original = tpb.toBytes();
+        TransactionParameterBuffer copy = tpb.deepCopy();
+
+        copy.addArgument(ISCConstants.isc_tpb_read);
+
+        assertArrayEquals("original unchanged", original, tpb.toBytes());
+        assertArrayEquals("copy changed", appendByte(original, ISCConstants.isc_tpb_read), copy.toBytes());
+        assertEquals("original", createTpb(), tpb);
+    }
+
+    @Test
+    public void writeTypedWritesSerializedArguments() throws Exception {
+        DatabaseParameterBuffer dpb = new DatabaseParameterBufferImp(
+                DatabaseParameterBufferImp.DpbMetaData.DPB_VERSION_1, EncodingFactory.getPlatformEncoding());
+        dpb.addArgument(ISCConstants.isc_dpb_sql_dialect, 3);
+        dpb.addArgument(ISCConstants.isc_dpb_lc_ctype, "UTF8");
+        byte[] bytesWithType = dpb.toBytesWithType();
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        XdrOutputStream xdrOut = new XdrOutputStream(target);
+
+        xdrOut.writeTyped(dpb);
+        xdrOut.flush();
+
+        byte[] written = target.toByteArray();
+        assertEquals("length", bytesWithType.length, written[3]);
+        assertArrayEquals(bytesWithType, Arrays.copyOfRange(written, 4, 4 + bytesWithType.length));
+        assertEquals("padded to multiple of 4", 0, written.length % 4);
+    }
+
+    private static TransactionParameterBuffer createTpb() {
+        TransactionParameterBuffer tpb = new TransactionParameterBufferImpl();
+        tpb.addArgument(ISCConstants.isc_tpb_read_committed);
+        tpb.addArgument(ISCConstants.isc_tpb_rec_version);
+        tpb.addArgument(ISCConstants.isc_tpb_write);
+        tpb.addArgument(ISCConstants.isc_tpb_wait);
+        return tpb;
+    }
+
+    private static byte[] appendByte(byte[] bytes, int value) {
+        byte[] result = Arrays.copyOf(bytes, bytes.length + 1);
+        result[bytes.length] = (byte) value;
+        return result;
+    }
+}
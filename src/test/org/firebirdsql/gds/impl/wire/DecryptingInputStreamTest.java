@@ -0,0 +1,73 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.impl.wire;
+
+import org.junit.Test;
+
+import javax.crypto.Cipher;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import static org.firebirdsql.gds.impl.wire.EncryptingOutputStreamTest.arc4;
+import static org.firebirdsql.gds.impl.wire.EncryptingOutputStreamTest.randomData;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link DecryptingInputStream}.
+ */
+public class DecryptingInputStreamTest {
+
+    @Test
+    public void decryptsMixedReadsLikeSingleCipherOperation() throws Exception {
+        byte[] data = randomData(100_000);
+        byte[] encrypted = arc4(Cipher.ENCRYPT_MODE).doFinal(data);
+        InputStream in = new DecryptingInputStream(new ByteArrayInputStream(encrypted), arc4(Cipher.DECRYPT_MODE));
+
+        byte[] result = new byte[data.length];
+        result[0] = (byte) in.read();
+        assertEquals(10, in.read(result, 1, 10));
+        int position = 11;
+        int count;
+        while ((count = in.read(result, position, Math.min(7000, result.length - position))) > 0) {
+            position += count;
+        }
+
+        assertEquals("length", data.length, position);
+        assertArrayEquals(data, result);
+        assertEquals("end of stream", -1, in.read());
+    }
+
+    @Test
+    public void skipKeepsCipherInSync() throws Exception {
+        byte[] data = randomData(10_000);
+        byte[] encrypted = arc4(Cipher.ENCRYPT_MODE).doFinal(data);
+        InputStream in = new DecryptingInputStream(new ByteArrayInputStream(encrypted), arc4(Cipher.DECRYPT_MODE));
+
+        assertEquals(data[0], (byte) in.read());
+        assertEquals(5000, in.skip(5000));
+        assertEquals(data[5001], (byte) in.read());
+    }
+
+    @Test
+    public void markNotSupported() {
+        InputStream in = new DecryptingInputStream(new ByteArrayInputStream(new byte[0]), null);
+
+        assertFalse(in.markSupported());
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.impl.wire;
+
+import org.junit.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link EncryptingOutputStream}.
+ */
+public class EncryptingOutputStreamTest {
+
+    private static final byte[] KEY = "encrypting output stream key".getBytes();
+
+    @Test
+    public void encryptsMixedWritesLikeSingleCipherOperation() throws Exception {
+        byte[] data = randomData(100_000);
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        EncryptingOutputStream out = new EncryptingOutputStream(target, arc4(Cipher.ENCRYPT_MODE), 1024);
+
+        out.write(data[0]);
+        out.write(data, 1, 10);
+        // larger than the buffer
+        out.write(data, 11, 5000);
+        out.write(data, 5011, data.length - 5011);
+        out.flush();
+
+        assertArrayEquals(arc4(Cipher.ENCRYPT_MODE).doFinal(data), target.toByteArray());
+    }
+
+    @Test
+    public void doesNotModifyCallerData() throws Exception {
+        byte[] data = randomData(4096);
+        byte[] original = data.clone();
+        EncryptingOutputStream out = new EncryptingOutputStream(new ByteArrayOutputStream(),
+                arc4(Cipher.ENCRYPT_MODE), 1024);
+
+        out.write(data, 0, data.length);
+        out.flush();
+
+        assertArrayEquals(original, data);
+    }
+
+    @Test
+    public void writesOnlyOnFlushOrFullBuffer() throws Exception {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        EncryptingOutputStream out = new EncryptingOutputStream(target, arc4(Cipher.ENCRYPT_MODE), 16);
+
+        out.write(new byte[15], 0, 15);
+        assertEquals("before buffer full", 0, target.size());
+        out.write(new byte[2], 0, 2);
+        assertEquals("after buffer full", 16, target.size());
+        out.flush();
+        assertEquals("after flush", 17, target.size());
+    }
+
+    @Test
+    public void xdrOutputStreamRoundTripWithXdrInputStream() throws Exception {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        XdrOutputStream xdrOut = new XdrOutputStream(target);
+        xdrOut.writeInt(1);
+        xdrOut.setCipher(arc4(Cipher.ENCRYPT_MODE));
+        byte[] buffer = randomData(70_000);
+        xdrOut.writeInt(2);
+        xdrOut.writeBuffer(buffer);
+        xdrOut.writeLong(3);
+        xdrOut.flush();
+
+        byte[] written = target.toByteArray();
+        assertArrayEquals("unencrypted int", new byte[] { 0, 0, 0, 1 }, Arrays.copyOf(written, 4));
+        XdrInputStream xdrIn = new XdrInputStream(new ByteArrayInputStream(written, 4, written.length - 4));
+        xdrIn.setCipher(arc4(Cipher.DECRYPT_MODE));
+        assertEquals(2, xdrIn.readInt());
+        assertArrayEquals(buffer, xdrIn.readBuffer());
+        assertEquals(3, xdrIn.readLong());
+    }
+
+    static Cipher arc4(int mode) throws Exception {
+        Cipher cipher = Cipher.getInstance("ARCFOUR");
+        cipher.init(mode, new SecretKeySpec(KEY, "ARCFOUR"));
+        return cipher;
+    }
+
+    static byte[] randomData(int size) {
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        return data;
+    }
+}
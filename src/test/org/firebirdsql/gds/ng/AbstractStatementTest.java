@@ -209,6 +209,39 @@ public abstract class AbstractStatementTest {
         assertEquals("Expected a single row to have been fetched", 1, statementListener.getRows().size());
     }
 
+    @Test
+    public void testSelect_NoParameters_Execute_withPrefetch() throws Exception {
+        allocateStatement();
+        statement.prepare(
+                "SELECT RDB$DESCRIPTION AS \"Description\", RDB$RELATION_ID, RDB$SECURITY_CLASS, RDB$CHARACTER_SET_NAME " +
+                        "FROM RDB$DATABASE");
+        statement.setPrefetchSize(10);
+
+        final SimpleStatementListener statementListener = new SimpleStatementListener();
+        statement.addStatementListener(statementListener);
+
+        statement.execute(RowValue.EMPTY_ROW_VALUE);
+
+        assertEquals("Expected hasResultSet to be set to true", Boolean.TRUE, statementListener.hasResultSet());
+        assertNull("Expected allRowsFetched not set yet", statementListener.isAllRowsFetched());
+        assertEquals("Expected prefetched rows not to be sent to listeners yet", 0,
+                statementListener.getRows().size());
+
+        statement.fetchRows(10);
+
+        assertEquals("Expected allRowsFetched to be set to true", Boolean.TRUE, statementListener.isAllRowsFetched());
+        assertEquals("Expected a single row to have been fetched", 1, statementListener.getRows().size());
+
+        statement.closeCursor();
+        final SimpleStatementListener statementListener2 = new SimpleStatementListener();
+        statement.addStatementListener(statementListener2);
+        statement.execute(RowValue.EMPTY_ROW_VALUE);
+        statement.fetchRows(10);
+
+        assertEquals("Expected allRowsFetched to be set to true", Boolean.TRUE, statementListener2.isAllRowsFetched());
+        assertEquals("Expected a single row to have been fetched", 1, statementListener2.getRows().size());
+    }
+
     @Test
     public void testSelect_WithParameters_Describe() throws Exception {
         allocateStatement();
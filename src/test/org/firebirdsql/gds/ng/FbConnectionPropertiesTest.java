@@ -20,6 +20,10 @@
  */
 package org.firebirdsql.gds.ng;
 
+import org.firebirdsql.encodings.EncodingFactory;
+import org.firebirdsql.gds.DatabaseParameterBuffer;
+import org.firebirdsql.gds.ISCConstants;
+import org.firebirdsql.gds.impl.DatabaseParameterBufferImp;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -32,8 +36,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertNull;
+import static org.junit.Assert.*;
 
 /**
  * Tests for {@link FbConnectionProperties}
@@ -172,6 +175,58 @@ public class FbConnectionPropertiesTest {
         info.setWireCrypt(null);
     }
 
+    @Test
+    public void testMinimalDescribe() {
+        assertFalse(info.isMinimalDescribe());
+        info.setMinimalDescribe(true);
+        assertTrue(info.isMinimalDescribe());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testMinimalDescribeFromDpb() throws Exception {
+        DatabaseParameterBuffer dpb = new DatabaseParameterBufferImp(
+                DatabaseParameterBufferImp.DpbMetaData.DPB_VERSION_1, EncodingFactory.getPlatformEncoding());
+        dpb.addArgument(ISCConstants.isc_dpb_minimal_describe);
+
+        info.fromDpb(dpb);
+
+        assertTrue(info.isMinimalDescribe());
+        assertFalse("Expected minimalDescribe not in extra database parameters",
+                info.getExtraDatabaseParameters().hasArgument(ISCConstants.isc_dpb_minimal_describe));
+    }
+
+    @Test
+    public void testAdaptiveFetchBufferSize() {
+        assertEquals(0, info.getAdaptiveFetchBufferSize());
+        final int adaptiveFetchBufferSize = 64 * 1024;
+        info.setAdaptiveFetchBufferSize(adaptiveFetchBufferSize);
+        assertEquals(adaptiveFetchBufferSize, info.getAdaptiveFetchBufferSize());
+    }
+
+    @Test
+    public void testBlobReadAhead() {
+        assertEquals(0, info.getBlobReadAhead());
+        final int blobReadAhead = 8;
+        info.setBlobReadAhead(blobReadAhead);
+        assertEquals(blobReadAhead, info.getBlobReadAhead());
+    }
+
+    @Test
+    public void testBlobWriteBatchSize() {
+        assertEquals(0, info.getBlobWriteBatchSize());
+        final int blobWriteBatchSize = 1024 * 1024;
+        info.setBlobWriteBatchSize(blobWriteBatchSize);
+        assertEquals(blobWriteBatchSize, info.getBlobWriteBatchSize());
+    }
+
+    @Test
+    public void testAbortOnValidationTimeout() {
+        assertFalse(info.isAbortOnValidationTimeout());
+        info.setAbortOnValidationTimeout(true);
+        assertTrue(info.isAbortOnValidationTimeout());
+    }
+
     @Test
     public void testCopyConstructor() throws Exception {
         info.setDatabaseName("testValue");
@@ -0,0 +1,126 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.ng;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the lock statistics of {@link SyncObject}.
+ */
+public class SyncObjectTest {
+
+    @Test
+    public void testUncontendedAcquisition() {
+        SyncObject syncObject = new SyncObject();
+
+        final long lockRequested = SyncObject.lockRequested(syncObject);
+        synchronized (syncObject) {
+            SyncObject.lockAcquired(syncObject, lockRequested);
+            assertTrue("Expected lock held", Thread.holdsLock(syncObject));
+        }
+
+        assertEquals("lockAcquisitionCount", 1, syncObject.getLockAcquisitionCount());
+        assertEquals("contendedLockAcquisitionCount", 0, syncObject.getContendedLockAcquisitionCount());
+        assertEquals("lockWaitTimeNanos", 0, syncObject.getLockWaitTimeNanos());
+    }
+
+    @Test
+    public void testContendedAcquisition() throws Exception {
+        final SyncObject syncObject = new SyncObject();
+        final CountDownLatch lockHeld = new CountDownLatch(1);
+        Thread waiter = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    lockHeld.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                final long lockRequested = SyncObject.lockRequested(syncObject);
+                synchronized (syncObject) {
+                    SyncObject.lockAcquired(syncObject, lockRequested);
+                    // nothing to do
+                }
+            }
+        };
+        waiter.start();
+        synchronized (syncObject) {
+            lockHeld.countDown();
+            Thread.sleep(50);
+        }
+        waiter.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertEquals("lockAcquisitionCount", 1, syncObject.getLockAcquisitionCount());
+        assertEquals("contendedLockAcquisitionCount", 1, syncObject.getContendedLockAcquisitionCount());
+        assertTrue("Expected wait time of at least 10 ms",
+                syncObject.getLockWaitTimeNanos() >= TimeUnit.MILLISECONDS.toNanos(10));
+        assertEquals("maxLockWaitTimeNanos", syncObject.getLockWaitTimeNanos(), syncObject.getMaxLockWaitTimeNanos());
+    }
+
+    @Test
+    public void testReentrantAcquisitionNotRecorded() {
+        SyncObject syncObject = new SyncObject();
+
+        final long outerLockRequested = SyncObject.lockRequested(syncObject);
+        synchronized (syncObject) {
+            SyncObject.lockAcquired(syncObject, outerLockRequested);
+            final long innerLockRequested = SyncObject.lockRequested(syncObject);
+            synchronized (syncObject) {
+                SyncObject.lockAcquired(syncObject, innerLockRequested);
+                assertTrue("Expected lock held", Thread.holdsLock(syncObject));
+            }
+        }
+
+        assertEquals("lockAcquisitionCount", 1, syncObject.getLockAcquisitionCount());
+    }
+
+    @Test
+    public void testOtherObjectsNotRecorded() {
+        Object other = new Object();
+
+        final long lockRequested = SyncObject.lockRequested(other);
+        synchronized (other) {
+            // Would fail with a ClassCastException if recorded
+            SyncObject.lockAcquired(other, lockRequested);
+        }
+    }
+
+    @Test
+    public void testResetLockStatistics() {
+        SyncObject syncObject = new SyncObject();
+        final long lockRequested = SyncObject.lockRequested(syncObject);
+        synchronized (syncObject) {
+            SyncObject.lockAcquired(syncObject, lockRequested);
+            assertEquals("lockAcquisitionCount", 1, syncObject.getLockAcquisitionCount());
+        }
+
+        syncObject.resetLockStatistics();
+
+        assertEquals("lockAcquisitionCount", 0, syncObject.getLockAcquisitionCount());
+        assertEquals("contendedLockAcquisitionCount", 0, syncObject.getContendedLockAcquisitionCount());
+        assertEquals("lockWaitTimeNanos", 0, syncObject.getLockWaitTimeNanos());
+        assertEquals("maxLockWaitTimeNanos", 0, syncObject.getMaxLockWaitTimeNanos());
+    }
+}
@@ -22,8 +22,11 @@ package org.firebirdsql.gds.ng;
 
 import org.junit.Test;
 
-import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.firebirdsql.gds.ISCConstants.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assume.assumeThat;
 
 /**
@@ -76,6 +79,20 @@ public class TestServerVersionInformation {
                 ServerVersionInformation.VERSION_2_0, ServerVersionInformation.getForVersion(3, 0));
     }
 
+    @Test
+    public void testGetMinimalStatementInfoRequestItems_noNameItems() {
+        for (ServerVersionInformation versionInformation : ServerVersionInformation.values()) {
+            final byte[] requestItems = versionInformation.getMinimalStatementInfoRequestItems();
+            for (byte item : requestItems) {
+                assertThat("Minimal request items should not request names or relation information", item,
+                        not(anyOf(equalTo((byte) isc_info_sql_field), equalTo((byte) isc_info_sql_alias),
+                                equalTo((byte) isc_info_sql_relation), equalTo((byte) isc_info_sql_relation_alias),
+                                equalTo((byte) isc_info_sql_owner))));
+            }
+            assertEquals("Expected statement type as first item", isc_info_sql_stmt_type, requestItems[0]);
+        }
+    }
+
     @Test
     public void testGetForVersion_versionTooHigh_VERSION_2_0() {
         final ServerVersionInformation[] values = ServerVersionInformation.values();
@@ -0,0 +1,91 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.ng.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link DefaultDriverMetrics}.
+ */
+public class DefaultDriverMetricsTest {
+
+    private final DefaultDriverMetrics driverMetrics = new DefaultDriverMetrics();
+
+    @Test
+    public void testByteCounters() {
+        driverMetrics.bytesSent(100);
+        driverMetrics.bytesSent(28);
+        driverMetrics.bytesReceived(512);
+
+        assertEquals("bytesSent", 128, driverMetrics.getBytesSent());
+        assertEquals("bytesReceived", 512, driverMetrics.getBytesReceived());
+    }
+
+    @Test
+    public void testResponses() {
+        driverMetrics.responseReceived(1000);
+        driverMetrics.responseReceived(3000);
+
+        assertEquals("responseCount", 2, driverMetrics.getResponseCount());
+        assertEquals("responseWaitTimeNanos", 4000, driverMetrics.getResponseWaitTimeNanos());
+    }
+
+    @Test
+    public void testFetches() {
+        driverMetrics.rowsFetched(400);
+        driverMetrics.rowsFetched(12);
+
+        assertEquals("fetchCount", 2, driverMetrics.getFetchCount());
+        assertEquals("rowsFetched", 412, driverMetrics.getRowsFetched());
+        assertEquals("max fetch size", 400, driverMetrics.getFetchSizes().getMax());
+    }
+
+    @Test
+    public void testOperations() {
+        driverMetrics.operationCompleted(OperationType.STATEMENT_EXECUTE, 10);
+        driverMetrics.operationCompleted(OperationType.STATEMENT_EXECUTE, 14);
+        driverMetrics.operationCompleted(OperationType.STATEMENT_PREPARE, 5);
+
+        assertEquals("execute count", 2, driverMetrics.getOperationCount("STATEMENT_EXECUTE"));
+        assertEquals("execute time", 24, driverMetrics.getOperationTimeNanos("STATEMENT_EXECUTE"));
+        assertEquals("execute max", 14, driverMetrics.getMaxOperationTimeNanos("STATEMENT_EXECUTE"));
+        assertEquals("execute p50", 10, driverMetrics.getOperationTimeNanosAtPercentile("STATEMENT_EXECUTE", 50));
+        assertEquals("prepare count", 1, driverMetrics.getOperationTimes(OperationType.STATEMENT_PREPARE).getCount());
+        assertEquals("fetch count", 0, driverMetrics.getOperationCount("STATEMENT_FETCH"));
+    }
+
+    @Test
+    public void testReset() {
+        driverMetrics.bytesSent(1);
+        driverMetrics.bytesReceived(1);
+        driverMetrics.responseReceived(1);
+        driverMetrics.rowsFetched(1);
+        driverMetrics.operationCompleted(OperationType.TRANSACTION_COMMIT, 1);
+
+        driverMetrics.reset();
+
+        assertEquals("bytesSent", 0, driverMetrics.getBytesSent());
+        assertEquals("bytesReceived", 0, driverMetrics.getBytesReceived());
+        assertEquals("responseCount", 0, driverMetrics.getResponseCount());
+        assertEquals("fetchCount", 0, driverMetrics.getFetchCount());
+        assertEquals("commit count", 0, driverMetrics.getOperationCount("TRANSACTION_COMMIT"));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.ng.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link LogLinearHistogram}.
+ */
+public class LogLinearHistogramTest {
+
+    @Test
+    public void testEmptyHistogram() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+
+        assertEquals("count", 0, histogram.getCount());
+        assertEquals("total", 0, histogram.getTotal());
+        assertEquals("max", 0, histogram.getMax());
+        assertEquals("mean", 0, histogram.getMean(), 0);
+        assertEquals("p50", 0, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        for (int value = 1; value <= 10; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals("count", 10, histogram.getCount());
+        assertEquals("total", 55, histogram.getTotal());
+        assertEquals("max", 10, histogram.getMax());
+        assertEquals("mean", 5.5, histogram.getMean(), 0.0001);
+        assertEquals("p0", 1, histogram.getValueAtPercentile(0));
+        assertEquals("p50", 5, histogram.getValueAtPercentile(50));
+        assertEquals("p90", 9, histogram.getValueAtPercentile(90));
+        assertEquals("p100", 10, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testLargeValuesWithinRelativeError() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        long p99 = histogram.getValueAtPercentile(99);
+        assertTrue("p99 should be within 6.25% of 990000, was " + p99,
+                p99 >= 990000 && p99 <= 990000 * 1.0625);
+        assertEquals("p100 should be capped at max", 1000000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testBucketBoundaries() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        long[] values = { 0, 15, 16, 17, 31, 32, 1000, 123456789, Long.MAX_VALUE };
+        for (long value : values) {
+            int bucketIndex = histogram.bucketIndex(value);
+            long highestValue = histogram.highestValueInBucket(bucketIndex);
+            assertTrue("highest value in bucket should be >= value " + value, highestValue >= value);
+            assertTrue("bucket width should be within 1/16th of value " + value,
+                    highestValue - value <= value / 16);
+        }
+        assertEquals("bucketCount", 960, histogram.bucketCount());
+    }
+
+    @Test
+    public void testBucketBoundariesLowPrecision() {
+        LogLinearHistogram histogram = new LogLinearHistogram(2);
+        long[] values = { 0, 3, 4, 5, 7, 8, 1000, 123456789, Long.MAX_VALUE };
+        for (long value : values) {
+            int bucketIndex = histogram.bucketIndex(value);
+            assertTrue("bucket index within bucket count for value " + value,
+                    bucketIndex < histogram.bucketCount());
+            long highestValue = histogram.highestValueInBucket(bucketIndex);
+            assertTrue("highest value in bucket should be >= value " + value, highestValue >= value);
+            assertTrue("bucket width should be within 1/4th of value " + value,
+                    highestValue - value <= value / 4);
+        }
+        assertEquals("bucketCount", 248, histogram.bucketCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPrecision() {
+        new LogLinearHistogram(0);
+    }
+
+    @Test
+    public void testNegativeValueRecordedAsZero() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        histogram.record(-5);
+
+        assertEquals("count", 1, histogram.getCount());
+        assertEquals("total", 0, histogram.getTotal());
+    }
+
+    @Test
+    public void testReset() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        histogram.record(100);
+        histogram.reset();
+
+        assertEquals("count", 0, histogram.getCount());
+        assertEquals("total", 0, histogram.getTotal());
+        assertEquals("max", 0, histogram.getMax());
+        assertEquals("p100", 0, histogram.getValueAtPercentile(100));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPercentile() {
+        new LogLinearHistogram().getValueAtPercentile(101);
+    }
+}
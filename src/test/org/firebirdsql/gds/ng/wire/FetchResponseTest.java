@@ -0,0 +1,70 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.ng.wire;
+
+import org.firebirdsql.gds.ISCConstants;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for {@link FetchResponse}.
+ *
+ * @since 4.0
+ */
+public class FetchResponseTest {
+
+    @Test
+    public void testValueOf_rowIsShared() {
+        FetchResponse response = FetchResponse.valueOf(ISCConstants.FETCH_OK, 1);
+
+        assertEquals(ISCConstants.FETCH_OK, response.getStatus());
+        assertEquals(1, response.getCount());
+        assertSame(response, FetchResponse.valueOf(ISCConstants.FETCH_OK, 1));
+    }
+
+    @Test
+    public void testValueOf_endOfBatchIsShared() {
+        FetchResponse response = FetchResponse.valueOf(ISCConstants.FETCH_OK, 0);
+
+        assertEquals(ISCConstants.FETCH_OK, response.getStatus());
+        assertEquals(0, response.getCount());
+        assertSame(response, FetchResponse.valueOf(ISCConstants.FETCH_OK, 0));
+    }
+
+    @Test
+    public void testValueOf_noMoreRowsIsShared() {
+        FetchResponse response = FetchResponse.valueOf(ISCConstants.FETCH_NO_MORE_ROWS, 0);
+
+        assertEquals(ISCConstants.FETCH_NO_MORE_ROWS, response.getStatus());
+        assertEquals(0, response.getCount());
+        assertSame(response, FetchResponse.valueOf(ISCConstants.FETCH_NO_MORE_ROWS, 0));
+    }
+
+    @Test
+    public void testValueOf_otherValues() {
+        FetchResponse response = FetchResponse.valueOf(ISCConstants.FETCH_OK, 2);
+
+        assertEquals(ISCConstants.FETCH_OK, response.getStatus());
+        assertEquals(2, response.getCount());
+        assertNotSame(response, FetchResponse.valueOf(ISCConstants.FETCH_OK, 2));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.ng.wire;
+
+import org.firebirdsql.gds.ng.FbConnectionProperties;
+import org.firebirdsql.util.HashedTimerWheel;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link PingTimeout}
+ */
+public class PingTimeoutTest {
+
+    private final HashedTimerWheel timerWheel =
+            new HashedTimerWheel("PingTimeoutTest", 10, TimeUnit.MILLISECONDS, 8);
+    private ServerSocket serverSocket;
+    private Socket acceptedSocket;
+    private WireDatabaseConnection connection;
+
+    @Before
+    public void setUp() throws Exception {
+        serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        FbConnectionProperties connectionProperties = new FbConnectionProperties();
+        connectionProperties.setServerName(InetAddress.getLoopbackAddress().getHostAddress());
+        connectionProperties.setPortNumber(serverSocket.getLocalPort());
+        connectionProperties.setEncoding("NONE");
+        connection = new WireDatabaseConnection(connectionProperties);
+        connection.socketConnect();
+        acceptedSocket = serverSocket.accept();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        try {
+            connection.close();
+        } finally {
+            try {
+                acceptedSocket.close();
+            } finally {
+                serverSocket.close();
+            }
+        }
+    }
+
+    @Test
+    public void disarmBeforeExpirationKeepsConnection() {
+        PingTimeout pingTimeout = new PingTimeout(connection, timerWheel);
+
+        pingTimeout.arm(1000);
+
+        assertFalse("Expected timeout not to have fired", pingTimeout.disarm());
+        assertFalse("Expected timeout to be removed from the wheel", timerWheel.cancel(pingTimeout));
+        assertTrue("Expected connection to be connected", connection.isConnected());
+    }
+
+    @Test
+    public void expirationAbortsSocket() throws Exception {
+        PingTimeout pingTimeout = new PingTimeout(connection, timerWheel);
+
+        pingTimeout.arm(20);
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (connection.isConnected() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertFalse("Expected socket to be aborted", connection.isConnected());
+        assertTrue("Expected timeout to have fired", pingTimeout.disarm());
+    }
+}
@@ -21,6 +21,12 @@ package org.firebirdsql.gds.ng.wire.auth;
 import org.firebirdsql.util.ByteArrayHelper;
 import org.junit.Test;
 
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 /**
@@ -48,4 +54,45 @@ public class SrpClientTest {
         assertEquals(ByteArrayHelper.toHexString(clientSessionKey),
                 ByteArrayHelper.toHexString(serverSessionKey));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testClientProofMatchesReferenceCalculation() throws Exception {
+        String user = "SYSDBA";
+        String password = "masterkey";
+
+        SrpClient srp = new SrpClient();
+        byte[] salt = SrpClient.getSalt();
+        SrpClient.KeyPair serverKeyPair = SrpClient.serverSeed(user, password, salt);
+
+        byte[] proof = srp.clientProof(user, password, salt, serverKeyPair.getPublicKey());
+
+        final BigInteger N = new BigInteger("E67D2E994B2F900C3F41F08F5BB2627ED0D49EE1FE767A52EFCD565CD6E768812C3E1E9C"
+                + "E8F0A8BEA6CB13CD29DDEBF7A96D4A93B55D488DF099A15C89DCB0640738EB2CBDD9A8F7BAB561AB1B0DC1C6CDABF303264A08"
+                + "D1BCA932D1F1EE428B619D970F342ABA9A65793B8B2F041AE5364350C16F735F56ECBCA87BD57B29E7", 16);
+        final BigInteger g = BigInteger.valueOf(2);
+        final BigInteger n1 = new BigInteger(1, sha1(unsigned(N)));
+        final BigInteger n2 = new BigInteger(1, sha1(unsigned(g)));
+        final byte[] expectedProof = sha1(unsigned(n1.modPow(n2, N)),
+                sha1(user.getBytes(StandardCharsets.UTF_8)), salt,
+                unsigned(srp.getPublicKey()), unsigned(serverKeyPair.getPublicKey()), srp.getSessionKey());
+
+        assertArrayEquals(expectedProof, proof);
+    }
+
+    private static byte[] sha1(byte[]... parts) throws Exception {
+        MessageDigest md = MessageDigest.getInstance("SHA-1");
+        for (byte[] part : parts) {
+            md.update(part);
+        }
+        return md.digest();
+    }
+
+    private static byte[] unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        int start = 0;
+        while (start < bytes.length - 1 && bytes[start] == 0) {
+            start++;
+        }
+        return Arrays.copyOfRange(bytes, start, bytes.length);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.ng.wire.crypt;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link KnownServerKey}.
+ */
+public class KnownServerKeyTest {
+
+    private static final byte[] IV = { 1, 2, 3, 4 };
+
+    @Test
+    public void getIdentifiersSplitsPluginList() {
+        KnownServerKey key = new KnownServerKey("Symmetric", "ChaCha, Arc4");
+
+        assertEquals(Arrays.asList(new EncryptionIdentifier("Symmetric", "ChaCha"),
+                new EncryptionIdentifier("Symmetric", "Arc4")), key.getIdentifiers());
+    }
+
+    @Test
+    public void getPluginSpecificDataForKnownPlugin() {
+        KnownServerKey key = new KnownServerKey("Symmetric", "ChaCha Arc4", singletonData("ChaCha", IV));
+
+        assertArrayEquals(IV, key.getPluginSpecificData(new EncryptionIdentifier("Symmetric", "ChaCha")));
+    }
+
+    @Test
+    public void getPluginSpecificDataWithoutDataReturnsNull() {
+        KnownServerKey key = new KnownServerKey("Symmetric", "ChaCha Arc4", singletonData("ChaCha", IV));
+
+        assertNull(key.getPluginSpecificData(new EncryptionIdentifier("Symmetric", "Arc4")));
+    }
+
+    @Test
+    public void getPluginSpecificDataForOtherKeyTypeReturnsNull() {
+        KnownServerKey key = new KnownServerKey("Symmetric", "ChaCha", singletonData("ChaCha", IV));
+
+        assertNull(key.getPluginSpecificData(new EncryptionIdentifier("Other", "ChaCha")));
+    }
+
+    @Test
+    public void getPluginSpecificDataReturnsCopy() {
+        KnownServerKey key = new KnownServerKey("Symmetric", "ChaCha", singletonData("ChaCha", IV));
+        EncryptionIdentifier identifier = new EncryptionIdentifier("Symmetric", "ChaCha");
+
+        key.getPluginSpecificData(identifier)[0] = 42;
+
+        assertArrayEquals(IV, key.getPluginSpecificData(identifier));
+    }
+
+    private static Map<String, byte[]> singletonData(String plugin, byte[] data) {
+        return Collections.singletonMap(plugin, data.clone());
+    }
+}
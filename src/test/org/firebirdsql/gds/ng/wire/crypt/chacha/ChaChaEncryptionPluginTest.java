@@ -0,0 +1,101 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.ng.wire.crypt.chacha;
+
+import org.firebirdsql.gds.JaybirdErrorCodes;
+import org.firebirdsql.gds.ng.wire.crypt.EncryptionInitInfo;
+import org.junit.Test;
+
+import javax.crypto.Cipher;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Tests for {@link ChaChaEncryptionPlugin}.
+ * <p>
+ * Most tests require Java 11 or higher, they are skipped on older Java versions.
+ * </p>
+ */
+public class ChaChaEncryptionPluginTest {
+
+    private static final byte[] SESSION_KEY = "chacha session key".getBytes();
+    private static final byte[] NONCE = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12 };
+
+    @Test
+    public void notAvailableFailsWithAlgorithmNotAvailable() {
+        assumeFalse("ChaCha20 available", ChaChaEncryptionPluginSpi.isAvailable());
+        EncryptionInitInfo initInfo = new ChaChaEncryptionPlugin(null, NONCE).initializeEncryption(SESSION_KEY);
+
+        assertFalse("success", initInfo.isSuccess());
+        assertEquals(JaybirdErrorCodes.jb_cryptAlgorithmNotAvailable, initInfo.getException().getErrorCode());
+    }
+
+    @Test
+    public void missingIvFailsWithInvalidIV() {
+        assumeTrue("ChaCha20 not available", ChaChaEncryptionPluginSpi.isAvailable());
+        EncryptionInitInfo initInfo = new ChaChaEncryptionPlugin(null, null).initializeEncryption(SESSION_KEY);
+
+        assertFalse("success", initInfo.isSuccess());
+        assertEquals(JaybirdErrorCodes.jb_cryptInvalidIV, initInfo.getException().getErrorCode());
+    }
+
+    @Test
+    public void invalidIvLengthFailsWithInvalidIV() {
+        assumeTrue("ChaCha20 not available", ChaChaEncryptionPluginSpi.isAvailable());
+        EncryptionInitInfo initInfo = new ChaChaEncryptionPlugin(null, new byte[8]).initializeEncryption(SESSION_KEY);
+
+        assertFalse("success", initInfo.isSuccess());
+        assertEquals(JaybirdErrorCodes.jb_cryptInvalidIV, initInfo.getException().getErrorCode());
+    }
+
+    @Test
+    public void encryptDecryptRoundTrip() throws Exception {
+        assumeTrue("ChaCha20 not available", ChaChaEncryptionPluginSpi.isAvailable());
+        EncryptionInitInfo initInfo = new ChaChaEncryptionPlugin(null, NONCE).initializeEncryption(SESSION_KEY);
+        assertTrue("success", initInfo.isSuccess());
+        byte[] data = "Data sent over the wire".getBytes();
+
+        byte[] encrypted = initInfo.getEncryptionCipher().update(data);
+        assertFalse("encrypted", Arrays.equals(data, encrypted));
+        byte[] decrypted = initInfo.getDecryptionCipher().update(encrypted);
+
+        assertArrayEquals(data, decrypted);
+    }
+
+    @Test
+    public void sixteenByteIvUsesLastFourBytesAsLittleEndianCounter() throws Exception {
+        assumeTrue("ChaCha20 not available", ChaChaEncryptionPluginSpi.isAvailable());
+        Cipher counter0 = new ChaChaEncryptionPlugin(null, NONCE).initializeEncryption(SESSION_KEY)
+                .getEncryptionCipher();
+        byte[] ivWithCounter = Arrays.copyOf(NONCE, 16);
+        ivWithCounter[12] = 2;
+        Cipher counter2 = new ChaChaEncryptionPlugin(null, ivWithCounter).initializeEncryption(SESSION_KEY)
+                .getEncryptionCipher();
+        // ChaCha20 block size is 64 bytes
+        byte[] zeroes = new byte[3 * 64];
+
+        byte[] keyStream0 = counter0.update(zeroes);
+        byte[] keyStream2 = counter2.update(zeroes, 0, 64);
+
+        assertArrayEquals(Arrays.copyOfRange(keyStream0, 128, 192), keyStream2);
+    }
+}
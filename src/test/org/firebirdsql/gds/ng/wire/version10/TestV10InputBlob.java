@@ -95,6 +95,40 @@ public class TestV10InputBlob extends BaseTestV10Blob {
         }
     }
 
+    /**
+     * Tests retrieval of a blob into a supplied buffer (what goes in is what comes out).
+     */
+    @Test
+    public void testBlobRetrieval_intoBuffer() throws Exception {
+        final int testId = 1;
+        final byte[] baseContent = generateBaseContent();
+        // Use sufficiently large value so that multiple segments are used
+        final int requiredSize = 4 * Short.MAX_VALUE;
+        populateBlob(testId, baseContent, requiredSize);
+
+        try (FbWireDatabase db = createDatabaseConnection()) {
+            try {
+                long blobId = getBlobId(testId, db);
+
+                final FbBlob blob = db.createBlobForInput(transaction, null, blobId);
+                blob.open();
+                final int segmentSize = blob.getMaximumSegmentSize();
+                final byte[] result = new byte[requiredSize + segmentSize];
+                int position = 0;
+                while (!blob.isEof()) {
+                    position += blob.getSegment(result, position, segmentSize);
+                }
+                blob.close();
+                statement.close();
+                assertEquals("Unexpected length read from blob", requiredSize, position);
+                assertTrue("Unexpected blob content",
+                        validateBlobContent(Arrays.copyOf(result, position), baseContent, requiredSize));
+            } finally {
+                if (transaction != null) transaction.commit();
+            }
+        }
+    }
+
     /**
      * Tests absolute seek on a segmented blob. Expectation: fails with an exception
      */
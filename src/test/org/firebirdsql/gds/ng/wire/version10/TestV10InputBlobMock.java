@@ -146,6 +146,35 @@ public class TestV10InputBlobMock {
         blob.getSegment(1);
     }
 
+    /**
+     * Test if {@link org.firebirdsql.gds.ng.wire.version10.V10InputBlob#getSegment(byte[], int, int)} with zero
+     * length throws an exception
+     */
+    @Test
+    public void testGetSegmentIntoBuffer_lengthZero() throws Exception {
+        expectedException.expect(SQLException.class);
+        //noinspection RedundantTypeArguments
+        expectedException.expect(
+                message(startsWith("getSegment called with sizeRequested 0, should be > 0")));
+
+        V10InputBlob blob = new V10InputBlob(db, transaction, null, 1);
+
+        blob.getSegment(new byte[10], 0, 0);
+    }
+
+    /**
+     * Test if {@link org.firebirdsql.gds.ng.wire.version10.V10InputBlob#getSegment(byte[], int, int)} with a range
+     * outside the buffer throws an exception
+     */
+    @Test
+    public void testGetSegmentIntoBuffer_outsideBuffer() throws Exception {
+        expectedException.expect(IndexOutOfBoundsException.class);
+
+        V10InputBlob blob = new V10InputBlob(db, transaction, null, 1);
+
+        blob.getSegment(new byte[10], 5, 6);
+    }
+
     @Test
     public void testIsEof_newBlob() {
         V10InputBlob blob = new V10InputBlob(db, transaction, null, 1);
@@ -0,0 +1,362 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.ng.wire.version11;
+
+import org.firebirdsql.gds.ISCConstants;
+import org.firebirdsql.gds.JaybirdErrorCodes;
+import org.firebirdsql.gds.impl.wire.WireProtocolConstants;
+import org.firebirdsql.gds.impl.wire.XdrOutputStream;
+import org.firebirdsql.gds.ng.FbConnectionProperties;
+import org.firebirdsql.gds.ng.FbExceptionBuilder;
+import org.firebirdsql.gds.ng.TransactionState;
+import org.firebirdsql.gds.ng.WarningMessageCallback;
+import org.firebirdsql.gds.ng.listeners.DatabaseListener;
+import org.firebirdsql.gds.ng.listeners.TransactionListener;
+import org.firebirdsql.gds.ng.wire.*;
+import org.jmock.Expectations;
+import org.jmock.api.Invocation;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.jmock.lib.action.CustomAction;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import static org.firebirdsql.common.matchers.SQLExceptionMatchers.errorCodeEquals;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.jmock.Expectations.returnValue;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the read-ahead of {@link V11InputBlob} that don't require a connection to the database.
+ *
+ * @since 4.0
+ */
+public class TestV11InputBlobMock {
+
+    private static final int BLOB_HANDLE = 5;
+
+    @Rule
+    public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+    private FbWireDatabase db;
+    private FbWireTransaction transaction;
+    private final FbConnectionProperties connectionProperties = new FbConnectionProperties();
+    private final List<DeferredAction> deferredActions = new ArrayList<>();
+    private final Deque<GenericResponse> serverResponses = new ArrayDeque<>();
+    private int getSegmentRequests;
+    private int maxOutstandingRequests;
+
+    @Before
+    public void setUp() throws Exception {
+        db = context.mock(FbWireDatabase.class);
+        transaction = context.mock(FbWireTransaction.class);
+        final XdrStreamAccess streamAccess = context.mock(XdrStreamAccess.class);
+        final XdrOutputStream xdrOut = new XdrOutputStream(new ByteArrayOutputStream());
+        context.checking(new Expectations() {{
+            allowing(db).getSynchronizationObject();
+            will(returnValue(new Object()));
+            allowing(transaction).addTransactionListener(with(any(TransactionListener.class)));
+            allowing(transaction).addWeakTransactionListener(with(any(TransactionListener.class)));
+            allowing(db).addDatabaseListener(with(any(DatabaseListener.class)));
+            allowing(db).addWeakDatabaseListener(with(any(DatabaseListener.class)));
+            allowing(db).removeDatabaseListener(with(any(DatabaseListener.class)));
+            allowing(transaction).removeTransactionListener(with(any(TransactionListener.class)));
+            allowing(db).isAttached();
+            will(returnValue(true));
+            allowing(transaction).getState();
+            will(returnValue(TransactionState.ACTIVE));
+            allowing(transaction).getHandle();
+            will(returnValue(1));
+            allowing(db).getConnectionProperties();
+            will(returnValue(connectionProperties));
+            allowing(db).getXdrStreamAccess();
+            will(returnValue(streamAccess));
+            allowing(streamAccess).getXdrOut();
+            will(returnValue(xdrOut));
+            allowing(db).readGenericResponse(null);
+            will(returnValue(new GenericResponse(BLOB_HANDLE, 0, new byte[0], null)));
+            allowing(db).enqueueDeferredAction(with(any(DeferredAction.class)));
+            will(new CustomAction("enqueue deferred action") {
+                @Override
+                public Object invoke(Invocation invocation) throws Throwable {
+                    deferredActions.add((DeferredAction) invocation.getParameter(0));
+                    getSegmentRequests++;
+                    maxOutstandingRequests = Math.max(maxOutstandingRequests, deferredActions.size());
+                    return null;
+                }
+            });
+            allowing(db).processDeferredActions();
+            will(new CustomAction("process deferred actions") {
+                @Override
+                public Object invoke(Invocation invocation) throws Throwable {
+                    for (DeferredAction action : deferredActions) {
+                        GenericResponse response = serverResponses.poll();
+                        action.processResponse(response != null
+                                ? response
+                                : new GenericResponse(2, 0, new byte[0], null));
+                    }
+                    deferredActions.clear();
+                    return null;
+                }
+            });
+        }});
+    }
+
+    @Test
+    public void testReadAhead_returnsSegmentsInOrderUntilEof() throws Exception {
+        connectionProperties.setBlobReadAhead(2);
+        for (int idx = 1; idx <= 5; idx++) {
+            serverResponses.add(segmentResponse(0, new byte[] { (byte) idx, (byte) idx }));
+        }
+        final V11InputBlob blob = createOpenBlob();
+
+        for (int idx = 1; idx <= 5; idx++) {
+            assertFalse("Unexpected EOF before segment " + idx, blob.isEof());
+            assertArrayEquals(new byte[] { (byte) idx, (byte) idx }, blob.getSegment(100));
+        }
+        // end of blob response was received together with the last segment
+        assertTrue("Expected EOF", blob.isEof());
+
+        assertEquals("Unexpected number of segment requests", 6, getSegmentRequests);
+        assertEquals("Unexpected maximum outstanding requests", 2, maxOutstandingRequests);
+    }
+
+    @Test
+    public void testReadAhead_lastDataInEofResponse() throws Exception {
+        connectionProperties.setBlobReadAhead(4);
+        serverResponses.add(segmentResponse(0, new byte[] { 1 }));
+        serverResponses.add(segmentResponse(2, new byte[] { 2 }));
+        final V11InputBlob blob = createOpenBlob();
+
+        assertArrayEquals(new byte[] { 1 }, blob.getSegment(100));
+        assertFalse("Unexpected EOF", blob.isEof());
+        assertArrayEquals(new byte[] { 2 }, blob.getSegment(100));
+        assertTrue("Expected EOF", blob.isEof());
+
+        assertEquals("No segment requests expected after end of blob", 4, getSegmentRequests);
+    }
+
+    @Test
+    public void testReadAhead_segmentLargerThanRequestedSize() throws Exception {
+        connectionProperties.setBlobReadAhead(2);
+        serverResponses.add(segmentResponse(0, new byte[] { 1, 2, 3, 4, 5 }));
+        serverResponses.add(segmentResponse(2, new byte[] { 6 }));
+        final V11InputBlob blob = createOpenBlob();
+
+        assertArrayEquals(new byte[] { 1, 2, 3, 4, 5 }, blob.getSegment(5));
+        assertArrayEquals(new byte[] { 6 }, blob.getSegment(2));
+        assertTrue("Expected EOF", blob.isEof());
+    }
+
+    @Test
+    public void testReadAhead_slicesBufferedSegmentForSmallerRequest() throws Exception {
+        connectionProperties.setBlobReadAhead(2);
+        serverResponses.add(segmentResponse(0, new byte[] { 1, 2 }));
+        serverResponses.add(segmentResponse(2, new byte[] { 3, 4, 5 }));
+        final V11InputBlob blob = createOpenBlob();
+
+        assertArrayEquals(new byte[] { 1, 2 }, blob.getSegment(3));
+        assertArrayEquals(new byte[] { 3, 4 }, blob.getSegment(2));
+        assertFalse("Unexpected EOF with remaining buffered data", blob.isEof());
+        assertArrayEquals(new byte[] { 5 }, blob.getSegment(2));
+        assertTrue("Expected EOF", blob.isEof());
+    }
+
+    @Test
+    public void testReadAhead_intoBuffer() throws Exception {
+        connectionProperties.setBlobReadAhead(2);
+        serverResponses.add(segmentResponse(0, new byte[] { 1, 2, 3 }));
+        serverResponses.add(segmentResponse(2, new byte[] { 4, 5 }));
+        final V11InputBlob blob = createOpenBlob();
+        final byte[] buffer = new byte[6];
+
+        assertEquals(2, blob.getSegment(buffer, 1, 2));
+        assertEquals(1, blob.getSegment(buffer, 3, 5 - 2));
+        assertFalse("Unexpected EOF with remaining buffered data", blob.isEof());
+        assertEquals(2, blob.getSegment(buffer, 4, 2));
+        assertTrue("Expected EOF", blob.isEof());
+        assertArrayEquals(new byte[] { 0, 1, 2, 3, 4, 5 }, buffer);
+    }
+
+    @Test
+    public void testReadAhead_errorReportedAfterBufferedSegments() throws Exception {
+        connectionProperties.setBlobReadAhead(2);
+        serverResponses.add(segmentResponse(0, new byte[] { 1 }));
+        serverResponses.add(new GenericResponse(0, 0, new byte[0],
+                new FbExceptionBuilder().exception(ISCConstants.isc_bad_segstr_handle).toSQLException()));
+        final V11InputBlob blob = createOpenBlob();
+
+        assertArrayEquals(new byte[] { 1 }, blob.getSegment(100));
+        try {
+            blob.getSegment(100);
+            fail("Expected exception from segment request");
+        } catch (SQLException e) {
+            assertThat(e, errorCodeEquals(ISCConstants.isc_bad_segstr_handle));
+        }
+        assertEquals("No segment requests expected after error", 2, getSegmentRequests);
+    }
+
+    @Test
+    public void testReadAheadDisabled_noDeferredActions() throws Exception {
+        connectionProperties.setBlobReadAhead(0);
+        final V11InputBlob blob = createOpenBlob();
+
+        // readGenericResponse returns the (empty) open response for the segment request as well
+        assertEquals(0, blob.getSegment(100).length);
+        assertEquals("Expected no deferred segment requests", 0, getSegmentRequests);
+    }
+
+    @Test
+    public void testOpenAndReadFully_segmentRequestedAfterOpen() throws Exception {
+        connectionProperties.setBlobReadAhead(0);
+        serverResponses.add(new GenericResponse(BLOB_HANDLE, 0, new byte[0], null));
+        serverResponses.add(lengthResponse(3));
+        context.checking(new Expectations() {{
+            oneOf(db).readSegmentResponse(with(any(byte[].class)), with(equal(0)), with(equal(3)),
+                    with(aNull(WarningMessageCallback.class)));
+            will(segmentData(2, new byte[] { 1, 2, 3 }));
+            oneOf(db).releaseObject(WireProtocolConstants.op_close_blob, BLOB_HANDLE);
+        }});
+        final V11InputBlob blob = new V11InputBlob(db, transaction, null, 1);
+
+        assertArrayEquals(new byte[] { 1, 2, 3 }, blob.openAndReadFully());
+        // open and info, the segment is requested with the handle of the opened blob
+        assertEquals("Unexpected number of deferred requests", 2, getSegmentRequests);
+        assertEquals("Expected open and info in a single flush", 2, maxOutstandingRequests);
+        assertEquals(BLOB_HANDLE, blob.getHandle());
+        assertFalse("Expected closed blob", blob.isOpen());
+    }
+
+    @Test
+    public void testOpenAndReadFully_unexpectedEndOfBlob() throws Exception {
+        connectionProperties.setBlobReadAhead(0);
+        serverResponses.add(new GenericResponse(BLOB_HANDLE, 0, new byte[0], null));
+        serverResponses.add(lengthResponse(5));
+        context.checking(new Expectations() {{
+            oneOf(db).readSegmentResponse(with(any(byte[].class)), with(equal(0)), with(equal(5)),
+                    with(aNull(WarningMessageCallback.class)));
+            will(segmentData(2, new byte[] { 1, 2, 3 }));
+            oneOf(db).releaseObject(WireProtocolConstants.op_close_blob, BLOB_HANDLE);
+        }});
+        final V11InputBlob blob = new V11InputBlob(db, transaction, null, 1);
+
+        try {
+            blob.openAndReadFully();
+            fail("Expected exception for unexpected end of blob");
+        } catch (SQLException e) {
+            assertThat(e, errorCodeEquals(JaybirdErrorCodes.jb_blobUnexpectedEof));
+        }
+        assertFalse("Expected closed blob", blob.isOpen());
+    }
+
+    @Test
+    public void testOpenAndReadFully_blobTooLarge() throws Exception {
+        connectionProperties.setBlobReadAhead(0);
+        serverResponses.add(new GenericResponse(BLOB_HANDLE, 0, new byte[0], null));
+        // 3 GB
+        serverResponses.add(new GenericResponse(0, 0, new byte[] { ISCConstants.isc_info_blob_total_length, 4, 0,
+                0, 0, 0, (byte) 0xC0 }, null));
+        context.checking(new Expectations() {{
+            never(db).readSegmentResponse(with(any(byte[].class)), with(any(int.class)), with(any(int.class)),
+                    with(aNull(WarningMessageCallback.class)));
+            oneOf(db).releaseObject(WireProtocolConstants.op_close_blob, BLOB_HANDLE);
+        }});
+        final V11InputBlob blob = new V11InputBlob(db, transaction, null, 1);
+
+        try {
+            blob.openAndReadFully();
+            fail("Expected exception for blob too large for a byte array");
+        } catch (SQLException e) {
+            assertThat(e, errorCodeEquals(JaybirdErrorCodes.jb_blobTooLarge));
+        }
+        assertFalse("Expected closed blob", blob.isOpen());
+    }
+
+    @Test
+    public void testOpenAndReadFully_continuesAfterFirstSegment() throws Exception {
+        connectionProperties.setBlobReadAhead(2);
+        serverResponses.add(new GenericResponse(BLOB_HANDLE, 0, new byte[0], null));
+        serverResponses.add(lengthResponse(5));
+        serverResponses.add(segmentResponse(0, new byte[] { 1, 2 }));
+        serverResponses.add(segmentResponse(0, new byte[] { 3, 4 }));
+        serverResponses.add(segmentResponse(2, new byte[] { 5 }));
+        context.checking(new Expectations() {{
+            oneOf(db).releaseObject(WireProtocolConstants.op_close_blob, BLOB_HANDLE);
+        }});
+        final V11InputBlob blob = new V11InputBlob(db, transaction, null, 1);
+
+        assertArrayEquals(new byte[] { 1, 2, 3, 4, 5 }, blob.openAndReadFully());
+    }
+
+    @Test
+    public void testOpenAndReadFully_openError() throws Exception {
+        serverResponses.add(new GenericResponse(0, 0, new byte[0],
+                new FbExceptionBuilder().exception(ISCConstants.isc_bad_segstr_id).toSQLException()));
+        serverResponses.add(new GenericResponse(0, 0, new byte[0],
+                new FbExceptionBuilder().exception(ISCConstants.isc_bad_segstr_handle).toSQLException()));
+        final V11InputBlob blob = new V11InputBlob(db, transaction, null, 1);
+
+        try {
+            blob.openAndReadFully();
+            fail("Expected exception from open");
+        } catch (SQLException e) {
+            assertThat(e, errorCodeEquals(ISCConstants.isc_bad_segstr_id));
+        }
+        assertFalse("Expected blob not open", blob.isOpen());
+        assertEquals("Expected no segment request after failed open", 2, getSegmentRequests);
+    }
+
+    private V11InputBlob createOpenBlob() throws SQLException {
+        final V11InputBlob blob = new V11InputBlob(db, transaction, null, 1);
+        blob.open();
+        assertThat(blob.getHandle(), equalTo(BLOB_HANDLE));
+        return blob;
+    }
+
+    private static GenericResponse lengthResponse(int length) {
+        return new GenericResponse(0, 0, new byte[] { ISCConstants.isc_info_blob_total_length, 4, 0,
+                (byte) length, (byte) (length >> 8), (byte) (length >> 16), (byte) (length >> 24) }, null);
+    }
+
+    private static CustomAction segmentData(final int objectHandle, final byte[] segment) {
+        return new CustomAction("read segment response") {
+            @Override
+            public Object invoke(Invocation invocation) throws Throwable {
+                System.arraycopy(segment, 0, (byte[]) invocation.getParameter(0), (Integer) invocation.getParameter(1),
+                        segment.length);
+                return new SegmentResponse(objectHandle, segment.length);
+            }
+        };
+    }
+
+    private static GenericResponse segmentResponse(int objectHandle, byte[] segment) {
+        final byte[] data = new byte[segment.length + 2];
+        data[0] = (byte) segment.length;
+        data[1] = (byte) (segment.length >> 8);
+        System.arraycopy(segment, 0, data, 2, segment.length);
+        return new GenericResponse(objectHandle, 0, data, null);
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.gds.ng.wire.version11;
+
+import org.firebirdsql.gds.ISCConstants;
+import org.firebirdsql.gds.impl.wire.XdrOutputStream;
+import org.firebirdsql.gds.ng.FbConnectionProperties;
+import org.firebirdsql.gds.ng.FbExceptionBuilder;
+import org.firebirdsql.gds.ng.TransactionState;
+import org.firebirdsql.gds.ng.listeners.DatabaseListener;
+import org.firebirdsql.gds.ng.listeners.TransactionListener;
+import org.firebirdsql.gds.ng.wire.*;
+import org.jmock.Expectations;
+import org.jmock.api.Invocation;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.jmock.lib.action.CustomAction;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import static org.firebirdsql.common.matchers.SQLExceptionMatchers.errorCodeEquals;
+import static org.firebirdsql.gds.impl.wire.WireProtocolConstants.op_create_blob;
+import static org.firebirdsql.gds.impl.wire.WireProtocolConstants.op_put_segment;
+import static org.jmock.Expectations.returnValue;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the batched segment writes of {@link V11OutputBlob} that don't require a connection to the database.
+ *
+ * @since 4.0
+ */
+public class TestV11OutputBlobMock {
+
+    private static final int BLOB_HANDLE = 5;
+
+    @Rule
+    public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+    private FbWireDatabase db;
+    private FbWireTransaction transaction;
+    private final FbConnectionProperties connectionProperties = new FbConnectionProperties();
+    private final ByteArrayOutputStream sent = new ByteArrayOutputStream();
+    private final List<DeferredAction> deferredActions = new ArrayList<>();
+    private final Deque<GenericResponse> serverResponses = new ArrayDeque<>();
+    private int deferredResponses;
+    private int batches;
+    private int directResponses;
+
+    @Before
+    public void setUp() throws Exception {
+        db = context.mock(FbWireDatabase.class);
+        transaction = context.mock(FbWireTransaction.class);
+        final XdrStreamAccess streamAccess = context.mock(XdrStreamAccess.class);
+        final XdrOutputStream xdrOut = new XdrOutputStream(sent, false);
+        context.checking(new Expectations() {{
+            allowing(db).getSynchronizationObject();
+            will(returnValue(new Object()));
+            allowing(transaction).addTransactionListener(with(any(TransactionListener.class)));
+            allowing(transaction).addWeakTransactionListener(with(any(TransactionListener.class)));
+            allowing(db).addDatabaseListener(with(any(DatabaseListener.class)));
+            allowing(db).addWeakDatabaseListener(with(any(DatabaseListener.class)));
+            allowing(db).isAttached();
+            will(returnValue(true));
+            allowing(transaction).getState();
+            will(returnValue(TransactionState.ACTIVE));
+            allowing(transaction).getHandle();
+            will(returnValue(1));
+            allowing(db).getConnectionProperties();
+            will(returnValue(connectionProperties));
+            allowing(db).getXdrStreamAccess();
+            will(returnValue(streamAccess));
+            allowing(streamAccess).getXdrOut();
+            will(returnValue(xdrOut));
+            allowing(db).readGenericResponse(null);
+            will(returnValue(new GenericResponse(BLOB_HANDLE, 1, new byte[0], null)));
+            allowing(db).readResponse(null);
+            will(new CustomAction("read response") {
+                @Override
+                public Object invoke(Invocation invocation) throws Throwable {
+                    directResponses++;
+                    return new GenericResponse(0, 0, new byte[0], null);
+                }
+            });
+            allowing(db).enqueueDeferredAction(with(any(DeferredAction.class)));
+            will(new CustomAction("enqueue deferred action") {
+                @Override
+                public Object invoke(Invocation invocation) throws Throwable {
+                    deferredActions.add((DeferredAction) invocation.getParameter(0));
+                    return null;
+                }
+            });
+            allowing(db).processDeferredActions();
+            will(new CustomAction("process deferred actions") {
+                @Override
+                public Object invoke(Invocation invocation) throws Throwable {
+                    if (deferredActions.isEmpty()) return null;
+                    batches++;
+                    for (DeferredAction action : deferredActions) {
+                        deferredResponses++;
+                        GenericResponse response = serverResponses.poll();
+                        action.processResponse(response != null
+                                ? response
+                                : new GenericResponse(0, 0, new byte[0], null));
+                    }
+                    deferredActions.clear();
+                    return null;
+                }
+            });
+        }});
+    }
+
+    @Test
+    public void testPutSegments_batched() throws Exception {
+        connectionProperties.setBlobWriteBatchSize(40000);
+        final V11OutputBlob blob = createOpenBlob();
+        final int maximumSegmentSize = blob.getMaximumSegmentSize();
+        final byte[] data = createData(3 * maximumSegmentSize + 1705);
+
+        blob.putSegments(data, 0, data.length, blob.getMaximumSegmentSize());
+
+        assertEquals("Unexpected number of segment responses", 4, deferredResponses);
+        assertEquals("Unexpected number of batches", 2, batches);
+        assertEquals("Unexpected direct responses", 0, directResponses);
+        assertArrayEquals(data, decodePutSegments(maximumSegmentSize));
+    }
+
+    @Test
+    public void testPutSegments_batched_offsetAndLength() throws Exception {
+        connectionProperties.setBlobWriteBatchSize(1024 * 1024);
+        final V11OutputBlob blob = createOpenBlob();
+        final byte[] data = createData(100);
+
+        blob.putSegments(data, 10, 50, blob.getMaximumSegmentSize());
+
+        assertEquals("Unexpected number of batches", 1, batches);
+        final byte[] expected = new byte[50];
+        System.arraycopy(data, 10, expected, 0, 50);
+        assertArrayEquals(expected, decodePutSegments(blob.getMaximumSegmentSize()));
+    }
+
+    @Test
+    public void testPutSegments_batched_segmentSize() throws Exception {
+        connectionProperties.setBlobWriteBatchSize(1024 * 1024);
+        final V11OutputBlob blob = createOpenBlob();
+        final byte[] data = createData(100);
+
+        blob.putSegments(data, 0, data.length, 30);
+
+        assertEquals("Unexpected number of segment responses", 4, deferredResponses);
+        assertEquals("Unexpected number of batches", 1, batches);
+        assertArrayEquals(data, decodePutSegments(30));
+    }
+
+    @Test
+    public void testPutSegments_batchSizeLimited() throws Exception {
+        connectionProperties.setBlobWriteBatchSize(Integer.MAX_VALUE);
+        final V11OutputBlob blob = createOpenBlob();
+        final int maximumSegmentSize = blob.getMaximumSegmentSize();
+        final int segmentsPerBatch = (V11OutputBlob.MAX_BATCH_SIZE + maximumSegmentSize - 1) / maximumSegmentSize;
+        final byte[] data = createData(segmentsPerBatch * maximumSegmentSize + 1);
+
+        blob.putSegments(data, 0, data.length, maximumSegmentSize);
+
+        assertEquals("Unexpected number of batches", 2, batches);
+        assertArrayEquals(data, decodePutSegments(maximumSegmentSize));
+    }
+
+    @Test
+    public void testPutSegments_batched_errorStopsAfterBatch() throws Exception {
+        connectionProperties.setBlobWriteBatchSize(1);
+        serverResponses.add(new GenericResponse(0, 0, new byte[0],
+                new FbExceptionBuilder().exception(ISCConstants.isc_no_segstr_close).toSQLException()));
+        final V11OutputBlob blob = createOpenBlob();
+        final byte[] data = createData(3 * blob.getMaximumSegmentSize());
+
+        try {
+            blob.putSegments(data, 0, data.length, blob.getMaximumSegmentSize());
+            fail("Expected exception for segment error");
+        } catch (SQLException e) {
+            assertThat(e, errorCodeEquals(ISCConstants.isc_no_segstr_close));
+        }
+        assertEquals("Expected no segments after failed batch", 1, deferredResponses);
+    }
+
+    @Test
+    public void testPutSegments_batchingDisabled() throws Exception {
+        connectionProperties.setBlobWriteBatchSize(0);
+        final V11OutputBlob blob = createOpenBlob();
+        final int maximumSegmentSize = blob.getMaximumSegmentSize();
+        final byte[] data = createData(2 * maximumSegmentSize + 1);
+
+        blob.putSegments(data, 0, data.length, blob.getMaximumSegmentSize());
+
+        assertEquals("Unexpected number of direct responses", 3, directResponses);
+        assertEquals("Unexpected deferred responses", 0, deferredResponses);
+        assertArrayEquals(data, decodePutSegments(maximumSegmentSize));
+    }
+
+    private V11OutputBlob createOpenBlob() throws SQLException {
+        final V11OutputBlob blob = new V11OutputBlob(db, transaction, null);
+        blob.open();
+        return blob;
+    }
+
+    private static byte[] createData(int length) {
+        final byte[] data = new byte[length];
+        for (int idx = 0; idx < length; idx++) {
+            data[idx] = (byte) idx;
+        }
+        return data;
+    }
+
+    /**
+     * Decodes the {@code op_put_segment} packets sent after the {@code op_create_blob}.
+     */
+    private byte[] decodePutSegments(int maximumSegmentSize) throws IOException {
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(sent.toByteArray()));
+        assertEquals(op_create_blob, in.readInt());
+        in.readInt(); // transaction handle
+        in.readLong(); // blob id
+        final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        while (in.available() > 0) {
+            assertEquals(op_put_segment, in.readInt());
+            assertEquals(BLOB_HANDLE, in.readInt());
+            final int length = in.readInt();
+            assertEquals("Buffer length should match segment length", length, in.readInt());
+            assertTrue("Segment too long: " + length, length <= maximumSegmentSize);
+            final byte[] segment = new byte[length];
+            in.readFully(segment);
+            data.write(segment);
+            in.skipBytes((4 - length) & 3);
+        }
+        return data.toByteArray();
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.jdbc;
+
+import org.firebirdsql.encodings.EncodingFactory;
+import org.firebirdsql.gds.ng.DatatypeCoder;
+import org.firebirdsql.gds.ng.DefaultDatatypeCoder;
+import org.firebirdsql.gds.ng.fields.RowDescriptor;
+import org.firebirdsql.gds.ng.fields.RowDescriptorBuilder;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.firebirdsql.gds.ISCConstants.*;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link AdaptiveFetchSize}.
+ */
+public class AdaptiveFetchSizeTest {
+
+    private static final DatatypeCoder datatypeCoder =
+            DefaultDatatypeCoder.forEncodingFactory(EncodingFactory.createInstance(StandardCharsets.UTF_8));
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Test
+    public void testEstimateRowLength() {
+        RowDescriptor rowDescriptor = rowDescriptor(
+                SQL_LONG, 4,
+                SQL_INT64, 8,
+                SQL_VARYING, 10,
+                SQL_TEXT, 3,
+                SQL_BOOLEAN, 1);
+
+        // padded length + null indicator: (4 + 4) + (8 + 4) + (16 + 4) + (4 + 4) + (4 + 4)
+        assertEquals(56, AdaptiveFetchSize.estimateRowLength(rowDescriptor));
+    }
+
+    @Test
+    public void testMaximumFetchSizeFromRowLength() {
+        // 8 bytes per row, limited by maximum fetch size
+        assertEquals(AdaptiveFetchSize.MAXIMUM_FETCH_SIZE,
+                new AdaptiveFetchSize(rowDescriptor(SQL_LONG, 4), BUFFER_SIZE, null).getMaximumFetchSize());
+        // 32768 + 4 + 4 bytes per row
+        assertEquals(1, new AdaptiveFetchSize(rowDescriptor(SQL_VARYING, 32768), BUFFER_SIZE, null)
+                .getMaximumFetchSize());
+        // 1000 + 4 + 4 bytes per row
+        assertEquals(BUFFER_SIZE / 1008, new AdaptiveFetchSize(rowDescriptor(SQL_VARYING, 1000), BUFFER_SIZE, null)
+                .getMaximumFetchSize());
+    }
+
+    @Test
+    public void testInitialFetchSize() {
+        assertEquals(FBFetcher.MAX_FETCH_ROWS,
+                new AdaptiveFetchSize(rowDescriptor(SQL_LONG, 4), BUFFER_SIZE, null).nextFetchSize(0));
+        assertEquals(BUFFER_SIZE / 1008,
+                new AdaptiveFetchSize(rowDescriptor(SQL_VARYING, 1000), BUFFER_SIZE, null).nextFetchSize(0));
+    }
+
+    @Test
+    public void testInitialFetchSizeWithoutInstance() {
+        RowDescriptor rowDescriptor = rowDescriptor(SQL_VARYING, 1000);
+        AdaptiveFetchSize adaptiveFetchSize = new AdaptiveFetchSize(rowDescriptor, BUFFER_SIZE, null);
+
+        assertEquals(adaptiveFetchSize.getFetchSize(), AdaptiveFetchSize.initialFetchSize(rowDescriptor, BUFFER_SIZE));
+        assertEquals(adaptiveFetchSize.nextFetchSize(0), AdaptiveFetchSize.initialFetchSize(rowDescriptor, BUFFER_SIZE));
+    }
+
+    @Test
+    public void testGrowsWhenFetchTimeDominates() {
+        AdaptiveFetchSize adaptiveFetchSize = new AdaptiveFetchSize(rowDescriptor(SQL_LONG, 4), BUFFER_SIZE, null);
+        long now = 0;
+        int fetchSize = adaptiveFetchSize.nextFetchSize(now);
+        for (int i = 0; i < 10; i++) {
+            // fetch of 1000 ns, consumer takes 100 ns
+            adaptiveFetchSize.fetchCompleted(now += 1000);
+            fetchSize = adaptiveFetchSize.nextFetchSize(now += 100);
+        }
+
+        assertEquals(AdaptiveFetchSize.MAXIMUM_FETCH_SIZE, fetchSize);
+    }
+
+    @Test
+    public void testShrinksWhenConsumerTimeDominates() {
+        AdaptiveFetchSize adaptiveFetchSize = new AdaptiveFetchSize(rowDescriptor(SQL_LONG, 4), BUFFER_SIZE, null);
+        long now = 0;
+        int fetchSize = adaptiveFetchSize.nextFetchSize(now);
+        for (int i = 0; i < 10; i++) {
+            // fetch of 10 ns, consumer takes 1000 ns
+            adaptiveFetchSize.fetchCompleted(now += 10);
+            fetchSize = adaptiveFetchSize.nextFetchSize(now += 1000);
+        }
+
+        assertEquals(AdaptiveFetchSize.MINIMUM_FETCH_SIZE, fetchSize);
+    }
+
+    @Test
+    public void testStableWhenBalanced() {
+        AdaptiveFetchSize adaptiveFetchSize = new AdaptiveFetchSize(rowDescriptor(SQL_LONG, 4), BUFFER_SIZE, null);
+        long now = 0;
+        int fetchSize = adaptiveFetchSize.nextFetchSize(now);
+        for (int i = 0; i < 10; i++) {
+            // fetch of 100 ns, consumer takes 1000 ns
+            adaptiveFetchSize.fetchCompleted(now += 100);
+            fetchSize = adaptiveFetchSize.nextFetchSize(now += 1000);
+        }
+
+        assertEquals(FBFetcher.MAX_FETCH_ROWS, fetchSize);
+    }
+
+    @Test
+    public void testReportsChosenFetchSizeToStatistics() {
+        StatementStatistics statistics = new StatementStatistics();
+        statistics.setEnabled(true);
+        StatementStatisticsListener listener = new StatementStatisticsListener(statistics);
+        listener.statementPrepared("select 1 from rdb$database");
+        AdaptiveFetchSize adaptiveFetchSize =
+                new AdaptiveFetchSize(rowDescriptor(SQL_LONG, 4), BUFFER_SIZE, listener);
+
+        adaptiveFetchSize.nextFetchSize(0);
+        adaptiveFetchSize.fetchCompleted(1000);
+        adaptiveFetchSize.nextFetchSize(1100);
+
+        StatementStatistics.Entry entry = statistics.getEntry("select 1 from rdb$database");
+        assertEquals("adaptiveFetchCount", 2, entry.getAdaptiveFetchCount());
+        assertEquals("maxAdaptiveFetchSize", 2 * FBFetcher.MAX_FETCH_ROWS, entry.getMaxAdaptiveFetchSize());
+    }
+
+    private static RowDescriptor rowDescriptor(int... typeAndLength) {
+        RowDescriptorBuilder builder = new RowDescriptorBuilder(typeAndLength.length / 2, datatypeCoder);
+        for (int idx = 0; idx < typeAndLength.length; idx += 2) {
+            builder.setType(typeAndLength[idx]).setLength(typeAndLength[idx + 1]).addField();
+        }
+        return builder.toRowDescriptor();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.jdbc;
+
+import org.jmock.Expectations;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.jmock.lib.legacy.ClassImposteriser;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link DefaultCallableStatementMetaData} that don't require a connection to the database.
+ *
+ * @since 4.0
+ */
+public class DefaultCallableStatementMetaDataTest {
+
+    @Rule
+    public final JUnitRuleMockery context = new JUnitRuleMockery();
+    {
+        context.setImposteriser(ClassImposteriser.INSTANCE);
+    }
+
+    private final FBConnection connection = context.mock(FBConnection.class);
+    private final FBDatabaseMetaData metaData = context.mock(FBDatabaseMetaData.class);
+
+    @Test
+    public void testNormalizeProcedureName_unquoted() {
+        assertEquals("MY_PROC", DefaultCallableStatementMetaData.normalizeProcedureName(" my_Proc "));
+    }
+
+    @Test
+    public void testNormalizeProcedureName_quoted() {
+        assertEquals("my \"Proc\"", DefaultCallableStatementMetaData.normalizeProcedureName("\"my \"\"Proc\"\"\""));
+    }
+
+    @Test
+    public void testIsSelectable_metadataCacheDisabled_queriesOncePerConnection() throws Exception {
+        expectProcedureTypeQuery("MY_PROC", 1);
+        DefaultCallableStatementMetaData callableMetaData =
+                new DefaultCallableStatementMetaData(connection, MetadataCache.DISABLED);
+
+        assertTrue(callableMetaData.isSelectable("my_proc"));
+        assertTrue(callableMetaData.isSelectable("MY_PROC"));
+    }
+
+    @Test
+    public void testIsSelectable_metadataCacheEnabled_sharedBetweenConnections() throws Exception {
+        expectProcedureTypeQuery("MY_PROC", 2);
+        MetadataCache metadataCache = new MetadataCache(1, TimeUnit.HOURS);
+        DefaultCallableStatementMetaData callableMetaData =
+                new DefaultCallableStatementMetaData(connection, metadataCache);
+        DefaultCallableStatementMetaData otherCallableMetaData =
+                new DefaultCallableStatementMetaData(context.mock(FBConnection.class, "otherConnection"),
+                        metadataCache);
+
+        assertFalse(callableMetaData.isSelectable("my_proc"));
+        assertFalse(otherCallableMetaData.isSelectable("my_proc"));
+    }
+
+    private void expectProcedureTypeQuery(final String procedureName, final int procedureType) throws Exception {
+        final ResultSet rs = context.mock(ResultSet.class);
+        context.checking(new Expectations() {{
+            oneOf(connection).getMetaData(); will(returnValue(metaData));
+            oneOf(metaData).doQuery(with(any(String.class)), with(equal(Collections.singletonList(procedureName))));
+            will(returnValue(rs));
+            oneOf(rs).next(); will(returnValue(true));
+            oneOf(rs).getInt(1); will(returnValue(procedureType));
+            oneOf(rs).close();
+        }});
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.jdbc;
+
+import org.firebirdsql.gds.DatabaseParameterBuffer;
+import org.firebirdsql.gds.ISCConstants;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link FBConnectionProperties}.
+ */
+public class FBConnectionPropertiesTest {
+
+    @Test
+    public void getDatabaseParameterBufferReturnsIndependentCopies() throws Exception {
+        FBConnectionProperties properties = new FBConnectionProperties();
+        properties.setRoleName("SOME_ROLE");
+        DatabaseParameterBuffer dpb1 = properties.getDatabaseParameterBuffer();
+
+        dpb1.addArgument(ISCConstants.isc_dpb_num_buffers, 100);
+        DatabaseParameterBuffer dpb2 = properties.getDatabaseParameterBuffer();
+
+        assertNotSame(dpb1, dpb2);
+        assertFalse("modification of earlier copy visible", dpb2.hasArgument(ISCConstants.isc_dpb_num_buffers));
+        assertEquals("SOME_ROLE", dpb2.getArgumentAsString(ISCConstants.isc_dpb_sql_role_name));
+    }
+
+    @Test
+    public void getDatabaseParameterBufferReflectsPropertyChanges() throws Exception {
+        FBConnectionProperties properties = new FBConnectionProperties();
+        properties.setRoleName("SOME_ROLE");
+        byte[] before = properties.getDatabaseParameterBuffer().toBytes();
+
+        properties.setNonStandardProperty("isc_dpb_num_buffers", "2048");
+        properties.setRoleName("OTHER_ROLE");
+        DatabaseParameterBuffer dpb = properties.getDatabaseParameterBuffer();
+
+        assertEquals(2048, dpb.getArgumentAsInt(ISCConstants.isc_dpb_num_buffers));
+        assertEquals("OTHER_ROLE", dpb.getArgumentAsString(ISCConstants.isc_dpb_sql_role_name));
+        assertFalse("serialized form changed", Arrays.equals(before, dpb.toBytes()));
+    }
+
+    @Test
+    public void cloneDoesNotSeePropertyChangesOfOriginal() throws Exception {
+        FBConnectionProperties properties = new FBConnectionProperties();
+        properties.setRoleName("SOME_ROLE");
+        properties.getDatabaseParameterBuffer();
+        FBConnectionProperties clone = (FBConnectionProperties) properties.clone();
+
+        properties.setRoleName("OTHER_ROLE");
+
+        assertEquals("SOME_ROLE",
+                clone.getDatabaseParameterBuffer().getArgumentAsString(ISCConstants.isc_dpb_sql_role_name));
+    }
+}
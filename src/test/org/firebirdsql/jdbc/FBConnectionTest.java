@@ -42,6 +42,8 @@ import org.junit.rules.TestRule;
 import java.sql.*;
 import java.util.Arrays;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.firebirdsql.common.DdlHelper.executeCreateTable;
 import static org.firebirdsql.common.FBTestProperties.*;
@@ -681,6 +683,43 @@ public class FBConnectionTest {
         DriverManager.getConnection(getUrl(), props);
     }
 
+    @Test
+    public void isValidReturnsWithinTimeoutWhenConnectionLockIsHeld() throws Exception {
+        try (final FBConnection connection = (FBConnection) getConnectionViaDriverManager()) {
+            final CountDownLatch lockHeld = new CountDownLatch(1);
+            final CountDownLatch releaseLock = new CountDownLatch(1);
+            Thread lockHolder = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    synchronized (connection.getSynchronizationObject()) {
+                        lockHeld.countDown();
+                        try {
+                            releaseLock.await(10, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                }
+            });
+            lockHolder.start();
+            try {
+                assertTrue("Expected lock to be held", lockHeld.await(5, TimeUnit.SECONDS));
+
+                final long start = System.nanoTime();
+                assertFalse("Expected busy connection to be reported invalid", connection.isValid(1));
+                final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                assertTrue("Expected isValid to return within the timeout, took " + elapsedMillis + " ms",
+                        elapsedMillis < 2000);
+            } finally {
+                releaseLock.countDown();
+                lockHolder.join();
+            }
+
+            assertTrue("Expected connection to be left open after the operation in progress completed",
+                    connection.isValid(1));
+        }
+    }
+
     @Test
     public void connectingWithUnknownFirebirdCharacterSetName() throws Exception {
         Properties props = getDefaultPropertiesForConnection();
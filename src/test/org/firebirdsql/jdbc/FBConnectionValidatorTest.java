@@ -0,0 +1,127 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.jdbc;
+
+import org.jmock.Expectations;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.jmock.lib.concurrent.Synchroniser;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link FBConnectionValidator}.
+ */
+public class FBConnectionValidatorTest {
+
+    @Rule
+    public final JUnitRuleMockery context = new JUnitRuleMockery();
+    {
+        context.setThreadingPolicy(new Synchroniser());
+    }
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @After
+    public void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void reportsResultPerConnectionInOrder() throws Exception {
+        final Connection valid = context.mock(Connection.class, "valid");
+        final Connection invalid = context.mock(Connection.class, "invalid");
+        final Connection failing = context.mock(Connection.class, "failing");
+        context.checking(new Expectations() {{
+            oneOf(valid).isValid(5); will(returnValue(true));
+            oneOf(invalid).isValid(5); will(returnValue(false));
+            oneOf(failing).isValid(5); will(throwException(new SQLException("failure")));
+        }});
+
+        boolean[] result = FBConnectionValidator.validate(Arrays.asList(valid, invalid, failing), 5, executor);
+
+        assertArrayEquals(new boolean[] { true, false, false }, result);
+    }
+
+    @Test
+    public void validatesConcurrentlyWithSharedDeadline() throws Exception {
+        // jMock serializes invocations, so use stubs for concurrent invocations
+        final Connection valid = stubIsValid(false);
+        final Connection hanging1 = stubIsValid(true);
+        final Connection hanging2 = stubIsValid(true);
+
+        long start = System.nanoTime();
+        boolean[] result = FBConnectionValidator.validate(Arrays.asList(hanging1, valid, hanging2), 1, executor);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertArrayEquals(new boolean[] { false, true, false }, result);
+        assertTrue("Expected validation bounded by a single timeout, was " + elapsedMillis + " ms",
+                elapsedMillis < 1900);
+    }
+
+    @Test
+    public void emptyListReturnsEmptyResult() throws Exception {
+        assertEquals(0,
+                FBConnectionValidator.validate(Collections.<Connection>emptyList(), 1, executor).length);
+    }
+
+    @Test(expected = SQLException.class)
+    public void negativeTimeoutNotAllowed() throws Exception {
+        FBConnectionValidator.validate(Collections.<Connection>emptyList(), -1, executor);
+    }
+
+    /**
+     * Creates a connection stub that only supports {@code isValid}.
+     *
+     * @param block
+     *         {@code true}: block until released, {@code false}: return immediately
+     * @return connection stub, {@code isValid} returns {@code true}
+     */
+    private Connection stubIsValid(final boolean block) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        if (!"isValid".equals(method.getName())) {
+                            throw new UnsupportedOperationException(method.getName());
+                        }
+                        if (block) {
+                            release.await(10, TimeUnit.SECONDS);
+                        }
+                        return true;
+                    }
+                });
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.jdbc;
+
+import org.firebirdsql.gds.ISCConstants;
+import org.firebirdsql.gds.impl.GDSHelper;
+import org.firebirdsql.gds.impl.GDSServerVersion;
+import org.firebirdsql.gds.ng.FbDatabase;
+import org.firebirdsql.gds.ng.FbExceptionBuilder;
+import org.firebirdsql.gds.ng.FbStatement;
+import org.firebirdsql.gds.ng.StatementType;
+import org.firebirdsql.gds.ng.fields.RowValue;
+import org.jmock.Expectations;
+import org.jmock.api.Invocation;
+import org.jmock.api.Invokable;
+import org.jmock.api.ThreadingPolicy;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.jmock.lib.action.CustomAction;
+import org.jmock.lib.legacy.ClassImposteriser;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the query timeout of {@link FBStatement} with a mocked low level statement.
+ */
+public class FBStatementQueryTimeoutTest {
+
+    @Rule
+    public final JUnitRuleMockery context = new JUnitRuleMockery();
+    {
+        context.setImposteriser(ClassImposteriser.INSTANCE);
+        // Not synchronized: the mocked execute blocks until the timer thread cancels through the mocked database
+        context.setThreadingPolicy(new ThreadingPolicy() {
+            @Override
+            public Invokable synchroniseAccessTo(Invokable mockObject) {
+                return mockObject;
+            }
+        });
+    }
+
+    private final FbDatabase database = context.mock(FbDatabase.class);
+    private final FbStatement fbStatement = context.mock(FbStatement.class);
+    private final FBConnection connection = context.mock(FBConnection.class);
+
+    private FBStatement createStatement() throws Exception {
+        final FBObjectListener.StatementListener statementListener =
+                context.mock(FBObjectListener.StatementListener.class);
+        context.checking(new Expectations() {{
+            allowing(database).getSynchronizationObject(); will(returnValue(new Object()));
+            allowing(database).getServerVersion();
+            will(returnValue(GDSServerVersion.parseRawVersion("WI-V2.5.2.26540 Firebird 2.5")));
+            allowing(statementListener).getConnection(); will(returnValue(connection));
+            allowing(connection).isWrapperFor(FirebirdConnection.class); will(returnValue(true));
+            allowing(connection).unwrap(FirebirdConnection.class); will(returnValue(connection));
+            allowing(connection).getFbDatabase(); will(returnValue(database));
+            allowing(fbStatement).getType(); will(returnValue(StatementType.SELECT));
+        }});
+        final FBStatement statement = new FBStatement(new GDSHelper(database), ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY, ResultSet.CLOSE_CURSORS_AT_COMMIT, statementListener);
+        statement.fbStatement = fbStatement;
+        return statement;
+    }
+
+    @Test
+    public void executeWithoutQueryTimeoutPrefetchesRows() throws Exception {
+        final FBStatement statement = createStatement();
+        statement.setFetchSize(50);
+        context.checking(new Expectations() {{
+            oneOf(fbStatement).setPrefetchSize(50);
+            oneOf(fbStatement).execute(RowValue.EMPTY_ROW_VALUE);
+        }});
+
+        statement.executeWithTimeout(RowValue.EMPTY_ROW_VALUE);
+    }
+
+    @Test
+    public void cancelByQueryTimeoutIsReportedByExecute() throws Exception {
+        final FBStatement statement = createStatement();
+        statement.setFetchSize(50);
+        statement.setQueryTimeout(1);
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        context.checking(new Expectations() {{
+            // No rows are fetched with the execute, otherwise the cancel would be reported by the first fetch
+            oneOf(fbStatement).setPrefetchSize(0);
+            oneOf(database).cancelOperation(ISCConstants.fb_cancel_raise);
+            will(new CustomAction("signal cancel") {
+                @Override
+                public Object invoke(Invocation invocation) throws Throwable {
+                    cancelled.countDown();
+                    return null;
+                }
+            });
+            oneOf(fbStatement).execute(RowValue.EMPTY_ROW_VALUE);
+            will(new CustomAction("execute until cancelled") {
+                @Override
+                public Object invoke(Invocation invocation) throws Throwable {
+                    assertTrue("Expected cancel by query timeout", cancelled.await(5, TimeUnit.SECONDS));
+                    throw new FbExceptionBuilder().exception(ISCConstants.isc_cancelled).toSQLException();
+                }
+            });
+        }});
+
+        try {
+            statement.executeWithTimeout(RowValue.EMPTY_ROW_VALUE);
+            fail("Expected execute to fail with a query timeout");
+        } catch (SQLTimeoutException e) {
+            assertEquals(ISCConstants.isc_cancelled, ((SQLException) e.getCause()).getErrorCode());
+        }
+    }
+}
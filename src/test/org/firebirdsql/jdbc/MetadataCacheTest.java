@@ -0,0 +1,123 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.jdbc;
+
+import org.firebirdsql.jdbc.AbstractFieldMetaData.ExtendedFieldInfo;
+import org.firebirdsql.jdbc.AbstractFieldMetaData.FieldKey;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link MetadataCache}
+ *
+ * @since 4.0
+ */
+public class MetadataCacheTest {
+
+    private static final FieldKey FIELD_KEY = new FieldKey("TABLE1", "COLUMN1");
+
+    @Test
+    public void testMetadataIsShared() {
+        MetadataCache cache = new MetadataCache(1, TimeUnit.HOURS);
+        ExtendedFieldInfo fieldInfo = new ExtendedFieldInfo();
+
+        MetadataCache.Generation generation = cache.getGeneration();
+        generation.putProcedureSelectable("PROC1", true);
+        generation.putProcedureSelectable("PROC2", false);
+        generation.putExtendedFieldInfo(FIELD_KEY, fieldInfo);
+
+        assertSame("Expected same generation", generation, cache.getGeneration());
+        assertEquals(Boolean.TRUE, cache.getGeneration().getProcedureSelectable("PROC1"));
+        assertEquals(Boolean.FALSE, cache.getGeneration().getProcedureSelectable("PROC2"));
+        assertNull(cache.getGeneration().getProcedureSelectable("PROC3"));
+        assertSame(fieldInfo, cache.getGeneration().getExtendedFieldInfo(new FieldKey("TABLE1", "COLUMN1")));
+    }
+
+    @Test
+    public void testAbsentExtendedFieldInfoIsCached() {
+        MetadataCache cache = new MetadataCache(1, TimeUnit.HOURS);
+        MetadataCache.Generation generation = cache.getGeneration();
+
+        assertFalse(generation.hasExtendedFieldInfo(FIELD_KEY));
+        generation.putExtendedFieldInfo(FIELD_KEY, null);
+
+        assertTrue("Expected cached absence", generation.hasExtendedFieldInfo(FIELD_KEY));
+        assertNull(generation.getExtendedFieldInfo(FIELD_KEY));
+    }
+
+    @Test
+    public void testProceduresAreBounded() {
+        MetadataCache cache = new MetadataCache(1, TimeUnit.HOURS);
+        MetadataCache.Generation generation = cache.getGeneration();
+        for (int idx = 0; idx < MetadataCache.Generation.MAX_PROCEDURES; idx++) {
+            generation.putProcedureSelectable("PROC" + idx, true);
+        }
+        assertEquals(Boolean.TRUE, generation.getProcedureSelectable("PROC0"));
+
+        generation.putProcedureSelectable("PROC_NEXT", false);
+
+        assertNull("Expected procedures cleared when exceeding maximum", generation.getProcedureSelectable("PROC0"));
+        assertEquals(Boolean.FALSE, generation.getProcedureSelectable("PROC_NEXT"));
+    }
+
+    @Test
+    public void testInvalidateStartsNewGeneration() {
+        MetadataCache cache = new MetadataCache(1, TimeUnit.HOURS);
+        MetadataCache.Generation generation = cache.getGeneration();
+        generation.putProcedureSelectable("PROC1", true);
+
+        cache.invalidate();
+        // Metadata loaded for the invalidated generation is not visible
+        generation.putExtendedFieldInfo(FIELD_KEY, new ExtendedFieldInfo());
+
+        MetadataCache.Generation newGeneration = cache.getGeneration();
+        assertNotSame(generation, newGeneration);
+        assertNull(newGeneration.getProcedureSelectable("PROC1"));
+        assertFalse(newGeneration.hasExtendedFieldInfo(FIELD_KEY));
+    }
+
+    @Test
+    public void testExpiredGenerationIsReplaced() throws Exception {
+        MetadataCache cache = new MetadataCache(10, TimeUnit.MILLISECONDS);
+        MetadataCache.Generation generation = cache.getGeneration();
+        generation.putProcedureSelectable("PROC1", true);
+
+        Thread.sleep(20);
+
+        MetadataCache.Generation newGeneration = cache.getGeneration();
+        assertNotSame("Expected new generation after time to live", generation, newGeneration);
+        assertNull(newGeneration.getProcedureSelectable("PROC1"));
+    }
+
+    @Test
+    public void testZeroTimeToLiveDisablesCaching() {
+        MetadataCache cache = new MetadataCache(0, TimeUnit.SECONDS);
+        cache.getGeneration().putProcedureSelectable("PROC1", true);
+
+        assertNull(cache.getGeneration().getProcedureSelectable("PROC1"));
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.jdbc;
+
+import org.firebirdsql.jdbc.escape.FBEscapedParser;
+import org.firebirdsql.jdbc.escape.FBEscapedParser.EscapeParserMode;
+import org.firebirdsql.jdbc.parser.JaybirdStatementModel;
+import org.firebirdsql.jdbc.parser.StatementParser;
+import org.firebirdsql.jdbc.parser.StatementParser.ParseException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link ParsedStatementCache}
+ *
+ * @since 4.0
+ */
+public class ParsedStatementCacheTest {
+
+    private static final String ESCAPED_SQL = "SELECT {fn ucase(NAME)} FROM TABLE1";
+
+    @Test
+    public void testNativeSqlIsCached() throws Exception {
+        ParsedStatementCache cache = new ParsedStatementCache(10);
+        FBEscapedParser parser = new FBEscapedParser(EscapeParserMode.USE_BUILT_IN);
+
+        String first = cache.getNativeSql(ESCAPED_SQL, parser);
+        String second = cache.getNativeSql(ESCAPED_SQL, parser);
+
+        assertEquals("SELECT UPPER(NAME) FROM TABLE1", first);
+        assertSame("Expected cached native SQL", first, second);
+    }
+
+    @Test
+    public void testNativeSqlIsCachedPerEscapeParserMode() throws Exception {
+        ParsedStatementCache cache = new ParsedStatementCache(10);
+        FBEscapedParser builtInParser = new FBEscapedParser(EscapeParserMode.USE_BUILT_IN);
+        FBEscapedParser standardUdfParser = new FBEscapedParser(EscapeParserMode.USE_STANDARD_UDF);
+
+        String builtIn = cache.getNativeSql(ESCAPED_SQL, builtInParser);
+        String standardUdf = cache.getNativeSql(ESCAPED_SQL, standardUdfParser);
+
+        assertNotSame("Expected separate entry per escape parser mode", builtIn, standardUdf);
+        assertSame(builtIn, cache.getNativeSql(ESCAPED_SQL, builtInParser));
+        assertSame(standardUdf, cache.getNativeSql(ESCAPED_SQL, standardUdfParser));
+    }
+
+    @Test
+    public void testProcedureCallIsParsed() throws Exception {
+        ParsedStatementCache cache = new ParsedStatementCache(10);
+        FBEscapedParser parser = new FBEscapedParser(EscapeParserMode.USE_BUILT_IN);
+
+        FBProcedureCall call = cache.getProcedureCall("{call PROC1(?, {fn ucase('a')}, ?)}", parser);
+
+        assertEquals("PROC1", call.getName());
+        assertEquals("EXECUTE PROCEDURE PROC1(?,UPPER('a'),?)", call.getSQL(false));
+    }
+
+    @Test
+    public void testProcedureCallReturnsCopyOfCachedTemplate() throws Exception {
+        ParsedStatementCache cache = new ParsedStatementCache(10);
+        FBEscapedParser parser = new FBEscapedParser(EscapeParserMode.USE_BUILT_IN);
+
+        FBProcedureCall first = cache.getProcedureCall("{call PROC1(?, ?)}", parser);
+        first.registerOutParam(2, java.sql.Types.INTEGER);
+        first.getInputParam(1).setValue("value");
+        FBProcedureCall second = cache.getProcedureCall("{call PROC1(?, ?)}", parser);
+
+        assertNotSame("Expected a copy for each call", first, second);
+        assertEquals("EXECUTE PROCEDURE PROC1(?)", first.getSQL(false));
+        assertEquals("Expected template unaffected by changes to copy",
+                "EXECUTE PROCEDURE PROC1(?,?)", second.getSQL(false));
+        assertNull(second.getInputParam(1).getValue());
+    }
+
+    @Test
+    public void testProcedureCallWithZeroSizeCache() throws Exception {
+        ParsedStatementCache cache = new ParsedStatementCache(0);
+        FBEscapedParser parser = new FBEscapedParser(EscapeParserMode.USE_BUILT_IN);
+
+        FBProcedureCall first = cache.getProcedureCall("{call PROC1(?)}", parser);
+        FBProcedureCall second = cache.getProcedureCall("{call PROC1(?)}", parser);
+
+        assertNotSame(first, second);
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void testStatementModelIsCached() throws Exception {
+        ParsedStatementCache cache = new ParsedStatementCache(10);
+        CountingStatementParser parser = new CountingStatementParser();
+
+        JaybirdStatementModel first = cache.getStatementModel("INSERT INTO TABLE1 (ID) VALUES (1)", parser);
+        JaybirdStatementModel second = cache.getStatementModel("INSERT INTO TABLE1 (ID) VALUES (1)", parser);
+
+        assertSame("Expected cached statement model", first, second);
+        assertEquals("Expected single parse", 1, parser.parseCount);
+    }
+
+    @Test
+    public void testStatementModelParseFailureIsCached() {
+        ParsedStatementCache cache = new ParsedStatementCache(10);
+        CountingStatementParser parser = new CountingStatementParser();
+
+        ParseException[] exceptions = new ParseException[2];
+        for (int i = 0; i < exceptions.length; i++) {
+            try {
+                cache.getStatementModel("SELECT * FROM TABLE1", parser);
+                fail("Expected ParseException");
+            } catch (ParseException expected) {
+                exceptions[i] = expected;
+            }
+        }
+        assertEquals("Expected single parse", 1, parser.parseCount);
+        assertNotSame("Expected new exception instance for cached failure", exceptions[0], exceptions[1]);
+        assertEquals(exceptions[0].getMessage(), exceptions[1].getMessage());
+    }
+
+    @Test
+    public void testCacheClearedWhenMaximumSizeExceeded() throws Exception {
+        ParsedStatementCache cache = new ParsedStatementCache(2);
+        CountingStatementParser parser = new CountingStatementParser();
+
+        JaybirdStatementModel first = cache.getStatementModel("INSERT INTO TABLE1 (ID) VALUES (1)", parser);
+        cache.getStatementModel("INSERT INTO TABLE1 (ID) VALUES (2)", parser);
+        cache.getStatementModel("INSERT INTO TABLE1 (ID) VALUES (3)", parser);
+        JaybirdStatementModel afterClear = cache.getStatementModel("INSERT INTO TABLE1 (ID) VALUES (1)", parser);
+
+        assertNotSame("Expected statement model to be parsed again", first, afterClear);
+        assertEquals(4, parser.parseCount);
+    }
+
+    @Test
+    public void testZeroSizeDisablesCaching() throws Exception {
+        ParsedStatementCache cache = new ParsedStatementCache(0);
+        CountingStatementParser parser = new CountingStatementParser();
+
+        cache.getStatementModel("INSERT INTO TABLE1 (ID) VALUES (1)", parser);
+        cache.getStatementModel("INSERT INTO TABLE1 (ID) VALUES (1)", parser);
+
+        assertEquals(2, parser.parseCount);
+    }
+
+    private static class CountingStatementParser implements StatementParser {
+
+        private int parseCount;
+
+        @Override
+        public JaybirdStatementModel parseInsertStatement(String sql) throws ParseException {
+            parseCount++;
+            if (!sql.startsWith("INSERT")) {
+                throw new ParseException("Not an insert: " + sql);
+            }
+            JaybirdStatementModel model = new JaybirdStatementModel();
+            model.setStatementType(JaybirdStatementModel.INSERT_TYPE);
+            model.setTableName("TABLE1");
+            return model;
+        }
+    }
+}
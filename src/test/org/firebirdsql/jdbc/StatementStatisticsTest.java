@@ -0,0 +1,183 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.jdbc;
+
+import org.firebirdsql.gds.ng.FbStatement;
+import org.firebirdsql.gds.ng.StatementState;
+import org.firebirdsql.gds.ng.fields.FieldValue;
+import org.firebirdsql.gds.ng.fields.RowValue;
+import org.jmock.Expectations;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link StatementStatistics} and {@link StatementStatisticsListener}.
+ */
+public class StatementStatisticsTest {
+
+    private static final String SELECT = "select * from rdb$database";
+
+    @Rule
+    public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+    private final StatementStatistics statistics = new StatementStatistics();
+
+    @Test
+    public void testDisabledByDefault() {
+        assertFalse("expected disabled by default", statistics.isEnabled());
+        assertNull("expected no entry when disabled", statistics.getOrCreateEntry(SELECT));
+    }
+
+    @Test
+    public void testListenerRecordsExecutionAndRows() {
+        statistics.setEnabled(true);
+        final FbStatement statement = context.mock(FbStatement.class);
+        StatementStatisticsListener listener = new StatementStatisticsListener(statistics);
+        listener.statementPrepared(SELECT);
+
+        listener.statementStateChanged(statement, StatementState.EXECUTING, StatementState.PREPARED);
+        listener.statementExecuted(statement, true, false);
+        listener.statementStateChanged(statement, StatementState.CURSOR_OPEN, StatementState.EXECUTING);
+        listener.receivedRow(statement, RowValue.of(new FieldValue(new byte[4]), new FieldValue(null)));
+        listener.receivedRow(statement, RowValue.of(new FieldValue(new byte[4]), new FieldValue(new byte[10])));
+
+        StatementStatistics.Entry entry = statistics.getEntry(SELECT);
+        assertNotNull("expected entry", entry);
+        assertEquals("executionCount", 1, entry.getExecutionCount());
+        assertEquals("rowsFetched", 2, entry.getRowsFetched());
+        assertEquals("bytesFetched", 18, entry.getBytesFetched());
+        assertEquals("sqlHash", SELECT.hashCode(), entry.getSqlHash());
+        assertNull("expected no plan", entry.getPlan());
+    }
+
+    @Test
+    public void testListenerIgnoresFailedExecution() {
+        statistics.setEnabled(true);
+        final FbStatement statement = context.mock(FbStatement.class);
+        StatementStatisticsListener listener = new StatementStatisticsListener(statistics);
+        listener.statementPrepared(SELECT);
+
+        listener.statementStateChanged(statement, StatementState.EXECUTING, StatementState.PREPARED);
+        listener.statementStateChanged(statement, StatementState.PREPARED, StatementState.EXECUTING);
+
+        assertEquals("executionCount", 0, statistics.getEntry(SELECT).getExecutionCount());
+    }
+
+    @Test
+    public void testMaxStatements() {
+        statistics.setEnabled(true);
+        statistics.setMaxStatements(1);
+
+        assertNotNull(statistics.getOrCreateEntry("select 1 from rdb$database"));
+        assertNotNull("expected existing entry", statistics.getOrCreateEntry("select 1 from rdb$database"));
+        assertNull("expected no new entry", statistics.getOrCreateEntry("select 2 from rdb$database"));
+        assertEquals("droppedExecutionCount", 1, statistics.getDroppedExecutionCount());
+    }
+
+    @Test
+    public void testEntriesOrderedByTotalTime() {
+        statistics.setEnabled(true);
+        statistics.executed(statistics.getOrCreateEntry("fast"), 10);
+        statistics.executed(statistics.getOrCreateEntry("slow"), 1000);
+
+        List<StatementStatistics.Entry> entries = statistics.getEntries();
+        assertEquals(2, entries.size());
+        assertEquals("slow", entries.get(0).getSql());
+        assertEquals("fast", entries.get(1).getSql());
+    }
+
+    @Test
+    public void testPlanCaptureOfSlowestStatements() throws SQLException {
+        statistics.setEnabled(true);
+        statistics.setPlanCaptureCount(1);
+        final FbStatement statement = context.mock(FbStatement.class);
+        context.checking(new Expectations() {{
+            exactly(2).of(statement).getExecutionPlan(); will(onConsecutiveCalls(
+                    returnValue("PLAN (A NATURAL)"), returnValue("PLAN (B NATURAL)")));
+        }});
+
+        StatementStatistics.Entry entryA = statistics.getOrCreateEntry("A");
+        StatementStatistics.Entry entryB = statistics.getOrCreateEntry("B");
+        StatementStatistics.Entry entryC = statistics.getOrCreateEntry("C");
+        assertTrue("expected plan capture for A", statistics.executed(entryA, 100));
+        statistics.capturePlan(entryA, statement);
+        assertTrue("expected plan capture for B", statistics.executed(entryB, 1000));
+        statistics.capturePlan(entryB, statement);
+        // Faster than B: no plan capture
+        assertFalse("expected no plan capture for C", statistics.executed(entryC, 500));
+
+        assertNull("expected plan of A to be evicted", entryA.getPlan());
+        assertEquals("PLAN (B NATURAL)", entryB.getPlan());
+        assertNull("expected no plan for C", entryC.getPlan());
+    }
+
+    @Test
+    public void testListenerCapturesPlanOnlyWhenRequested() throws SQLException {
+        statistics.setEnabled(true);
+        statistics.setPlanCaptureCount(1);
+        final FbStatement statement = context.mock(FbStatement.class);
+        StatementStatisticsListener listener = new StatementStatisticsListener(statistics);
+        listener.statementPrepared(SELECT);
+
+        // No server communication from the listener callbacks
+        listener.statementStateChanged(statement, StatementState.EXECUTING, StatementState.PREPARED);
+        listener.statementExecuted(statement, true, false);
+        listener.statementStateChanged(statement, StatementState.CURSOR_OPEN, StatementState.EXECUTING);
+        context.assertIsSatisfied();
+
+        context.checking(new Expectations() {{
+            oneOf(statement).getExecutionPlan(); will(returnValue("PLAN (RDB$DATABASE NATURAL)"));
+        }});
+        listener.captureRequestedPlan(statement);
+        // Already captured: no further request
+        listener.captureRequestedPlan(statement);
+
+        assertEquals("PLAN (RDB$DATABASE NATURAL)", statistics.getEntry(SELECT).getPlan());
+    }
+
+    @Test
+    public void testAdaptiveFetchSizes() {
+        statistics.setEnabled(true);
+        StatementStatistics.Entry entry = statistics.getOrCreateEntry(SELECT);
+
+        entry.adaptiveFetchSizeChosen(100);
+        entry.adaptiveFetchSizeChosen(300);
+
+        assertEquals("adaptiveFetchCount", 2, entry.getAdaptiveFetchCount());
+        assertEquals("meanAdaptiveFetchSize", 200.0, entry.getMeanAdaptiveFetchSize(), 0.0);
+        assertEquals("maxAdaptiveFetchSize", 300, entry.getMaxAdaptiveFetchSize());
+    }
+
+    @Test
+    public void testReset() {
+        statistics.setEnabled(true);
+        statistics.executed(statistics.getOrCreateEntry(SELECT), 10);
+
+        statistics.reset();
+
+        assertNull("expected no entry after reset", statistics.getEntry(SELECT));
+        assertTrue("expected no entries after reset", statistics.getEntries().isEmpty());
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.jdbc;
+
+import org.firebirdsql.gds.ISCConstants;
+import org.firebirdsql.gds.impl.GDSHelper;
+import org.firebirdsql.gds.ng.FbDatabase;
+import org.firebirdsql.util.HashedTimerWheel;
+import org.jmock.Expectations;
+import org.jmock.api.Invocation;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.jmock.lib.action.CustomAction;
+import org.jmock.lib.concurrent.Synchroniser;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link StatementTimeout}
+ */
+public class StatementTimeoutTest {
+
+    @Rule
+    public final JUnitRuleMockery context = new JUnitRuleMockery();
+    {
+        context.setThreadingPolicy(new Synchroniser());
+    }
+
+    private final HashedTimerWheel timerWheel =
+            new HashedTimerWheel("StatementTimeoutTest", 10, TimeUnit.MILLISECONDS, 8);
+    private final StatementTimeout statementTimeout = new StatementTimeout(timerWheel);
+
+    private GDSHelper createGDSHelper(final FbDatabase database) {
+        context.checking(new Expectations() {{
+            allowing(database).getSynchronizationObject();
+            will(returnValue(new Object()));
+        }});
+        return new GDSHelper(database);
+    }
+
+    @Test
+    public void disarmBeforeExpirationDoesNotCancel() throws Exception {
+        final FbDatabase database = context.mock(FbDatabase.class);
+        final GDSHelper gdsHelper = createGDSHelper(database);
+        context.checking(new Expectations() {{
+            never(database).cancelOperation(ISCConstants.fb_cancel_raise);
+        }});
+
+        statementTimeout.arm(gdsHelper, 1);
+
+        assertFalse("Expected timeout not to have fired", statementTimeout.disarm());
+        assertFalse("Expected timeout to be removed from the wheel", timerWheel.cancel(statementTimeout));
+    }
+
+    @Test
+    public void expirationCancelsOperation() throws Exception {
+        final FbDatabase database = context.mock(FbDatabase.class);
+        final GDSHelper gdsHelper = createGDSHelper(database);
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        context.checking(new Expectations() {{
+            oneOf(database).cancelOperation(ISCConstants.fb_cancel_raise);
+            will(new CustomAction("count down") {
+                @Override
+                public Object invoke(Invocation invocation) {
+                    cancelled.countDown();
+                    return null;
+                }
+            });
+        }});
+
+        statementTimeout.arm(gdsHelper, 1);
+
+        assertTrue("Expected operation to be cancelled", cancelled.await(5, TimeUnit.SECONDS));
+        assertTrue("Expected timeout to have fired", statementTimeout.disarm());
+    }
+
+    @Test
+    public void timeoutCanBeReusedAfterFiring() throws Exception {
+        final FbDatabase database = context.mock(FbDatabase.class);
+        final GDSHelper gdsHelper = createGDSHelper(database);
+        context.checking(new Expectations() {{
+            allowing(database).cancelOperation(ISCConstants.fb_cancel_raise);
+        }});
+        // Generations of a timeout start at 1 and are incremented for each arm
+        statementTimeout.arm(gdsHelper, 1);
+        statementTimeout.expired(1);
+        assertTrue("Expected timeout to have fired", statementTimeout.disarm());
+
+        statementTimeout.arm(gdsHelper, 1);
+
+        assertFalse("Expected timeout not to have fired", statementTimeout.disarm());
+    }
+
+    @Test
+    public void expirationOfPreviousArmDoesNotCancelNextExecute() throws Exception {
+        final FbDatabase database = context.mock(FbDatabase.class);
+        final GDSHelper gdsHelper = createGDSHelper(database);
+        context.checking(new Expectations() {{
+            never(database).cancelOperation(ISCConstants.fb_cancel_raise);
+        }});
+        statementTimeout.arm(gdsHelper, 1);
+        // Simulates the timer thread collecting the expired timeout of the first arm, but running it only after the
+        // statement disarmed the timeout and armed it again for the next execute
+        statementTimeout.disarm();
+        statementTimeout.arm(gdsHelper, 1);
+        statementTimeout.expired(1);
+
+        assertFalse("Expected timeout of next execute not to have fired", statementTimeout.disarm());
+    }
+}
@@ -25,9 +25,13 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
 import java.sql.*;
 import java.util.Properties;
 
@@ -38,6 +42,7 @@ import static org.firebirdsql.common.FBTestProperties.getUrl;
 import static org.firebirdsql.common.matchers.SQLExceptionMatchers.*;
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -463,6 +468,68 @@ public class TestFBBlob extends FBJUnit4TestBase {
         binaryStream.write(1);
     }
 
+    /**
+     * Tests round trip of {@link FirebirdPreparedStatement#setBlob(int, java.nio.channels.ReadableByteChannel, long)}
+     * and {@link FBBlob#transferTo(java.nio.channels.WritableByteChannel)} with data spanning multiple segments.
+     */
+    @Test
+    public void testSetBlobFromChannel_transferToChannel() throws Exception {
+        final byte[] data = new byte[3 * Short.MAX_VALUE + 7];
+        for (int idx = 0; idx < data.length; idx++) {
+            data[idx] = (byte) idx;
+        }
+        try (Connection conn = getConnectionViaDriverManager()) {
+            try (FirebirdPreparedStatement insert = (FirebirdPreparedStatement) conn.prepareStatement(INSERT_BLOB)) {
+                insert.setInt(1, 1);
+                insert.setBlob(2, Channels.newChannel(new ByteArrayInputStream(data)), -1);
+                insert.executeUpdate();
+            }
+
+            try (PreparedStatement select = conn.prepareStatement(SELECT_BLOB)) {
+                select.setInt(1, 1);
+                try (ResultSet rs = select.executeQuery()) {
+                    assertTrue("Expected a row in result set", rs.next());
+                    FBBlob blob = (FBBlob) rs.getBlob(1);
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+                    long transferred = blob.transferTo(Channels.newChannel(out));
+
+                    assertEquals("Unexpected number of bytes transferred", data.length, transferred);
+                    assertArrayEquals("Unexpected blob content", data, out.toByteArray());
+                    blob.free();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCopyChannel_negativeLengthOtherThanMinusOne_throwsSQLException() throws Exception {
+        try (Connection conn = getConnectionViaDriverManager()) {
+            FBBlob blob = (FBBlob) conn.createBlob();
+
+            expectedException.expect(SQLException.class);
+            expectedException.expect(sqlStateEquals(SQLStateConstants.SQL_STATE_INVALID_ARG_VALUE));
+
+            blob.copyChannel(Channels.newChannel(new ByteArrayInputStream(new byte[] { 1, 2, 3 })), -2);
+        }
+    }
+
+    @Test
+    public void testCopyChannel_nonBlockingChannel_throwsSQLException() throws Exception {
+        final Pipe pipe = Pipe.open();
+        try (Connection conn = getConnectionViaDriverManager();
+             Pipe.SourceChannel source = pipe.source();
+             Pipe.SinkChannel ignored = pipe.sink()) {
+            source.configureBlocking(false);
+            FBBlob blob = (FBBlob) conn.createBlob();
+
+            expectedException.expect(SQLException.class);
+            expectedException.expect(sqlStateEquals(SQLStateConstants.SQL_STATE_INVALID_ARG_VALUE));
+
+            blob.copyChannel(source, -1);
+        }
+    }
+
     private void populateBlob(Connection conn, byte[] bytes) throws SQLException {
         try (PreparedStatement insert = conn.prepareStatement(INSERT_BLOB)) {
             insert.setInt(1, 1);
@@ -25,6 +25,7 @@ import org.junit.rules.ExpectedException;
 
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.nio.channels.Channels;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 
@@ -311,6 +312,32 @@ public class TestFBCachedBlob {
         assertEquals("Expected length of -1 after free()", -1, blob.length());
     }
 
+    /**
+     * Test if {@link FBCachedBlob#transferTo(java.nio.channels.WritableByteChannel)} writes the cached data.
+     */
+    @Test
+    public void testTransferTo() throws Exception {
+        final byte[] data = new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 };
+        FBCachedBlob blob = new FBCachedBlob(data);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals("Unexpected number of bytes transferred", 10, blob.transferTo(Channels.newChannel(out)));
+        assertArrayEquals("Unexpected data transferred", data, out.toByteArray());
+    }
+
+    /**
+     * Test if {@link FBCachedBlob#transferTo(java.nio.channels.WritableByteChannel)} writes nothing if data is
+     * <code>null</code>.
+     */
+    @Test
+    public void testTransferTo_null() throws Exception {
+        FBCachedBlob blob = new FBCachedBlob(null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals("Unexpected number of bytes transferred", 0, blob.transferTo(Channels.newChannel(out)));
+        assertEquals("Expected no data transferred", 0, out.size());
+    }
+
     private Matcher<SQLException> blobReadOnlySQLException() {
         return allOf(
                 isA(SQLException.class),
@@ -773,7 +773,6 @@ public class TestFBDatabaseMetaData extends FBJUnit4TestBase {
 
     @Test
     public void testSupportsGetGeneratedKeys() throws Exception {
-        // Note: we are not testing behavior for absence of antlr-runtime
         assertEquals(supportInfoFor(connection).supportsInsertReturning(), dmd.supportsGetGeneratedKeys());
     }
 }
@@ -32,6 +32,7 @@ import java.util.Properties;
 
 import static org.firebirdsql.common.FBTestProperties.*;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeTrue;
 
@@ -231,6 +232,56 @@ public class TestFBResultSetMetaData extends FBJUnit4TestBase {
         }
     }
     
+    /**
+     * Tests if column names and labels are available with the minimalDescribe connection property, which defers
+     * retrieving this information until it is needed.
+     */
+    @Test
+    public void columnNameAndLabel_minimalDescribe() throws Exception {
+        Properties props = getDefaultPropertiesForConnection();
+        props.put("minimalDescribe", "true");
+
+        try (Connection con = DriverManager.getConnection(getUrl(), props);
+             Statement stmt = con.createStatement()) {
+            ResultSet rs = stmt.executeQuery("SELECT " +
+                    "simple_field AS column1Alias, two_byte_field, 1 + 1, 2 - 2 AS column4Alias " +
+                    "FROM test_rs_metadata");
+
+            assertEquals("Unexpected column index for column label", 1, rs.findColumn("column1Alias"));
+            assertEquals("Unexpected column index for column name", 2, rs.findColumn("two_byte_field"));
+
+            ResultSetMetaData metaData = rs.getMetaData();
+
+            assertEquals("Column 1, unexpected columnName", "SIMPLE_FIELD", metaData.getColumnName(1));
+            assertEquals("Column 1, unexpected columnLabel", "COLUMN1ALIAS", metaData.getColumnLabel(1));
+            assertEquals("Column 1, unexpected tableName", "TEST_RS_METADATA", metaData.getTableName(1));
+
+            assertEquals("Column 2, unexpected columnName", "TWO_BYTE_FIELD", metaData.getColumnName(2));
+            assertEquals("Column 2, unexpected columnLabel", "TWO_BYTE_FIELD", metaData.getColumnLabel(2));
+
+            assertEquals("Column 4, unexpected columnLabel", "COLUMN4ALIAS", metaData.getColumnLabel(4));
+        }
+    }
+
+    /**
+     * Tests if a RDB$DB_KEY column is a row id with the minimalDescribe connection property, which does not describe
+     * the column names on prepare.
+     */
+    @Test
+    public void dbKeyIsRowId_minimalDescribe() throws Exception {
+        Properties props = getDefaultPropertiesForConnection();
+        props.put("minimalDescribe", "true");
+
+        try (Connection con = DriverManager.getConnection(getUrl(), props);
+             Statement stmt = con.createStatement()) {
+            ResultSet rs = stmt.executeQuery("SELECT RDB$DB_KEY FROM RDB$DATABASE");
+            assertTrue("Expected a row", rs.next());
+
+            assertTrue("Expected RDB$DB_KEY value to be a RowId", rs.getObject(1) instanceof RowId);
+            assertEquals("Unexpected column type", Types.ROWID, rs.getMetaData().getColumnType(1));
+        }
+    }
+
     /**
      * Tests if the columnLabelForName strategy allows com.sun.rowset.CachedRowSetImpl to
      * access rows by their columnLabel.
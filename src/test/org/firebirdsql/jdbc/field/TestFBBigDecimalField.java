@@ -865,6 +865,97 @@ public class TestFBBigDecimalField extends BaseJUnit4TestFBField<FBBigDecimalFie
         field.setDecimal(Decimal128.valueOf("12345678.90123"));
     }
     
+    @Test
+    public void getScaledLong() throws SQLException {
+        fieldDescriptor = createLongFieldDescriptor(-2);
+        field = new FBBigDecimalField(fieldDescriptor, fieldData, Types.NUMERIC);
+        toReturnLongExpectations(-123456789L);
+
+        assertEquals("Unexpected value for getScaledLong()", -123456789L, field.getScaledLong());
+    }
+
+    @Test
+    public void getScaledLongNull() throws SQLException {
+        fieldDescriptor = createLongFieldDescriptor(-2);
+        field = new FBBigDecimalField(fieldDescriptor, fieldData, Types.NUMERIC);
+        toReturnNullExpectations();
+
+        assertEquals("Unexpected value for getScaledLong() of NULL", 0L, field.getScaledLong());
+    }
+
+    @Test
+    public void getScaledLongDoubleNotSupported() throws SQLException {
+        fieldDescriptor = new RowDescriptorBuilder(1, datatypeCoder)
+                .setType(ISCConstants.SQL_DOUBLE)
+                .setScale(-2)
+                .toFieldDescriptor();
+        field = new FBBigDecimalField(fieldDescriptor, fieldData, Types.NUMERIC);
+        expectedException.expect(TypeConversionException.class);
+
+        field.getScaledLong();
+    }
+
+    @Test
+    public void getLongTruncatesNegativeValueTowardsZero() throws SQLException {
+        fieldDescriptor = createIntegerFieldDescriptor(-2);
+        field = new FBBigDecimalField(fieldDescriptor, fieldData, Types.NUMERIC);
+        toReturnIntegerExpectations(-1299);
+
+        assertEquals("Unexpected value for getLong()", -12L, field.getLong());
+    }
+
+    @Test
+    public void getStringPlainNotation() throws SQLException {
+        fieldDescriptor = createLongFieldDescriptor(-2);
+        field = new FBBigDecimalField(fieldDescriptor, fieldData, Types.NUMERIC);
+        toReturnLongExpectations(-5L);
+
+        assertEquals("Unexpected value for getString()", "-0.05", field.getString());
+    }
+
+    @Test
+    public void getStringScientificNotationSameAsBigDecimal() throws SQLException {
+        fieldDescriptor = createLongFieldDescriptor(-10);
+        field = new FBBigDecimalField(fieldDescriptor, fieldData, Types.NUMERIC);
+        toReturnLongExpectations(12L);
+
+        assertEquals("Unexpected value for getString()", BigDecimal.valueOf(12L, 10).toString(), field.getString());
+    }
+
+    @Test
+    public void getDoubleLargeValueSameAsBigDecimal() throws SQLException {
+        fieldDescriptor = createLongFieldDescriptor(-3);
+        field = new FBBigDecimalField(fieldDescriptor, fieldData, Types.NUMERIC);
+        final long value = 9007199254740993L;
+        toReturnLongExpectations(value);
+
+        assertEquals("Unexpected value for getDouble()", BigDecimal.valueOf(value, 3).doubleValue(),
+                field.getDouble(), 0.0);
+    }
+
+    @Test
+    public void getFloatSameAsBigDecimal() throws SQLException {
+        fieldDescriptor = createIntegerFieldDescriptor(-2);
+        field = new FBBigDecimalField(fieldDescriptor, fieldData, Types.NUMERIC);
+        toReturnIntegerExpectations(1234567);
+
+        assertEquals("Unexpected value for getFloat()", BigDecimal.valueOf(1234567, 2).floatValue(),
+                field.getFloat(), 0.0f);
+    }
+
+    @Test
+    public void toPlainStringSameAsBigDecimal() {
+        final long[] values = { 0L, 1L, -1L, 9L, 10L, -10L, 12345L, -12345L, 100000L, 999999999999999999L,
+                Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1 };
+        for (long value : values) {
+            for (int fractionDigits = 0; fractionDigits <= 18; fractionDigits++) {
+                assertEquals("Unexpected string for " + value + " with " + fractionDigits + " fraction digits",
+                        BigDecimal.valueOf(value, fractionDigits).toPlainString(),
+                        FBBigDecimalField.toPlainString(value, fractionDigits));
+            }
+        }
+    }
+
     @SuppressWarnings("unused")
     @Test
     public void constructWithUnsupportedSqlType() throws SQLException {
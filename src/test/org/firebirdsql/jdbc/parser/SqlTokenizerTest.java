@@ -0,0 +1,104 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.jdbc.parser;
+
+import org.firebirdsql.jdbc.parser.SqlTokenizer.TokenType;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link SqlTokenizer}.
+ */
+public class SqlTokenizerTest {
+
+    @Test
+    public void tokenizesIdentifiersLiteralsAndSymbols() {
+        SqlTokenizer tokenizer = new SqlTokenizer("insert into \"Some \"\"Table\"\"\"(a$1, b_2) values ('it''s', -1.5e-3)");
+
+        assertToken(tokenizer, TokenType.GENERIC_IDENTIFIER, "insert");
+        assertTrue("Expected keyword INSERT", tokenizer.isKeyword("INSERT"));
+        assertToken(tokenizer, TokenType.GENERIC_IDENTIFIER, "into");
+        assertToken(tokenizer, TokenType.QUOTED_IDENTIFIER, "\"Some \"\"Table\"\"\"");
+        assertToken(tokenizer, TokenType.SYMBOL, "(");
+        assertToken(tokenizer, TokenType.GENERIC_IDENTIFIER, "a$1");
+        assertToken(tokenizer, TokenType.SYMBOL, ",");
+        assertToken(tokenizer, TokenType.GENERIC_IDENTIFIER, "b_2");
+        assertToken(tokenizer, TokenType.SYMBOL, ")");
+        assertToken(tokenizer, TokenType.GENERIC_IDENTIFIER, "values");
+        assertToken(tokenizer, TokenType.SYMBOL, "(");
+        assertToken(tokenizer, TokenType.STRING_LITERAL, "'it''s'");
+        assertToken(tokenizer, TokenType.SYMBOL, ",");
+        assertToken(tokenizer, TokenType.SYMBOL, "-");
+        assertToken(tokenizer, TokenType.NUMBER, "1.5e-3");
+        assertToken(tokenizer, TokenType.SYMBOL, ")");
+        assertEndOfStatement(tokenizer);
+    }
+
+    @Test
+    public void skipsComments() {
+        SqlTokenizer tokenizer = new SqlTokenizer("-- line comment\n/* block\ncomment */delete--\nfrom/**/t -- unterminated");
+
+        assertToken(tokenizer, TokenType.GENERIC_IDENTIFIER, "delete");
+        assertToken(tokenizer, TokenType.GENERIC_IDENTIFIER, "from");
+        assertToken(tokenizer, TokenType.GENERIC_IDENTIFIER, "t");
+        assertEndOfStatement(tokenizer);
+    }
+
+    @Test
+    public void alternateQuotedStringLiterals() {
+        SqlTokenizer tokenizer = new SqlTokenizer("q'{a'}b}' Q'!x!' q'<<>'");
+
+        assertToken(tokenizer, TokenType.STRING_LITERAL, "q'{a'}b}'");
+        assertToken(tokenizer, TokenType.STRING_LITERAL, "Q'!x!'");
+        assertToken(tokenizer, TokenType.STRING_LITERAL, "q'<<>'");
+        assertEndOfStatement(tokenizer);
+    }
+
+    @Test
+    public void unterminatedLiteralExtendsToEnd() {
+        SqlTokenizer tokenizer = new SqlTokenizer("select 'abc");
+
+        assertToken(tokenizer, TokenType.GENERIC_IDENTIFIER, "select");
+        assertToken(tokenizer, TokenType.STRING_LITERAL, "'abc");
+        assertEndOfStatement(tokenizer);
+    }
+
+    @Test
+    public void keywordMatchRequiresSameLength() {
+        SqlTokenizer tokenizer = new SqlTokenizer("returning_col");
+        tokenizer.next();
+
+        assertFalse("Identifier should not match keyword prefix", tokenizer.isKeyword("RETURNING"));
+    }
+
+    private static void assertToken(SqlTokenizer tokenizer, TokenType expectedType, String expectedText) {
+        assertTrue("Expected token " + expectedText, tokenizer.next());
+        assertEquals("Unexpected token type for " + expectedText, expectedType, tokenizer.tokenType());
+        assertEquals(expectedText, tokenizer.tokenText());
+    }
+
+    private static void assertEndOfStatement(SqlTokenizer tokenizer) {
+        assertFalse("Expected end of statement", tokenizer.next());
+        assertNull(tokenizer.tokenType());
+    }
+}
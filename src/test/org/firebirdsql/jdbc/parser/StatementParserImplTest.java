@@ -18,37 +18,30 @@
  */
 package org.firebirdsql.jdbc.parser;
 
-import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
+import org.firebirdsql.jdbc.parser.StatementParser.ParseException;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.Matchers.hasItem;
 import static org.junit.Assert.*;
 
-public class TestGrammar {
-	
-	// TODO Add more testcases for grammar
-
-    protected JaybirdSqlParser createParser(String testString) {
-        CharStream stream = CharStreams.fromString(testString);
-        
-        JaybirdSqlLexer lexer = new JaybirdSqlLexer(stream);
-        CommonTokenStream tokenStream = new CommonTokenStream(lexer);
-    
-        return new JaybirdSqlParser(tokenStream);
+/**
+ * Tests for {@link StatementParserImpl}.
+ */
+public class StatementParserImplTest {
+
+    private final StatementParser parser = new StatementParserImpl();
+
+    private JaybirdStatementModel parse(String testString) throws ParseException {
+        return parser.parseInsertStatement(testString);
     }
 
     @Test
     public void insert_values() throws Exception {
-        JaybirdSqlParser parser = createParser(
+        JaybirdStatementModel statementModel = parse(
                 "insert into someTable(a, \"\u0442\u0435\"\"\u0441\u0442\", aaa) values('a', -1.23, a(a,aa))");
-        
-        parser.statement();
-
-        JaybirdStatementModel statementModel = parser.getStatementModel();
         assertEquals("Unexpected statement type", JaybirdStatementModel.INSERT_TYPE, statementModel.getStatementType());
         assertEquals("Unexpected table name", "someTable", statementModel.getTableName());
         assertThat("Column missing", statementModel.getColumns(), hasItem("\"\u0442\u0435\"\"\u0441\u0442\""));
@@ -57,12 +50,8 @@ public class TestGrammar {
 
     @Test
     public void insert_values_quotedTable() throws Exception {
-        JaybirdSqlParser parser = createParser(
+        JaybirdStatementModel statementModel = parse(
                 "insert into \"someTable\"(a, b, c) values('a', -1.23, a(a,aa))");
-
-        parser.statement();
-
-        JaybirdStatementModel statementModel = parser.getStatementModel();
         assertEquals("Unexpected statement type", JaybirdStatementModel.INSERT_TYPE, statementModel.getStatementType());
         assertEquals("Unexpected table name", "\"someTable\"", statementModel.getTableName());
         assertFalse("Statement should have no returning", statementModel.hasReturning());
@@ -70,12 +59,8 @@ public class TestGrammar {
 
     @Test
     public void insert_values_withReturning() throws Exception {
-        JaybirdSqlParser parser = createParser(
+        JaybirdStatementModel statementModel = parse(
                 "insert into someTable(a, b, c) values('a', -1.23, a(a,aa)) returning id");
-
-        parser.statement();
-
-        JaybirdStatementModel statementModel = parser.getStatementModel();
         assertEquals("Unexpected statement type", JaybirdStatementModel.INSERT_TYPE, statementModel.getStatementType());
         assertEquals("Unexpected table name", "someTable", statementModel.getTableName());
         assertTrue("Statement should have returning", statementModel.hasReturning());
@@ -83,11 +68,7 @@ public class TestGrammar {
 
     @Test
     public void insertIntoSelect() throws Exception {
-        JaybirdSqlParser parser = createParser("Insert Into someTable Select * From anotherTable");
-        
-        parser.statement();
-
-        JaybirdStatementModel statementModel = parser.getStatementModel();
+        JaybirdStatementModel statementModel = parse("Insert Into someTable Select * From anotherTable");
         assertEquals("Unexpected statement type", JaybirdStatementModel.INSERT_TYPE, statementModel.getStatementType());
         assertEquals("someTable", statementModel.getTableName());
         assertFalse("Statement should have no returning", statementModel.hasReturning());
@@ -95,11 +76,7 @@ public class TestGrammar {
 
     @Test
     public void insertIntoSelect_withReturning() throws Exception {
-        JaybirdSqlParser parser = createParser("Insert Into someTable Select * From anotherTable returning id");
-
-        parser.statement();
-
-        JaybirdStatementModel statementModel = parser.getStatementModel();
+        JaybirdStatementModel statementModel = parse("Insert Into someTable Select * From anotherTable returning id");
         assertEquals("Unexpected statement type", JaybirdStatementModel.INSERT_TYPE, statementModel.getStatementType());
         assertEquals("someTable", statementModel.getTableName());
         assertTrue("Statement should have returning", statementModel.hasReturning());
@@ -108,25 +85,16 @@ public class TestGrammar {
 
     @Test
     public void insertWithCase() throws Exception {
-        JaybirdSqlParser parser = createParser(
+        JaybirdStatementModel statementModel = parse(
                 "Insert Into someTable ( col1, col2) values((case when a = 1 Then 2 else 3 end), 2)");
-
-        parser.statement();
-
-        JaybirdStatementModel statementModel = parser.getStatementModel();
         assertEquals("Unexpected statement type", JaybirdStatementModel.INSERT_TYPE, statementModel.getStatementType());
         assertEquals("someTable", statementModel.getTableName());
-        assertTrue(parser.getNumberOfSyntaxErrors() > 0);
         assertFalse("Statement should have no returning", statementModel.hasReturning());
     }
 
     @Test
     public void insertDefaultValues() throws Exception {
-        JaybirdSqlParser parser = createParser("INSERT INTO someTable DEFAULT VALUES");
-
-        parser.statement();
-
-        JaybirdStatementModel statementModel = parser.getStatementModel();
+        JaybirdStatementModel statementModel = parse("INSERT INTO someTable DEFAULT VALUES");
         assertEquals("Unexpected statement type", JaybirdStatementModel.INSERT_TYPE, statementModel.getStatementType());
         assertTrue("Expected default values", statementModel.isDefaultValues());
         assertEquals("someTable", statementModel.getTableName());
@@ -135,11 +103,7 @@ public class TestGrammar {
 
     @Test
     public void insertDefaultValues_withReturning() throws Exception {
-        JaybirdSqlParser parser = createParser("INSERT INTO someTable DEFAULT VALUES RETURNING \"ID\"");
-
-        parser.statement();
-
-        JaybirdStatementModel statementModel = parser.getStatementModel();
+        JaybirdStatementModel statementModel = parse("INSERT INTO someTable DEFAULT VALUES RETURNING \"ID\"");
         assertEquals("Unexpected statement type", JaybirdStatementModel.INSERT_TYPE, statementModel.getStatementType());
         assertTrue("Expected default values", statementModel.isDefaultValues());
         assertEquals("someTable", statementModel.getTableName());
@@ -149,48 +113,32 @@ public class TestGrammar {
 
     @Test
     public void update() throws Exception {
-        JaybirdSqlParser parser = createParser(
+        JaybirdStatementModel statementModel = parse(
                 "Update someTable Set col1 = 25, col2 = 'abc' Where 1=0");
-
-        parser.statement();
-
-        JaybirdStatementModel statementModel = parser.getStatementModel();
         assertEquals("Unexpected statement type", JaybirdStatementModel.UPDATE_TYPE, statementModel.getStatementType());
         assertEquals("someTable", statementModel.getTableName());
     }
 
     @Test
     public void update_quotedTableName() throws Exception {
-        JaybirdSqlParser parser = createParser(
+        JaybirdStatementModel statementModel = parse(
                 "Update \"someTable\" Set col1 = 25, col2 = 'abc' Where 1=0");
-
-        parser.statement();
-
-        JaybirdStatementModel statementModel = parser.getStatementModel();
         assertEquals("Unexpected statement type", JaybirdStatementModel.UPDATE_TYPE, statementModel.getStatementType());
         assertEquals("\"someTable\"", statementModel.getTableName());
     }
 
     @Test
     public void update_quotedTableNameWithSpace() throws Exception {
-        JaybirdSqlParser parser = createParser(
+        JaybirdStatementModel statementModel = parse(
                 "Update \"some Table\" Set col1 = 25, col2 = 'abc' Where 1=0");
-
-        parser.statement();
-
-        JaybirdStatementModel statementModel = parser.getStatementModel();
         assertEquals("Unexpected statement type", JaybirdStatementModel.UPDATE_TYPE, statementModel.getStatementType());
         assertEquals("\"some Table\"", statementModel.getTableName());
     }
 
     @Test
     public void update_withReturning() throws Exception {
-        JaybirdSqlParser parser = createParser(
+        JaybirdStatementModel statementModel = parse(
                 "Update someTable Set col1 = 25, col2 = 'abc' Where 1=0 Returning col3");
-
-        parser.statement();
-
-        JaybirdStatementModel statementModel = parser.getStatementModel();
         assertEquals("Unexpected statement type", JaybirdStatementModel.UPDATE_TYPE, statementModel.getStatementType());
         assertEquals("someTable", statementModel.getTableName());
         assertTrue("Statement should have returning", statementModel.hasReturning());
@@ -199,65 +147,90 @@ public class TestGrammar {
 
     @Test
     public void delete() throws Exception {
-        JaybirdSqlParser parser = createParser(
+        JaybirdStatementModel statementModel = parse(
                 "DELETE FROM someTable Where 1=0");
-
-        parser.statement();
-
-        JaybirdStatementModel statementModel = parser.getStatementModel();
         assertEquals("Unexpected statement type", JaybirdStatementModel.DELETE_TYPE, statementModel.getStatementType());
         assertEquals("someTable", statementModel.getTableName());
-        assertEquals(0, parser.getNumberOfSyntaxErrors());
     }
 
     @Test
     public void delete_quotedTableName() throws Exception {
-        JaybirdSqlParser parser = createParser("delete from \"someTable\"");
-
-        parser.statement();
-
-        JaybirdStatementModel statementModel = parser.getStatementModel();
+        JaybirdStatementModel statementModel = parse("delete from \"someTable\"");
         assertEquals("Unexpected statement type", JaybirdStatementModel.DELETE_TYPE, statementModel.getStatementType());
         assertEquals("\"someTable\"", statementModel.getTableName());
-        assertEquals(0, parser.getNumberOfSyntaxErrors());
     }
 
     @Test
     public void delete_withReturning() throws Exception {
-        JaybirdSqlParser parser = createParser("Delete From someTable Returning col3");
-
-        parser.statement();
-
-        JaybirdStatementModel statementModel = parser.getStatementModel();
+        JaybirdStatementModel statementModel = parse("Delete From someTable Returning col3");
         assertEquals("Unexpected statement type", JaybirdStatementModel.DELETE_TYPE, statementModel.getStatementType());
         assertEquals("someTable", statementModel.getTableName());
         assertTrue("Statement should have returning", statementModel.hasReturning());
         assertEquals(Collections.singletonList("col3"), statementModel.getReturningColumns());
-        assertEquals(0, parser.getNumberOfSyntaxErrors());
     }
 
     @Test
     public void delete_withWhere_withReturning() throws Exception {
-        JaybirdSqlParser parser = createParser("Delete From someTable where 1 = 1 Returning col3");
-
-        parser.statement();
-
-        JaybirdStatementModel statementModel = parser.getStatementModel();
+        JaybirdStatementModel statementModel = parse("Delete From someTable where 1 = 1 Returning col3");
         assertEquals("Unexpected statement type", JaybirdStatementModel.DELETE_TYPE, statementModel.getStatementType());
         assertEquals("someTable", statementModel.getTableName());
         assertTrue("Statement should have returning", statementModel.hasReturning());
         assertEquals(Collections.singletonList("col3"), statementModel.getReturningColumns());
-        assertEquals(0, parser.getNumberOfSyntaxErrors());
     }
 
-    @Test
+    @Test(expected = ParseException.class)
     public void select() throws Exception {
-        JaybirdSqlParser parser = createParser("select * from RDB$DATABASE");
+        parse("select * from RDB$DATABASE");
+    }
 
-        parser.statement();
+    @Test(expected = ParseException.class)
+    public void emptyStatement() throws Exception {
+        parse(" /* comment only */ ");
+    }
 
-        JaybirdStatementModel statementModel = parser.getStatementModel();
-        assertEquals("Expected default statement type (0)", JaybirdStatementModel.UNDETECTED_TYPE, statementModel.getStatementType());
-        assertNull("Expected no table name", statementModel.getTableName());
+    @Test(expected = ParseException.class)
+    public void insert_noTableName() throws Exception {
+        parse("insert into (a, b) values (1, 2)");
+    }
+
+    @Test
+    public void updateOrInsert_withMatchingAndReturning() throws Exception {
+        JaybirdStatementModel statementModel = parse(
+                "UPDATE OR INSERT INTO someTable (id, col1) VALUES (?, ?) MATCHING (id) RETURNING id, \"col1\"");
+
+        assertEquals("Unexpected statement type", JaybirdStatementModel.UPDATE_OR_INSERT_TYPE,
+                statementModel.getStatementType());
+        assertEquals("someTable", statementModel.getTableName());
+        assertEquals(Arrays.asList("id", "col1"), statementModel.getColumns());
+        assertEquals(Arrays.asList("id", "\"col1\""), statementModel.getReturningColumns());
+    }
+
+    @Test
+    public void insert_withCommentsAndReturningInLiterals() throws Exception {
+        JaybirdStatementModel statementModel = parse(
+                "-- returning in comment\n"
+                        + "insert /* returning */ into someTable (a, b)\n"
+                        + "values ('returning', q'{it's returning}')");
+
+        assertEquals("Unexpected statement type", JaybirdStatementModel.INSERT_TYPE, statementModel.getStatementType());
+        assertEquals("someTable", statementModel.getTableName());
+        assertFalse("Statement should have no returning", statementModel.hasReturning());
+    }
+
+    @Test
+    public void insert_withReturningExpressionsAndTerminator() throws Exception {
+        JaybirdStatementModel statementModel = parse(
+                "insert into someTable (a) values (1) returning coalesce(a, 'x,y'), b || c as d;");
+
+        assertTrue("Statement should have returning", statementModel.hasReturning());
+        assertEquals(Arrays.asList("coalesce(a, 'x,y')", "b || c as d"), statementModel.getReturningColumns());
+    }
+
+    @Test
+    public void insert_returningInSubquery_notDetected() throws Exception {
+        JaybirdStatementModel statementModel = parse(
+                "insert into someTable (a) select x from (select x from otherTable) where \"returning\" = 1");
+
+        assertFalse("Statement should have no returning", statementModel.hasReturning());
     }
 }
@@ -0,0 +1,194 @@
+/*
+ * Firebird Open Source JavaEE Connector - JDBC Driver
+ *
+ * Distributable under LGPL license.
+ * You may obtain a copy of the License at http://www.gnu.org/copyleft/lgpl.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * LGPL License for more details.
+ *
+ * This file was created by members of the firebird development team.
+ * All individual contributions remain the Copyright (C) of those
+ * individuals.  Contributors to this file are either listed here or
+ * can be obtained from a source control history command.
+ *
+ * All rights reserved.
+ */
+package org.firebirdsql.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link HashedTimerWheel}
+ */
+public class HashedTimerWheelTest {
+
+    @Rule
+    public final ExpectedException expectedException = ExpectedException.none();
+
+    private final HashedTimerWheel timerWheel =
+            new HashedTimerWheel("HashedTimerWheelTest", 10, TimeUnit.MILLISECONDS, 8);
+
+    @Test
+    public void scheduledTimeoutExpires() throws Exception {
+        CountingTimeout timeout = new CountingTimeout();
+        final long start = System.nanoTime();
+
+        timerWheel.schedule(timeout, 50, TimeUnit.MILLISECONDS);
+
+        assertTrue("Expected timeout to expire", timeout.awaitExpired(5, TimeUnit.SECONDS));
+        assertTrue("Expected timeout to expire not before its delay",
+                System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertEquals(1, timeout.getCount());
+        assertEquals(0, timerWheel.getPendingCount());
+    }
+
+    @Test
+    public void timeoutBeyondWheelSizeExpiresAfterItsDelay() throws Exception {
+        // 8 buckets of 10 ms: delay of 150 ms wraps around the wheel
+        CountingTimeout timeout = new CountingTimeout();
+        final long start = System.nanoTime();
+
+        timerWheel.schedule(timeout, 150, TimeUnit.MILLISECONDS);
+
+        assertTrue("Expected timeout to expire", timeout.awaitExpired(5, TimeUnit.SECONDS));
+        assertTrue("Expected timeout to expire not before its delay",
+                System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(150));
+    }
+
+    @Test
+    public void cancelledTimeoutDoesNotExpire() throws Exception {
+        CountingTimeout timeout = new CountingTimeout();
+        timerWheel.schedule(timeout, 50, TimeUnit.MILLISECONDS);
+
+        assertTrue("Expected cancel to succeed", timerWheel.cancel(timeout));
+
+        assertFalse("Expected timeout not to expire", timeout.awaitExpired(200, TimeUnit.MILLISECONDS));
+        assertEquals(0, timerWheel.getPendingCount());
+    }
+
+    @Test
+    public void cancelOfExpiredTimeoutReturnsFalse() throws Exception {
+        CountingTimeout timeout = new CountingTimeout();
+        timerWheel.schedule(timeout, 10, TimeUnit.MILLISECONDS);
+        assertTrue("Expected timeout to expire", timeout.awaitExpired(5, TimeUnit.SECONDS));
+
+        assertFalse("Expected cancel to fail", timerWheel.cancel(timeout));
+    }
+
+    @Test
+    public void timeoutCanBeRescheduled() throws Exception {
+        CountingTimeout timeout = new CountingTimeout();
+        timerWheel.schedule(timeout, 10, TimeUnit.MILLISECONDS);
+        assertTrue(timerWheel.cancel(timeout));
+
+        timerWheel.schedule(timeout, 10, TimeUnit.MILLISECONDS);
+
+        assertTrue("Expected timeout to expire", timeout.awaitExpired(5, TimeUnit.SECONDS));
+        assertEquals(1, timeout.getCount());
+    }
+
+    @Test
+    public void schedulingScheduledTimeoutThrowsIllegalStateException() {
+        CountingTimeout timeout = new CountingTimeout();
+        timerWheel.schedule(timeout, 1, TimeUnit.SECONDS);
+        try {
+            expectedException.expect(IllegalStateException.class);
+
+            timerWheel.schedule(timeout, 1, TimeUnit.SECONDS);
+        } finally {
+            timerWheel.cancel(timeout);
+        }
+    }
+
+    @Test
+    public void cancellingOneOfMultipleTimeoutsInBucketLeavesOthers() throws Exception {
+        CountingTimeout timeout1 = new CountingTimeout();
+        CountingTimeout timeout2 = new CountingTimeout();
+        CountingTimeout timeout3 = new CountingTimeout();
+        timerWheel.schedule(timeout1, 50, TimeUnit.MILLISECONDS);
+        timerWheel.schedule(timeout2, 50, TimeUnit.MILLISECONDS);
+        timerWheel.schedule(timeout3, 50, TimeUnit.MILLISECONDS);
+        assertEquals(3, timerWheel.getPendingCount());
+
+        assertTrue(timerWheel.cancel(timeout2));
+
+        assertTrue("Expected timeout1 to expire", timeout1.awaitExpired(5, TimeUnit.SECONDS));
+        assertTrue("Expected timeout3 to expire", timeout3.awaitExpired(5, TimeUnit.SECONDS));
+        assertFalse("Expected timeout2 not to expire", timeout2.awaitExpired(50, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void scheduleIncrementsGeneration() {
+        CountingTimeout timeout = new CountingTimeout();
+
+        long generation1 = timerWheel.schedule(timeout, 1, TimeUnit.SECONDS);
+        assertTrue(timerWheel.cancel(timeout));
+        long generation2 = timerWheel.schedule(timeout, 1, TimeUnit.SECONDS);
+        assertTrue(timerWheel.cancel(timeout));
+
+        assertEquals(1, generation1);
+        assertEquals(2, generation2);
+    }
+
+    @Test
+    public void expiredReceivesGenerationOfExpiredSchedule() throws Exception {
+        CountingTimeout timeout = new CountingTimeout();
+
+        long generation = timerWheel.schedule(timeout, 10, TimeUnit.MILLISECONDS);
+
+        assertTrue("Expected timeout to expire", timeout.awaitExpired(5, TimeUnit.SECONDS));
+        assertEquals(generation, timeout.getLastGeneration());
+    }
+
+    @Test
+    public void exceptionInExpiredTimeoutDoesNotStopWheel() throws Exception {
+        HashedTimerWheel.Timeout failing = new HashedTimerWheel.Timeout() {
+            @Override
+            protected void expired(long generation) {
+                throw new RuntimeException("test");
+            }
+        };
+        CountingTimeout timeout = new CountingTimeout();
+        timerWheel.schedule(failing, 10, TimeUnit.MILLISECONDS);
+        timerWheel.schedule(timeout, 50, TimeUnit.MILLISECONDS);
+
+        assertTrue("Expected timeout to expire", timeout.awaitExpired(5, TimeUnit.SECONDS));
+    }
+
+    private static final class CountingTimeout extends HashedTimerWheel.Timeout {
+
+        private final AtomicInteger count = new AtomicInteger();
+        private volatile long lastGeneration;
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        @Override
+        protected void expired(long generation) {
+            lastGeneration = generation;
+            count.incrementAndGet();
+            latch.countDown();
+        }
+
+        boolean awaitExpired(long timeout, TimeUnit unit) throws InterruptedException {
+            return latch.await(timeout, unit);
+        }
+
+        long getLastGeneration() {
+            return lastGeneration;
+        }
+
+        int getCount() {
+            return count.get();
+        }
+    }
+}